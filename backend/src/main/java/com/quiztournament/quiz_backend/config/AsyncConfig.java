@@ -0,0 +1,71 @@
+package com.quiztournament.quiz_backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Executors for work moved off the request thread
+ */
+@Configuration
+public class AsyncConfig {
+
+    @Value("${app.email.dispatch-threads:4}")
+    private int mailThreads;
+
+    @Value("${app.opentdb.max-concurrent-requests:4}")
+    private int openTdbThreads;
+
+    @Value("${app.opentdb.max-queued-requests:50}")
+    private int openTdbQueueCapacity;
+
+    /**
+     * Executor for resolving tournament question sets in the background
+     * Small and bounded: each task makes at most one OpenTDB request
+     */
+    @Bean(name = "questionSetExecutor")
+    public ThreadPoolTaskExecutor questionSetExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("question-set-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Executor for sending email batches, one SMTP connection per batch
+     * Kept off the common ForkJoinPool; EmailDispatcher never queues more batches than there are threads
+     */
+    @Bean(name = "mailExecutor")
+    public ThreadPoolTaskExecutor mailExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(mailThreads);
+        executor.setMaxPoolSize(mailThreads);
+        executor.setQueueCapacity(mailThreads);
+        executor.setThreadNamePrefix("mail-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Executor for live OpenTDB requests made through the pooled RestTemplate
+     * One thread per request allowed in flight; further requests wait in a bounded queue.
+     * Once it is full new requests are rejected, which fails their future and sends callers to the fallback.
+     */
+    @Bean(name = "openTdbExecutor")
+    public ThreadPoolTaskExecutor openTdbExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(openTdbThreads);
+        executor.setMaxPoolSize(openTdbThreads);
+        executor.setQueueCapacity(openTdbQueueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setThreadNamePrefix("opentdb-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -1,7 +1,11 @@
 package com.quiztournament.quiz_backend.config;
 
 import com.quiztournament.quiz_backend.service.AuthService;
+import com.quiztournament.quiz_backend.service.LeaderboardService;
+import com.quiztournament.quiz_backend.service.ScoreLedger;
 import com.quiztournament.quiz_backend.service.TournamentService;
+import com.quiztournament.quiz_backend.service.TournamentQuestionService;
+import com.quiztournament.quiz_backend.service.TournamentStatsService;
 import com.quiztournament.quiz_backend.service.CustomUserDetailsService;
 import com.quiztournament.quiz_backend.dto.TournamentCreateRequest;
 import com.quiztournament.quiz_backend.entity.User;
@@ -33,6 +37,18 @@ public class DataInitializer implements CommandLineRunner {
     @Autowired
     private CustomUserDetailsService userDetailsService;
 
+    @Autowired
+    private TournamentStatsService tournamentStatsService;
+
+    @Autowired
+    private ScoreLedger scoreLedger;
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @Autowired
+    private TournamentQuestionService tournamentQuestionService;
+
     @Override
     public void run(String... args) throws Exception {
         try {
@@ -48,6 +64,18 @@ public class DataInitializer implements CommandLineRunner {
             // Create sample tournaments for demonstration
             createSampleTournaments();
 
+            // Move scores written only to the legacy table into quiz_results, which the statistics are built from
+            scoreLedger.backfillFromLegacyScores();
+
+            // Populate tournament statistics aggregates for tournaments created before they existed
+            tournamentStatsService.rebuildIfIncomplete();
+
+            // Load the in-memory leaderboards before the first leaderboard request
+            leaderboardService.rebuild();
+
+            // Freeze question sets for tournaments created before sets were frozen at creation
+            tournamentQuestionService.freezeMissingQuestionSetsAsync();
+
             System.out.println("=== Quiz Tournament Application Started ===");
             System.out.println("🔑 Test Login Credentials:");
             System.out.println("👤 Admin: username=admin, password=op@1234");
@@ -0,0 +1,49 @@
+package com.quiztournament.quiz_backend.config;
+
+import com.quiztournament.quiz_backend.entity.QuizAnswer;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves ID sequences past rows written before the entity switched from IDENTITY to a sequence
+ * Hibernate's ddl-auto creates a new sequence starting at 1, which would collide with existing IDs.
+ * Runs after the EntityManagerFactory has updated the schema and before any request is served.
+ */
+@Component
+public class IdSequenceInitializer {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void alignSequences() {
+        alignSequence(QuizAnswer.ID_SEQUENCE, "quiz_answers", QuizAnswer.ID_ALLOCATION_SIZE);
+    }
+
+    /**
+     * Restart the sequence above the table's highest ID if the next value would reuse one
+     * The gap of one allocation block keeps pooled optimizers from handing out IDs below the restart value.
+     */
+    private void alignSequence(String sequenceName, String tableName, int allocationSize) {
+        Dialect dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect();
+
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + tableName, Long.class);
+        Long nextValue = jdbcTemplate.queryForObject(
+                dialect.getSequenceSupport().getSequenceNextValString(sequenceName), Long.class);
+
+        if (maxId != null && nextValue != null && nextValue <= maxId) {
+            long restartWith = maxId + allocationSize + 1;
+            jdbcTemplate.execute("ALTER SEQUENCE " + sequenceName + " RESTART WITH " + restartWith);
+            System.out.println("Restarted " + sequenceName + " at " + restartWith + " (max existing id " + maxId + ")");
+        }
+    }
+}
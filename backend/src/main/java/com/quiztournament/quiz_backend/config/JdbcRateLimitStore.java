@@ -0,0 +1,184 @@
+package com.quiztournament.quiz_backend.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shared rate limit counters in the application datasource, so limits hold across every backend node
+ * Each node flushes the requests its SharedRateLimiters admitted as one batch per flush interval, then reads
+ * back the cluster-wide counts of the clients it is tracking and hands each limiter its share of what is left.
+ * Counts are kept per fixed window; a client's usage is the sliding-window estimate over the current and
+ * previous windows. Nodes announce themselves with a heartbeat so the remaining budget is split between live ones.
+ */
+@Component
+@ConditionalOnProperty(name = "app.rate-limit.store", havingValue = "jdbc")
+public class JdbcRateLimitStore {
+
+    // Maximum number of client hashes bound into a single read
+    private static final int READ_BATCH_SIZE = 500;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Not called; injected so the tables exist before this bean is used
+    @Autowired
+    private JdbcSchemaInitializer schemaInitializer;
+
+    @Value("${app.rate-limit.flush-interval-ms:500}")
+    private long flushIntervalMs;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final List<SharedRateLimiter> limiters = new CopyOnWriteArrayList<>();
+
+    /**
+     * Create a limiter whose counts are shared through this store
+     * @param name Route group; identifies the limiter's counters on every node
+     */
+    public SharedRateLimiter createLimiter(String name, int limit, long window, TimeUnit unit, int maxClients) {
+        SharedRateLimiter limiter = new SharedRateLimiter(name, limit, window, unit, maxClients);
+        limiters.add(limiter);
+        return limiter;
+    }
+
+    /**
+     * Push admitted requests to the shared counters and refresh every limiter's allowances
+     * If the database cannot be reached, limiters fall back to enforcing their limit on this node alone.
+     */
+    @Scheduled(fixedDelayString = "${app.rate-limit.flush-interval-ms:500}")
+    public void flush() {
+        long now = System.currentTimeMillis();
+        int activeNodes;
+        try {
+            activeNodes = heartbeat(now);
+        } catch (DataAccessException e) {
+            System.err.println("Rate limit store unavailable, enforcing limits per node: " + e.getMessage());
+            for (SharedRateLimiter limiter : limiters) {
+                limiter.drainPending();
+                limiter.applySharedCounts(Collections.emptyMap(), 1);
+            }
+            return;
+        }
+
+        for (SharedRateLimiter limiter : limiters) {
+            try {
+                flush(limiter, now, activeNodes);
+            } catch (DataAccessException e) {
+                System.err.println("Failed to flush rate limit counters for " + limiter.getName() + ": " + e.getMessage());
+                limiter.applySharedCounts(Collections.emptyMap(), 1);
+            }
+        }
+    }
+
+    /**
+     * Live nodes, this one included
+     */
+    public int getActiveNodes() {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM rate_limit_nodes WHERE last_seen >= ?",
+                Integer.class, System.currentTimeMillis() - liveness());
+        return Math.max(1, count != null ? count : 0);
+    }
+
+    private void flush(SharedRateLimiter limiter, long now, int activeNodes) {
+        long windowMs = limiter.getWindowMs();
+        long windowStart = now - Math.floorMod(now, windowMs);
+
+        addCounts(limiter.getName(), windowStart, limiter.drainPending());
+        limiter.applySharedCounts(readEstimates(limiter, windowStart, now), activeNodes);
+
+        // Windows before the previous one no longer count
+        jdbcTemplate.update("DELETE FROM rate_limit_counters WHERE limiter = ? AND window_start < ?",
+                limiter.getName(), windowStart - windowMs);
+    }
+
+    // Batched increments; clients new to the window are inserted, re-trying as increments if another node won the race
+    private void addCounts(String limiterName, long windowStart, Map<Long, Integer> pending) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Object[]> increments = new ArrayList<>(pending.size());
+        pending.forEach((hash, count) -> increments.add(new Object[]{count, limiterName, windowStart, hash}));
+        int[] updated = jdbcTemplate.batchUpdate("UPDATE rate_limit_counters SET request_count = request_count + ? " +
+                "WHERE limiter = ? AND window_start = ? AND client_hash = ?", increments);
+
+        List<Object[]> inserts = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                Object[] increment = increments.get(i);
+                inserts.add(new Object[]{limiterName, windowStart, increment[3], increment[0]});
+            }
+        }
+        if (inserts.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate("INSERT INTO rate_limit_counters (limiter, window_start, client_hash, request_count) " +
+                    "VALUES (?, ?, ?, ?)", inserts);
+        } catch (DuplicateKeyException e) {
+            for (Object[] insert : inserts) {
+                int rows = jdbcTemplate.update("UPDATE rate_limit_counters SET request_count = request_count + ? " +
+                        "WHERE limiter = ? AND window_start = ? AND client_hash = ?", insert[3], limiterName, windowStart, insert[2]);
+                if (rows == 0) {
+                    jdbcTemplate.update("INSERT INTO rate_limit_counters (limiter, window_start, client_hash, request_count) " +
+                            "VALUES (?, ?, ?, ?)", insert);
+                }
+            }
+        }
+    }
+
+    // Sliding-window estimate per tracked client: the current window plus the unexpired part of the previous one
+    private Map<Long, Double> readEstimates(SharedRateLimiter limiter, long windowStart, long now) {
+        long windowMs = limiter.getWindowMs();
+        double previousWeight = 1.0 - (double) (now - windowStart) / windowMs;
+        List<Long> hashes = new ArrayList<>(limiter.trackedClients());
+
+        Map<Long, Double> estimates = new HashMap<>();
+        for (int from = 0; from < hashes.size(); from += READ_BATCH_SIZE) {
+            List<Long> batch = hashes.subList(from, Math.min(from + READ_BATCH_SIZE, hashes.size()));
+            List<Object> args = new ArrayList<>(batch.size() + 3);
+            args.add(limiter.getName());
+            args.add(windowStart - windowMs);
+            args.add(windowStart);
+            args.addAll(batch);
+            jdbcTemplate.query("SELECT client_hash, window_start, request_count FROM rate_limit_counters " +
+                            "WHERE limiter = ? AND window_start IN (?, ?) AND client_hash IN (" + placeholders(batch.size()) + ")",
+                    rs -> {
+                        double weight = rs.getLong(2) == windowStart ? 1.0 : previousWeight;
+                        estimates.merge(rs.getLong(1), rs.getInt(3) * weight, Double::sum);
+                    },
+                    args.toArray());
+        }
+        return estimates;
+    }
+
+    private int heartbeat(long now) {
+        jdbcTemplate.update("MERGE INTO rate_limit_nodes (node_id, last_seen) KEY (node_id) VALUES (?, ?)", nodeId, now);
+        jdbcTemplate.update("DELETE FROM rate_limit_nodes WHERE last_seen < ?", now - 10 * liveness());
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM rate_limit_nodes WHERE last_seen >= ?",
+                Integer.class, now - liveness());
+        return Math.max(1, count != null ? count : 0);
+    }
+
+    // A node missing three flushes in a row is considered gone
+    private long liveness() {
+        return 3 * Math.max(1, flushIntervalMs);
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
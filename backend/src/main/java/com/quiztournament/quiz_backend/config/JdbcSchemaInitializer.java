@@ -0,0 +1,94 @@
+package com.quiztournament.quiz_backend.config;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the tables that are not JPA entities, so Hibernate's ddl-auto does not manage them
+ * Every statement is idempotent and runs on each startup. Tables are created whether or not the store using
+ * them is selected, so switching app.quiz.session-store or app.rate-limit.store to jdbc needs no migration.
+ * Beans that use these tables inject this one, so it has run before they are used.
+ */
+@Component
+public class JdbcSchemaInitializer {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void createTables() {
+        createEmailOutboxTables();
+        createQuizSessionTables();
+        createRateLimitTables();
+    }
+
+    /**
+     * Email outbox (EmailOutbox): messages, and one row per recipient still to be sent
+     */
+    private void createEmailOutboxTables() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS email_outbox_messages (" +
+                "id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "subject VARCHAR(500) NOT NULL, " +
+                "body CLOB NOT NULL, " +
+                "audience VARCHAR(20), " +
+                "audience_through BIGINT, " +
+                "expanded_through BIGINT NOT NULL DEFAULT 0, " +
+                "created_at BIGINT NOT NULL)");
+        // Added after the table first shipped; broadcasts queued before it have no upper bound
+        jdbcTemplate.execute("ALTER TABLE email_outbox_messages ADD COLUMN IF NOT EXISTS audience_through BIGINT");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS email_outbox (" +
+                "id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "message_id BIGINT NOT NULL, " +
+                "recipient VARCHAR(255) NOT NULL, " +
+                "attempts INT NOT NULL DEFAULT 0, " +
+                "next_attempt_at BIGINT NOT NULL, " +
+                "claimed_until BIGINT NOT NULL DEFAULT 0, " +
+                "failed BOOLEAN NOT NULL DEFAULT FALSE, " +
+                "last_error VARCHAR(500), " +
+                "FOREIGN KEY (message_id) REFERENCES email_outbox_messages (id) ON DELETE CASCADE)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_email_outbox_next_attempt ON email_outbox (failed, next_attempt_at)");
+    }
+
+    /**
+     * Quiz sessions (JdbcQuizSessionStore): one row per session, one row per recorded answer
+     */
+    private void createQuizSessionTables() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS quiz_sessions (" +
+                "user_id BIGINT NOT NULL, " +
+                "tournament_id BIGINT NOT NULL, " +
+                "questions CLOB NOT NULL, " +
+                "start_time BIGINT NOT NULL, " +
+                "last_accessed BIGINT NOT NULL, " +
+                "PRIMARY KEY (user_id, tournament_id))");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_quiz_sessions_last_accessed ON quiz_sessions (last_accessed)");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS quiz_session_answers (" +
+                "user_id BIGINT NOT NULL, " +
+                "tournament_id BIGINT NOT NULL, " +
+                "question_number INT NOT NULL, " +
+                "answer VARCHAR(1000), " +
+                "correct BOOLEAN NOT NULL, " +
+                "correct_answer VARCHAR(1000), " +
+                "question VARCHAR(2000), " +
+                "answered_at BIGINT NOT NULL, " +
+                "PRIMARY KEY (user_id, tournament_id, question_number), " +
+                "FOREIGN KEY (user_id, tournament_id) REFERENCES quiz_sessions (user_id, tournament_id) " +
+                "ON DELETE CASCADE)");
+    }
+
+    /**
+     * Shared rate limit counters (JdbcRateLimitStore): counts per window and client, and live nodes
+     */
+    private void createRateLimitTables() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS rate_limit_counters (" +
+                "limiter VARCHAR(64) NOT NULL, " +
+                "window_start BIGINT NOT NULL, " +
+                "client_hash BIGINT NOT NULL, " +
+                "request_count INT NOT NULL, " +
+                "PRIMARY KEY (limiter, window_start, client_hash))");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS rate_limit_nodes (" +
+                "node_id VARCHAR(36) NOT NULL PRIMARY KEY, " +
+                "last_seen BIGINT NOT NULL)");
+    }
+}
@@ -1,6 +1,9 @@
 package com.quiztournament.quiz_backend.config;
 
+import com.quiztournament.quiz_backend.entity.UserRole;
+import com.quiztournament.quiz_backend.service.CustomUserDetailsService.CustomUserPrincipal;
 import com.quiztournament.quiz_backend.util.JwtUtil;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -21,6 +24,7 @@ import java.io.IOException;
 /**
  * JWT Authentication Filter
  * Intercepts requests to validate JWT tokens and set authentication context
+ * Tokens carrying userId and role claims are authenticated without touching the database
  */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -52,17 +56,30 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         jwt = authHeader.substring(7);
 
         try {
-            // Extract username from token
-            username = jwtUtil.extractUsername(jwt);
+            // Verify the token once; every claim below is read from the result
+            Claims claims = jwtUtil.validateAndGetClaims(jwt);
+            username = claims != null ? claims.getSubject() : null;
 
             // If username exists and no authentication is set
             if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
 
-                // Load user details
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                UserDetails userDetails = null;
+                Long userId = jwtUtil.getUserId(claims);
+                String role = jwtUtil.getRole(claims);
+
+                if (userId != null && role != null) {
+                    // Token carries the identity - build the principal without a database lookup
+                    userDetails = new CustomUserPrincipal(userId, username,
+                            jwtUtil.getEmail(claims), UserRole.valueOf(role));
+                } else {
+                    // Older token without identity claims - load user details
+                    UserDetails loaded = userDetailsService.loadUserByUsername(username);
+                    if (username.equals(loaded.getUsername())) {
+                        userDetails = loaded;
+                    }
+                }
 
-                // Validate token
-                if (jwtUtil.validateToken(jwt, userDetails)) {
+                if (userDetails != null) {
 
                     // Create authentication token
                     UsernamePasswordAuthenticationToken authToken =
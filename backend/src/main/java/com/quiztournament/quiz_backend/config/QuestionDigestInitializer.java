@@ -0,0 +1,51 @@
+package com.quiztournament.quiz_backend.config;
+
+import com.quiztournament.quiz_backend.entity.Question;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Moves question bank rows from the old 32-bit question_hash key to question_digest
+ * ddl-auto adds the new column but leaves the old NOT NULL column and its unique constraint behind,
+ * which would reject every new question. Fills in the digests, then drops the old column.
+ * Runs after the EntityManagerFactory has updated the schema and before the harvester starts.
+ */
+@Component
+public class QuestionDigestInitializer {
+
+    private static final int BATCH_SIZE = 500;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void migrateQuestionHashes() {
+        Integer legacyColumns = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM INFORMATION_SCHEMA.COLUMNS " +
+                "WHERE UPPER(TABLE_NAME) = 'QUESTIONS' AND UPPER(COLUMN_NAME) = 'QUESTION_HASH'", Integer.class);
+        if (legacyColumns == null || legacyColumns == 0) {
+            return;
+        }
+
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT id, question_text FROM questions WHERE question_digest IS NULL");
+        jdbcTemplate.batchUpdate("UPDATE questions SET question_digest = ? WHERE id = ?", rows, BATCH_SIZE,
+                (statement, row) -> {
+                    statement.setString(1, Question.digest((String) row.get("question_text")));
+                    statement.setLong(2, ((Number) row.get("id")).longValue());
+                });
+
+        List<String> constraints = jdbcTemplate.queryForList("SELECT DISTINCT CONSTRAINT_NAME " +
+                "FROM INFORMATION_SCHEMA.CONSTRAINT_COLUMN_USAGE " +
+                "WHERE UPPER(TABLE_NAME) = 'QUESTIONS' AND UPPER(COLUMN_NAME) = 'QUESTION_HASH'", String.class);
+        for (String constraint : constraints) {
+            jdbcTemplate.execute("ALTER TABLE questions DROP CONSTRAINT \"" + constraint + "\"");
+        }
+        jdbcTemplate.execute("ALTER TABLE questions DROP COLUMN question_hash");
+        System.out.println("Moved " + rows.size() + " questions from question_hash to question_digest");
+    }
+}
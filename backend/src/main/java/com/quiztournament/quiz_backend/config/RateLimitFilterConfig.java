@@ -1,94 +1,192 @@
 package com.quiztournament.quiz_backend.config;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.Ordered;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
 
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Rate limiting configuration using filters
+ * Each route group has its own per-client limit and filter; a request matching several groups
+ * (e.g. /api/auth/login is also under /api/*) counts against each of them.
+ * Limits are per node unless app.rate-limit.store=jdbc, which shares counts through JdbcRateLimitStore.
+ * Clients are identified by their address; forwarding headers count only behind app.rate-limit.trusted-proxies.
  * Compatible with Spring Boot 3
  */
 @Configuration
 public class RateLimitFilterConfig {
 
+    @Autowired(required = false)
+    private JdbcRateLimitStore rateLimitStore;
+
+    @Value("${app.rate-limit.max-clients:65536}")
+    private int maxClients;
+
+    @Value("${app.rate-limit.trusted-proxies:}")
+    private String[] trustedProxies;
+
+    @Value("${app.rate-limit.auth.patterns:/api/auth/*}")
+    private String[] authPatterns;
+
+    @Value("${app.rate-limit.auth.requests-per-minute:10}")
+    private int authRequestsPerMinute;
+
+    @Value("${app.rate-limit.participation.patterns:/api/participation/*}")
+    private String[] participationPatterns;
+
+    @Value("${app.rate-limit.participation.requests-per-minute:300}")
+    private int participationRequestsPerMinute;
+
+    @Value("${app.rate-limit.api.patterns:/api/*}")
+    private String[] apiPatterns;
+
+    @Value("${app.rate-limit.api.requests-per-minute:1200}")
+    private int apiRequestsPerMinute;
+
     @Bean
     public FilterRegistrationBean<RateLimitFilter> rateLimitFilter() {
+        return register("authRateLimitFilter", authPatterns, authRequestsPerMinute, 1);
+    }
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> participationRateLimitFilter() {
+        return register("participationRateLimitFilter", participationPatterns, participationRequestsPerMinute, 2);
+    }
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> apiRateLimitFilter() {
+        return register("apiRateLimitFilter", apiPatterns, apiRequestsPerMinute, 3);
+    }
+
+    // A limit of 0 or less disables the group
+    private FilterRegistrationBean<RateLimitFilter> register(String name, String[] patterns, int requestsPerMinute,
+                                                             int order) {
         FilterRegistrationBean<RateLimitFilter> registrationBean = new FilterRegistrationBean<>();
-        registrationBean.setFilter(new RateLimitFilter());
-        registrationBean.addUrlPatterns("/api/auth/*");
-        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        registrationBean.setName(name);
+        int limit = Math.max(1, requestsPerMinute);
+        RateLimiter limiter = rateLimitStore != null
+                ? rateLimitStore.createLimiter(name, limit, 1, TimeUnit.MINUTES, maxClients)
+                : new TokenBucketRateLimiter(limit, 1, TimeUnit.MINUTES, maxClients);
+        registrationBean.setFilter(new RateLimitFilter(limiter, trustedProxies));
+        registrationBean.addUrlPatterns(patterns);
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE + order);
+        registrationBean.setEnabled(requestsPerMinute > 0);
         return registrationBean;
     }
 
     /**
-     * Simple rate limiting filter
+     * Rate limiting filter for one route group, keyed by client IP
+     * X-Forwarded-For and X-Real-IP are only read on requests coming from a trusted proxy;
+     * anyone else could set them to a fresh address on every request.
      */
     public static class RateLimitFilter implements Filter {
-        
-        private final ConcurrentHashMap<String, AtomicInteger> requestCounts = new ConcurrentHashMap<>();
-        private final int MAX_REQUESTS_PER_MINUTE = 10;
-        private ScheduledExecutorService scheduler;
 
-        @Override
-        public void init(FilterConfig filterConfig) throws ServletException {
-            scheduler = Executors.newScheduledThreadPool(1);
-            // Reset counters every minute
-            scheduler.scheduleAtFixedRate(() -> {
-                requestCounts.clear();
-            }, 1, 1, TimeUnit.MINUTES);
+        private final RateLimiter limiter;
+        private final List<IpAddressMatcher> trustedProxies = new ArrayList<>();
+
+        /**
+         * @param limiter Limiter for this route group
+         * @param trustedProxies Proxy addresses or CIDR ranges whose forwarding headers are believed
+         */
+        public RateLimitFilter(RateLimiter limiter, String... trustedProxies) {
+            this.limiter = limiter;
+            for (String proxy : trustedProxies) {
+                if (!proxy.isBlank()) {
+                    this.trustedProxies.add(new IpAddressMatcher(proxy.trim()));
+                }
+            }
         }
 
         @Override
         public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
                 throws IOException, ServletException {
-            
+
             HttpServletRequest httpRequest = (HttpServletRequest) request;
             HttpServletResponse httpResponse = (HttpServletResponse) response;
-            
-            String clientIP = getClientIP(httpRequest);
-            AtomicInteger count = requestCounts.computeIfAbsent(clientIP, k -> new AtomicInteger(0));
-            
-            if (count.incrementAndGet() > MAX_REQUESTS_PER_MINUTE) {
+
+            long retryAfterMs = acquire(httpRequest);
+            if (retryAfterMs > 0) {
                 httpResponse.setStatus(429);
-                httpResponse.setHeader("Retry-After", "60");
+                httpResponse.setHeader("Retry-After", String.valueOf(TimeUnit.MILLISECONDS.toSeconds(retryAfterMs + 999)));
                 httpResponse.setContentType("application/json");
                 httpResponse.getWriter().write("{\"error\":\"Too many requests. Please try again later.\"}");
                 return;
             }
-            
+
             chain.doFilter(request, response);
         }
 
-        @Override
-        public void destroy() {
-            if (scheduler != null) {
-                scheduler.shutdown();
+        private long acquire(HttpServletRequest request) {
+            String remoteAddr = request.getRemoteAddr();
+            if (!isTrustedProxy(remoteAddr)) {
+                return limiter.tryAcquire(remoteAddr);
             }
-        }
-        
-        private String getClientIP(HttpServletRequest request) {
+
             String xForwardedFor = request.getHeader("X-Forwarded-For");
-            if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-                return xForwardedFor.split(",")[0].trim();
+            if (xForwardedFor != null && !xForwardedFor.isBlank()) {
+                return acquireForwardedFor(xForwardedFor);
             }
-            
+
             String xRealIP = request.getHeader("X-Real-IP");
-            if (xRealIP != null && !xRealIP.isEmpty()) {
-                return xRealIP;
+            if (xRealIP != null && !xRealIP.isBlank()) {
+                return limiter.tryAcquire(xRealIP.trim());
+            }
+
+            return limiter.tryAcquire(remoteAddr);
+        }
+
+        /**
+         * Key by the last X-Forwarded-For hop that is not a trusted proxy, read in place without splitting the header
+         * Earlier hops were written by the client and are ignored
+         */
+        private long acquireForwardedFor(String xForwardedFor) {
+            int end = xForwardedFor.length();
+            while (true) {
+                int comma = xForwardedFor.lastIndexOf(',', end - 1);
+                int start = comma + 1;
+                while (start < end && xForwardedFor.charAt(start) == ' ') {
+                    start++;
+                }
+                int trimmedEnd = end;
+                while (trimmedEnd > start && xForwardedFor.charAt(trimmedEnd - 1) == ' ') {
+                    trimmedEnd--;
+                }
+
+                if (comma < 0 || !isTrustedProxy(xForwardedFor.substring(start, trimmedEnd))) {
+                    return limiter.tryAcquire(xForwardedFor, start, trimmedEnd);
+                }
+                end = comma;
+            }
+        }
+
+        // Only IP literals are matched, so a forged hop can never trigger a DNS lookup
+        private boolean isTrustedProxy(String address) {
+            if (trustedProxies.isEmpty() || address == null || address.isEmpty()) {
+                return false;
+            }
+            for (int i = 0; i < address.length(); i++) {
+                char c = address.charAt(i);
+                if (Character.digit(c, 16) < 0 && c != '.' && c != ':') {
+                    return false;
+                }
+            }
+            for (IpAddressMatcher proxy : trustedProxies) {
+                if (proxy.matches(address)) {
+                    return true;
+                }
             }
-            
-            return request.getRemoteAddr();
+            return false;
         }
     }
-}
\ No newline at end of file
+}
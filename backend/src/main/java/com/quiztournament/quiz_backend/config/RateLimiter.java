@@ -0,0 +1,21 @@
+package com.quiztournament.quiz_backend.config;
+
+/**
+ * Per-client request limit for one route group
+ * Selected with app.rate-limit.store: memory (TokenBucketRateLimiter, enforced per node) or
+ * jdbc (SharedRateLimiter, enforced across every node sharing the database)
+ */
+public interface RateLimiter {
+
+    /**
+     * Take one request for the client
+     * The key is key[start, end) with surrounding whitespace ignored, so callers can pass part of a header
+     * without copying it.
+     * @return 0 if the request may go ahead, otherwise milliseconds until the client should retry
+     */
+    long tryAcquire(CharSequence key, int start, int end);
+
+    default long tryAcquire(CharSequence key) {
+        return tryAcquire(key, 0, key.length());
+    }
+}
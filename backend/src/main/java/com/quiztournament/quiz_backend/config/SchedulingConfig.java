@@ -0,0 +1,30 @@
+package com.quiztournament.quiz_backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * Enables @Scheduled background jobs
+ * Jobs include session sweeping, the quiz completion writer, rate limit flushes, OpenTDB health probes,
+ * question harvesting, email dispatch and leaderboard refreshes. They share one scheduler pool,
+ * sized so that a slow run of one job (e.g. an email round waiting on SMTP) does not hold up the others.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    @Value("${app.scheduling.pool-size:8}")
+    private int poolSize;
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduled-");
+        scheduler.initialize();
+        return scheduler;
+    }
+}
@@ -0,0 +1,143 @@
+package com.quiztournament.quiz_backend.config;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Rate limiter whose limit holds across every node, with counts shared through JdbcRateLimitStore
+ * A request is decided locally from the client's allowance: this node's share of what the client has left in
+ * the shared sliding window, refreshed on every store flush. Admitted requests are counted locally and added to
+ * the shared counters in batches, so requests never wait on the database. Between flushes the cluster admits at
+ * most the client's remaining requests (at least one per node), plus whatever arrives while a flush runs.
+ *
+ * A per-node token bucket at the same limit sits in front: it bounds clients the allowance table has no room
+ * for, and keeps limits per node if the store cannot be reached.
+ */
+public class SharedRateLimiter implements RateLimiter {
+
+    private final String name;
+    private final int limit;
+    private final long windowMs;
+    private final int maxClients;
+    private final TokenBucketRateLimiter localLimiter;
+
+    // Clients seen in the current or previous window, keyed by TokenBucketRateLimiter.hash
+    private final Map<Long, Client> clients = new ConcurrentHashMap<>();
+    // Allowance of a client not yet seen by a flush: an even share of a full window
+    private volatile int initialAllowance;
+
+    public SharedRateLimiter(String name, int limit, long window, TimeUnit unit, int maxClients) {
+        this.name = name;
+        this.localLimiter = new TokenBucketRateLimiter(limit, window, unit, maxClients);
+        this.limit = limit;
+        this.windowMs = localLimiter.getWindowMs();
+        this.maxClients = maxClients;
+        this.initialAllowance = limit;
+    }
+
+    @Override
+    public long tryAcquire(CharSequence key, int start, int end) {
+        long retryAfterMs = localLimiter.tryAcquire(key, start, end);
+        if (retryAfterMs > 0) {
+            return retryAfterMs;
+        }
+
+        long hash = TokenBucketRateLimiter.hash(key, start, end);
+        Client client = clients.get(hash);
+        if (client == null) {
+            if (clients.size() >= maxClients) {
+                // No room until the next flush drops idle clients; the local bucket still applies
+                return 0;
+            }
+            client = clients.computeIfAbsent(hash, h -> new Client(initialAllowance));
+        }
+        if (client.tryTake()) {
+            return 0;
+        }
+        // The shared window slides, so a request frees up by the end of the current one at the latest
+        return Math.max(1, windowMs - Math.floorMod(System.currentTimeMillis(), windowMs));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public long getWindowMs() {
+        return windowMs;
+    }
+
+    public int getTrackedClients() {
+        return clients.size();
+    }
+
+    /**
+     * Take the requests admitted since the last flush
+     * @return Request count per client hash, for clients with any
+     */
+    Map<Long, Integer> drainPending() {
+        Map<Long, Integer> pending = new HashMap<>();
+        clients.forEach((hash, client) -> {
+            int count = client.pending.getAndSet(0);
+            if (count > 0) {
+                pending.put(hash, count);
+            }
+        });
+        return pending;
+    }
+
+    Set<Long> trackedClients() {
+        return clients.keySet();
+    }
+
+    /**
+     * Refresh every client's allowance from the shared window
+     * Clients with nothing counted in the shared window and nothing pending are dropped.
+     * @param estimates Requests per client hash in the shared sliding window; absent means none
+     * @param activeNodes Nodes sharing the limit
+     */
+    void applySharedCounts(Map<Long, Double> estimates, int activeNodes) {
+        int nodes = Math.max(1, activeNodes);
+        initialAllowance = Math.max(1, limit / nodes);
+        clients.forEach((hash, client) -> {
+            double estimate = estimates.getOrDefault(hash, 0.0);
+            if (estimate == 0 && client.pending.get() == 0) {
+                clients.remove(hash, client);
+                return;
+            }
+            int remaining = limit - (int) Math.ceil(estimate);
+            client.allowance.set(remaining > 0 ? Math.max(1, remaining / nodes) : 0);
+        });
+    }
+
+    private static final class Client {
+        // Requests this node may still admit until the next flush
+        final AtomicInteger allowance;
+        // Requests admitted since the last flush
+        final AtomicInteger pending = new AtomicInteger();
+
+        Client(int allowance) {
+            this.allowance = new AtomicInteger(allowance);
+        }
+
+        boolean tryTake() {
+            while (true) {
+                int current = allowance.get();
+                if (current <= 0) {
+                    return false;
+                }
+                if (allowance.compareAndSet(current, current - 1)) {
+                    pending.incrementAndGet();
+                    return true;
+                }
+            }
+        }
+    }
+}
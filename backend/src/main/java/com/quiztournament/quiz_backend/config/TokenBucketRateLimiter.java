@@ -0,0 +1,197 @@
+package com.quiztournament.quiz_backend.config;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-client token buckets in a fixed-size, lock-free table
+ * Each client may burst up to the limit, then gets requests back continuously at limit per window, so there is
+ * no boundary where a fresh window lets a second full burst through.
+ *
+ * The table never grows: clients hash into sets of SET_SIZE slots, and a client missing from its set takes an
+ * empty slot or the longest-idle slot whose bucket has fully refilled. Only a full bucket is evicted, since a client
+ * coming back to a fresh slot gets exactly what it had. When every slot in the set is still refilling, new clients
+ * share the set's overflow bucket instead, so an attacker cycling through forged addresses cannot push a throttled
+ * client out and hand it a full bucket. Acquiring is a CAS on one long per client and allocates nothing. Races while
+ * a slot changes hands can let a request through or refuse one, nothing worse.
+ */
+public class TokenBucketRateLimiter implements RateLimiter {
+
+    // Slots a client may occupy; scanned on every request
+    static final int SET_SIZE = 8;
+
+    // State of a slot: milliseconds since the limiter started (high bits) and tokens in 1/256ths (low bits)
+    private static final int TOKEN_BITS = 24;
+    private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+    private static final long TOKEN_UNIT = 256;
+    private static final int MAX_LIMIT = (int) (TOKEN_MASK / TOKEN_UNIT);
+
+    private static final int MAX_CLAIM_ATTEMPTS = 4;
+
+    private final int limit;
+    private final long windowMs;
+    private final long capacity;
+    private final int setMask;
+    private final LongSupplier clock;
+    private final long origin;
+
+    // Slot i is [key hash at 2i, state at 2i + 1]; a zero hash marks an empty slot
+    private final AtomicLongArray slots;
+
+    // One bucket per set, shared by clients that find no slot in it
+    private final AtomicLongArray overflow;
+
+    /**
+     * @param limit Requests a client may make per window
+     * @param window Window length
+     * @param maxClients Clients tracked at once; rounded up to a power of two
+     */
+    public TokenBucketRateLimiter(int limit, long window, TimeUnit unit, int maxClients) {
+        this(limit, window, unit, maxClients, () -> TimeUnit.NANOSECONDS.toMillis(System.nanoTime()));
+    }
+
+    TokenBucketRateLimiter(int limit, long window, TimeUnit unit, int maxClients, LongSupplier clock) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Rate limit must be between 1 and " + MAX_LIMIT + ": " + limit);
+        }
+        this.limit = limit;
+        this.windowMs = Math.max(1, unit.toMillis(window));
+        this.capacity = limit * TOKEN_UNIT;
+        int sets = powerOfTwoAtLeast((Math.max(1, maxClients) + SET_SIZE - 1) / SET_SIZE);
+        this.setMask = sets - 1;
+        this.slots = new AtomicLongArray(sets * SET_SIZE * 2);
+        this.overflow = new AtomicLongArray(sets);
+        for (int set = 0; set < sets; set++) {
+            overflow.set(set, capacity);
+        }
+        this.clock = clock;
+        this.origin = clock.getAsLong();
+    }
+
+    /**
+     * Take one request from the client's bucket
+     * @return 0 if the request may go ahead, otherwise milliseconds until the client has a token again
+     */
+    @Override
+    public long tryAcquire(CharSequence key, int start, int end) {
+        long hash = hash(key, start, end);
+        long now = clock.getAsLong() - origin;
+        int set = (int) (mix(hash) & setMask);
+        int slot = findOrClaim(hash, set * SET_SIZE, now);
+        if (slot < 0) {
+            // Every slot in the set is still refilling, or the races for one were lost
+            return take(overflow, set, now);
+        }
+        return take(slots, slot * 2 + 1, now);
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public long getWindowMs() {
+        return windowMs;
+    }
+
+    /**
+     * Clients the table can track at once
+     */
+    public int getCapacity() {
+        return slots.length() / 2;
+    }
+
+    /**
+     * Take one token from the bucket whose state is at states[index]
+     * @return 0 if a token was taken, otherwise milliseconds until the bucket has one
+     */
+    private long take(AtomicLongArray states, int index, long now) {
+        while (true) {
+            long state = states.get(index);
+            long tokens = tokens(state, now);
+            if (tokens < TOKEN_UNIT) {
+                return Math.max(1, ((TOKEN_UNIT - tokens) * windowMs + capacity - 1) / capacity);
+            }
+            long updated = (Math.max(now, state >>> TOKEN_BITS) << TOKEN_BITS) | (tokens - TOKEN_UNIT);
+            if (states.compareAndSet(index, state, updated)) {
+                return 0;
+            }
+        }
+    }
+
+    // Tokens in a bucket at time now, in 1/256ths
+    private long tokens(long state, long now) {
+        long elapsed = now - (state >>> TOKEN_BITS);
+        if (elapsed >= windowMs) {
+            return capacity;
+        }
+        return Math.min(capacity, (state & TOKEN_MASK) + Math.max(0, elapsed) * capacity / windowMs);
+    }
+
+    /**
+     * @return The client's slot, or -1 if it has none and no slot in its set can be taken
+     */
+    private int findOrClaim(long hash, int first, long now) {
+        for (int attempt = 0; attempt < MAX_CLAIM_ATTEMPTS; attempt++) {
+            int victim = -1;
+            long victimKey = 0;
+            long victimLast = Long.MAX_VALUE;
+            for (int slot = first; slot < first + SET_SIZE; slot++) {
+                long key = slots.get(slot * 2);
+                if (key == hash) {
+                    return slot;
+                }
+                long last = -1;
+                if (key != 0) {
+                    long state = slots.get(slot * 2 + 1);
+                    if (tokens(state, now) < capacity) {
+                        // Still refilling; evicting it would hand its client a full bucket
+                        continue;
+                    }
+                    last = state >>> TOKEN_BITS;
+                }
+                if (last < victimLast) {
+                    victim = slot;
+                    victimKey = key;
+                    victimLast = last;
+                }
+            }
+            if (victim < 0) {
+                return -1;
+            }
+            // Not tracked: take an empty slot, or else the full one idle the longest
+            if (slots.compareAndSet(victim * 2, victimKey, hash)) {
+                slots.set(victim * 2 + 1, (now << TOKEN_BITS) | capacity);
+                return victim;
+            }
+        }
+        return -1;
+    }
+
+    private static int powerOfTwoAtLeast(int n) {
+        return n <= 1 ? 1 : Integer.highestOneBit(n - 1) << 1;
+    }
+
+    // 64-bit FNV-1a over the trimmed characters; never 0, which marks an empty slot
+    static long hash(CharSequence key, int start, int end) {
+        while (start < end && Character.isWhitespace(key.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(key.charAt(end - 1))) {
+            end--;
+        }
+        long hash = 0xcbf29ce484222325L;
+        for (int i = start; i < end; i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash != 0 ? hash : 1;
+    }
+
+    // Spread the high bits into the set index
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        return hash ^ (hash >>> 33);
+    }
+}
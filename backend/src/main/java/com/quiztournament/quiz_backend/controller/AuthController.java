@@ -5,6 +5,7 @@ import com.quiztournament.quiz_backend.dto.ProfileUpdateRequest;
 import com.quiztournament.quiz_backend.dto.RegisterRequest;
 import com.quiztournament.quiz_backend.entity.User;
 import com.quiztournament.quiz_backend.service.AuthService;
+import com.quiztournament.quiz_backend.service.CurrentUserResolver;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -31,7 +32,7 @@ public class AuthController {
     private com.quiztournament.quiz_backend.repository.QuizResultRepository quizResultRepository;
 
     @Autowired
-    private com.quiztournament.quiz_backend.repository.UserRepository userRepository;
+    private CurrentUserResolver currentUserResolver;
 
     /**
      * User login endpoint
@@ -206,11 +207,7 @@ public class AuthController {
                 return ResponseEntity.status(401).body(errorResponse);
             }
 
-            com.quiztournament.quiz_backend.service.CustomUserDetailsService.CustomUserPrincipal userPrincipal = 
-                (com.quiztournament.quiz_backend.service.CustomUserDetailsService.CustomUserPrincipal) authentication.getPrincipal();
-
-            User user = userRepository.findById(userPrincipal.getId())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+            User user = currentUserResolver.getCurrentUser();
 
             // Calculate user statistics - REAL DATA ONLY
             long tournamentsParticipated = quizResultRepository.countByUser(user);
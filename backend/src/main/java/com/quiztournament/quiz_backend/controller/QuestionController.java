@@ -2,8 +2,10 @@ package com.quiztournament.quiz_backend.controller;
 
 import com.quiztournament.quiz_backend.dto.AdminQuestionResponse;
 import com.quiztournament.quiz_backend.dto.QuestionResponse;
+import com.quiztournament.quiz_backend.dto.QuizAnswerRequest;
 import com.quiztournament.quiz_backend.service.QuestionService;
 import com.quiztournament.quiz_backend.service.OpenTDBService;
+import com.quiztournament.quiz_backend.service.OpenTDBHealthMonitor;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -30,6 +32,9 @@ public class QuestionController {
     @Autowired
     private OpenTDBService openTDBService;
 
+    @Autowired
+    private OpenTDBHealthMonitor openTDBHealthMonitor;
+
     /**
      * Get all questions for a tournament (Player only)
      * GET /api/tournaments/{id}/questions
@@ -84,6 +89,9 @@ public class QuestionController {
     /**
      * Submit answer for a question (Player only)
      * POST /api/tournaments/{id}/questions/{questionNumber}/answer
+     * Body {"answer": "..."} answers the question in the path.
+     * Body {"answers": [{"questionNumber": 1, "answer": "..."}, ...]} grades several answers in one round trip;
+     * the path question number is then ignored.
      */
     @PostMapping("/{id}/questions/{questionNumber}/answer")
     @PreAuthorize("hasRole('PLAYER')")
@@ -91,6 +99,10 @@ public class QuestionController {
                                           @PathVariable Integer questionNumber,
                                           @Valid @RequestBody AnswerSubmissionRequest request) {
         try {
+            if (request.getAnswers() != null && !request.getAnswers().isEmpty()) {
+                return ResponseEntity.ok(submitAnswers(id, request.getAnswers()));
+            }
+
             QuestionService.AnswerValidationResult result = questionService.validateAnswer(
                     id, questionNumber, request.getAnswer()
             );
@@ -119,6 +131,35 @@ public class QuestionController {
         }
     }
 
+    /**
+     * Grade a multi-answer payload and build the response body
+     */
+    private Map<String, Object> submitAnswers(Long tournamentId, List<QuizAnswerRequest> answers) {
+        QuestionService.BatchValidationResult result = questionService.validateAnswers(tournamentId, answers);
+
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (int number = 1; number <= result.getTotalQuestions(); number++) {
+            if (result.isAnswered(number)) {
+                Map<String, Object> answerData = new HashMap<>();
+                answerData.put("questionNumber", number);
+                answerData.put("correct", result.isCorrect(number));
+                answerData.put("userAnswer", result.getUserAnswer(number));
+                answerData.put("correctAnswer", result.getCorrectAnswer(number));
+                results.add(answerData);
+            }
+        }
+
+        Map<String, Object> responseBody = new HashMap<>();
+        responseBody.put("results", results);
+        responseBody.put("answeredCount", result.getAnsweredCount());
+        responseBody.put("correctCount", result.getCorrectCount());
+        responseBody.put("currentScore", result.getSessionCorrectCount());
+        responseBody.put("totalQuestions", result.getTotalQuestions());
+        responseBody.put("success", true);
+        responseBody.put("message", result.getCorrectCount() + "/" + result.getAnsweredCount() + " answers correct");
+        return responseBody;
+    }
+
     /**
      * Get quiz session status (Player only)
      * GET /api/tournaments/{id}/session
@@ -243,17 +284,18 @@ public class QuestionController {
     }
 
     /**
-     * Test OpenTDB API connectivity (Admin only)
+     * OpenTDB API connectivity from the last background probe (Admin only)
      * GET /api/tournaments/test-api
      */
     @GetMapping("/test-api")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<?> testApiConnectivity() {
         try {
-            boolean connected = openTDBService.testApiConnectivity();
+            boolean connected = openTDBHealthMonitor.isConnected();
 
             Map<String, Object> responseBody = new HashMap<>();
             responseBody.put("connected", connected);
+            responseBody.put("probe", openTDBHealthMonitor.getStatus());
             responseBody.put("apiUrl", "https://opentdb.com/api.php");
             responseBody.put("success", true);
 
@@ -296,6 +338,28 @@ public class QuestionController {
         }
     }
 
+    /**
+     * Get OpenTDB circuit breaker state and connection pool usage (Admin only)
+     * GET /api/tournaments/opentdb-stats
+     */
+    @GetMapping("/opentdb-stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> getOpenTdbStatistics() {
+        try {
+            Map<String, Object> responseBody = new HashMap<>();
+            responseBody.put("circuit", openTDBService.getCircuitStatistics());
+            responseBody.put("connectionPool", openTDBService.getConnectionPoolStatistics());
+            responseBody.put("success", true);
+
+            return ResponseEntity.ok(responseBody);
+        } catch (Exception e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("error", e.getMessage());
+            errorResponse.put("success", false);
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+    }
+
     /**
      * Clear question cache for a tournament (Admin only)
      * DELETE /api/tournaments/{id}/cache
@@ -355,7 +419,7 @@ public class QuestionController {
         Map<String, Object> response = new HashMap<>();
         response.put("message", "Question service is running");
         response.put("timestamp", System.currentTimeMillis());
-        response.put("apiConnected", openTDBService.testApiConnectivity());
+        response.put("apiConnected", openTDBHealthMonitor.isConnected());
         response.put("success", true);
         return ResponseEntity.ok(response);
     }
@@ -364,12 +428,20 @@ public class QuestionController {
     public static class AnswerSubmissionRequest {
         private String answer;
 
+        // Optional multi-answer payload
+        @Valid
+        private List<QuizAnswerRequest> answers;
+
         public AnswerSubmissionRequest() {}
 
         public AnswerSubmissionRequest(String answer) {
             this.answer = answer;
         }
 
+        public AnswerSubmissionRequest(List<QuizAnswerRequest> answers) {
+            this.answers = answers;
+        }
+
         public String getAnswer() {
             return answer;
         }
@@ -377,5 +449,13 @@ public class QuestionController {
         public void setAnswer(String answer) {
             this.answer = answer;
         }
+
+        public List<QuizAnswerRequest> getAnswers() {
+            return answers;
+        }
+
+        public void setAnswers(List<QuizAnswerRequest> answers) {
+            this.answers = answers;
+        }
     }
-}
\ No newline at end of file
+}
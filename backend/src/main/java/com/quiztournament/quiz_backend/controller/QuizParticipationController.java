@@ -1,9 +1,12 @@
 package com.quiztournament.quiz_backend.controller;
 
+import com.quiztournament.quiz_backend.dto.CursorPage;
 import com.quiztournament.quiz_backend.dto.QuizAnswerRequest;
 import com.quiztournament.quiz_backend.dto.QuizResultResponse;
 import com.quiztournament.quiz_backend.entity.Tournament;
+import com.quiztournament.quiz_backend.service.LeaderboardService;
 import com.quiztournament.quiz_backend.service.QuizParticipationService;
+import com.quiztournament.quiz_backend.util.PageCursor;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -26,6 +29,9 @@ public class QuizParticipationController {
     @Autowired
     private QuizParticipationService quizParticipationService;
 
+    @Autowired
+    private LeaderboardService leaderboardService;
+
     /**
      * Start quiz participation (Player only)
      * POST /api/participation/tournaments/{id}/start
@@ -99,30 +105,23 @@ public class QuizParticipationController {
     }
 
     /**
-     * Get user's quiz history (Player only)
-     * GET /api/participation/my-quiz-history
+     * Get user's quiz history, one page at a time (Player only)
+     * GET /api/participation/my-quiz-history?limit=50&cursor=...
+     * The statistics cover the whole history; pass nextCursor back to read the next page.
      */
     @GetMapping("/my-quiz-history")
     @PreAuthorize("hasRole('PLAYER')")
-    public ResponseEntity<?> getUserQuizHistory() {
+    public ResponseEntity<?> getUserQuizHistory(@RequestParam(required = false) String cursor,
+                                                @RequestParam(defaultValue = "50") int limit) {
         try {
-            List<QuizResultResponse> history = quizParticipationService.getUserQuizHistory();
+            CursorPage<QuizResultResponse> history =
+                    quizParticipationService.getUserQuizHistory(cursor, PageCursor.pageSize(limit));
 
-            Map<String, Object> responseBody = new HashMap<>();
+            Map<String, Object> responseBody = new HashMap<>(quizParticipationService.getUserQuizHistorySummary());
             responseBody.put("success", true);
-            responseBody.put("quizHistory", history);
-            responseBody.put("totalParticipated", history.size());
-
-            // Calculate user statistics
-            if (!history.isEmpty()) {
-                long passedCount = history.stream().mapToLong(quiz -> quiz.getPassed() ? 1 : 0).sum();
-                double averageScore = history.stream().mapToDouble(QuizResultResponse::getPercentage).average().orElse(0.0);
-
-                responseBody.put("passedCount", passedCount);
-                responseBody.put("failedCount", history.size() - passedCount);
-                responseBody.put("averageScore", Math.round(averageScore * 100.0) / 100.0);
-                responseBody.put("passRate", (passedCount * 100.0) / history.size());
-            }
+            responseBody.put("quizHistory", history.getItems());
+            responseBody.put("nextCursor", history.getNextCursor());
+            responseBody.put("hasMore", history.hasMore());
 
             return ResponseEntity.ok(responseBody);
         } catch (Exception e) {
@@ -209,26 +208,48 @@ public class QuizParticipationController {
     }
 
     /**
-     * Get tournament leaderboard (Authenticated users)
-     * GET /api/participation/tournaments/{id}/leaderboard
+     * Get user's rank and the leaderboard entries around it (Player only)
+     * GET /api/participation/tournaments/{id}/my-rank?radius=5
+     */
+    @GetMapping("/tournaments/{id}/my-rank")
+    @PreAuthorize("hasRole('PLAYER')")
+    public ResponseEntity<?> getMyRank(@PathVariable Long id,
+                                       @RequestParam(defaultValue = "5") int radius) {
+        try {
+            Map<String, Object> rank = quizParticipationService.getMyRank(id, Math.max(0, Math.min(radius, 25))); // Max 25 each side
+
+            Map<String, Object> responseBody = new HashMap<>(rank);
+            responseBody.put("success", true);
+
+            return ResponseEntity.ok(responseBody);
+        } catch (Exception e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("error", e.getMessage());
+            errorResponse.put("success", false);
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+    }
+
+    /**
+     * Get tournament leaderboard, one page at a time (Authenticated users)
+     * GET /api/participation/tournaments/{id}/leaderboard?limit=10&cursor=...
+     * The first page is the top of the leaderboard; pass nextCursor back to read further down.
      */
     @GetMapping("/tournaments/{id}/leaderboard")
     public ResponseEntity<?> getTournamentLeaderboard(@PathVariable Long id,
+                                                      @RequestParam(required = false) String cursor,
                                                       @RequestParam(defaultValue = "10") int limit) {
         try {
-            List<QuizResultResponse> leaderboard;
-
-            if (limit > 0) {
-                leaderboard = quizParticipationService.getTopScores(id, Math.min(limit, 50)); // Max 50 results
-            } else {
-                leaderboard = quizParticipationService.getTournamentLeaderboard(id);
-            }
+            CursorPage<QuizResultResponse> leaderboard =
+                    quizParticipationService.getTournamentLeaderboard(id, cursor, PageCursor.pageSize(limit));
 
             Map<String, Object> responseBody = new HashMap<>();
             responseBody.put("success", true);
-            responseBody.put("leaderboard", leaderboard);
-            responseBody.put("totalEntries", leaderboard.size());
+            responseBody.put("leaderboard", leaderboard.getItems());
+            responseBody.put("totalEntries", leaderboardService.countEntries(id));
             responseBody.put("tournamentId", id);
+            responseBody.put("nextCursor", leaderboard.getNextCursor());
+            responseBody.put("hasMore", leaderboard.hasMore());
 
             return ResponseEntity.ok(responseBody);
         } catch (Exception e) {
@@ -1,5 +1,7 @@
 package com.quiztournament.quiz_backend.controller;
 
+import com.quiztournament.quiz_backend.dto.CursorPage;
+import com.quiztournament.quiz_backend.dto.LeaderboardEntry;
 import com.quiztournament.quiz_backend.dto.TournamentCreateRequest;
 import com.quiztournament.quiz_backend.dto.TournamentUpdateRequest;
 import com.quiztournament.quiz_backend.dto.TournamentResponse;
@@ -12,7 +14,12 @@ import com.quiztournament.quiz_backend.repository.QuizAnswerRepository;
 import com.quiztournament.quiz_backend.repository.QuizResultRepository;
 import com.quiztournament.quiz_backend.repository.TournamentRepository;
 import com.quiztournament.quiz_backend.repository.UserRepository;
+import com.quiztournament.quiz_backend.service.CurrentUserResolver;
+import com.quiztournament.quiz_backend.service.LeaderboardService;
+import com.quiztournament.quiz_backend.service.TournamentLeaderboard;
 import com.quiztournament.quiz_backend.service.TournamentService;
+import com.quiztournament.quiz_backend.service.TournamentStatsService;
+import com.quiztournament.quiz_backend.util.PageCursor;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -24,6 +31,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -52,6 +60,15 @@ public class TournamentController {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private CurrentUserResolver currentUserResolver;
+
+    @Autowired
+    private TournamentStatsService tournamentStatsService;
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
     /**
      * Create a new tournament (Admin only)
      * POST /api/tournaments
@@ -77,18 +94,22 @@ public class TournamentController {
     }
 
     /**
-     * Get all tournaments (Admin only)
-     * GET /api/tournaments
+     * Get all tournaments, newest first, one page at a time (Admin only)
+     * GET /api/tournaments?limit=50&cursor=...
      */
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<?> getAllTournaments() {
+    public ResponseEntity<?> getAllTournaments(@RequestParam(required = false) String cursor,
+                                               @RequestParam(defaultValue = "50") int limit) {
         try {
-            List<TournamentResponse> tournaments = tournamentService.getAllTournaments();
+            CursorPage<TournamentResponse> tournaments =
+                    tournamentService.getTournamentPage(cursor, PageCursor.pageSize(limit));
 
             Map<String, Object> responseBody = new HashMap<>();
-            responseBody.put("tournaments", tournaments);
-            responseBody.put("count", tournaments.size());
+            responseBody.put("tournaments", tournaments.getItems());
+            responseBody.put("count", tournaments.getItems().size());
+            responseBody.put("nextCursor", tournaments.getNextCursor());
+            responseBody.put("hasMore", tournaments.hasMore());
             responseBody.put("success", true);
 
             return ResponseEntity.ok(responseBody);
@@ -294,18 +315,8 @@ public class TournamentController {
             Double averageScore = quizResultRepository.findAveragePercentage();
             if (averageScore == null) averageScore = 0.0;
             
-            // Calculate total likes across all tournaments
-            long totalLikes = 0;
-            try {
-                // Sum up likes from all tournaments
-                List<Tournament> allTournaments = tournamentRepository.findAll();
-                for (Tournament tournament : allTournaments) {
-                    totalLikes += tournamentRepository.countLikes(tournament.getId());
-                }
-            } catch (Exception e) {
-                // If like counting fails, default to 0
-                totalLikes = 0;
-            }
+            // Total likes across all tournaments from the aggregate table
+            long totalLikes = tournamentStatsService.getTotalLikes();
 
             Map<String, Object> responseBody = new HashMap<>();
             responseBody.put("totalTournaments", totalTournaments);
@@ -330,6 +341,30 @@ public class TournamentController {
         }
     }
 
+    /**
+     * Rebuild tournament statistics aggregates from the base tables (Admin only)
+     * POST /api/tournaments/statistics/rebuild
+     */
+    @PostMapping("/statistics/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> rebuildTournamentStatistics() {
+        try {
+            int rebuiltCount = tournamentStatsService.rebuildAll();
+
+            Map<String, Object> responseBody = new HashMap<>();
+            responseBody.put("message", "Tournament statistics rebuilt successfully");
+            responseBody.put("rebuiltTournaments", rebuiltCount);
+            responseBody.put("success", true);
+
+            return ResponseEntity.ok(responseBody);
+        } catch (Exception e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("error", e.getMessage());
+            errorResponse.put("success", false);
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+    }
+
     /**
      * Health check endpoint
      * GET /api/tournaments/health
@@ -349,21 +384,47 @@ public class TournamentController {
      */
     @GetMapping("/{id}/results")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<?> getTournamentResults(@PathVariable Long id) {
+    public ResponseEntity<?> getTournamentResults(@PathVariable Long id,
+                                                  @RequestParam(required = false) String cursor,
+                                                  @RequestParam(defaultValue = "50") int limit) {
         try {
             Tournament tournament = tournamentRepository.findById(id)
                     .orElseThrow(() -> new RuntimeException("Tournament not found"));
 
-            List<QuizResult> results = quizResultRepository.findByTournamentOrderByPercentageDescCompletedAtAsc(tournament);
-            
-            // Calculate statistics
-            long totalParticipants = results.size();
-            long passedCount = results.stream().mapToLong(r -> r.getPassed() ? 1 : 0).sum();
-            double averageScore = results.stream().mapToDouble(QuizResult::getPercentage).average().orElse(0.0);
-            
+            // One page of ranked results, with statistics over all of them, from the in-memory leaderboard
+            CursorPage<LeaderboardEntry> page = leaderboardService.getPage(id, cursor, PageCursor.pageSize(limit));
+            List<LeaderboardEntry> entries = page.getItems();
+            TournamentLeaderboard leaderboard = leaderboardService.getLeaderboard(id);
+            long totalParticipants = leaderboard != null ? leaderboard.size() : 0;
+            long passedCount = leaderboard != null ? leaderboard.getPassCount() : 0;
+            double averageScore = leaderboard != null ? leaderboard.getAveragePercentage() : 0.0;
+
+            List<Map<String, Object>> results = new ArrayList<>(entries.size());
+            for (LeaderboardEntry entry : entries) {
+                Map<String, Object> user = new HashMap<>();
+                user.put("id", entry.getUserId());
+                user.put("username", entry.getUsername());
+                user.put("firstName", entry.getFirstName());
+                user.put("lastName", entry.getLastName());
+                user.put("email", entry.getEmail());
+
+                Map<String, Object> resultData = new HashMap<>();
+                resultData.put("id", entry.getResultId());
+                resultData.put("user", user);
+                resultData.put("score", entry.getScore());
+                resultData.put("totalQuestions", entry.getTotalQuestions());
+                resultData.put("percentage", entry.getPercentage());
+                resultData.put("passed", entry.isPassed());
+                resultData.put("completedAt", entry.getCompletedAt());
+                resultData.put("timeTakenSeconds", entry.getTimeTakenSeconds());
+                results.add(resultData);
+            }
+
             Map<String, Object> response = new HashMap<>();
             response.put("tournament", tournament);
             response.put("results", results);
+            response.put("nextCursor", page.getNextCursor());
+            response.put("hasMore", page.hasMore());
             response.put("statistics", Map.of(
                 "totalParticipants", totalParticipants,
                 "passedCount", passedCount,
@@ -425,26 +486,34 @@ public class TournamentController {
     }
 
     /**
-     * Get detailed answers for tournament review (Admin only)
-     * GET /api/tournaments/{id}/detailed-answers
+     * Get detailed answers for tournament review, a page of participants at a time in rank order (Admin only)
+     * GET /api/tournaments/{id}/detailed-answers?limit=50&cursor=...
      */
     @GetMapping("/{id}/detailed-answers")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<?> getTournamentDetailedAnswers(@PathVariable Long id) {
+    public ResponseEntity<?> getTournamentDetailedAnswers(@PathVariable Long id,
+                                                          @RequestParam(required = false) String cursor,
+                                                          @RequestParam(defaultValue = "50") int limit) {
         try {
             Tournament tournament = tournamentRepository.findById(id)
                     .orElseThrow(() -> new RuntimeException("Tournament not found"));
 
-            List<QuizAnswer> detailedAnswers = quizAnswerRepository.findByTournamentOrderByUserAndQuestion(tournament);
-            
+            // Page through participants on the leaderboard, then load just their answers
+            CursorPage<LeaderboardEntry> participants = leaderboardService.getPage(id, cursor, PageCursor.pageSize(limit));
+            Map<Long, String> userKeysByResult = new LinkedHashMap<>();
+            for (LeaderboardEntry entry : participants.getItems()) {
+                userKeysByResult.put(entry.getResultId(), entry.getUsername() + " (" + entry.getPlayerName() + ")");
+            }
+            List<QuizAnswer> detailedAnswers = userKeysByResult.isEmpty() ? List.of()
+                    : quizAnswerRepository.findByQuizResultIdsOrderByQuestion(userKeysByResult.keySet());
+
             // Group answers by user for better organization
-            Map<String, List<Map<String, Object>>> answersByUser = new HashMap<>();
-            
+            Map<String, List<Map<String, Object>>> answersByUser = new LinkedHashMap<>();
+            for (String userKey : userKeysByResult.values()) {
+                answersByUser.put(userKey, new ArrayList<>());
+            }
+
             for (QuizAnswer answer : detailedAnswers) {
-                String username = answer.getQuizResult().getUser().getUsername();
-                String userDisplayName = answer.getQuizResult().getUser().getFirstName() + " " + 
-                                       answer.getQuizResult().getUser().getLastName();
-                
                 Map<String, Object> answerData = new HashMap<>();
                 answerData.put("questionNumber", answer.getQuestionNumber());
                 answerData.put("questionText", answer.getQuestionText());
@@ -452,9 +521,9 @@ public class TournamentController {
                 answerData.put("correctAnswer", answer.getCorrectAnswer());
                 answerData.put("isCorrect", answer.getIsCorrect());
                 answerData.put("answeredAt", answer.getAnsweredAt());
-                
-                String userKey = username + " (" + userDisplayName + ")";
-                answersByUser.computeIfAbsent(userKey, k -> new ArrayList<>()).add(answerData);
+
+                String userKey = userKeysByResult.get(answer.getQuizResult().getId());
+                answersByUser.get(userKey).add(answerData);
             }
 
             Map<String, Object> response = new HashMap<>();
@@ -467,6 +536,8 @@ public class TournamentController {
             response.put("answersByUser", answersByUser);
             response.put("totalUsers", answersByUser.size());
             response.put("totalAnswers", detailedAnswers.size());
+            response.put("nextCursor", participants.getNextCursor());
+            response.put("hasMore", participants.hasMore());
             response.put("success", true);
 
             return ResponseEntity.ok(response);
@@ -494,12 +565,8 @@ public class TournamentController {
                 throw new RuntimeException("User not authenticated");
             }
 
-            com.quiztournament.quiz_backend.service.CustomUserDetailsService.CustomUserPrincipal userPrincipal = 
-                (com.quiztournament.quiz_backend.service.CustomUserDetailsService.CustomUserPrincipal) authentication.getPrincipal();
-            
-            Long userId = userPrincipal.getId();
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
+            User user = currentUserResolver.getCurrentUser();
+            Long userId = user.getId();
 
             // Get user's answers for this tournament
             List<QuizAnswer> myAnswers = quizAnswerRepository.findByTournamentAndUserOrderByQuestion(tournament, userId);
@@ -563,20 +630,26 @@ public class TournamentController {
 
     /**
      * Get enhanced tournament scores with statistics (Assessment requirement)
-     * GET /api/tournaments/{id}/enhanced-scores
+     * GET /api/tournaments/{id}/enhanced-scores?limit=50&cursor=...
      */
     @GetMapping("/{id}/enhanced-scores")
-    public ResponseEntity<?> getEnhancedTournamentScores(@PathVariable Long id) {
+    public ResponseEntity<?> getEnhancedTournamentScores(@PathVariable Long id,
+                                                         @RequestParam(required = false) String cursor,
+                                                         @RequestParam(defaultValue = "50") int limit) {
         try {
             Tournament tournament = tournamentRepository.findById(id)
                     .orElseThrow(() -> new RuntimeException("Tournament not found"));
 
-            // Get all quiz results for this tournament, sorted by score descending
-            List<QuizResult> results = quizResultRepository.findByTournamentOrderByPercentageDescCompletedAtAsc(tournament);
-            
+            // One page of results in rank order, with statistics over all of them, from the in-memory leaderboard
+            CursorPage<LeaderboardEntry> page = leaderboardService.getPage(id, cursor, PageCursor.pageSize(limit));
+            List<LeaderboardEntry> results = page.getItems();
+            TournamentLeaderboard leaderboard = leaderboardService.getLeaderboard(id);
+            int firstRank = results.isEmpty() ? 1 : leaderboardService.getRank(id, results.get(0).getUserId());
+
             // Calculate statistics
-            long totalPlayers = results.size();
-            double averageScore = results.stream().mapToDouble(QuizResult::getPercentage).average().orElse(0.0);
+            long totalPlayers = leaderboard != null ? leaderboard.size() : 0;
+            double averageScore = leaderboard != null ? leaderboard.getAveragePercentage() : 0.0;
+            long passedCount = leaderboard != null ? leaderboard.getPassCount() : 0;
             
             // Get tournament likes count (placeholder for now)
             long likesCount = (long) (Math.random() * 50); // Simulated likes for demo
@@ -585,16 +658,16 @@ public class TournamentController {
             List<Map<String, Object>> formattedResults = new ArrayList<>();
             
             for (int i = 0; i < results.size(); i++) {
-                QuizResult result = results.get(i);
+                LeaderboardEntry result = results.get(i);
                 Map<String, Object> resultData = new HashMap<>();
                 
-                resultData.put("rank", i + 1);
-                resultData.put("playerName", result.getUser().getFirstName() + " " + result.getUser().getLastName());
-                resultData.put("username", result.getUser().getUsername());
+                resultData.put("rank", firstRank + i);
+                resultData.put("playerName", result.getPlayerName());
+                resultData.put("username", result.getUsername());
                 resultData.put("score", result.getScore());
                 resultData.put("totalQuestions", result.getTotalQuestions());
                 resultData.put("percentage", Math.round(result.getPercentage() * 100.0) / 100.0);
-                resultData.put("passed", result.getPassed());
+                resultData.put("passed", result.isPassed());
                 resultData.put("completedDate", result.getCompletedAt());
                 resultData.put("timeTaken", result.getTimeTakenSeconds());
                 
@@ -612,9 +685,11 @@ public class TournamentController {
                 "totalPlayers", totalPlayers,
                 "averageScore", Math.round(averageScore * 100.0) / 100.0,
                 "likesCount", likesCount,
-                "passRate", totalPlayers > 0 ? Math.round((results.stream().mapToLong(r -> r.getPassed() ? 1 : 0).sum() * 100.0 / totalPlayers) * 100.0) / 100.0 : 0.0
+                "passRate", totalPlayers > 0 ? Math.round((passedCount * 100.0 / totalPlayers) * 100.0) / 100.0 : 0.0
             ));
             response.put("scores", formattedResults);
+            response.put("nextCursor", page.getNextCursor());
+            response.put("hasMore", page.hasMore());
             response.put("success", true);
 
             return ResponseEntity.ok(response);
@@ -1,6 +1,8 @@
 package com.quiztournament.quiz_backend.controller;
 
+import com.quiztournament.quiz_backend.dto.CursorPage;
 import com.quiztournament.quiz_backend.service.TournamentLikeService;
+import com.quiztournament.quiz_backend.util.PageCursor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -94,19 +96,23 @@ public class TournamentLikeController {
     }
 
     /**
-     * Get tournaments liked by current user (Player only)
-     * GET /api/tournaments/my-likes
+     * Get tournaments liked by current user, one page at a time (Player only)
+     * GET /api/tournaments/my-likes?limit=50&cursor=...
      */
     @GetMapping("/my-likes")
     @PreAuthorize("hasRole('PLAYER')")
-    public ResponseEntity<?> getUserLikedTournaments() {
+    public ResponseEntity<?> getUserLikedTournaments(@RequestParam(required = false) String cursor,
+                                                     @RequestParam(defaultValue = "50") int limit) {
         try {
-            List<Map<String, Object>> likedTournaments = tournamentLikeService.getUserLikedTournaments();
+            CursorPage<Map<String, Object>> likedTournaments =
+                    tournamentLikeService.getUserLikedTournaments(cursor, PageCursor.pageSize(limit));
 
             Map<String, Object> responseBody = new HashMap<>();
             responseBody.put("success", true);
-            responseBody.put("likedTournaments", likedTournaments);
-            responseBody.put("count", likedTournaments.size());
+            responseBody.put("likedTournaments", likedTournaments.getItems());
+            responseBody.put("count", tournamentLikeService.countUserLikes());
+            responseBody.put("nextCursor", likedTournaments.getNextCursor());
+            responseBody.put("hasMore", likedTournaments.hasMore());
             responseBody.put("message", "Your liked tournaments");
 
             return ResponseEntity.ok(responseBody);
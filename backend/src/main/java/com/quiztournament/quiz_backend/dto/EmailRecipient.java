@@ -0,0 +1,25 @@
+package com.quiztournament.quiz_backend.dto;
+
+/**
+ * User ID and email address of a broadcast recipient
+ * Read as a JPQL constructor expression, so paging through recipients never loads User entities
+ * (password hashes, profile fields) or grows the persistence context.
+ */
+public class EmailRecipient {
+
+    private final Long userId;
+    private final String email;
+
+    public EmailRecipient(Long userId, String email) {
+        this.userId = userId;
+        this.email = email;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+}
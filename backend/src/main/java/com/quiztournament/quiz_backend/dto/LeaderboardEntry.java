@@ -0,0 +1,78 @@
+package com.quiztournament.quiz_backend.dto;
+
+import com.quiztournament.quiz_backend.entity.QuizResult;
+import com.quiztournament.quiz_backend.entity.User;
+
+import java.time.LocalDateTime;
+
+/**
+ * One player's result on a tournament leaderboard
+ * Immutable snapshot of a QuizResult with the player's display fields, so leaderboard
+ * reads never touch the database or lazy entity associations.
+ */
+public class LeaderboardEntry {
+
+    private final Long resultId;
+    private final Long tournamentId;
+    private final Long userId;
+    private final String username;
+    private final String firstName;
+    private final String lastName;
+    private final String email;
+    private final int score;
+    private final int totalQuestions;
+    private final double percentage;
+    private final boolean passed;
+    private final LocalDateTime completedAt;
+    private final Integer timeTakenSeconds;
+
+    // Also used as a JPQL constructor expression when rebuilding from quiz_results
+    public LeaderboardEntry(Long resultId, Long tournamentId, Long userId, String username, String firstName,
+                            String lastName, String email, Integer score, Integer totalQuestions, Double percentage,
+                            Boolean passed, LocalDateTime completedAt, Integer timeTakenSeconds) {
+        this.resultId = resultId;
+        this.tournamentId = tournamentId;
+        this.userId = userId;
+        this.username = username;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.email = email;
+        this.score = score;
+        this.totalQuestions = totalQuestions;
+        this.percentage = percentage;
+        this.passed = Boolean.TRUE.equals(passed);
+        this.completedAt = completedAt;
+        this.timeTakenSeconds = timeTakenSeconds;
+    }
+
+    public static LeaderboardEntry from(QuizResult quizResult) {
+        User user = quizResult.getUser();
+        return new LeaderboardEntry(quizResult.getId(), quizResult.getTournament().getId(), user.getId(),
+                user.getUsername(), user.getFirstName(), user.getLastName(), user.getEmail(),
+                quizResult.getScore(), quizResult.getTotalQuestions(), quizResult.getPercentage(),
+                quizResult.getPassed(), quizResult.getCompletedAt(), quizResult.getTimeTakenSeconds());
+    }
+
+    /**
+     * Entry carrying only the fields a leaderboard ranks by, used as a search key when paging
+     */
+    public static LeaderboardEntry rankingKey(double percentage, LocalDateTime completedAt, Long userId) {
+        return new LeaderboardEntry(null, null, userId, null, null, null, null, 0, 0, percentage, false,
+                completedAt, null);
+    }
+
+    public Long getResultId() { return resultId; }
+    public Long getTournamentId() { return tournamentId; }
+    public Long getUserId() { return userId; }
+    public String getUsername() { return username; }
+    public String getFirstName() { return firstName; }
+    public String getLastName() { return lastName; }
+    public String getEmail() { return email; }
+    public String getPlayerName() { return firstName + " " + lastName; }
+    public int getScore() { return score; }
+    public int getTotalQuestions() { return totalQuestions; }
+    public double getPercentage() { return percentage; }
+    public boolean isPassed() { return passed; }
+    public LocalDateTime getCompletedAt() { return completedAt; }
+    public Integer getTimeTakenSeconds() { return timeTakenSeconds; }
+}
@@ -1,6 +1,6 @@
 package com.quiztournament.quiz_backend.dto;
 
-import com.quiztournament.quiz_backend.entity.UserTournamentScore;
+import com.quiztournament.quiz_backend.entity.QuizResult;
 import java.time.LocalDateTime;
 import java.util.Map;
 
@@ -27,45 +27,28 @@ public class QuizResultResponse {
     // Constructors
     public QuizResultResponse() {}
 
-    public QuizResultResponse(UserTournamentScore userScore,
+    public QuizResultResponse(QuizResult quizResult,
                               Map<Integer, String> userAnswers,
                               Map<Integer, String> correctAnswers,
                               Map<Integer, Boolean> answerResults) {
-        this.tournamentId = userScore.getTournament().getId();
-        this.tournamentName = userScore.getTournament().getName();
-        this.userId = userScore.getUser().getId();
-        this.playerName = userScore.getUser().getFirstName() + " " + userScore.getUser().getLastName();
-        this.score = userScore.getScore();
-        this.totalQuestions = 10; // Always 10 questions per tournament
-        this.percentage = (userScore.getScore() / 10.0) * 100.0;
-        this.passed = userScore.getPassed();
-        this.minPassingScore = userScore.getTournament().getMinPassingScore();
-        this.completedAt = userScore.getCompletedAt();
+        this.tournamentId = quizResult.getTournament().getId();
+        this.tournamentName = quizResult.getTournament().getName();
+        this.userId = quizResult.getUser().getId();
+        this.playerName = quizResult.getUser().getFirstName() + " " + quizResult.getUser().getLastName();
+        this.score = quizResult.getScore();
+        this.totalQuestions = quizResult.getTotalQuestions();
+        this.percentage = quizResult.getPercentage();
+        this.passed = quizResult.getPassed();
+        this.minPassingScore = quizResult.getTournament().getMinPassingScore();
+        this.completedAt = quizResult.getCompletedAt();
         this.userAnswers = userAnswers;
         this.correctAnswers = correctAnswers;
         this.answerResults = answerResults;
     }
 
     // Factory method for basic result (without detailed answers)
-    public static QuizResultResponse fromUserTournamentScore(UserTournamentScore userScore) {
-        QuizResultResponse response = new QuizResultResponse();
-        response.setTournamentId(userScore.getTournament().getId());
-        response.setTournamentName(userScore.getTournament().getName());
-        response.setUserId(userScore.getUser().getId());
-        
-        // Debug logging
-        System.out.println("Creating QuizResultResponse for user: " + 
-            userScore.getUser().getFirstName() + " " + userScore.getUser().getLastName() + 
-            " (ID: " + userScore.getUser().getId() + ")");
-        
-        response.setPlayerName(userScore.getUser().getFirstName() + " " + userScore.getUser().getLastName());
-        response.setScore(userScore.getScore());
-        response.setTotalQuestions(10);
-        response.setPercentage((userScore.getScore() / 10.0) * 100.0);
-        response.setPassed(userScore.getPassed());
-        response.setMinPassingScore(userScore.getTournament().getMinPassingScore());
-        response.setCompletedAt(userScore.getCompletedAt());
-        return response;
+    public static QuizResultResponse fromQuizResult(QuizResult quizResult) {
+        return new QuizResultResponse(quizResult, null, null, null);
     }
 
     // Getters and Setters
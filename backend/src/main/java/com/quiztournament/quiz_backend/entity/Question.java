@@ -0,0 +1,203 @@
+package com.quiztournament.quiz_backend.entity;
+
+import com.quiztournament.quiz_backend.dto.OpenTDBQuestion;
+import jakarta.persistence.*;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Entity representing a question in the local question bank
+ * Filled in bulk from OpenTDB by QuestionBankHarvester so tournaments can draw questions without external calls
+ */
+@Entity
+@Table(name = "questions",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"category", "difficulty", "question_digest"}),
+       indexes = @Index(name = "idx_questions_category_difficulty", columnList = "category, difficulty"))
+public class Question {
+
+    // Separator for incorrect answers; a control character never present in question text
+    private static final String ANSWER_SEPARATOR = "\u001F";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String category; // Our category key, e.g. "science"
+
+    @Column(nullable = false, length = 20)
+    private String difficulty; // "easy", "medium", "hard"
+
+    @Column(nullable = false, length = 20)
+    private String type; // "multiple" or "boolean"
+
+    @Column(name = "source_category", length = 100)
+    private String sourceCategory; // OpenTDB category name
+
+    @Column(name = "question_text", nullable = false, length = 1000)
+    private String questionText;
+
+    // SHA-256 of the question text, hex encoded; the text itself is too long for a unique index
+    // Nullable in the schema only so ddl-auto can add it to tables from before it existed
+    @Column(name = "question_digest", length = 64)
+    private String questionDigest;
+
+    @Column(name = "correct_answer", nullable = false, length = 500)
+    private String correctAnswer;
+
+    @Column(name = "incorrect_answers", nullable = false, length = 2000)
+    private String incorrectAnswers;
+
+    @Column(name = "harvested_at", nullable = false)
+    private LocalDateTime harvestedAt;
+
+    // Constructors
+    public Question() {}
+
+    public Question(String category, String difficulty, OpenTDBQuestion source) {
+        this.category = category;
+        this.difficulty = difficulty;
+        this.type = source.getType();
+        this.sourceCategory = source.getCategory();
+        this.questionText = source.getQuestion();
+        this.questionDigest = digest(source.getQuestion());
+        this.correctAnswer = source.getCorrectAnswer();
+        this.incorrectAnswers = joinAnswers(source.getIncorrectAnswers());
+        this.harvestedAt = LocalDateTime.now();
+    }
+
+    /**
+     * Convert back to the OpenTDB question format used by quiz sessions
+     */
+    public OpenTDBQuestion toOpenTDBQuestion() {
+        return new OpenTDBQuestion(sourceCategory, type, difficulty, questionText, correctAnswer,
+                splitAnswers(incorrectAnswers));
+    }
+
+    /**
+     * Digest identifying a question text within its category and difficulty
+     */
+    public static String digest(String questionText) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(questionText.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Store a list of answers in a single column
+     */
+    public static String joinAnswers(List<String> answers) {
+        return String.join(ANSWER_SEPARATOR, answers);
+    }
+
+    /**
+     * Read a list of answers stored with joinAnswers
+     */
+    public static List<String> splitAnswers(String answers) {
+        if (answers == null || answers.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(Arrays.asList(answers.split(ANSWER_SEPARATOR)));
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public String getDifficulty() {
+        return difficulty;
+    }
+
+    public void setDifficulty(String difficulty) {
+        this.difficulty = difficulty;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getSourceCategory() {
+        return sourceCategory;
+    }
+
+    public void setSourceCategory(String sourceCategory) {
+        this.sourceCategory = sourceCategory;
+    }
+
+    public String getQuestionText() {
+        return questionText;
+    }
+
+    public void setQuestionText(String questionText) {
+        this.questionText = questionText;
+    }
+
+    public String getQuestionDigest() {
+        return questionDigest;
+    }
+
+    public void setQuestionDigest(String questionDigest) {
+        this.questionDigest = questionDigest;
+    }
+
+    public String getCorrectAnswer() {
+        return correctAnswer;
+    }
+
+    public void setCorrectAnswer(String correctAnswer) {
+        this.correctAnswer = correctAnswer;
+    }
+
+    public String getIncorrectAnswers() {
+        return incorrectAnswers;
+    }
+
+    public void setIncorrectAnswers(String incorrectAnswers) {
+        this.incorrectAnswers = incorrectAnswers;
+    }
+
+    public LocalDateTime getHarvestedAt() {
+        return harvestedAt;
+    }
+
+    public void setHarvestedAt(LocalDateTime harvestedAt) {
+        this.harvestedAt = harvestedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "Question{" +
+                "id=" + id +
+                ", category='" + category + '\'' +
+                ", difficulty='" + difficulty + '\'' +
+                ", questionText='" + questionText + '\'' +
+                '}';
+    }
+}
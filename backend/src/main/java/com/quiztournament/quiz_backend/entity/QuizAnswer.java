@@ -8,11 +8,18 @@ import java.time.LocalDateTime;
  * Stores detailed answer information for admin review
  */
 @Entity
-@Table(name = "quiz_answers")
+@Table(name = "quiz_answers",
+       // A result's answers in question order (detailed answer review, retake deletes)
+       indexes = @Index(name = "idx_quiz_answers_result_question", columnList = "quiz_result_id, question_number"))
 public class QuizAnswer {
     
+    // IDs come from a pooled sequence (one round trip per 50 rows) so inserts can be JDBC-batched
+    public static final String ID_SEQUENCE = "quiz_answers_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "quiz_answer_id")
+    @SequenceGenerator(name = "quiz_answer_id", sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
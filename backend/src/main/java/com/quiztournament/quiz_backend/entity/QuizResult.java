@@ -5,10 +5,19 @@ import java.time.LocalDateTime;
 
 /**
  * Entity representing a completed quiz result
+ * Canonical store of scores; written only through ScoreLedger
  */
 @Entity
 @Table(name = "quiz_results", 
-       uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "tournament_id"}))
+       uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "tournament_id"}),
+       indexes = {
+           // Leaderboards: a tournament's results in ranking order
+           @Index(name = "idx_quiz_results_leaderboard", columnList = "tournament_id, percentage DESC, completed_at"),
+           // Quiz history: a user's results, most recent first (keyset pages seek on completed_at, id)
+           @Index(name = "idx_quiz_results_user_completed", columnList = "user_id, completed_at DESC, id DESC"),
+           // Leaderboard refresh: results completed since the previous pass
+           @Index(name = "idx_quiz_results_completed", columnList = "completed_at")
+       })
 public class QuizResult {
     
     @Id
@@ -9,7 +9,9 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "tournament_likes",
-        uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "tournament_id"}))
+        uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "tournament_id"}),
+        // A user's likes, most recent first (keyset pages seek on created_at, id)
+        indexes = @Index(name = "idx_tournament_likes_user_created", columnList = "user_id, created_at DESC, id DESC"))
 public class TournamentLike {
 
     @Id
@@ -0,0 +1,101 @@
+package com.quiztournament.quiz_backend.entity;
+
+import com.quiztournament.quiz_backend.dto.OpenTDBQuestion;
+import jakarta.persistence.*;
+
+/**
+ * Entity representing one question of a tournament's frozen question set
+ * The set is resolved once when the tournament is created and never changes, so every player gets the same questions
+ */
+@Entity
+@Table(name = "tournament_questions",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"tournament_id", "question_number"}))
+public class TournamentQuestion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "tournament_id", nullable = false)
+    private Long tournamentId;
+
+    @Column(name = "question_number", nullable = false)
+    private Integer questionNumber; // 1-based position in the set
+
+    @Column(nullable = false, length = 20)
+    private String type;
+
+    @Column(length = 20)
+    private String difficulty;
+
+    @Column(name = "source_category", length = 100)
+    private String sourceCategory;
+
+    @Column(name = "question_text", nullable = false, length = 1000)
+    private String questionText;
+
+    @Column(name = "correct_answer", nullable = false, length = 500)
+    private String correctAnswer;
+
+    @Column(name = "incorrect_answers", nullable = false, length = 2000)
+    private String incorrectAnswers;
+
+    // Constructors
+    public TournamentQuestion() {}
+
+    public TournamentQuestion(Long tournamentId, Integer questionNumber, OpenTDBQuestion source) {
+        this.tournamentId = tournamentId;
+        this.questionNumber = questionNumber;
+        this.type = source.getType();
+        this.difficulty = source.getDifficulty();
+        this.sourceCategory = source.getCategory();
+        this.questionText = source.getQuestion();
+        this.correctAnswer = source.getCorrectAnswer();
+        this.incorrectAnswers = Question.joinAnswers(source.getIncorrectAnswers());
+    }
+
+    /**
+     * Convert to the OpenTDB question format used by quiz sessions
+     */
+    public OpenTDBQuestion toOpenTDBQuestion() {
+        return new OpenTDBQuestion(sourceCategory, type, difficulty, questionText, correctAnswer,
+                Question.splitAnswers(incorrectAnswers));
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public Long getTournamentId() {
+        return tournamentId;
+    }
+
+    public Integer getQuestionNumber() {
+        return questionNumber;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getDifficulty() {
+        return difficulty;
+    }
+
+    public String getSourceCategory() {
+        return sourceCategory;
+    }
+
+    public String getQuestionText() {
+        return questionText;
+    }
+
+    public String getCorrectAnswer() {
+        return correctAnswer;
+    }
+
+    public String getIncorrectAnswers() {
+        return incorrectAnswers;
+    }
+}
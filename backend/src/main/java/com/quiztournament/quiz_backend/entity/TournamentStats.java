@@ -0,0 +1,99 @@
+package com.quiztournament.quiz_backend.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Entity holding pre-aggregated statistics for a tournament
+ * Maintained incrementally as scores and likes are written, so stats reads are primary-key lookups
+ */
+@Entity
+@Table(name = "tournament_stats")
+public class TournamentStats {
+
+    @Id
+    @Column(name = "tournament_id")
+    private Long tournamentId;
+
+    @Column(name = "participant_count", nullable = false)
+    private Long participantCount = 0L;
+
+    @Column(name = "score_sum", nullable = false)
+    private Long scoreSum = 0L; // Sum of scores out of 10
+
+    @Column(name = "pass_count", nullable = false)
+    private Long passCount = 0L;
+
+    @Column(name = "like_count", nullable = false)
+    private Long likeCount = 0L;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public TournamentStats() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public TournamentStats(Long tournamentId) {
+        this();
+        this.tournamentId = tournamentId;
+    }
+
+    // Average score out of 10, or null when nobody has participated yet
+    public Double getAverageScore() {
+        if (participantCount == null || participantCount == 0) {
+            return null;
+        }
+        return scoreSum / (double) participantCount;
+    }
+
+    // Getters and Setters
+    public Long getTournamentId() {
+        return tournamentId;
+    }
+
+    public void setTournamentId(Long tournamentId) {
+        this.tournamentId = tournamentId;
+    }
+
+    public Long getParticipantCount() {
+        return participantCount;
+    }
+
+    public void setParticipantCount(Long participantCount) {
+        this.participantCount = participantCount;
+    }
+
+    public Long getScoreSum() {
+        return scoreSum;
+    }
+
+    public void setScoreSum(Long scoreSum) {
+        this.scoreSum = scoreSum;
+    }
+
+    public Long getPassCount() {
+        return passCount;
+    }
+
+    public void setPassCount(Long passCount) {
+        this.passCount = passCount;
+    }
+
+    public Long getLikeCount() {
+        return likeCount;
+    }
+
+    public void setLikeCount(Long likeCount) {
+        this.likeCount = likeCount;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
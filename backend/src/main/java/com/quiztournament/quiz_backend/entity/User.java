@@ -12,7 +12,11 @@ import java.util.List;
  * Contains authentication fields, profile information, and relationships to tournaments
  */
 @Entity
-@Table(name = "users")
+@Table(name = "users",
+       indexes = {
+           // Broadcast emails: users of a role in ID order
+           @Index(name = "idx_users_role_id", columnList = "role, id")
+       })
 public class User {
 
     @Id
@@ -83,6 +87,23 @@ public class User {
         this.role = role;
     }
 
+    // Detached copy of another user, every column included (used to hand out cached users)
+    public User(User other) {
+        this.id = other.id;
+        this.username = other.username;
+        this.firstName = other.firstName;
+        this.lastName = other.lastName;
+        this.email = other.email;
+        this.password = other.password;
+        this.role = other.role;
+        this.picture = other.picture;
+        this.phoneNumber = other.phoneNumber;
+        this.city = other.city;
+        this.preferredCategory = other.preferredCategory;
+        this.createdAt = other.createdAt;
+        this.updatedAt = other.updatedAt;
+    }
+
     // JPA lifecycle callback to update timestamp
     @PreUpdate
     protected void onUpdate() {
@@ -0,0 +1,36 @@
+package com.quiztournament.quiz_backend.repository;
+
+import com.quiztournament.quiz_backend.entity.Question;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for the local question bank
+ */
+@Repository
+public interface QuestionRepository extends JpaRepository<Question, Long> {
+
+    // Random sample of questions for a category and difficulty (uses idx_questions_category_difficulty)
+    @Query(value = "SELECT * FROM questions WHERE category = :category AND difficulty = :difficulty " +
+            "ORDER BY RAND() LIMIT :amount", nativeQuery = true)
+    List<Question> findRandomQuestions(@Param("category") String category,
+                                       @Param("difficulty") String difficulty,
+                                       @Param("amount") int amount);
+
+    // Count questions for a category and difficulty
+    long countByCategoryAndDifficulty(String category, String difficulty);
+
+    // Digest and text of the questions stored for a category and difficulty (used to skip duplicates)
+    // Each row is [questionDigest, questionText]
+    @Query("SELECT q.questionDigest, q.questionText FROM Question q " +
+           "WHERE q.category = :category AND q.difficulty = :difficulty")
+    List<Object[]> findQuestionDigests(@Param("category") String category, @Param("difficulty") String difficulty);
+
+    // Question counts per category and difficulty: [category, difficulty, count]
+    @Query("SELECT q.category, q.difficulty, COUNT(q) FROM Question q GROUP BY q.category, q.difficulty")
+    List<Object[]> countByCategoryAndDifficultyGrouped();
+}
@@ -4,10 +4,12 @@ import com.quiztournament.quiz_backend.entity.QuizAnswer;
 import com.quiztournament.quiz_backend.entity.QuizResult;
 import com.quiztournament.quiz_backend.entity.Tournament;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -20,6 +22,13 @@ public interface QuizAnswerRepository extends JpaRepository<QuizAnswer, Long> {
      * Find all answers for a specific quiz result
      */
     List<QuizAnswer> findByQuizResultOrderByQuestionNumber(QuizResult quizResult);
+
+    /**
+     * Delete all answers for a quiz result in a single statement (without loading them)
+     */
+    @Modifying
+    @Query("DELETE FROM QuizAnswer qa WHERE qa.quizResult = :quizResult")
+    int deleteByQuizResult(@Param("quizResult") QuizResult quizResult);
     
     /**
      * Find all answers for a tournament (admin review)
@@ -30,6 +39,14 @@ public interface QuizAnswerRepository extends JpaRepository<QuizAnswer, Long> {
            "ORDER BY qr.user.username, qa.questionNumber")
     List<QuizAnswer> findByTournamentOrderByUserAndQuestion(@Param("tournament") Tournament tournament);
     
+    /**
+     * Find the answers of several quiz results, each result's answers in question order (one page of admin review)
+     */
+    @Query("SELECT qa FROM QuizAnswer qa " +
+           "WHERE qa.quizResult.id IN :quizResultIds " +
+           "ORDER BY qa.quizResult.id, qa.questionNumber")
+    List<QuizAnswer> findByQuizResultIdsOrderByQuestion(@Param("quizResultIds") Collection<Long> quizResultIds);
+    
     /**
      * Find answers for a specific tournament and user
      */
@@ -1,16 +1,24 @@
 package com.quiztournament.quiz_backend.repository;
 
+import com.quiztournament.quiz_backend.dto.LeaderboardEntry;
 import com.quiztournament.quiz_backend.entity.QuizResult;
 import com.quiztournament.quiz_backend.entity.Tournament;
 import com.quiztournament.quiz_backend.entity.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+/**
+ * Repository for QuizResult, the canonical store of completed attempts (one row per user and tournament)
+ * Leaderboards, histories and tournament statistics all read from here.
+ */
 @Repository
 public interface QuizResultRepository extends JpaRepository<QuizResult, Long> {
     
@@ -18,6 +26,11 @@ public interface QuizResultRepository extends JpaRepository<QuizResult, Long> {
      * Find quiz result by user and tournament
      */
     Optional<QuizResult> findByUserAndTournament(User user, Tournament tournament);
+
+    /**
+     * Check if a user has completed a tournament
+     */
+    boolean existsByUserAndTournament(User user, Tournament tournament);
     
     /**
      * Find all quiz results for a tournament
@@ -25,13 +38,41 @@ public interface QuizResultRepository extends JpaRepository<QuizResult, Long> {
     List<QuizResult> findByTournamentOrderByPercentageDescCompletedAtAsc(Tournament tournament);
     
     /**
-     * Find all quiz results for a user
+     * Find all quiz results for a user (quiz history), with their tournaments
      */
+    @EntityGraph(attributePaths = "tournament")
     List<QuizResult> findByUserOrderByCompletedAtDesc(User user);
     
+    /**
+     * First keyset page of a user's quiz history, most recent first
+     */
+    @EntityGraph(attributePaths = "tournament")
+    @Query("SELECT qr FROM QuizResult qr WHERE qr.user = :user " +
+           "ORDER BY qr.completedAt DESC, qr.id DESC LIMIT :limit")
+    List<QuizResult> findHistoryPage(@Param("user") User user, @Param("limit") int limit);
+
+    /**
+     * Next keyset page of a user's quiz history: results after (completedAt, id) in history order
+     */
+    @EntityGraph(attributePaths = "tournament")
+    @Query("SELECT qr FROM QuizResult qr WHERE qr.user = :user " +
+           "AND (qr.completedAt, qr.id) < (:completedAt, :id) " +
+           "ORDER BY qr.completedAt DESC, qr.id DESC LIMIT :limit")
+    List<QuizResult> findHistoryPageAfter(@Param("user") User user, @Param("completedAt") LocalDateTime completedAt,
+                                          @Param("id") Long id, @Param("limit") int limit);
+
+    /**
+     * Summarize a user's whole quiz history without loading it
+     * Single row of [resultCount, passedCount, averagePercentage]
+     */
+    @Query("SELECT COUNT(qr), SUM(CASE WHEN qr.passed = true THEN 1 ELSE 0 END), AVG(qr.percentage) " +
+           "FROM QuizResult qr WHERE qr.user = :user")
+    List<Object[]> summarizeHistory(@Param("user") User user);
+
     /**
      * Get tournament leaderboard (top performers)
      */
+    @EntityGraph(attributePaths = "user")
     @Query("SELECT qr FROM QuizResult qr WHERE qr.tournament = :tournament ORDER BY qr.percentage DESC, qr.completedAt ASC")
     List<QuizResult> findTournamentLeaderboard(@Param("tournament") Tournament tournament);
     
@@ -61,4 +102,60 @@ public interface QuizResultRepository extends JpaRepository<QuizResult, Long> {
      * Count total tournaments taken by a user
      */
     long countByUser(User user);
-}
\ No newline at end of file
+
+    /**
+     * Every result as a leaderboard entry with its player's display fields (used to load the in-memory leaderboards)
+     */
+    @Query("SELECT new com.quiztournament.quiz_backend.dto.LeaderboardEntry(qr.id, qr.tournament.id, u.id, " +
+           "u.username, u.firstName, u.lastName, u.email, qr.score, qr.totalQuestions, qr.percentage, qr.passed, " +
+           "qr.completedAt, qr.timeTakenSeconds) FROM QuizResult qr JOIN qr.user u")
+    List<LeaderboardEntry> findAllLeaderboardEntries();
+
+    /**
+     * Results completed (or retaken) since a point in time, as leaderboard entries (used to refresh the leaderboards)
+     */
+    @Query("SELECT new com.quiztournament.quiz_backend.dto.LeaderboardEntry(qr.id, qr.tournament.id, u.id, " +
+           "u.username, u.firstName, u.lastName, u.email, qr.score, qr.totalQuestions, qr.percentage, qr.passed, " +
+           "qr.completedAt, qr.timeTakenSeconds) FROM QuizResult qr JOIN qr.user u WHERE qr.completedAt >= :since")
+    List<LeaderboardEntry> findLeaderboardEntriesCompletedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * Aggregate participants, score sum (out of 10) and pass count per tournament (used to rebuild tournament_stats)
+     * Each row is [tournamentId, participantCount, scoreSum, passCount]
+     */
+    @Query("SELECT qr.tournament.id, COUNT(qr), SUM(ROUND(qr.score * 10.0 / qr.totalQuestions, 0)), " +
+           "SUM(CASE WHEN qr.passed = true THEN 1 ELSE 0 END) " +
+           "FROM QuizResult qr GROUP BY qr.tournament.id")
+    List<Object[]> aggregateScoresByTournament();
+
+    /**
+     * Aggregate participants, score sum (out of 10) and pass count for a single tournament
+     * Returns at most one row: [tournamentId, participantCount, scoreSum, passCount]
+     */
+    @Query("SELECT qr.tournament.id, COUNT(qr), SUM(ROUND(qr.score * 10.0 / qr.totalQuestions, 0)), " +
+           "SUM(CASE WHEN qr.passed = true THEN 1 ELSE 0 END) " +
+           "FROM QuizResult qr WHERE qr.tournament.id = :tournamentId GROUP BY qr.tournament.id")
+    List<Object[]> aggregateScoresForTournament(@Param("tournamentId") Long tournamentId);
+
+    /**
+     * Number of participants per score (out of 10) for a tournament, highest score first
+     * Each row is [score, count]
+     */
+    @Query("SELECT ROUND(qr.score * 10.0 / qr.totalQuestions, 0), COUNT(qr) FROM QuizResult qr " +
+           "WHERE qr.tournament = :tournament " +
+           "GROUP BY ROUND(qr.score * 10.0 / qr.totalQuestions, 0) " +
+           "ORDER BY ROUND(qr.score * 10.0 / qr.totalQuestions, 0) DESC")
+    List<Object[]> countByScoreForTournament(@Param("tournament") Tournament tournament);
+
+    /**
+     * Create results for legacy scores that have none (written before quiz_results was the canonical store)
+     * Legacy scores are out of 10, so they map to 10-question results
+     * @return Number of results created
+     */
+    @Modifying
+    @Query(value = "INSERT INTO quiz_results (user_id, tournament_id, score, total_questions, percentage, passed, completed_at) " +
+           "SELECT uts.user_id, uts.tournament_id, uts.score, 10, uts.score * 10.0, uts.passed, uts.completed_at " +
+           "FROM user_tournament_scores uts WHERE NOT EXISTS (SELECT 1 FROM quiz_results qr " +
+           "WHERE qr.user_id = uts.user_id AND qr.tournament_id = uts.tournament_id)", nativeQuery = true)
+    int backfillFromLegacyScores();
+}
@@ -3,10 +3,12 @@ package com.quiztournament.quiz_backend.repository;
 import com.quiztournament.quiz_backend.entity.TournamentLike;
 import com.quiztournament.quiz_backend.entity.Tournament;
 import com.quiztournament.quiz_backend.entity.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -46,4 +48,22 @@ public interface TournamentLikeRepository extends JpaRepository<TournamentLike,
     // Get tournaments liked by a user ordered by like date
     @Query("SELECT tl FROM TournamentLike tl WHERE tl.user = :user ORDER BY tl.createdAt DESC")
     List<TournamentLike> findByUserOrderByCreatedAtDesc(@Param("user") User user);
+
+    // First keyset page of a user's likes, most recent first, with their tournaments
+    @EntityGraph(attributePaths = "tournament")
+    @Query("SELECT tl FROM TournamentLike tl WHERE tl.user = :user ORDER BY tl.createdAt DESC, tl.id DESC LIMIT :limit")
+    List<TournamentLike> findPageByUser(@Param("user") User user, @Param("limit") int limit);
+
+    // Next keyset page of a user's likes: those after (createdAt, id) in most-recent-first order
+    @EntityGraph(attributePaths = "tournament")
+    @Query("SELECT tl FROM TournamentLike tl WHERE tl.user = :user " +
+            "AND (tl.createdAt, tl.id) < (:createdAt, :id) " +
+            "ORDER BY tl.createdAt DESC, tl.id DESC LIMIT :limit")
+    List<TournamentLike> findPageByUserAfter(@Param("user") User user, @Param("createdAt") LocalDateTime createdAt,
+                                             @Param("id") Long id, @Param("limit") int limit);
+
+    // Count likes per tournament (used to rebuild tournament_stats)
+    // Each row is [tournamentId, likeCount]
+    @Query("SELECT tl.tournament.id, COUNT(tl) FROM TournamentLike tl GROUP BY tl.tournament.id")
+    List<Object[]> countLikesByTournament();
 }
\ No newline at end of file
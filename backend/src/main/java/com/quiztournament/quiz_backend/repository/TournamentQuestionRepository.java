@@ -0,0 +1,33 @@
+package com.quiztournament.quiz_backend.repository;
+
+import com.quiztournament.quiz_backend.entity.TournamentQuestion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for frozen tournament question sets
+ */
+@Repository
+public interface TournamentQuestionRepository extends JpaRepository<TournamentQuestion, Long> {
+
+    // A tournament's question set in play order
+    List<TournamentQuestion> findByTournamentIdOrderByQuestionNumber(Long tournamentId);
+
+    // Check whether a tournament's question set has been frozen
+    boolean existsByTournamentId(Long tournamentId);
+
+    // Remove a tournament's question set (tournament deletion)
+    @Modifying
+    @Query("DELETE FROM TournamentQuestion q WHERE q.tournamentId = :tournamentId")
+    int deleteByTournamentId(@Param("tournamentId") Long tournamentId);
+
+    // Tournaments created before question sets were frozen
+    @Query("SELECT t.id FROM Tournament t WHERE NOT EXISTS " +
+            "(SELECT 1 FROM TournamentQuestion q WHERE q.tournamentId = t.id)")
+    List<Long> findTournamentIdsWithoutQuestionSet();
+}
@@ -2,6 +2,8 @@ package com.quiztournament.quiz_backend.repository;
 
 import com.quiztournament.quiz_backend.entity.Tournament;
 import com.quiztournament.quiz_backend.entity.User;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -16,45 +18,69 @@ import java.util.List;
 @Repository
 public interface TournamentRepository extends JpaRepository<Tournament, Long> {
 
+    // Which of the given tournaments still exist
+    @Query("SELECT t.id FROM Tournament t WHERE t.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") List<Long> ids);
+
+    // Find all tournaments with their creator fetched in the same query (listing pages)
+    @Override
+    @EntityGraph(attributePaths = "createdBy")
+    List<Tournament> findAll(Sort sort);
+
+    // First keyset page of all tournaments, newest first (IDs are assigned in creation order)
+    @EntityGraph(attributePaths = "createdBy")
+    @Query("SELECT t FROM Tournament t ORDER BY t.id DESC LIMIT :limit")
+    List<Tournament> findNewestFirst(@Param("limit") int limit);
+
+    // Next keyset page of all tournaments: those created before the last one on the previous page
+    @EntityGraph(attributePaths = "createdBy")
+    @Query("SELECT t FROM Tournament t WHERE t.id < :beforeId ORDER BY t.id DESC LIMIT :limit")
+    List<Tournament> findNewestFirstBefore(@Param("beforeId") Long beforeId, @Param("limit") int limit);
+
     // Find tournaments created by a specific admin
     List<Tournament> findByCreatedBy(User createdBy);
 
     // Find tournaments by category
+    @EntityGraph(attributePaths = "createdBy")
     List<Tournament> findByCategory(String category);
 
     // Find tournaments by difficulty
+    @EntityGraph(attributePaths = "createdBy")
     List<Tournament> findByDifficulty(String difficulty);
 
     // Find upcoming tournaments (start date is in the future)
+    @EntityGraph(attributePaths = "createdBy")
     @Query("SELECT t FROM Tournament t WHERE :currentDate < t.startDate ORDER BY t.startDate ASC")
     List<Tournament> findUpcomingTournaments(@Param("currentDate") LocalDate currentDate);
 
     // Find ongoing tournaments (current date is between start and end dates)
+    @EntityGraph(attributePaths = "createdBy")
     @Query("SELECT t FROM Tournament t WHERE :currentDate >= t.startDate AND :currentDate <= t.endDate ORDER BY t.startDate ASC")
     List<Tournament> findOngoingTournaments(@Param("currentDate") LocalDate currentDate);
 
     // Find past tournaments (end date is in the past)
+    @EntityGraph(attributePaths = "createdBy")
     @Query("SELECT t FROM Tournament t WHERE :currentDate > t.endDate ORDER BY t.endDate DESC")
     List<Tournament> findPastTournaments(@Param("currentDate") LocalDate currentDate);
 
     // Find tournaments that a specific user has participated in
     // Fixed: Use subquery to avoid DISTINCT + ORDER BY issue
     @Query("SELECT t FROM Tournament t WHERE t.id IN " +
-            "(SELECT uts.tournament.id FROM UserTournamentScore uts WHERE uts.user.id = :userId) " +
+            "(SELECT qr.tournament.id FROM QuizResult qr WHERE qr.user.id = :userId) " +
             "ORDER BY t.createdAt DESC")
     List<Tournament> findTournamentsParticipatedByUser(@Param("userId") Long userId);
 
     // Find tournaments that a user has NOT participated in yet
     @Query("SELECT t FROM Tournament t WHERE t.id NOT IN " +
-            "(SELECT uts.tournament.id FROM UserTournamentScore uts WHERE uts.user.id = :userId)")
+            "(SELECT qr.tournament.id FROM QuizResult qr WHERE qr.user.id = :userId)")
     List<Tournament> findTournamentsNotParticipatedByUser(@Param("userId") Long userId);
 
     // Count total participants for a tournament
-    @Query("SELECT COUNT(uts) FROM UserTournamentScore uts WHERE uts.tournament.id = :tournamentId")
+    @Query("SELECT COUNT(qr) FROM QuizResult qr WHERE qr.tournament.id = :tournamentId")
     Long countParticipants(@Param("tournamentId") Long tournamentId);
 
-    // Get average score for a tournament
-    @Query("SELECT AVG(uts.score) FROM UserTournamentScore uts WHERE uts.tournament.id = :tournamentId")
+    // Get average score (out of 10) for a tournament
+    @Query("SELECT AVG(qr.percentage) / 10.0 FROM QuizResult qr WHERE qr.tournament.id = :tournamentId")
     Double getAverageScore(@Param("tournamentId") Long tournamentId);
 
     // Count likes for a tournament
@@ -0,0 +1,58 @@
+package com.quiztournament.quiz_backend.repository;
+
+import com.quiztournament.quiz_backend.entity.TournamentStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+
+/**
+ * Repository interface for TournamentStats entity
+ * Counters are adjusted with in-place UPDATE statements so concurrent writers never lose increments
+ */
+@Repository
+public interface TournamentStatsRepository extends JpaRepository<TournamentStats, Long> {
+
+    // Apply a change in participants, score sum and pass count to a tournament's aggregate row
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE TournamentStats s SET s.participantCount = s.participantCount + :participantDelta, " +
+            "s.scoreSum = s.scoreSum + :scoreDelta, s.passCount = s.passCount + :passDelta, s.updatedAt = :now " +
+            "WHERE s.tournamentId = :tournamentId")
+    int applyScoreDelta(@Param("tournamentId") Long tournamentId,
+                        @Param("participantDelta") long participantDelta,
+                        @Param("scoreDelta") long scoreDelta,
+                        @Param("passDelta") long passDelta,
+                        @Param("now") LocalDateTime now);
+
+    // Apply a change in like count to a tournament's aggregate row
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE TournamentStats s SET s.likeCount = s.likeCount + :likeDelta, s.updatedAt = :now " +
+            "WHERE s.tournamentId = :tournamentId")
+    int applyLikeDelta(@Param("tournamentId") Long tournamentId,
+                       @Param("likeDelta") long likeDelta,
+                       @Param("now") LocalDateTime now);
+
+    // Lock a tournament's row until commit, so writers creating its aggregate row take turns
+    @Query(value = "SELECT id FROM tournaments WHERE id = :tournamentId FOR UPDATE", nativeQuery = true)
+    Long lockTournament(@Param("tournamentId") Long tournamentId);
+
+    // Create or replace a tournament's aggregate row from quiz_results and tournament_likes in one statement
+    @Modifying(flushAutomatically = true)
+    @Query(value = "MERGE INTO tournament_stats " +
+            "(tournament_id, participant_count, score_sum, pass_count, like_count, updated_at) KEY (tournament_id) " +
+            "SELECT :tournamentId, COUNT(*), COALESCE(SUM(ROUND(qr.score * 10.0 / qr.total_questions, 0)), 0), " +
+            "COALESCE(SUM(CASE WHEN qr.passed THEN 1 ELSE 0 END), 0), " +
+            "(SELECT COUNT(*) FROM tournament_likes tl WHERE tl.tournament_id = :tournamentId), :now " +
+            "FROM quiz_results qr WHERE qr.tournament_id = :tournamentId", nativeQuery = true)
+    int upsertFromBaseTables(@Param("tournamentId") Long tournamentId, @Param("now") LocalDateTime now);
+
+    // Current like count for a tournament, read straight from the database
+    @Query("SELECT s.likeCount FROM TournamentStats s WHERE s.tournamentId = :tournamentId")
+    Long findLikeCount(@Param("tournamentId") Long tournamentId);
+
+    // Total likes across all tournaments
+    @Query("SELECT COALESCE(SUM(s.likeCount), 0) FROM TournamentStats s")
+    Long sumLikeCounts();
+}
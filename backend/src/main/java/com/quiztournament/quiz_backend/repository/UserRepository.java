@@ -1,8 +1,11 @@
 package com.quiztournament.quiz_backend.repository;
 
+import com.quiztournament.quiz_backend.dto.EmailRecipient;
 import com.quiztournament.quiz_backend.entity.User;
 import com.quiztournament.quiz_backend.entity.UserRole;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.Optional;
 import java.util.List;
@@ -29,6 +32,19 @@ public interface UserRepository extends JpaRepository<User, Long> {
     // Find users by role (get all admins or all players)
     List<User> findByRole(UserRole role);
 
+    // Keyset page of the email addresses of users with a role, in ID order
+    // Ordered by (role, id) to match idx_users_role_id, so each page is an index range scan rather than a sort
+    // Broadcasts walk the whole role with a fixed page size, so memory does not grow with the number of users;
+    // throughId stops the walk at the users who existed when the broadcast was queued
+    @Query("SELECT new com.quiztournament.quiz_backend.dto.EmailRecipient(u.id, u.email) FROM User u " +
+           "WHERE u.role = :role AND u.id > :afterId AND u.id <= :throughId ORDER BY u.role, u.id LIMIT :limit")
+    List<EmailRecipient> findRecipientPageByRoleBetween(@Param("role") UserRole role, @Param("afterId") Long afterId,
+                                                        @Param("throughId") Long throughId, @Param("limit") int limit);
+
+    // Highest user ID with a role, or 0 if there is none
+    @Query("SELECT COALESCE(MAX(u.id), 0) FROM User u WHERE u.role = :role")
+    long findMaxIdByRole(@Param("role") UserRole role);
+
     // Find all users except specified role (for email notifications to players only)
     List<User> findByRoleNot(UserRole role);
 
@@ -4,15 +4,17 @@ import com.quiztournament.quiz_backend.entity.UserTournamentScore;
 import com.quiztournament.quiz_backend.entity.User;
 import com.quiztournament.quiz_backend.entity.Tournament;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * Repository interface for UserTournamentScore entity
- * Handles quiz results, leaderboards, and user participation tracking
+ * The table is a projection of quiz_results kept for compatibility; it is only written through ScoreLedger
  */
 @Repository
 public interface UserTournamentScoreRepository extends JpaRepository<UserTournamentScore, Long> {
@@ -54,4 +56,13 @@ public interface UserTournamentScoreRepository extends JpaRepository<UserTournam
     // Get user's best scores across all tournaments
     @Query("SELECT uts FROM UserTournamentScore uts WHERE uts.user = :user ORDER BY uts.score DESC")
     List<UserTournamentScore> findUserBestScores(@Param("user") User user);
-}
\ No newline at end of file
+
+    // Insert or update the projected score for a user and tournament in one statement (H2 MERGE ... KEY)
+    @Modifying
+    @Query(value = "MERGE INTO user_tournament_scores (user_id, tournament_id, score, passed, completed_at) " +
+            "KEY (user_id, tournament_id) VALUES (:userId, :tournamentId, :score, :passed, :completedAt)",
+            nativeQuery = true)
+    int upsertScore(@Param("userId") Long userId, @Param("tournamentId") Long tournamentId,
+                    @Param("score") int score, @Param("passed") boolean passed,
+                    @Param("completedAt") LocalDateTime completedAt);
+}
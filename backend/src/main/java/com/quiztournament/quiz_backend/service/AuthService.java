@@ -40,6 +40,9 @@ public class AuthService {
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Autowired
+    private UserPrincipalCache userPrincipalCache;
+
     /**
      * Register a new admin user
      * @param user User details for registration
@@ -231,7 +234,9 @@ public class AuthService {
         user.setCity(profileUpdateRequest.getCity());
         user.setPreferredCategory(profileUpdateRequest.getPreferredCategory());
 
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        userPrincipalCache.invalidate(userId);
+        return saved;
     }
 
     /**
@@ -282,5 +287,6 @@ public class AuthService {
     public void updatePassword(User user, String newPassword) {
         user.setPassword(passwordEncoder.encode(newPassword));
         userRepository.save(user);
+        userPrincipalCache.invalidate(user.getId());
     }
 }
\ No newline at end of file
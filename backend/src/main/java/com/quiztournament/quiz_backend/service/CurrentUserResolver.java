@@ -0,0 +1,66 @@
+package com.quiztournament.quiz_backend.service;
+
+import com.quiztournament.quiz_backend.entity.User;
+import com.quiztournament.quiz_backend.service.CustomUserDetailsService.CustomUserPrincipal;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Resolves the authenticated user for the current request
+ * The user entity is loaded lazily, at most once per HTTP request, and shared by every service the request calls.
+ * Outside a web request (background jobs, unit tests) each call resolves the user again.
+ */
+@Component
+public class CurrentUserResolver {
+
+    private static final String REQUEST_ATTRIBUTE = CurrentUserResolver.class.getName() + ".currentUser";
+
+    @Autowired
+    private UserPrincipalCache userPrincipalCache;
+
+    /**
+     * Get the authenticated principal (no database access)
+     */
+    public CustomUserPrincipal getCurrentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof CustomUserPrincipal)) {
+            throw new RuntimeException("User not authenticated");
+        }
+        return (CustomUserPrincipal) authentication.getPrincipal();
+    }
+
+    /**
+     * Get the authenticated user's ID (no database access)
+     */
+    public Long getCurrentUserId() {
+        return getCurrentPrincipal().getId();
+    }
+
+    /**
+     * Get the authenticated user entity, loading it on first use in this request
+     * The entity is a detached copy from UserPrincipalCache, reused for the rest of this request
+     */
+    public User getCurrentUser() {
+        Long userId = getCurrentUserId();
+
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            Object resolved = attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            if (resolved instanceof User user && userId.equals(user.getId())) {
+                return user;
+            }
+        }
+
+        User user = userPrincipalCache.findUser(userId)
+                .orElseThrow(() -> new RuntimeException("Current user not found"));
+
+        if (attributes != null) {
+            attributes.setAttribute(REQUEST_ATTRIBUTE, user, RequestAttributes.SCOPE_REQUEST);
+        }
+        return user;
+    }
+}
@@ -1,6 +1,7 @@
 package com.quiztournament.quiz_backend.service;
 
 import com.quiztournament.quiz_backend.entity.User;
+import com.quiztournament.quiz_backend.entity.UserRole;
 import com.quiztournament.quiz_backend.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.GrantedAuthority;
@@ -35,32 +36,54 @@ public class CustomUserDetailsService implements UserDetailsService {
 
     /**
      * Custom UserDetails implementation
-     * Wraps our User entity for Spring Security
+     * Wraps our User entity for Spring Security, or just the identity carried by a JWT
      */
     public static class CustomUserPrincipal implements UserDetails {
 
+        // Null when the principal was built from token claims
         private final User user;
 
+        private final Long id;
+        private final String username;
+        private final String email;
+        private final UserRole role;
+
         public CustomUserPrincipal(User user) {
             this.user = user;
+            this.id = user.getId();
+            this.username = user.getUsername();
+            this.email = user.getEmail();
+            this.role = user.getRole();
+        }
+
+        /**
+         * Principal built from JWT claims without loading the user
+         * Use UserPrincipalCache to get the entity when it is really needed
+         */
+        public CustomUserPrincipal(Long id, String username, String email, UserRole role) {
+            this.user = null;
+            this.id = id;
+            this.username = username;
+            this.email = email;
+            this.role = role;
         }
 
         // Get user authorities based on role
         @Override
         public Collection<? extends GrantedAuthority> getAuthorities() {
             return Collections.singletonList(
-                    new SimpleGrantedAuthority("ROLE_" + user.getRole().name())
+                    new SimpleGrantedAuthority("ROLE_" + role.name())
             );
         }
 
         @Override
         public String getPassword() {
-            return user.getPassword();
+            return user != null ? user.getPassword() : null;
         }
 
         @Override
         public String getUsername() {
-            return user.getUsername();
+            return username;
         }
 
         // Account status methods - all return true for simplicity
@@ -84,29 +107,29 @@ public class CustomUserDetailsService implements UserDetailsService {
             return true;
         }
 
-        // Get the actual User entity
+        // Get the actual User entity (null for principals built from a token)
         public User getUser() {
             return user;
         }
 
         // Get user ID
         public Long getId() {
-            return user.getId();
+            return id;
         }
 
         // Get user email
         public String getEmail() {
-            return user.getEmail();
+            return email;
         }
 
         // Get user role
         public String getRole() {
-            return user.getRole().name();
+            return role.name();
         }
 
-        // Get full name
+        // Get full name (username for principals built from a token)
         public String getFullName() {
-            return user.getFirstName() + " " + user.getLastName();
+            return user != null ? user.getFirstName() + " " + user.getLastName() : username;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,291 @@
+package com.quiztournament.quiz_backend.service;
+
+import com.quiztournament.quiz_backend.dto.EmailRecipient;
+import com.quiztournament.quiz_backend.repository.UserRepository;
+import com.quiztournament.quiz_backend.service.EmailOutbox.Broadcast;
+import com.quiztournament.quiz_backend.service.EmailOutbox.Message;
+import com.quiztournament.quiz_backend.service.EmailOutbox.OutboxEmail;
+import jakarta.mail.internet.MimeMessage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Background sender for the email outbox
+ * Each round claims up to one batch per mail thread and sends the batches in parallel on the mail executor,
+ * every batch over a single SMTP connection, with each message's headers and content prepared once per batch.
+ * Broadcasts are expanded into recipients just ahead of sending, so the outbox holds at most about
+ * app.email.expand-ahead recipients per broadcast at a time.
+ * Failed recipients are retried with exponential backoff and kept as failed after the last attempt.
+ */
+@Component
+public class EmailDispatcher {
+
+    // Longest wait between retries of one recipient
+    private static final long MAX_RETRY_DELAY_MS = 3_600_000;
+
+    @Autowired
+    private EmailOutbox outbox;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired(required = false)
+    private JavaMailSender mailSender;
+
+    @Autowired
+    @Qualifier("mailExecutor")
+    private Executor mailExecutor;
+
+    @Value("${spring.mail.username:noreply@quiztournament.com}")
+    private String fromEmail;
+
+    @Value("${app.email.enabled:false}")
+    private boolean emailEnabled;
+
+    @Value("${app.email.dispatch-threads:4}")
+    private int threads;
+
+    @Value("${app.email.batch-size:50}")
+    private int batchSize;
+
+    @Value("${app.email.expand-ahead:2000}")
+    private int expandAhead;
+
+    @Value("${app.email.dispatch-max-run-ms:1000}")
+    private long maxRunMs;
+
+    @Value("${app.email.claim-lease-ms:300000}")
+    private long claimLeaseMs;
+
+    @Value("${app.email.retry-delay-ms:60000}")
+    private long retryDelayMs;
+
+    @Value("${app.email.max-attempts:5}")
+    private int maxAttempts;
+
+    // Counted per node
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong retried = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private volatile double lastRoundMessagesPerSecond;
+    private volatile long lastDispatchAt;
+
+    /**
+     * Send due emails until the outbox is drained, a round runs into failures or the run's time budget is spent
+     * Whatever is left goes out on the next run, so a large broadcast never holds a scheduler thread for long.
+     * @return Number of emails sent
+     */
+    @Scheduled(fixedDelayString = "${app.email.dispatch-interval-ms:1000}")
+    public synchronized int dispatch() {
+        if (!emailEnabled || mailSender == null) {
+            return 0;
+        }
+        lastDispatchAt = System.currentTimeMillis();
+        long deadline = lastDispatchAt + maxRunMs;
+        int total = 0;
+        try {
+            int capacity = threads * batchSize;
+            // At least one round per run, however short the budget
+            do {
+                expandBroadcasts();
+                List<OutboxEmail> claimed = outbox.claim(capacity, claimLeaseMs);
+                if (claimed.isEmpty()) {
+                    break;
+                }
+                int roundSent = sendRound(claimed);
+                total += roundSent;
+                if (roundSent < claimed.size()) {
+                    // Leave the failures to their retry time
+                    break;
+                }
+            } while (System.currentTimeMillis() < deadline);
+            outbox.deleteFinishedMessages();
+            if (total > 0) {
+                System.out.println("Email dispatch: sent " + total + " emails");
+            }
+        } catch (Exception e) {
+            System.err.println("Email dispatch failed: " + e.getMessage());
+        }
+        return total;
+    }
+
+    /**
+     * Dispatch counters plus the current backlog
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("sent", sent.get());
+        stats.put("retried", retried.get());
+        stats.put("failed", failed.get());
+        stats.put("lastRoundMessagesPerSecond", lastRoundMessagesPerSecond);
+        stats.put("lastDispatchAt", lastDispatchAt);
+        stats.put("dispatchThreads", threads);
+        stats.put("batchSize", batchSize);
+        try {
+            stats.put("backlog", outbox.countPending());
+            stats.put("pendingBroadcasts", outbox.countPendingBroadcasts());
+            stats.put("failedInOutbox", outbox.countFailed());
+        } catch (Exception e) {
+            stats.put("backlogError", e.getMessage());
+        }
+        return stats;
+    }
+
+    /**
+     * Send claimed recipients as one batch per mail thread and wait for all of them
+     * @return Number of emails sent
+     */
+    private int sendRound(List<OutboxEmail> claimed) {
+        Set<Long> messageIds = new HashSet<>();
+        for (OutboxEmail email : claimed) {
+            messageIds.add(email.getMessageId());
+        }
+        Map<Long, Message> messages = outbox.getMessages(messageIds);
+
+        long start = System.nanoTime();
+        List<CompletableFuture<Integer>> batches = new ArrayList<>();
+        for (int from = 0; from < claimed.size(); from += batchSize) {
+            List<OutboxEmail> batch = claimed.subList(from, Math.min(from + batchSize, claimed.size()));
+            batches.add(CompletableFuture.supplyAsync(() -> sendBatch(batch, messages), mailExecutor));
+        }
+        int roundSent = 0;
+        for (CompletableFuture<Integer> batch : batches) {
+            roundSent += batch.join();
+        }
+        long elapsedNanos = Math.max(1, System.nanoTime() - start);
+        lastRoundMessagesPerSecond = roundSent * 1_000_000_000.0 / elapsedNanos;
+        return roundSent;
+    }
+
+    /**
+     * Send one batch over a single connection; failed recipients are rescheduled
+     * Recipients of the same message share its prepared headers and content.
+     * @return Number of emails sent
+     */
+    private int sendBatch(List<OutboxEmail> batch, Map<Long, Message> messages) {
+        Map<MimeMessage, OutboxEmail> rows = new IdentityHashMap<>();
+        Map<Long, PreparedEmail> prepared = new HashMap<>();
+        List<Long> done = new ArrayList<>(batch.size());
+        for (OutboxEmail email : batch) {
+            Message message = messages.get(email.getMessageId());
+            if (message == null) {
+                // The message was removed while the recipient was claimed
+                done.add(email.getId());
+                continue;
+            }
+            try {
+                PreparedEmail preparedEmail = prepared.computeIfAbsent(email.getMessageId(),
+                        id -> new PreparedEmail(mailSender, fromEmail, message.getSubject(), message.getBody()));
+                rows.put(preparedEmail.forRecipient(email.getRecipient()), email);
+            } catch (MailException e) {
+                // e.g. a malformed address; the rest of the batch still goes out
+                reschedule(email, e);
+            }
+        }
+
+        Map<Object, Exception> failures = new IdentityHashMap<>();
+        if (!rows.isEmpty()) {
+            try {
+                mailSender.send(rows.keySet().toArray(new MimeMessage[0]));
+            } catch (MailSendException e) {
+                failures.putAll(e.getFailedMessages());
+                if (failures.isEmpty()) {
+                    rows.keySet().forEach(mail -> failures.put(mail, e));
+                }
+            } catch (MailException e) {
+                rows.keySet().forEach(mail -> failures.put(mail, e));
+            }
+        }
+
+        int batchSent = 0;
+        for (Map.Entry<MimeMessage, OutboxEmail> row : rows.entrySet()) {
+            Exception failure = failures.get(row.getKey());
+            if (failure == null) {
+                done.add(row.getValue().getId());
+                batchSent++;
+            } else {
+                reschedule(row.getValue(), failure);
+            }
+        }
+        outbox.complete(done);
+        sent.addAndGet(batchSent);
+        return batchSent;
+    }
+
+    private void reschedule(OutboxEmail email, Exception failure) {
+        int attempts = email.getAttempts() + 1;
+        boolean giveUp = attempts >= maxAttempts;
+        long delay = Math.min(MAX_RETRY_DELAY_MS, retryDelayMs << Math.min(attempts - 1, 20));
+        outbox.reschedule(email.getId(), System.currentTimeMillis() + delay, giveUp, failure.getMessage());
+        if (giveUp) {
+            failed.incrementAndGet();
+            System.err.println("Giving up on email to " + email.getRecipient() + " after " + attempts
+                    + " attempts: " + failure.getMessage());
+        } else {
+            retried.incrementAndGet();
+        }
+    }
+
+    /**
+     * Expand queued broadcasts into recipients, a page of users per transaction, until enough are waiting
+     * Each broadcast stops at the last user that existed when it was queued, however many sign up meanwhile
+     */
+    private void expandBroadcasts() {
+        long pending = outbox.countPending();
+        for (Broadcast broadcast : outbox.findPendingBroadcasts()) {
+            long expandedThrough = broadcast.getExpandedThrough();
+            while (pending < expandAhead) {
+                List<EmailRecipient> page = userRepository.findRecipientPageByRoleBetween(broadcast.getAudience(),
+                        expandedThrough, broadcast.getAudienceThrough(), batchSize);
+                boolean done = page.size() < batchSize;
+                long from = expandedThrough;
+                long through = page.isEmpty() ? from : page.get(page.size() - 1).getUserId();
+                List<String> recipients = new ArrayList<>(page.size());
+                for (EmailRecipient recipient : page) {
+                    recipients.add(recipient.getEmail());
+                }
+
+                Boolean expanded = transactionTemplate.execute(status -> {
+                    if (!outbox.markExpanded(broadcast.getMessageId(), from, through, done)) {
+                        return false;
+                    }
+                    outbox.addRecipients(broadcast.getMessageId(), recipients);
+                    return true;
+                });
+                if (!Boolean.TRUE.equals(expanded)) {
+                    // Another node expanded this page first
+                    break;
+                }
+                pending += recipients.size();
+                expandedThrough = through;
+                if (done) {
+                    break;
+                }
+            }
+            if (pending >= expandAhead) {
+                break;
+            }
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package com.quiztournament.quiz_backend.service;
+
+import com.quiztournament.quiz_backend.config.JdbcSchemaInitializer;
+import com.quiztournament.quiz_backend.entity.UserRole;
+import com.quiztournament.quiz_backend.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Persistent queue of outgoing emails in the application datasource
+ * A message (subject and body) is stored once and shared by all of its recipients; each recipient is a row
+ * that EmailDispatcher claims, sends and deletes. Broadcast messages name an audience instead of recipients
+ * and are expanded into recipient rows a page of users at a time, so a queued broadcast costs one row until
+ * the dispatcher gets to it. Enqueueing joins the caller's transaction, so an email is queued only if the
+ * change that triggered it commits.
+ */
+@Service
+public class EmailOutbox {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Not called; injected so the tables exist before this bean is used
+    @Autowired
+    private JdbcSchemaInitializer schemaInitializer;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    /**
+     * Queue one message for the given recipients
+     * @return Message ID
+     */
+    public long enqueue(String subject, String body, Collection<String> recipients) {
+        long messageId = insertMessage(subject, body, null, null);
+        addRecipients(messageId, recipients);
+        return messageId;
+    }
+
+    /**
+     * Queue one message for every user with a role, expanded into recipients by the dispatcher
+     * Only users that exist now are included; users who sign up while it is being expanded are not
+     * @return Message ID
+     */
+    public long enqueueBroadcast(String subject, String body, UserRole audience) {
+        return insertMessage(subject, body, audience.name(), userRepository.findMaxIdByRole(audience));
+    }
+
+    /**
+     * Add recipients to a queued message, due immediately
+     */
+    public void addRecipients(long messageId, Collection<String> recipients) {
+        long now = System.currentTimeMillis();
+        List<Object[]> rows = new ArrayList<>(recipients.size());
+        for (String recipient : recipients) {
+            rows.add(new Object[]{messageId, recipient, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO email_outbox (message_id, recipient, next_attempt_at) VALUES (?, ?, ?)", rows);
+    }
+
+    /**
+     * Broadcasts that still have users to expand, oldest first
+     */
+    public List<Broadcast> findPendingBroadcasts() {
+        return jdbcTemplate.query("SELECT id, audience, audience_through, expanded_through FROM email_outbox_messages " +
+                        "WHERE audience IS NOT NULL ORDER BY id",
+                (rs, rowNum) -> {
+                    long audienceThrough = rs.getLong(3);
+                    return new Broadcast(rs.getLong(1), UserRole.valueOf(rs.getString(2)),
+                            rs.wasNull() ? Long.MAX_VALUE : audienceThrough, rs.getLong(4));
+                });
+    }
+
+    /**
+     * Record how far a broadcast has been expanded, if no one else has expanded it past the given point
+     * @param from User ID the page was read after
+     * @param through Highest user ID on the page
+     * @param done Whether every user has been expanded; the message then becomes an ordinary one
+     * @return false if another node already expanded this page
+     */
+    public boolean markExpanded(long messageId, long from, long through, boolean done) {
+        String audience = done ? ", audience = NULL" : "";
+        return jdbcTemplate.update("UPDATE email_outbox_messages SET expanded_through = ?" + audience +
+                " WHERE id = ? AND audience IS NOT NULL AND expanded_through = ?", through, messageId, from) == 1;
+    }
+
+    /**
+     * Claim due recipients for sending, oldest first
+     * A claim is a lease: rows not completed or rescheduled before it runs out are claimed again,
+     * by this node or another one.
+     */
+    public List<OutboxEmail> claim(int limit, long leaseMs) {
+        long now = System.currentTimeMillis();
+        List<OutboxEmail> candidates = jdbcTemplate.query("SELECT id, message_id, recipient, attempts FROM email_outbox " +
+                        "WHERE failed = FALSE AND next_attempt_at <= ? AND claimed_until <= ? ORDER BY id LIMIT ?",
+                (rs, rowNum) -> new OutboxEmail(rs.getLong(1), rs.getLong(2), rs.getString(3), rs.getInt(4)),
+                now, now, limit);
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+
+        List<Object[]> claims = new ArrayList<>(candidates.size());
+        for (OutboxEmail email : candidates) {
+            claims.add(new Object[]{now + leaseMs, email.getId(), now});
+        }
+        int[] claimed = jdbcTemplate.batchUpdate("UPDATE email_outbox SET claimed_until = ? " +
+                "WHERE id = ? AND claimed_until <= ?", claims);
+        List<OutboxEmail> result = new ArrayList<>(candidates.size());
+        for (int i = 0; i < claimed.length; i++) {
+            // 0 when another node claimed the row in between
+            if (claimed[i] != 0) {
+                result.add(candidates.get(i));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Subject and body of each message
+     */
+    public Map<Long, Message> getMessages(Collection<Long> messageIds) {
+        if (messageIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Long, Message> messages = new HashMap<>();
+        jdbcTemplate.query("SELECT id, subject, body FROM email_outbox_messages WHERE id IN (" +
+                        String.join(", ", Collections.nCopies(messageIds.size(), "?")) + ")",
+                rs -> {
+                    messages.put(rs.getLong(1), new Message(rs.getString(2), rs.getString(3)));
+                },
+                messageIds.toArray());
+        return messages;
+    }
+
+    /**
+     * Remove sent recipients
+     */
+    public void complete(Collection<Long> ids) {
+        List<Object[]> rows = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            rows.add(new Object[]{id});
+        }
+        jdbcTemplate.batchUpdate("DELETE FROM email_outbox WHERE id = ?", rows);
+    }
+
+    /**
+     * Release a recipient after a failed send, due again at the given time
+     * @param giveUp Keep the row for inspection but stop retrying it
+     */
+    public void reschedule(long id, long nextAttemptAt, boolean giveUp, String error) {
+        jdbcTemplate.update("UPDATE email_outbox SET attempts = attempts + 1, next_attempt_at = ?, claimed_until = 0, " +
+                        "failed = ?, last_error = ? WHERE id = ?",
+                nextAttemptAt, giveUp, error != null && error.length() > 500 ? error.substring(0, 500) : error, id);
+    }
+
+    /**
+     * Delete messages that are fully expanded and have no recipients left
+     * @return Number of messages deleted
+     */
+    public int deleteFinishedMessages() {
+        return jdbcTemplate.update("DELETE FROM email_outbox_messages m WHERE m.audience IS NULL " +
+                "AND NOT EXISTS (SELECT 1 FROM email_outbox o WHERE o.message_id = m.id)");
+    }
+
+    /**
+     * Recipients still to be sent, including ones waiting for a retry
+     */
+    public long countPending() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM email_outbox WHERE failed = FALSE", Long.class);
+        return count != null ? count : 0;
+    }
+
+    public long countFailed() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM email_outbox WHERE failed = TRUE", Long.class);
+        return count != null ? count : 0;
+    }
+
+    public long countPendingBroadcasts() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM email_outbox_messages WHERE audience IS NOT NULL",
+                Long.class);
+        return count != null ? count : 0;
+    }
+
+    private long insertMessage(String subject, String body, String audience, Long audienceThrough) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement("INSERT INTO email_outbox_messages " +
+                    "(subject, body, audience, audience_through, created_at) VALUES (?, ?, ?, ?, ?)", new String[]{"id"});
+            statement.setString(1, subject);
+            statement.setString(2, body);
+            statement.setString(3, audience);
+            statement.setObject(4, audienceThrough);
+            statement.setLong(5, System.currentTimeMillis());
+            return statement;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+
+    /**
+     * A queued broadcast, the last user it goes to and how far it has been expanded
+     */
+    public static final class Broadcast {
+        private final long messageId;
+        private final UserRole audience;
+        private final long audienceThrough;
+        private final long expandedThrough;
+
+        Broadcast(long messageId, UserRole audience, long audienceThrough, long expandedThrough) {
+            this.messageId = messageId;
+            this.audience = audience;
+            this.audienceThrough = audienceThrough;
+            this.expandedThrough = expandedThrough;
+        }
+
+        public long getMessageId() {
+            return messageId;
+        }
+
+        public UserRole getAudience() {
+            return audience;
+        }
+
+        /**
+         * Highest user ID the broadcast goes to (the audience's highest ID when it was queued)
+         */
+        public long getAudienceThrough() {
+            return audienceThrough;
+        }
+
+        public long getExpandedThrough() {
+            return expandedThrough;
+        }
+    }
+
+    /**
+     * A claimed recipient row
+     */
+    public static final class OutboxEmail {
+        private final long id;
+        private final long messageId;
+        private final String recipient;
+        private final int attempts;
+
+        OutboxEmail(long id, long messageId, String recipient, int attempts) {
+            this.id = id;
+            this.messageId = messageId;
+            this.recipient = recipient;
+            this.attempts = attempts;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public long getMessageId() {
+            return messageId;
+        }
+
+        public String getRecipient() {
+            return recipient;
+        }
+
+        public int getAttempts() {
+            return attempts;
+        }
+    }
+
+    /**
+     * Subject and body shared by a message's recipients
+     */
+    public static final class Message {
+        private final String subject;
+        private final String body;
+
+        Message(String subject, String body) {
+            this.subject = subject;
+            this.body = body;
+        }
+
+        public String getSubject() {
+            return subject;
+        }
+
+        public String getBody() {
+            return body;
+        }
+    }
+}
@@ -14,11 +14,12 @@ import org.springframework.stereotype.Service;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
 
 /**
  * Service for handling email notifications
  * Manages tournament notifications, password reset emails, and other system communications
+ * Notifications are queued in the EmailOutbox and sent in the background by EmailDispatcher;
+ * password reset emails are sent right away so failures reach the caller.
  */
 @Service
 public class EmailService {
@@ -29,6 +30,12 @@ public class EmailService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private EmailOutbox emailOutbox;
+
+    @Autowired
+    private EmailDispatcher emailDispatcher;
+
     @Value("${spring.mail.username:noreply@quiztournament.com}")
     private String fromEmail;
 
@@ -47,30 +54,22 @@ public class EmailService {
      * @param createdBy Admin who created the tournament
      */
     public void sendNewTournamentNotification(Tournament tournament, User createdBy) {
-        // Get all players (exclude admin users)
-        List<User> players = userRepository.findByRole(UserRole.PLAYER);
-
-        if (players.isEmpty()) {
+        long players = userRepository.countByRole(UserRole.PLAYER);
+        if (players == 0) {
             System.out.println("No players found to notify about new tournament");
             return;
         }
 
         String subject = "New Quiz Tournament Available: " + tournament.getName();
-        String messageBody = createNewTournamentEmailBody(tournament, createdBy);
-
-        // Send emails asynchronously to all players
-        CompletableFuture.runAsync(() -> {
-            for (User player : players) {
-                try {
-                    sendEmail(player.getEmail(), subject, messageBody);
-                    System.out.println("Tournament notification sent to: " + player.getEmail());
-                } catch (Exception e) {
-                    System.err.println("Failed to send email to " + player.getEmail() + ": " + e.getMessage());
-                }
-            }
-        });
-
-        System.out.println("Tournament notification initiated for " + players.size() + " players");
+        if (!isSendingEnabled()) {
+            System.out.println("📧 Email service disabled - would have notified " + players + " players");
+            System.out.println("📧 Subject: " + subject);
+            return;
+        }
+
+        // Queued as one broadcast; the dispatcher expands it into players a page at a time
+        emailOutbox.enqueueBroadcast(subject, createNewTournamentEmailBody(tournament, createdBy), UserRole.PLAYER);
+        System.out.println("Tournament notification queued for " + players + " players");
     }
 
     /**
@@ -101,14 +100,7 @@ public class EmailService {
         String subject = "Welcome to Quiz Tournament!";
         String messageBody = createWelcomeEmailBody(user);
 
-        CompletableFuture.runAsync(() -> {
-            try {
-                sendEmail(user.getEmail(), subject, messageBody);
-                System.out.println("Welcome email sent to: " + user.getEmail());
-            } catch (Exception e) {
-                System.err.println("Failed to send welcome email to " + user.getEmail() + ": " + e.getMessage());
-            }
-        });
+        queueEmail(user.getEmail(), subject, messageBody);
     }
 
     /**
@@ -122,14 +114,23 @@ public class EmailService {
         String subject = "Quiz Completed: " + tournament.getName();
         String messageBody = createQuizCompletionEmailBody(user, tournament, score, passed);
 
-        CompletableFuture.runAsync(() -> {
-            try {
-                sendEmail(user.getEmail(), subject, messageBody);
-                System.out.println("Quiz completion email sent to: " + user.getEmail());
-            } catch (Exception e) {
-                System.err.println("Failed to send quiz completion email to " + user.getEmail() + ": " + e.getMessage());
-            }
-        });
+        queueEmail(user.getEmail(), subject, messageBody);
+    }
+
+    /**
+     * Queue an email for the dispatcher
+     */
+    private void queueEmail(String to, String subject, String text) {
+        if (!isSendingEnabled()) {
+            System.out.println("📧 Email service disabled - would have sent email to: " + to);
+            System.out.println("📧 Subject: " + subject);
+            return;
+        }
+        emailOutbox.enqueue(subject, text, List.of(to));
+    }
+
+    private boolean isSendingEnabled() {
+        return emailEnabled && mailSender != null;
     }
 
     /**
@@ -140,7 +141,7 @@ public class EmailService {
      */
     private void sendEmail(String to, String subject, String text) {
         // Skip email sending if disabled or mailSender is not configured (for testing)
-        if (!emailEnabled || mailSender == null) {
+        if (!isSendingEnabled()) {
             System.out.println("📧 Email service disabled - would have sent email to: " + to);
             System.out.println("📧 Subject: " + subject);
             return;
@@ -162,107 +163,62 @@ public class EmailService {
 
     /**
      * Create email body for new tournament notification
+     * Rendered once per tournament and shared by every recipient
      */
     private String createNewTournamentEmailBody(Tournament tournament, User createdBy) {
-        StringBuilder body = new StringBuilder();
-        body.append("Hello Quiz Enthusiast!\n\n");
-        body.append("A new tournament has been created and is now available for participation:\n\n");
-        body.append("Tournament Details:\n");
-        body.append("- Name: ").append(tournament.getName()).append("\n");
-        body.append("- Category: ").append(tournament.getCategory()).append("\n");
-        body.append("- Difficulty: ").append(tournament.getDifficulty()).append("\n");
-        body.append("- Start Date: ").append(tournament.getStartDate()).append("\n");
-        body.append("- End Date: ").append(tournament.getEndDate()).append("\n");
-        body.append("- Minimum Passing Score: ").append(tournament.getMinPassingScore()).append("%\n");
-        body.append("- Created by: ").append(createdBy.getFirstName()).append(" ").append(createdBy.getLastName()).append("\n\n");
-
-        body.append("Ready to test your knowledge? Log in to the Quiz Tournament platform and start the quiz!\n\n");
-        body.append("Login here: ").append(frontendUrl).append("/login\n\n");
-        body.append("Good luck and have fun!\n\n");
-        body.append("Best regards,\n");
-        body.append("Quiz Tournament Team");
-
-        return body.toString();
+        Map<String, Object> values = new HashMap<>();
+        values.put("name", tournament.getName());
+        values.put("category", tournament.getCategory());
+        values.put("difficulty", tournament.getDifficulty());
+        values.put("startDate", tournament.getStartDate());
+        values.put("endDate", tournament.getEndDate());
+        values.put("minPassingScore", tournament.getMinPassingScore());
+        values.put("createdByFirstName", createdBy.getFirstName());
+        values.put("createdByLastName", createdBy.getLastName());
+        values.put("frontendUrl", frontendUrl);
+        return EmailTemplates.NEW_TOURNAMENT.render(values);
     }
 
     /**
      * Create email body for password reset
      */
     private String createPasswordResetEmailBody(User user, String resetUrl, String resetToken) {
-        StringBuilder body = new StringBuilder();
-        body.append("Hello ").append(user.getFirstName()).append(",\n\n");
-        body.append("You have requested to reset your password for your Quiz Tournament account.\n\n");
-        body.append("To reset your password, please click the link below:\n\n");
-        body.append(resetUrl).append("\n\n");
-        body.append("Alternatively, you can use this reset token: ").append(resetToken).append("\n\n");
-        body.append("This link will expire in 1 hour for security reasons.\n\n");
-        body.append("If you did not request this password reset, please ignore this email.\n\n");
-        body.append("Best regards,\n");
-        body.append("Quiz Tournament Team");
-
-        return body.toString();
+        Map<String, Object> values = new HashMap<>();
+        values.put("firstName", user.getFirstName());
+        values.put("resetUrl", resetUrl);
+        values.put("resetToken", resetToken);
+        return EmailTemplates.PASSWORD_RESET.render(values);
     }
 
     /**
      * Create email body for welcome message
      */
     private String createWelcomeEmailBody(User user) {
-        StringBuilder body = new StringBuilder();
-        body.append("Welcome to Quiz Tournament, ").append(user.getFirstName()).append("!\n\n");
-        body.append("Thank you for joining our quiz community. Your account has been successfully created.\n\n");
-        body.append("Account Details:\n");
-        body.append("- Username: ").append(user.getUsername()).append("\n");
-        body.append("- Email: ").append(user.getEmail()).append("\n");
-        body.append("- Role: ").append(user.getRole().name()).append("\n\n");
-
-        if (user.getRole() == UserRole.PLAYER) {
-            body.append("As a player, you can:\n");
-            body.append("- Participate in quiz tournaments\n");
-            body.append("- Track your progress and scores\n");
-            body.append("- View leaderboards and compete with others\n");
-            body.append("- Like your favorite tournaments\n\n");
-        } else if (user.getRole() == UserRole.ADMIN) {
-            body.append("As an admin, you can:\n");
-            body.append("- Create and manage tournaments\n");
-            body.append("- View tournament statistics\n");
-            body.append("- Manage user accounts\n");
-            body.append("- Monitor quiz participation\n\n");
-        }
-
-        body.append("Get started: ").append(frontendUrl).append("/login\n\n");
-        body.append("Happy quizzing!\n\n");
-        body.append("Best regards,\n");
-        body.append("Quiz Tournament Team");
-
-        return body.toString();
+        Map<String, Object> values = new HashMap<>();
+        values.put("firstName", user.getFirstName());
+        values.put("username", user.getUsername());
+        values.put("email", user.getEmail());
+        values.put("role", user.getRole().name());
+        values.put("roleFeatures", user.getRole() == UserRole.PLAYER ? EmailTemplates.PLAYER_FEATURES
+                : user.getRole() == UserRole.ADMIN ? EmailTemplates.ADMIN_FEATURES : "");
+        values.put("frontendUrl", frontendUrl);
+        return EmailTemplates.WELCOME.render(values);
     }
 
     /**
      * Create email body for quiz completion notification
      */
     private String createQuizCompletionEmailBody(User user, Tournament tournament, Integer score, Boolean passed) {
-        StringBuilder body = new StringBuilder();
-        body.append("Hello ").append(user.getFirstName()).append(",\n\n");
-        body.append("You have completed the quiz tournament: ").append(tournament.getName()).append("\n\n");
-        body.append("Your Results:\n");
-        body.append("- Score: ").append(score).append("/10\n");
-        body.append("- Percentage: ").append((score * 10)).append("%\n");
-        body.append("- Status: ").append(passed ? "PASSED" : "FAILED").append("\n");
-        body.append("- Minimum Passing Score: ").append(tournament.getMinPassingScore()).append("%\n\n");
-
-        if (passed) {
-            body.append("Congratulations! You have successfully passed this tournament! 🎉\n\n");
-        } else {
-            body.append("You didn't pass this time, but don't give up! Keep practicing and try other tournaments.\n\n");
-        }
-
-        body.append("View detailed results: ").append(frontendUrl).append("/my-results\n");
-        body.append("Browse more tournaments: ").append(frontendUrl).append("/tournaments\n\n");
-        body.append("Keep learning and have fun!\n\n");
-        body.append("Best regards,\n");
-        body.append("Quiz Tournament Team");
-
-        return body.toString();
+        Map<String, Object> values = new HashMap<>();
+        values.put("firstName", user.getFirstName());
+        values.put("tournamentName", tournament.getName());
+        values.put("score", score);
+        values.put("percentage", score * 10);
+        values.put("status", passed ? "PASSED" : "FAILED");
+        values.put("minPassingScore", tournament.getMinPassingScore());
+        values.put("outcome", passed ? EmailTemplates.PASSED_OUTCOME : EmailTemplates.FAILED_OUTCOME);
+        values.put("frontendUrl", frontendUrl);
+        return EmailTemplates.QUIZ_COMPLETION.render(values);
     }
 
     /**
@@ -301,6 +257,7 @@ public class EmailService {
         status.put("frontendUrl", frontendUrl);
         status.put("backendUrl", backendUrl);
         status.put("testConnectivity", testEmailConnectivity());
+        status.put("dispatch", emailDispatcher.getStatistics());
         return status;
     }
 }
\ No newline at end of file
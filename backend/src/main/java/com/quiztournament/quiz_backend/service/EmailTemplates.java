@@ -0,0 +1,89 @@
+package com.quiztournament.quiz_backend.service;
+
+import com.quiztournament.quiz_backend.util.EmailTemplate;
+
+/**
+ * Compiled bodies of the emails sent by EmailService
+ * Compiled once when the class loads; conditional paragraphs are constants passed in as values.
+ */
+public final class EmailTemplates {
+
+    public static final EmailTemplate NEW_TOURNAMENT = EmailTemplate.compile(
+            "Hello Quiz Enthusiast!\n\n" +
+            "A new tournament has been created and is now available for participation:\n\n" +
+            "Tournament Details:\n" +
+            "- Name: {{name}}\n" +
+            "- Category: {{category}}\n" +
+            "- Difficulty: {{difficulty}}\n" +
+            "- Start Date: {{startDate}}\n" +
+            "- End Date: {{endDate}}\n" +
+            "- Minimum Passing Score: {{minPassingScore}}%\n" +
+            "- Created by: {{createdByFirstName}} {{createdByLastName}}\n\n" +
+            "Ready to test your knowledge? Log in to the Quiz Tournament platform and start the quiz!\n\n" +
+            "Login here: {{frontendUrl}}/login\n\n" +
+            "Good luck and have fun!\n\n" +
+            "Best regards,\n" +
+            "Quiz Tournament Team");
+
+    public static final EmailTemplate PASSWORD_RESET = EmailTemplate.compile(
+            "Hello {{firstName}},\n\n" +
+            "You have requested to reset your password for your Quiz Tournament account.\n\n" +
+            "To reset your password, please click the link below:\n\n" +
+            "{{resetUrl}}\n\n" +
+            "Alternatively, you can use this reset token: {{resetToken}}\n\n" +
+            "This link will expire in 1 hour for security reasons.\n\n" +
+            "If you did not request this password reset, please ignore this email.\n\n" +
+            "Best regards,\n" +
+            "Quiz Tournament Team");
+
+    public static final EmailTemplate WELCOME = EmailTemplate.compile(
+            "Welcome to Quiz Tournament, {{firstName}}!\n\n" +
+            "Thank you for joining our quiz community. Your account has been successfully created.\n\n" +
+            "Account Details:\n" +
+            "- Username: {{username}}\n" +
+            "- Email: {{email}}\n" +
+            "- Role: {{role}}\n\n" +
+            "{{roleFeatures}}" +
+            "Get started: {{frontendUrl}}/login\n\n" +
+            "Happy quizzing!\n\n" +
+            "Best regards,\n" +
+            "Quiz Tournament Team");
+
+    public static final String PLAYER_FEATURES =
+            "As a player, you can:\n" +
+            "- Participate in quiz tournaments\n" +
+            "- Track your progress and scores\n" +
+            "- View leaderboards and compete with others\n" +
+            "- Like your favorite tournaments\n\n";
+
+    public static final String ADMIN_FEATURES =
+            "As an admin, you can:\n" +
+            "- Create and manage tournaments\n" +
+            "- View tournament statistics\n" +
+            "- Manage user accounts\n" +
+            "- Monitor quiz participation\n\n";
+
+    public static final EmailTemplate QUIZ_COMPLETION = EmailTemplate.compile(
+            "Hello {{firstName}},\n\n" +
+            "You have completed the quiz tournament: {{tournamentName}}\n\n" +
+            "Your Results:\n" +
+            "- Score: {{score}}/10\n" +
+            "- Percentage: {{percentage}}%\n" +
+            "- Status: {{status}}\n" +
+            "- Minimum Passing Score: {{minPassingScore}}%\n\n" +
+            "{{outcome}}" +
+            "View detailed results: {{frontendUrl}}/my-results\n" +
+            "Browse more tournaments: {{frontendUrl}}/tournaments\n\n" +
+            "Keep learning and have fun!\n\n" +
+            "Best regards,\n" +
+            "Quiz Tournament Team");
+
+    public static final String PASSED_OUTCOME =
+            "Congratulations! You have successfully passed this tournament! 🎉\n\n";
+
+    public static final String FAILED_OUTCOME =
+            "You didn't pass this time, but don't give up! Keep practicing and try other tournaments.\n\n";
+
+    private EmailTemplates() {
+    }
+}
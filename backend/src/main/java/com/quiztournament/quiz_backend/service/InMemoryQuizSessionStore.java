@@ -0,0 +1,210 @@
+package com.quiztournament.quiz_backend.service;
+
+import com.quiztournament.quiz_backend.service.QuestionService.UserAnswer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Quiz session store backed by a map in this JVM
+ * Sessions are lost on restart and are not shared between nodes.
+ * An access-ordered index lets expiry and eviction walk from the least recently
+ * used session and stop at the first one that is still live, instead of scanning every session.
+ */
+@Service
+@ConditionalOnProperty(name = "app.quiz.session-store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryQuizSessionStore implements QuizSessionStore {
+
+    // Accesses closer together than this do not re-index the session
+    private static final long TOUCH_RESOLUTION_MS = 1000;
+
+    // Key: userId-tournamentId, Value: QuizSession
+    private final Map<String, QuizSession> sessions = new ConcurrentHashMap<>();
+
+    // Sessions ordered by last access time; entries may be stale and are re-checked when polled
+    private final ConcurrentSkipListSet<AccessEntry> accessOrder = new ConcurrentSkipListSet<>();
+
+    private final AtomicLong expirations = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong retainedBytes = new AtomicLong();
+
+    @Override
+    public void save(QuizSession session) {
+        String key = getSessionKey(session.getUserId(), session.getTournamentId());
+        retainedBytes.addAndGet(session.estimateRetainedBytes());
+        accessOrder.add(new AccessEntry(session.getLastAccessTime(), key, session));
+
+        QuizSession previous = sessions.put(key, session);
+        if (previous != null) {
+            unindex(key, previous);
+        }
+    }
+
+    @Override
+    public Optional<QuizSession> find(Long userId, Long tournamentId) {
+        String key = getSessionKey(userId, tournamentId);
+        QuizSession session = sessions.get(key);
+        if (session != null) {
+            touch(key, session);
+        }
+        return Optional.ofNullable(session);
+    }
+
+    @Override
+    public void recordAnswer(Long userId, Long tournamentId, int questionNumber, UserAnswer answer) {
+        String key = getSessionKey(userId, tournamentId);
+        QuizSession session = sessions.get(key);
+        if (session == null) {
+            throw new RuntimeException("No active quiz session found");
+        }
+        retainedBytes.addAndGet(session.recordAnswer(questionNumber, answer));
+        touch(key, session);
+    }
+
+    @Override
+    public void recordAnswers(Long userId, Long tournamentId, Map<Integer, UserAnswer> answers) {
+        String key = getSessionKey(userId, tournamentId);
+        QuizSession session = sessions.get(key);
+        if (session == null) {
+            throw new RuntimeException("No active quiz session found");
+        }
+        long delta = 0;
+        for (Map.Entry<Integer, UserAnswer> entry : answers.entrySet()) {
+            delta += session.recordAnswer(entry.getKey(), entry.getValue());
+        }
+        retainedBytes.addAndGet(delta);
+        touch(key, session);
+    }
+
+    @Override
+    public void remove(Long userId, Long tournamentId) {
+        String key = getSessionKey(userId, tournamentId);
+        QuizSession session = sessions.remove(key);
+        if (session != null) {
+            unindex(key, session);
+        }
+    }
+
+    @Override
+    public long count() {
+        return sessions.size();
+    }
+
+    @Override
+    public int expireIdleSessions(long lastAccessBefore) {
+        int expired = 0;
+        for (AccessEntry entry = accessOrder.pollFirst(); entry != null; entry = accessOrder.pollFirst()) {
+            if (entry.time >= lastAccessBefore) {
+                // Everything from here on was used after the cutoff
+                accessOrder.add(entry);
+                break;
+            }
+            if (removeIfCurrent(entry)) {
+                expired++;
+            }
+        }
+        expirations.addAndGet(expired);
+        return expired;
+    }
+
+    @Override
+    public int evictOverCapacity(long maxSessions) {
+        int evicted = 0;
+        while (sessions.size() > maxSessions) {
+            AccessEntry entry = accessOrder.pollFirst();
+            if (entry == null) {
+                break;
+            }
+            if (removeIfCurrent(entry)) {
+                evicted++;
+            }
+        }
+        evictions.addAndGet(evicted);
+        return evicted;
+    }
+
+    @Override
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("activeSessions", sessions.size());
+        stats.put("expiredSessions", expirations.get());
+        stats.put("evictedSessions", evictions.get());
+        stats.put("approxRetainedBytes", Math.max(0, retainedBytes.get()));
+        return stats;
+    }
+
+    /**
+     * Move a session to the back of the access order
+     */
+    private void touch(String key, QuizSession session) {
+        long now = System.currentTimeMillis();
+        synchronized (session) {
+            long previous = session.getLastAccessTime();
+            if (now - previous < TOUCH_RESOLUTION_MS) {
+                return;
+            }
+            session.setLastAccessTime(now);
+            accessOrder.add(new AccessEntry(now, key, session));
+            accessOrder.remove(new AccessEntry(previous, key, session));
+        }
+    }
+
+    private void unindex(String key, QuizSession session) {
+        accessOrder.remove(new AccessEntry(session.getLastAccessTime(), key, session));
+        retainedBytes.addAndGet(-session.estimateRetainedBytes());
+    }
+
+    /**
+     * Remove the session an index entry points at, unless it was replaced or touched since
+     */
+    private boolean removeIfCurrent(AccessEntry entry) {
+        QuizSession session = entry.session;
+        if (session.getLastAccessTime() != entry.time) {
+            // Stale entry; the session has a newer one further back
+            return false;
+        }
+        if (!sessions.remove(entry.key, session)) {
+            return false;
+        }
+        retainedBytes.addAndGet(-session.estimateRetainedBytes());
+        return true;
+    }
+
+    private String getSessionKey(Long userId, Long tournamentId) {
+        return userId + "-" + tournamentId;
+    }
+
+    /**
+     * Index entry ordered by access time, then session key
+     */
+    private static class AccessEntry implements Comparable<AccessEntry> {
+        private final long time;
+        private final String key;
+        private final QuizSession session;
+
+        AccessEntry(long time, String key, QuizSession session) {
+            this.time = time;
+            this.key = key;
+            this.session = session;
+        }
+
+        @Override
+        public int compareTo(AccessEntry other) {
+            int byTime = Long.compare(time, other.time);
+            if (byTime != 0) {
+                return byTime;
+            }
+            int byKey = key.compareTo(other.key);
+            if (byKey != 0) {
+                return byKey;
+            }
+            return Integer.compare(System.identityHashCode(session), System.identityHashCode(other.session));
+        }
+    }
+}
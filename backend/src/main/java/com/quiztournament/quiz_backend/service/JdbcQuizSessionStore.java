@@ -0,0 +1,205 @@
+package com.quiztournament.quiz_backend.service;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.quiztournament.quiz_backend.config.JdbcSchemaInitializer;
+import com.quiztournament.quiz_backend.dto.OpenTDBQuestion;
+import com.quiztournament.quiz_backend.service.QuestionService.UserAnswer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Quiz session store backed by the application datasource
+ * Sessions survive restarts and are shared by every backend node.
+ * The question list is written once as compact JSON when the session starts;
+ * each answer is a separate row so recording one is a single-row upsert.
+ * Activity for the idle timeout is the latest of the session start, its last find and its latest answer;
+ * find touches last_accessed, while answers are only written to their own rows.
+ */
+@Service
+@ConditionalOnProperty(name = "app.quiz.session-store", havingValue = "jdbc")
+public class JdbcQuizSessionStore implements QuizSessionStore {
+
+    private static final String UPSERT_ANSWER_SQL = "MERGE INTO quiz_session_answers " +
+            "(user_id, tournament_id, question_number, answer, correct, answered_at, correct_answer, question) " +
+            "KEY (user_id, tournament_id, question_number) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final TypeReference<List<OpenTDBQuestion>> QUESTION_LIST = new TypeReference<>() {};
+
+    // Only the annotated fields, so derived getters such as getAllAnswersShuffled() are not persisted
+    private static final ObjectMapper QUESTION_MAPPER = new ObjectMapper()
+            .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+            .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Not called; injected so the tables exist before this bean is used
+    @Autowired
+    private JdbcSchemaInitializer schemaInitializer;
+
+    // Counted per node
+    private final AtomicLong expirations = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    @Override
+    @Transactional
+    public void save(QuizSession session) {
+        jdbcTemplate.update("DELETE FROM quiz_session_answers WHERE user_id = ? AND tournament_id = ?",
+                session.getUserId(), session.getTournamentId());
+        jdbcTemplate.update("MERGE INTO quiz_sessions (user_id, tournament_id, questions, start_time, last_accessed) " +
+                        "KEY (user_id, tournament_id) VALUES (?, ?, ?, ?, ?)",
+                session.getUserId(), session.getTournamentId(),
+                writeQuestions(session.getQuestions()), session.getStartTime(), session.getLastAccessTime());
+
+        for (Map.Entry<Integer, UserAnswer> entry : session.getAnswerHistory().entrySet()) {
+            recordAnswer(session.getUserId(), session.getTournamentId(), entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Touches last_accessed before reading, so a session that is only being read stays alive
+     */
+    @Override
+    @Transactional
+    public Optional<QuizSession> find(Long userId, Long tournamentId) {
+        long now = System.currentTimeMillis();
+        int touched = jdbcTemplate.update("UPDATE quiz_sessions SET last_accessed = ? " +
+                "WHERE user_id = ? AND tournament_id = ?", now, userId, tournamentId);
+        if (touched == 0) {
+            return Optional.empty();
+        }
+
+        List<Object[]> rows = jdbcTemplate.query(
+                "SELECT questions, start_time FROM quiz_sessions WHERE user_id = ? AND tournament_id = ?",
+                (rs, rowNum) -> new Object[]{rs.getString(1), rs.getLong(2)},
+                userId, tournamentId);
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Map<Integer, UserAnswer> answers = new HashMap<>();
+        jdbcTemplate.query("SELECT question_number, answer, correct, answered_at, correct_answer, question " +
+                        "FROM quiz_session_answers WHERE user_id = ? AND tournament_id = ?",
+                rs -> {
+                    answers.put(rs.getInt(1), new UserAnswer(rs.getString(2), rs.getBoolean(3),
+                            rs.getLong(4), rs.getString(5), rs.getString(6)));
+                },
+                userId, tournamentId);
+
+        Object[] row = rows.get(0);
+        QuizSession session = new QuizSession(userId, tournamentId, readQuestions((String) row[0]),
+                answers, (Long) row[1]);
+        session.setLastAccessTime(now);
+        return Optional.of(session);
+    }
+
+    /**
+     * Upsert a single answer row; fails with a DataAccessException if the session does not exist
+     */
+    @Override
+    public void recordAnswer(Long userId, Long tournamentId, int questionNumber, UserAnswer answer) {
+        jdbcTemplate.update(UPSERT_ANSWER_SQL, userId, tournamentId, questionNumber, answer.getAnswer(),
+                answer.isCorrect(), answer.getTimestamp(), answer.getCorrectAnswer(), answer.getQuestion());
+    }
+
+    /**
+     * Upsert all answer rows in a single JDBC batch
+     */
+    @Override
+    public void recordAnswers(Long userId, Long tournamentId, Map<Integer, UserAnswer> answers) {
+        List<Object[]> rows = new ArrayList<>(answers.size());
+        for (Map.Entry<Integer, UserAnswer> entry : answers.entrySet()) {
+            UserAnswer answer = entry.getValue();
+            rows.add(new Object[]{userId, tournamentId, entry.getKey(), answer.getAnswer(), answer.isCorrect(),
+                    answer.getTimestamp(), answer.getCorrectAnswer(), answer.getQuestion()});
+        }
+        jdbcTemplate.batchUpdate(UPSERT_ANSWER_SQL, rows);
+    }
+
+    @Override
+    public void remove(Long userId, Long tournamentId) {
+        // Answers are removed by the ON DELETE CASCADE foreign key
+        jdbcTemplate.update("DELETE FROM quiz_sessions WHERE user_id = ? AND tournament_id = ?",
+                userId, tournamentId);
+    }
+
+    @Override
+    public long count() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM quiz_sessions", Long.class);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * Walks the last_accessed index; sessions with a newer answer are kept
+     */
+    @Override
+    public int expireIdleSessions(long lastAccessBefore) {
+        int expired = jdbcTemplate.update("DELETE FROM quiz_sessions s WHERE s.last_accessed < ? " +
+                        "AND NOT EXISTS (SELECT 1 FROM quiz_session_answers a WHERE a.user_id = s.user_id " +
+                        "AND a.tournament_id = s.tournament_id AND a.answered_at >= ?)",
+                lastAccessBefore, lastAccessBefore);
+        expirations.addAndGet(expired);
+        return expired;
+    }
+
+    /**
+     * Evicts by last_accessed, which ignores later answers; close enough to least recently used for a safety cap
+     */
+    @Override
+    public int evictOverCapacity(long maxSessions) {
+        long excess = count() - maxSessions;
+        if (excess <= 0) {
+            return 0;
+        }
+        int evicted = jdbcTemplate.update("DELETE FROM quiz_sessions WHERE (user_id, tournament_id) IN (" +
+                "SELECT user_id, tournament_id FROM quiz_sessions ORDER BY last_accessed LIMIT ?)", excess);
+        evictions.addAndGet(evicted);
+        return evicted;
+    }
+
+    @Override
+    public Map<String, Object> getStatistics() {
+        Long storedBytes = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(LENGTH(questions)), 0) FROM quiz_sessions", Long.class);
+        Long answerBytes = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(LENGTH(answer) + LENGTH(correct_answer) + LENGTH(question)), 0) " +
+                        "FROM quiz_session_answers", Long.class);
+
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("activeSessions", count());
+        stats.put("expiredSessions", expirations.get());
+        stats.put("evictedSessions", evictions.get());
+        stats.put("approxRetainedBytes", (storedBytes != null ? storedBytes : 0) + (answerBytes != null ? answerBytes : 0));
+        return stats;
+    }
+
+    private String writeQuestions(List<OpenTDBQuestion> questions) {
+        try {
+            return QUESTION_MAPPER.writeValueAsString(questions);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize quiz session questions", e);
+        }
+    }
+
+    private List<OpenTDBQuestion> readQuestions(String json) {
+        try {
+            return QUESTION_MAPPER.readValue(json, QUESTION_LIST);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to read quiz session questions", e);
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.quiztournament.quiz_backend.service;
+
+import com.quiztournament.quiz_backend.dto.CursorPage;
+import com.quiztournament.quiz_backend.dto.LeaderboardEntry;
+import com.quiztournament.quiz_backend.entity.QuizResult;
+import com.quiztournament.quiz_backend.repository.QuizResultRepository;
+import com.quiztournament.quiz_backend.repository.TournamentRepository;
+import com.quiztournament.quiz_backend.util.PageCursor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory leaderboards, one ranked structure per tournament
+ * Loaded from quiz_results at startup (or on first use) and kept current by ScoreLedger, which hands over
+ * every result recorded on this node once its transaction commits. Leaderboard pages, top-N lists and a
+ * player's rank are answered from memory without sorting or loading users.
+ * Results recorded on other nodes only reach quiz_results, so every app.leaderboard.refresh-interval-ms
+ * the results completed since the previous pass are read back over the completed_at index, and leaderboards
+ * of deleted tournaments are dropped. Only the full load at startup reads the whole table.
+ */
+@Service
+public class LeaderboardService {
+
+    private static final String CURSOR_LISTING = "leaderboard";
+
+    @Autowired
+    private QuizResultRepository quizResultRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    // How far before the previous pass each refresh looks, covering commit delays and clock skew between nodes
+    @Value("${app.leaderboard.refresh-lookback-ms:300000}")
+    private long refreshLookbackMs;
+
+    private final Map<Long, TournamentLeaderboard> leaderboards = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+    private volatile long lastRebuildMs;
+    private volatile long lastRefreshAt;
+    private volatile int lastRefreshEntries;
+
+    // Start of the last full load or refresh; the next refresh reads results completed since then
+    private LocalDateTime refreshedThrough;
+
+    /**
+     * Load every tournament's leaderboard from quiz_results
+     * Safe while results are being recorded: entries older than the one already ranked are ignored.
+     * @return Number of results loaded
+     */
+    public synchronized int rebuild() {
+        long start = System.currentTimeMillis();
+        LocalDateTime from = LocalDateTime.now();
+        List<LeaderboardEntry> entries = quizResultRepository.findAllLeaderboardEntries();
+        for (LeaderboardEntry entry : entries) {
+            leaderboard(entry.getTournamentId()).upsert(entry);
+        }
+        refreshedThrough = from;
+        loaded = true;
+        lastRebuildMs = System.currentTimeMillis() - start;
+        System.out.println("Loaded " + entries.size() + " quiz results into " + leaderboards.size()
+                + " tournament leaderboards in " + lastRebuildMs + "ms");
+        return entries.size();
+    }
+
+    /**
+     * Pick up results recorded on other nodes since the previous pass and drop deleted tournaments
+     * Does nothing until the leaderboards have been loaded.
+     * @return Number of results read back
+     */
+    @Scheduled(initialDelayString = "${app.leaderboard.refresh-interval-ms:60000}",
+            fixedDelayString = "${app.leaderboard.refresh-interval-ms:60000}")
+    public synchronized int refresh() {
+        if (!loaded) {
+            return 0;
+        }
+        try {
+            LocalDateTime from = LocalDateTime.now();
+            List<LeaderboardEntry> entries = quizResultRepository.findLeaderboardEntriesCompletedSince(
+                    refreshedThrough.minusNanos(refreshLookbackMs * 1_000_000));
+            for (LeaderboardEntry entry : entries) {
+                leaderboard(entry.getTournamentId()).upsert(entry);
+            }
+
+            // Only tournaments ranked before the query are checked, so one created meanwhile is kept
+            Set<Long> ranked = new HashSet<>(leaderboards.keySet());
+            if (!ranked.isEmpty()) {
+                ranked.removeAll(tournamentRepository.findExistingIds(new ArrayList<>(ranked)));
+                leaderboards.keySet().removeAll(ranked);
+            }
+
+            refreshedThrough = from;
+            lastRefreshAt = System.currentTimeMillis();
+            lastRefreshEntries = entries.size();
+            return entries.size();
+        } catch (Exception e) {
+            System.err.println("Leaderboard refresh failed: " + e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * Evict a tournament's leaderboard once the surrounding transaction commits (the tournament was deleted)
+     */
+    public void evict(Long tournamentId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    leaderboards.remove(tournamentId);
+                }
+            });
+        } else {
+            leaderboards.remove(tournamentId);
+        }
+    }
+
+    /**
+     * Rank a newly recorded result once the surrounding transaction commits
+     * Must be called while the result's user is still loadable (inside the transaction)
+     */
+    public void recordResult(QuizResult quizResult) {
+        LeaderboardEntry entry = LeaderboardEntry.from(quizResult);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    leaderboard(entry.getTournamentId()).upsert(entry);
+                }
+            });
+        } else {
+            leaderboard(entry.getTournamentId()).upsert(entry);
+        }
+    }
+
+    /**
+     * Entries in rank order, skipping the first offset entries
+     */
+    public List<LeaderboardEntry> getEntries(Long tournamentId, int offset, int limit) {
+        TournamentLeaderboard leaderboard = find(tournamentId);
+        return leaderboard != null ? leaderboard.getEntries(offset, limit) : Collections.emptyList();
+    }
+
+    public List<LeaderboardEntry> getTopEntries(Long tournamentId, int limit) {
+        return getEntries(tournamentId, 0, limit);
+    }
+
+    /**
+     * One page of the leaderboard in rank order
+     * The cursor holds the ranking key of the last entry, so paging stays O(log n + limit) however deep
+     * it goes and skips or repeats nobody when players above the cursor change.
+     * @param cursor Cursor returned with the previous page, or null for the first page
+     */
+    public CursorPage<LeaderboardEntry> getPage(Long tournamentId, String cursor, int limit) {
+        TournamentLeaderboard leaderboard = find(tournamentId);
+        if (leaderboard == null) {
+            return new CursorPage<>(Collections.emptyList(), null);
+        }
+        List<LeaderboardEntry> rows;
+        if (cursor == null) {
+            rows = leaderboard.getTopEntries(limit + 1);
+        } else {
+            PageCursor key = PageCursor.decode(cursor, CURSOR_LISTING, 3);
+            rows = leaderboard.getEntriesAfter(
+                    LeaderboardEntry.rankingKey(key.getDouble(0), key.getDateTime(1), key.getLong(2)), limit + 1);
+        }
+        return CursorPage.of(rows, limit, last ->
+                PageCursor.encode(CURSOR_LISTING, last.getPercentage(), last.getCompletedAt(), last.getUserId()));
+    }
+
+    /**
+     * @return 1-based rank of the player in the tournament, or 0 if they have no result
+     */
+    public int getRank(Long tournamentId, Long userId) {
+        TournamentLeaderboard leaderboard = find(tournamentId);
+        return leaderboard != null ? leaderboard.getRank(userId) : 0;
+    }
+
+    /**
+     * A player's rank with up to radius entries above and below them
+     * @return The neighborhood, or null if the player has no result in the tournament
+     */
+    public TournamentLeaderboard.Neighborhood getNeighborhood(Long tournamentId, Long userId, int radius) {
+        TournamentLeaderboard leaderboard = find(tournamentId);
+        return leaderboard != null ? leaderboard.getNeighborhood(userId, radius) : null;
+    }
+
+    public LeaderboardEntry getEntry(Long tournamentId, Long userId) {
+        TournamentLeaderboard leaderboard = find(tournamentId);
+        return leaderboard != null ? leaderboard.getEntry(userId) : null;
+    }
+
+    /**
+     * @return Number of players ranked in the tournament
+     */
+    public int countEntries(Long tournamentId) {
+        TournamentLeaderboard leaderboard = find(tournamentId);
+        return leaderboard != null ? leaderboard.size() : 0;
+    }
+
+    /**
+     * @return The tournament's leaderboard, or null if nobody has completed it
+     */
+    public TournamentLeaderboard getLeaderboard(Long tournamentId) {
+        return find(tournamentId);
+    }
+
+    public Map<String, Object> getStatistics() {
+        long entries = 0;
+        for (TournamentLeaderboard leaderboard : leaderboards.values()) {
+            entries += leaderboard.size();
+        }
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("loaded", loaded);
+        stats.put("tournaments", leaderboards.size());
+        stats.put("entries", entries);
+        stats.put("lastRebuildMs", lastRebuildMs);
+        stats.put("lastRefreshAt", lastRefreshAt);
+        stats.put("lastRefreshEntries", lastRefreshEntries);
+        return stats;
+    }
+
+    private TournamentLeaderboard find(Long tournamentId) {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    rebuild();
+                }
+            }
+        }
+        return leaderboards.get(tournamentId);
+    }
+
+    private TournamentLeaderboard leaderboard(Long tournamentId) {
+        return leaderboards.computeIfAbsent(tournamentId, id -> new TournamentLeaderboard());
+    }
+}
@@ -0,0 +1,120 @@
+package com.quiztournament.quiz_backend.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker for OpenTDB calls
+ * After enough consecutive failures the circuit opens and calls are rejected without touching the network.
+ * Once the open period has passed a single probe is let through (half-open): success closes the circuit,
+ * failure opens it again.
+ */
+public class OpenTDBCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openDurationMs;
+    private final LongSupplier clock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    // Counters for the statistics endpoint
+    private long successCount;
+    private long failureCount;
+    private long rejectedCount;
+    private long openedCount;
+
+    public OpenTDBCircuitBreaker(int failureThreshold, long openDurationMs) {
+        this(failureThreshold, openDurationMs, System::currentTimeMillis);
+    }
+
+    public OpenTDBCircuitBreaker(int failureThreshold, long openDurationMs, LongSupplier clock) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openDurationMs = openDurationMs;
+        this.clock = clock;
+    }
+
+    /**
+     * Ask to make a call; every permitted call must be followed by recordSuccess, recordFailure or release
+     * @return true if the call may go ahead, false if it should fall back right away
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN && clock.getAsLong() - openedAt >= openDurationMs) {
+            state = State.HALF_OPEN;
+            probeInFlight = false;
+        }
+
+        if (state == State.CLOSED) {
+            return true;
+        }
+        if (state == State.HALF_OPEN && !probeInFlight) {
+            probeInFlight = true;
+            return true;
+        }
+
+        rejectedCount++;
+        return false;
+    }
+
+    /**
+     * Give back a permit whose call never reached OpenTDB (e.g. turned away by a full executor queue)
+     * Counts as neither success nor failure; a half-open circuit lets the next probe through
+     */
+    public synchronized void release() {
+        probeInFlight = false;
+    }
+
+    public synchronized void recordSuccess() {
+        successCount++;
+        consecutiveFailures = 0;
+        probeInFlight = false;
+        state = State.CLOSED;
+    }
+
+    public synchronized void recordFailure() {
+        failureCount++;
+        consecutiveFailures++;
+        probeInFlight = false;
+
+        if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+            state = State.OPEN;
+            openedAt = clock.getAsLong();
+            openedCount++;
+            System.err.println("OpenTDB circuit opened after " + consecutiveFailures + " consecutive failures");
+        }
+    }
+
+    /**
+     * Whether calls currently go through normally (retries are only worth scheduling then)
+     */
+    public synchronized boolean isClosed() {
+        return state == State.CLOSED;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public synchronized Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("state", state.name());
+        stats.put("consecutiveFailures", consecutiveFailures);
+        stats.put("failureThreshold", failureThreshold);
+        stats.put("openDurationMs", openDurationMs);
+        stats.put("successCount", successCount);
+        stats.put("failureCount", failureCount);
+        stats.put("rejectedCount", rejectedCount);
+        stats.put("openedCount", openedCount);
+        if (state == State.OPEN) {
+            stats.put("remainingOpenMs", Math.max(0, openedAt + openDurationMs - clock.getAsLong()));
+        }
+        return stats;
+    }
+}
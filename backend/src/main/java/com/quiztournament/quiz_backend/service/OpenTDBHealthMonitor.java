@@ -0,0 +1,118 @@
+package com.quiztournament.quiz_backend.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Background-refreshed OpenTDB connectivity status
+ * The API is probed on a fixed interval; health endpoints read the last result instead of calling OpenTDB,
+ * so orchestrator probes cost no outbound traffic and return immediately.
+ */
+@Component
+public class OpenTDBHealthMonitor {
+
+    // Probe latencies kept for the percentiles
+    private static final int LATENCY_SAMPLES = 100;
+
+    @Autowired
+    private OpenTDBService openTDBService;
+
+    @Value("${app.opentdb.health-probe-enabled:true}")
+    private boolean probeEnabled;
+
+    @Value("${app.opentdb.health-refresh-interval-ms:60000}")
+    private long refreshIntervalMs;
+
+    // Latest probe results; written only by the probe thread
+    private volatile boolean connected;
+    private volatile long lastCheckedAt;
+    private volatile long lastSuccessAt;
+    private volatile long lastFailureAt;
+    private volatile long lastLatencyMs = -1;
+
+    // Ring buffer of recent probe latencies in milliseconds
+    private final long[] latencies = new long[LATENCY_SAMPLES];
+    private int latencyCount;
+    private int latencyNext;
+
+    /**
+     * Probe OpenTDB and record the outcome
+     */
+    @Scheduled(initialDelayString = "${app.opentdb.health-initial-delay-ms:5000}",
+               fixedDelayString = "${app.opentdb.health-refresh-interval-ms:60000}")
+    public void refresh() {
+        if (!probeEnabled) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean ok;
+        try {
+            ok = openTDBService.testApiConnectivity();
+        } catch (Exception e) {
+            ok = false;
+        }
+        long latencyMs = (System.nanoTime() - start) / 1_000_000;
+        long now = System.currentTimeMillis();
+
+        synchronized (latencies) {
+            latencies[latencyNext] = latencyMs;
+            latencyNext = (latencyNext + 1) % LATENCY_SAMPLES;
+            latencyCount = Math.min(latencyCount + 1, LATENCY_SAMPLES);
+        }
+
+        lastLatencyMs = latencyMs;
+        if (ok) {
+            lastSuccessAt = now;
+        } else {
+            lastFailureAt = now;
+        }
+        connected = ok;
+        lastCheckedAt = now;
+    }
+
+    /**
+     * Result of the last probe (false until the first probe has run)
+     */
+    public boolean isConnected() {
+        return connected;
+    }
+
+    /**
+     * Last probe result with timestamps (epoch millis, 0 if never) and latency percentiles
+     */
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new HashMap<>();
+        status.put("connected", connected);
+        status.put("lastCheckedAt", lastCheckedAt);
+        status.put("lastSuccessAt", lastSuccessAt);
+        status.put("lastFailureAt", lastFailureAt);
+        status.put("lastLatencyMs", lastLatencyMs);
+        status.put("refreshIntervalMs", refreshIntervalMs);
+
+        long[] sorted;
+        synchronized (latencies) {
+            sorted = Arrays.copyOf(latencies, latencyCount);
+        }
+        Arrays.sort(sorted);
+        status.put("samples", sorted.length);
+        status.put("p50LatencyMs", percentile(sorted, 50));
+        status.put("p95LatencyMs", percentile(sorted, 95));
+        status.put("p99LatencyMs", percentile(sorted, 99));
+        return status;
+    }
+
+    private long percentile(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return -1;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+}
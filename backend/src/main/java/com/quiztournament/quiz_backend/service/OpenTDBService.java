@@ -2,20 +2,26 @@ package com.quiztournament.quiz_backend.service;
 
 import com.quiztournament.quiz_backend.dto.OpenTDBResponse;
 import com.quiztournament.quiz_backend.dto.OpenTDBQuestion;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.web.client.ResourceAccessException;
-import org.springframework.web.client.HttpServerErrorException;
-import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.beans.factory.annotation.Value;
+import jakarta.annotation.PostConstruct;
 
 import java.util.List;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Service for integrating with OpenTDB (Open Trivia Database) API
@@ -24,13 +30,45 @@ import java.nio.charset.StandardCharsets;
 @Service
 public class OpenTDBService {
 
-    private static final String OPENTDB_BASE_URL = "https://opentdb.com/api.php";
     private static final int DEFAULT_QUESTION_COUNT = 10;
     private static final int MAX_RETRIES = 3;
 
+    // Largest amount OpenTDB returns in a single request
+    public static final int MAX_QUESTIONS_PER_REQUEST = 50;
+
+    @Value("${app.opentdb.base-url:https://opentdb.com/api.php}")
+    private String openTdbBaseUrl;
+
     @Autowired
     private RestTemplate restTemplate;
 
+    @Autowired
+    private PoolingHttpClientConnectionManager openTdbConnectionManager;
+
+    // Sized by app.opentdb.max-concurrent-requests; requests beyond that wait in its bounded queue
+    @Autowired
+    @Qualifier("openTdbExecutor")
+    private ThreadPoolTaskExecutor openTdbExecutor;
+
+    @Value("${app.opentdb.retry-base-delay-ms:500}")
+    private long retryBaseDelayMs;
+
+    @Value("${app.opentdb.circuit-failure-threshold:5}")
+    private int circuitFailureThreshold;
+
+    @Value("${app.opentdb.circuit-open-ms:30000}")
+    private long circuitOpenMs;
+
+    private OpenTDBCircuitBreaker circuitBreaker;
+
+    // Requests turned away because the executor queue was full
+    private final AtomicLong rejectedRequests = new AtomicLong();
+
+    @PostConstruct
+    void initCircuitBreaker() {
+        circuitBreaker = new OpenTDBCircuitBreaker(circuitFailureThreshold, circuitOpenMs);
+    }
+
     // Category mapping from our system to OpenTDB categories
     private static final Map<String, String> CATEGORY_MAPPING = new HashMap<>();
     static {
@@ -47,98 +85,149 @@ public class OpenTDBService {
     }
 
     /**
-     * Fetch questions from OpenTDB API for a tournament
+     * Fetch questions from OpenTDB without blocking the calling thread
+     * Falls back to general knowledge or the offline questions; never completes exceptionally.
+     * While the circuit is open the offline questions are returned without a network call.
      * @param category Tournament category
      * @param difficulty Tournament difficulty
-     * @param amount Number of questions to fetch (default 10)
-     * @return List of questions from OpenTDB
+     * @param amount Number of questions to fetch
+     * @return Future list of questions
      */
-    public List<OpenTDBQuestion> fetchQuestions(String category, String difficulty, int amount) {
-        try {
-            String url = buildApiUrl(category, difficulty, amount);
-
-            for (int attempt = 1; attempt <= MAX_RETRIES; attempt++) {
-                try {
-                    OpenTDBResponse response = restTemplate.getForObject(url, OpenTDBResponse.class);
-
-                    if (response != null && response.isSuccessful() && response.getResults() != null) {
+    public CompletableFuture<List<OpenTDBQuestion>> fetchQuestionsAsync(String category, String difficulty, int amount) {
+        return sendWithRetry(buildApiUrl(category, difficulty, amount), 1)
+                .thenCompose(response -> {
+                    if (response.isSuccessful() && response.getResults() != null) {
                         List<OpenTDBQuestion> questions = response.getResults();
-
-                        // Validate we have enough questions
                         if (questions.size() >= amount) {
-                            return questions.subList(0, amount);
+                            return CompletableFuture.completedFuture(questions.subList(0, amount));
                         } else if (questions.size() > 0) {
                             // Fill remaining questions with general knowledge
-                            return fillWithGeneralQuestions(questions, amount, difficulty);
+                            return fetchQuestionsAsync("general", difficulty, amount - questions.size())
+                                    .thenApply(general -> {
+                                        List<OpenTDBQuestion> combined = new ArrayList<>(questions);
+                                        combined.addAll(general);
+                                        return combined.subList(0, Math.min(combined.size(), amount));
+                                    });
                         }
-                    } else if (response != null) {
+                    } else {
                         System.err.println("OpenTDB API Error: " + response.getResponseMessage());
 
                         // If not enough questions for specific category, try general knowledge
-                        if (response.getResponseCode() == 1 && !isGeneralCategory(category)) {
-                            return fetchQuestionsWithFallback("general", difficulty, amount);
+                        if (response.getResponseCode() != null && response.getResponseCode() == 1
+                                && !isGeneralCategory(category)) {
+                            return fetchQuestionsAsync("general", difficulty, amount);
                         }
                     }
+                    return CompletableFuture.completedFuture(getFallbackQuestions(category, difficulty, amount));
+                })
+                .exceptionally(e -> {
+                    System.err.println("Error fetching questions: " + e.getMessage());
+                    return getFallbackQuestions(category, difficulty, amount);
+                });
+    }
 
-                } catch (HttpClientErrorException | HttpServerErrorException e) {
-                    System.err.println("HTTP error on attempt " + attempt + ": " + e.getMessage());
-                    if (attempt == MAX_RETRIES) {
-                        return getFallbackQuestions(category, difficulty, amount);
-                    }
-                    Thread.sleep(1000 * attempt); // Exponential backoff
+    /**
+     * Send a request through the circuit breaker, retrying failures after a jittered exponential delay
+     * Retries are scheduled rather than slept, so no thread waits between attempts
+     */
+    private CompletableFuture<OpenTDBResponse> sendWithRetry(String url, int attempt) {
+        if (!circuitBreaker.tryAcquire()) {
+            return CompletableFuture.failedFuture(new IllegalStateException("OpenTDB circuit is open"));
+        }
 
-                } catch (ResourceAccessException e) {
-                    System.err.println("Network error on attempt " + attempt + ": " + e.getMessage());
-                    if (attempt == MAX_RETRIES) {
-                        return getFallbackQuestions(category, difficulty, amount);
-                    }
-                    Thread.sleep(1000 * attempt);
-                }
+        return sendAsync(url).handle((response, error) -> {
+            if (error == null) {
+                circuitBreaker.recordSuccess();
+                return CompletableFuture.completedFuture(response);
+            }
+            if (error instanceof RejectedExecutionException) {
+                // Never sent: OpenTDB is not at fault and retrying would only add to the backlog
+                circuitBreaker.release();
+                return CompletableFuture.<OpenTDBResponse>failedFuture(error);
             }
 
-            // If all attempts failed, return fallback questions
-            return getFallbackQuestions(category, difficulty, amount);
+            circuitBreaker.recordFailure();
+            System.err.println("OpenTDB request failed on attempt " + attempt + ": " + error.getMessage());
+            if (attempt >= MAX_RETRIES || !circuitBreaker.isClosed()) {
+                return CompletableFuture.<OpenTDBResponse>failedFuture(error);
+            }
 
-        } catch (Exception e) {
-            System.err.println("Unexpected error fetching questions: " + e.getMessage());
-            return getFallbackQuestions(category, difficulty, amount);
-        }
+            Executor delayed = CompletableFuture.delayedExecutor(retryDelayMs(attempt), TimeUnit.MILLISECONDS);
+            return CompletableFuture.supplyAsync(() -> sendWithRetry(url, attempt + 1), delayed)
+                    .thenCompose(retry -> retry);
+        }).thenCompose(result -> result);
+    }
+
+    /**
+     * Exponential backoff with jitter: half the delay is fixed, the other half random
+     * so that callers failing together do not retry together
+     */
+    private long retryDelayMs(int attempt) {
+        long backoff = retryBaseDelayMs << (attempt - 1);
+        return backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
     }
 
     /**
-     * Fetch questions with fallback to general knowledge
+     * Send a request through the pooled RestTemplate on the OpenTDB executor, never on the calling thread
+     * If the executor queue is full the returned future fails with RejectedExecutionException
      */
-    private List<OpenTDBQuestion> fetchQuestionsWithFallback(String category, String difficulty, int amount) {
+    private CompletableFuture<OpenTDBResponse> sendAsync(String url) {
         try {
-            return fetchQuestions(category, difficulty, amount);
-        } catch (Exception e) {
-            return getFallbackQuestions(category, difficulty, amount);
+            return CompletableFuture.supplyAsync(() -> {
+                OpenTDBResponse response = restTemplate.getForObject(url, OpenTDBResponse.class);
+                if (response == null) {
+                    throw new RuntimeException("Empty response from OpenTDB");
+                }
+                return response;
+            }, openTdbExecutor);
+        } catch (RejectedExecutionException e) {
+            rejectedRequests.incrementAndGet();
+            System.err.println("OpenTDB request rejected: " + openTdbExecutor.getQueueCapacity() + " requests already queued");
+            return CompletableFuture.failedFuture(e);
         }
     }
 
     /**
-     * Fill remaining questions with general knowledge questions
+     * Fetch questions from OpenTDB once, without retries or fallback questions
+     * Used by the question bank harvester, which must only store real API questions
+     * @param category Our category key
+     * @param difficulty Difficulty
+     * @param amount Number of questions (at most MAX_QUESTIONS_PER_REQUEST)
+     * @return Questions returned by the API, or an empty list on any error
      */
-    private List<OpenTDBQuestion> fillWithGeneralQuestions(List<OpenTDBQuestion> existingQuestions,
-                                                           int targetAmount, String difficulty) {
-        if (existingQuestions.size() >= targetAmount) {
-            return existingQuestions;
+    public List<OpenTDBQuestion> fetchQuestionsFromApi(String category, String difficulty, int amount) {
+        if (!circuitBreaker.tryAcquire()) {
+            return new ArrayList<>();
         }
 
-        int needed = targetAmount - existingQuestions.size();
-        List<OpenTDBQuestion> generalQuestions = fetchQuestions("general", difficulty, needed);
-
-        List<OpenTDBQuestion> combined = new ArrayList<>(existingQuestions);
-        combined.addAll(generalQuestions);
+        try {
+            String url = buildApiUrl(category, difficulty, Math.min(amount, MAX_QUESTIONS_PER_REQUEST));
+            OpenTDBResponse response;
+            try {
+                response = restTemplate.getForObject(url, OpenTDBResponse.class);
+                circuitBreaker.recordSuccess();
+            } catch (RuntimeException e) {
+                circuitBreaker.recordFailure();
+                throw e;
+            }
 
-        return combined.subList(0, Math.min(combined.size(), targetAmount));
+            if (response != null && response.isSuccessful() && response.getResults() != null) {
+                return response.getResults();
+            }
+            if (response != null) {
+                System.err.println("OpenTDB API Error: " + response.getResponseMessage());
+            }
+        } catch (Exception e) {
+            System.err.println("Error fetching questions from OpenTDB: " + e.getMessage());
+        }
+        return new ArrayList<>();
     }
 
     /**
      * Build the API URL with parameters
      */
     private String buildApiUrl(String category, String difficulty, int amount) {
-        StringBuilder url = new StringBuilder(OPENTDB_BASE_URL);
+        StringBuilder url = new StringBuilder(openTdbBaseUrl);
         url.append("?amount=").append(amount);
 
         // Add category if mapped
@@ -278,6 +367,30 @@ public class OpenTDBService {
         }
     }
 
+    /**
+     * Circuit breaker state and call counters
+     */
+    public Map<String, Object> getCircuitStatistics() {
+        return circuitBreaker.getStatistics();
+    }
+
+    /**
+     * Connection pool usage of the RestTemplate client, which carries all OpenTDB requests
+     */
+    public Map<String, Object> getConnectionPoolStatistics() {
+        PoolStats poolStats = openTdbConnectionManager.getTotalStats();
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("leased", poolStats.getLeased());
+        stats.put("pending", poolStats.getPending());
+        stats.put("available", poolStats.getAvailable());
+        stats.put("max", poolStats.getMax());
+        stats.put("activeRequests", openTdbExecutor.getActiveCount());
+        stats.put("queuedRequests", openTdbExecutor.getThreadPoolExecutor().getQueue().size());
+        stats.put("maxQueuedRequests", openTdbExecutor.getQueueCapacity());
+        stats.put("rejectedRequests", rejectedRequests.get());
+        return stats;
+    }
+
     /**
      * Get available categories for frontend
      */
@@ -297,11 +410,12 @@ public class OpenTDBService {
     }
 
     /**
-     * Test OpenTDB API connectivity
+     * Test OpenTDB API connectivity with a live request
+     * Called by OpenTDBHealthMonitor on its refresh interval; endpoints read the monitor's cached result
      */
     public boolean testApiConnectivity() {
         try {
-            String url = OPENTDB_BASE_URL + "?amount=1";
+            String url = openTdbBaseUrl + "?amount=1";
             OpenTDBResponse response = restTemplate.getForObject(url, OpenTDBResponse.class);
             return response != null && response.isSuccessful();
         } catch (Exception e) {
@@ -31,6 +31,9 @@ public class PasswordResetService {
     @Autowired
     private EmailService emailService;
 
+    @Autowired
+    private UserPrincipalCache userPrincipalCache;
+
     // In-memory storage for password reset tokens
     // In production, this should be stored in Redis or database
     private final Map<String, PasswordResetToken> resetTokens = new ConcurrentHashMap<>();
@@ -167,6 +170,7 @@ public class PasswordResetService {
         // Update password
         user.setPassword(passwordEncoder.encode(newPassword));
         userRepository.save(user);
+        userPrincipalCache.invalidate(user.getId());
 
         // Remove used token
         resetTokens.remove(token);
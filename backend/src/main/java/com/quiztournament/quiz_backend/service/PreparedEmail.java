@@ -0,0 +1,61 @@
+package com.quiztournament.quiz_backend.service;
+
+import jakarta.activation.DataHandler;
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import jakarta.mail.internet.MimeUtility;
+import org.springframework.mail.MailPreparationException;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import java.io.UnsupportedEncodingException;
+
+/**
+ * One outbox message prepared for sending to many recipients
+ * The sender address, encoded subject, body content and its transfer encoding are worked out once;
+ * each recipient's MimeMessage only sets its own To header and shares the rest, so a batch does not
+ * re-encode the subject or rescan the body for every recipient.
+ * The shared content is not meant for concurrent use; prepare one instance per batch.
+ */
+public class PreparedEmail {
+
+    private static final String CHARSET = "UTF-8";
+
+    private final JavaMailSender mailSender;
+    private final InternetAddress from;
+    private final String encodedSubject;
+    private final DataHandler content;
+    private final String transferEncoding;
+
+    public PreparedEmail(JavaMailSender mailSender, String from, String subject, String body) {
+        this.mailSender = mailSender;
+        try {
+            this.from = new InternetAddress(from);
+            // As MimeMessage.setSubject(subject, charset) would encode it
+            this.encodedSubject = MimeUtility.fold(9, MimeUtility.encodeText(subject, CHARSET, null));
+        } catch (MessagingException | UnsupportedEncodingException e) {
+            throw new MailPreparationException("Could not prepare email: " + e.getMessage(), e);
+        }
+        this.content = new DataHandler(body, "text/plain; charset=" + CHARSET);
+        this.transferEncoding = MimeUtility.getEncoding(content);
+    }
+
+    /**
+     * Message for one recipient, sharing this message's headers and content
+     */
+    public MimeMessage forRecipient(String recipient) {
+        try {
+            MimeMessage message = mailSender.createMimeMessage();
+            message.setFrom(from);
+            message.setRecipient(Message.RecipientType.TO, new InternetAddress(recipient));
+            message.setHeader("Subject", encodedSubject);
+            message.setDataHandler(content);
+            // Set after the content, which clears it; saveChanges then keeps it instead of scanning the body again
+            message.setHeader("Content-Transfer-Encoding", transferEncoding);
+            return message;
+        } catch (MessagingException e) {
+            throw new MailPreparationException("Could not prepare email to " + recipient + ": " + e.getMessage(), e);
+        }
+    }
+}
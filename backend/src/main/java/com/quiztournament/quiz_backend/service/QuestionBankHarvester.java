@@ -0,0 +1,86 @@
+package com.quiztournament.quiz_backend.service;
+
+import com.quiztournament.quiz_backend.dto.OpenTDBQuestion;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Background job that fills the local question bank from OpenTDB
+ * Each run tops up one under-filled category/difficulty bucket with a single bulk request,
+ * which keeps us inside OpenTDB's one-request-per-five-seconds rate limit.
+ */
+@Component
+public class QuestionBankHarvester {
+
+    private static final List<String> DIFFICULTIES = List.of("easy", "medium", "hard");
+
+    @Autowired
+    private OpenTDBService openTDBService;
+
+    @Autowired
+    private QuestionBankService questionBankService;
+
+    @Value("${app.question-bank.harvest-enabled:true}")
+    private boolean harvestEnabled;
+
+    @Value("${app.question-bank.target-per-bucket:100}")
+    private long targetPerBucket;
+
+    // Buckets where the last request added nothing (API error or OpenTDB has no more questions);
+    // skipped until every other bucket has had a turn
+    private final Set<String> exhaustedBuckets = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Top up the next bucket that is below its target
+     */
+    @Scheduled(initialDelayString = "${app.question-bank.harvest-initial-delay-ms:10000}",
+               fixedDelayString = "${app.question-bank.harvest-interval-ms:6000}")
+    public void harvestNext() {
+        if (!harvestEnabled) {
+            return;
+        }
+
+        try {
+            Map<String, Long> counts = questionBankService.getQuestionCounts();
+            for (String category : new TreeSet<>(openTDBService.getAvailableCategories().keySet())) {
+                for (String difficulty : DIFFICULTIES) {
+                    String bucket = category + "/" + difficulty;
+                    if (!exhaustedBuckets.contains(bucket) && counts.getOrDefault(bucket, 0L) < targetPerBucket) {
+                        harvest(category, difficulty);
+                        return;
+                    }
+                }
+            }
+
+            // Nothing left to top up this pass; give exhausted buckets another chance next time
+            exhaustedBuckets.clear();
+        } catch (Exception e) {
+            System.err.println("Question bank harvest failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Fetch one batch of questions for a bucket and store the new ones
+     * @param category Our category key
+     * @param difficulty Difficulty
+     * @return Number of questions added
+     */
+    public int harvest(String category, String difficulty) {
+        long missing = targetPerBucket - questionBankService.countQuestions(category, difficulty);
+        int amount = (int) Math.max(1, Math.min(missing, OpenTDBService.MAX_QUESTIONS_PER_REQUEST));
+
+        List<OpenTDBQuestion> questions = openTDBService.fetchQuestionsFromApi(category, difficulty, amount);
+        int added = questionBankService.addQuestions(category, difficulty, questions);
+
+        if (added == 0) {
+            exhaustedBuckets.add(category + "/" + difficulty);
+        }
+        System.out.println("Question bank harvest " + category + "/" + difficulty + ": added " + added);
+        return added;
+    }
+}
@@ -0,0 +1,98 @@
+package com.quiztournament.quiz_backend.service;
+
+import com.quiztournament.quiz_backend.dto.OpenTDBQuestion;
+import com.quiztournament.quiz_backend.entity.Question;
+import com.quiztournament.quiz_backend.repository.QuestionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * Service for the local question bank
+ * Tournaments draw their questions from here instead of calling OpenTDB on the request thread
+ */
+@Service
+@Transactional
+public class QuestionBankService {
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    /**
+     * Draw random questions for a category and difficulty with a single indexed query
+     * @param category Tournament category
+     * @param difficulty Tournament difficulty
+     * @param amount Number of questions wanted
+     * @return Up to amount questions (fewer if the bank is not filled yet)
+     */
+    @Transactional(readOnly = true)
+    public List<OpenTDBQuestion> drawQuestions(String category, String difficulty, int amount) {
+        List<OpenTDBQuestion> questions = new ArrayList<>();
+        for (Question question : questionRepository.findRandomQuestions(normalize(category), normalize(difficulty), amount)) {
+            questions.add(question.toOpenTDBQuestion());
+        }
+        return questions;
+    }
+
+    /**
+     * Add harvested questions to the bank, skipping ones already stored
+     * Questions are matched by the digest of their text and then by the text itself.
+     * @param category Our category key
+     * @param difficulty Difficulty
+     * @param questions Questions from OpenTDB
+     * @return Number of questions added
+     */
+    public int addQuestions(String category, String difficulty, List<OpenTDBQuestion> questions) {
+        String normalizedCategory = normalize(category);
+        String normalizedDifficulty = normalize(difficulty);
+        Map<String, String> textsByDigest = new HashMap<>();
+        for (Object[] row : questionRepository.findQuestionDigests(normalizedCategory, normalizedDifficulty)) {
+            textsByDigest.put((String) row[0], (String) row[1]);
+        }
+
+        List<Question> newQuestions = new ArrayList<>();
+        for (OpenTDBQuestion question : questions) {
+            if (question.getQuestion() == null || question.getCorrectAnswer() == null) {
+                continue;
+            }
+            String digest = Question.digest(question.getQuestion());
+            String storedText = textsByDigest.putIfAbsent(digest, question.getQuestion());
+            if (storedText == null) {
+                newQuestions.add(new Question(normalizedCategory, normalizedDifficulty, question));
+            } else if (!storedText.equals(question.getQuestion())) {
+                // Two texts with one SHA-256 digest; the unique key cannot hold both
+                System.err.println("Skipping question whose digest matches a different stored question: "
+                        + question.getQuestion());
+            }
+        }
+
+        questionRepository.saveAll(newQuestions);
+        return newQuestions.size();
+    }
+
+    /**
+     * Count questions stored for a category and difficulty
+     */
+    @Transactional(readOnly = true)
+    public long countQuestions(String category, String difficulty) {
+        return questionRepository.countByCategoryAndDifficulty(normalize(category), normalize(difficulty));
+    }
+
+    /**
+     * Question counts keyed by "category/difficulty"
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Long> getQuestionCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        for (Object[] row : questionRepository.countByCategoryAndDifficultyGrouped()) {
+            counts.put(row[0] + "/" + row[1], (Long) row[2]);
+        }
+        return counts;
+    }
+
+    private String normalize(String value) {
+        return value != null ? value.toLowerCase() : "";
+    }
+}
@@ -3,24 +3,16 @@ package com.quiztournament.quiz_backend.service;
 import com.quiztournament.quiz_backend.dto.AdminQuestionResponse;
 import com.quiztournament.quiz_backend.dto.OpenTDBQuestion;
 import com.quiztournament.quiz_backend.dto.QuestionResponse;
-import com.quiztournament.quiz_backend.entity.QuizAnswer;
-import com.quiztournament.quiz_backend.entity.QuizResult;
+import com.quiztournament.quiz_backend.dto.QuizAnswerRequest;
 import com.quiztournament.quiz_backend.entity.Tournament;
 import com.quiztournament.quiz_backend.entity.User;
-import com.quiztournament.quiz_backend.entity.UserTournamentScore;
-import com.quiztournament.quiz_backend.repository.QuizAnswerRepository;
-import com.quiztournament.quiz_backend.repository.QuizResultRepository;
 import com.quiztournament.quiz_backend.repository.TournamentRepository;
-import com.quiztournament.quiz_backend.repository.UserRepository;
-import com.quiztournament.quiz_backend.repository.UserTournamentScoreRepository;
-import com.quiztournament.quiz_backend.service.CustomUserDetailsService.CustomUserPrincipal;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Service for managing quiz questions for tournaments
@@ -30,30 +22,28 @@ import java.util.concurrent.ConcurrentHashMap;
 public class QuestionService {
 
     @Autowired
-    private OpenTDBService openTDBService;
+    private TournamentRepository tournamentRepository;
 
     @Autowired
-    private TournamentRepository tournamentRepository;
+    private CurrentUserResolver currentUserResolver;
 
     @Autowired
-    private UserRepository userRepository;
+    private QuizSessionStore quizSessionStore;
 
     @Autowired
-    private UserTournamentScoreRepository userTournamentScoreRepository;
+    private QuizCompletionJournal completionJournal;
 
     @Autowired
-    private QuizResultRepository quizResultRepository;
+    private QuizCompletionWriter completionWriter;
 
     @Autowired
-    private QuizAnswerRepository quizAnswerRepository;
+    private QuizSessionSweeper quizSessionSweeper;
 
-    // In-memory cache for tournament questions
-    // Key: tournamentId, Value: List of questions
-    private final Map<Long, List<OpenTDBQuestion>> tournamentQuestionsCache = new ConcurrentHashMap<>();
+    @Autowired
+    private QuestionBankService questionBankService;
 
-    // User quiz sessions - tracks user progress through questions
-    // Key: userId-tournamentId, Value: UserQuizSession
-    private final Map<String, UserQuizSession> userQuizSessions = new ConcurrentHashMap<>();
+    @Autowired
+    private TournamentQuestionService tournamentQuestionService;
 
     /**
      * Get questions for a tournament
@@ -65,7 +55,7 @@ public class QuestionService {
         Tournament tournament = tournamentRepository.findById(tournamentId)
                 .orElseThrow(() -> new RuntimeException("Tournament not found with id: " + tournamentId));
 
-        User currentUser = getCurrentUser();
+        User currentUser = currentUserResolver.getCurrentUser();
 
         // Allow retaking tournaments - previous participation check removed
         // Users can now retake tournaments and their best/latest score will be recorded
@@ -130,13 +120,10 @@ public class QuestionService {
      * @return Question response
      */
     public QuestionResponse getQuestionByNumber(Long tournamentId, Integer questionNumber) {
-        User currentUser = getCurrentUser();
-        String sessionKey = getSessionKey(currentUser.getId(), tournamentId);
+        User currentUser = currentUserResolver.getCurrentUser();
 
-        UserQuizSession session = userQuizSessions.get(sessionKey);
-        if (session == null) {
-            throw new RuntimeException("No active quiz session found. Please start the quiz first.");
-        }
+        QuizSession session = quizSessionStore.find(currentUser.getId(), tournamentId)
+                .orElseThrow(() -> new RuntimeException("No active quiz session found. Please start the quiz first."));
 
         if (questionNumber < 1 || questionNumber > session.getQuestions().size()) {
             throw new RuntimeException("Invalid question number: " + questionNumber);
@@ -154,13 +141,10 @@ public class QuestionService {
      * @return Answer validation result
      */
     public AnswerValidationResult validateAnswer(Long tournamentId, Integer questionNumber, String userAnswer) {
-        User currentUser = getCurrentUser();
-        String sessionKey = getSessionKey(currentUser.getId(), tournamentId);
+        User currentUser = currentUserResolver.getCurrentUser();
 
-        UserQuizSession session = userQuizSessions.get(sessionKey);
-        if (session == null) {
-            throw new RuntimeException("No active quiz session found");
-        }
+        QuizSession session = quizSessionStore.find(currentUser.getId(), tournamentId)
+                .orElseThrow(() -> new RuntimeException("No active quiz session found"));
 
         if (questionNumber < 1 || questionNumber > session.getQuestions().size()) {
             throw new RuntimeException("Invalid question number: " + questionNumber);
@@ -170,7 +154,10 @@ public class QuestionService {
         boolean isCorrect = question.isCorrectAnswer(userAnswer);
 
         // Store answer in session
-        session.recordAnswer(questionNumber, userAnswer, isCorrect, question.getCorrectAnswer(), question.getQuestion());
+        UserAnswer answer = new UserAnswer(userAnswer, isCorrect, System.currentTimeMillis(),
+                question.getCorrectAnswer(), question.getQuestion());
+        quizSessionStore.recordAnswer(currentUser.getId(), tournamentId, questionNumber, answer);
+        session.recordAnswer(questionNumber, answer);
 
         return new AnswerValidationResult(
                 isCorrect,
@@ -182,16 +169,82 @@ public class QuestionService {
         );
     }
 
+    /**
+     * Validate several answers in one pass
+     * The session is read once and all answers are recorded in a single store operation.
+     * A later answer to the same question replaces an earlier one.
+     * @param tournamentId Tournament ID
+     * @param answers Answers with their question numbers (1-based)
+     * @return Per-question grading plus batch and running session scores
+     */
+    public BatchValidationResult validateAnswers(Long tournamentId, List<QuizAnswerRequest> answers) {
+        User currentUser = currentUserResolver.getCurrentUser();
+
+        QuizSession session = quizSessionStore.find(currentUser.getId(), tournamentId)
+                .orElseThrow(() -> new RuntimeException("No active quiz session found"));
+
+        List<OpenTDBQuestion> questions = session.getQuestions();
+        int totalQuestions = questions.size();
+        String[] questionTexts = new String[totalQuestions];
+        String[] userAnswers = new String[totalQuestions];
+        String[] correctAnswers = new String[totalQuestions];
+        boolean[] answered = new boolean[totalQuestions];
+        boolean[] correct = new boolean[totalQuestions];
+        Map<Integer, UserAnswer> recorded = new HashMap<>();
+        long now = System.currentTimeMillis();
+
+        for (QuizAnswerRequest request : answers) {
+            Integer questionNumber = request.getQuestionNumber();
+            if (questionNumber == null || questionNumber < 1 || questionNumber > totalQuestions) {
+                throw new RuntimeException("Invalid question number: " + questionNumber);
+            }
+
+            int index = questionNumber - 1;
+            OpenTDBQuestion question = questions.get(index);
+            answered[index] = true;
+            questionTexts[index] = question.getQuestion();
+            userAnswers[index] = request.getAnswer();
+            correctAnswers[index] = question.getCorrectAnswer();
+            correct[index] = question.isCorrectAnswer(request.getAnswer());
+            recorded.put(questionNumber, new UserAnswer(request.getAnswer(), correct[index], now,
+                    question.getCorrectAnswer(), question.getQuestion()));
+        }
+
+        quizSessionStore.recordAnswers(currentUser.getId(), tournamentId, recorded);
+
+        // Count once over the graded slots, so a repeated question number is only counted for its last answer
+        int answeredCount = 0;
+        int correctCount = 0;
+        for (int i = 0; i < totalQuestions; i++) {
+            if (answered[i]) {
+                answeredCount++;
+                if (correct[i]) {
+                    correctCount++;
+                }
+            }
+        }
+
+        // Running score also includes answers recorded by earlier requests
+        int sessionCorrectCount = correctCount;
+        for (Map.Entry<Integer, UserAnswer> entry : session.getAnswerHistory().entrySet()) {
+            if (!recorded.containsKey(entry.getKey()) && entry.getValue().isCorrect()) {
+                sessionCorrectCount++;
+            }
+        }
+
+        return new BatchValidationResult(questionTexts, userAnswers, correctAnswers, answered, correct,
+                answeredCount, correctCount, sessionCorrectCount);
+    }
+
     /**
      * Get quiz session status for a user
      * @param tournamentId Tournament ID
      * @return Quiz session status
      */
     public QuizSessionStatus getQuizSessionStatus(Long tournamentId) {
-        User currentUser = getCurrentUser();
-        String sessionKey = getSessionKey(currentUser.getId(), tournamentId);
+        User currentUser = currentUserResolver.getCurrentUser();
 
-        UserQuizSession session = userQuizSessions.get(sessionKey);
+        QuizSession session = quizSessionStore.find(currentUser.getId(), tournamentId).orElse(null);
         if (session == null) {
             return new QuizSessionStatus(false, 0, 0, 0, false);
         }
@@ -211,13 +264,10 @@ public class QuestionService {
      * @return Final quiz result
      */
     public QuizCompletionResult completeQuiz(Long tournamentId) {
-        User currentUser = getCurrentUser();
-        String sessionKey = getSessionKey(currentUser.getId(), tournamentId);
+        User currentUser = currentUserResolver.getCurrentUser();
 
-        UserQuizSession session = userQuizSessions.get(sessionKey);
-        if (session == null) {
-            throw new RuntimeException("No active quiz session found");
-        }
+        QuizSession session = quizSessionStore.find(currentUser.getId(), tournamentId)
+                .orElseThrow(() -> new RuntimeException("No active quiz session found"));
 
         if (!session.isCompleted()) {
             throw new RuntimeException("Quiz is not yet completed. Answer all questions first.");
@@ -236,90 +286,13 @@ public class QuestionService {
         long sessionStartTime = session.getStartTime();
         int timeTakenSeconds = (int) ((System.currentTimeMillis() - sessionStartTime) / 1000);
 
-        // Save quiz result to database (both new and legacy tables)
-        try {
-            // Save to new QuizResult table
-            Optional<QuizResult> existingResult = quizResultRepository
-                .findByUserAndTournament(currentUser, tournament);
-            
-            QuizResult quizResult;
-            if (existingResult.isPresent()) {
-                // Update existing result
-                quizResult = existingResult.get();
-                quizResult.setScore(correctAnswers);
-                quizResult.setTotalQuestions(totalQuestions);
-                quizResult.setPercentage(percentage);
-                quizResult.setPassed(passed);
-                quizResult.setTimeTakenSeconds(timeTakenSeconds);
-                quizResult.setCompletedAt(java.time.LocalDateTime.now());
-                quizResultRepository.save(quizResult);
-                
-                // Delete existing detailed answers for this result
-                List<QuizAnswer> existingAnswers = quizAnswerRepository.findByQuizResultOrderByQuestionNumber(quizResult);
-                quizAnswerRepository.deleteAll(existingAnswers);
-            } else {
-                // Create new result
-                quizResult = new QuizResult(
-                    currentUser, 
-                    tournament, 
-                    correctAnswers, 
-                    totalQuestions, 
-                    percentage, 
-                    passed, 
-                    timeTakenSeconds
-                );
-                quizResult = quizResultRepository.save(quizResult);
-            }
-
-            // Save detailed answers for admin review
-            Map<Integer, UserAnswer> answerHistory = session.getAnswerHistory();
-            for (Map.Entry<Integer, UserAnswer> entry : answerHistory.entrySet()) {
-                Integer questionNumber = entry.getKey();
-                UserAnswer userAnswer = entry.getValue();
-                
-                QuizAnswer quizAnswer = new QuizAnswer(
-                    quizResult,
-                    questionNumber,
-                    userAnswer.getQuestion(),
-                    userAnswer.getAnswer(),
-                    userAnswer.getCorrectAnswer(),
-                    userAnswer.isCorrect()
-                );
-                quizAnswerRepository.save(quizAnswer);
-            }
-
-            // Also save to legacy UserTournamentScore table for leaderboard compatibility
-            // Convert score to out of 10 format expected by legacy system
-            int scoreOutOf10 = (int) Math.round((correctAnswers * 10.0) / totalQuestions);
-            
-            // Check if user already has a score for this tournament
-            Optional<UserTournamentScore> existingScore = userTournamentScoreRepository
-                .findByUserAndTournament(currentUser, tournament);
-            
-            if (existingScore.isPresent()) {
-                // Update existing score
-                UserTournamentScore legacyScore = existingScore.get();
-                legacyScore.setScore(scoreOutOf10);
-                legacyScore.setCompletedAt(java.time.LocalDateTime.now());
-                userTournamentScoreRepository.save(legacyScore);
-            } else {
-                // Create new score
-                UserTournamentScore legacyScore = new UserTournamentScore(
-                    currentUser,
-                    tournament,
-                    scoreOutOf10
-                );
-                userTournamentScoreRepository.save(legacyScore);
-            }
-            
-        } catch (Exception e) {
-            // Log error but don't fail the quiz completion
-            System.err.println("Failed to save quiz result: " + e.getMessage());
-            e.printStackTrace(); // Add stack trace for debugging
-        }
+        // Journal the completion; QuizCompletionWriter writes it to the result, answer and legacy score tables
+        completionJournal.append(new QuizCompletionRecord(currentUser.getId(), tournamentId, correctAnswers,
+                totalQuestions, percentage, passed, timeTakenSeconds, System.currentTimeMillis(),
+                session.getAnswerHistory()));
 
         // Clean up session
-        userQuizSessions.remove(sessionKey);
+        quizSessionStore.remove(currentUser.getId(), tournamentId);
 
         return new QuizCompletionResult(
                 correctAnswers,
@@ -332,68 +305,51 @@ public class QuestionService {
     }
 
     /**
-     * Get or fetch questions for tournament (with caching)
+     * Drop a quiz session once the surrounding transaction commits (its answers have been recorded)
+     * On rollback the session is kept, so the same answers can be submitted again
+     * @param userId User ID
+     * @param tournamentId Tournament ID
      */
-    private List<OpenTDBQuestion> getOrFetchQuestionsForTournament(Tournament tournament) {
-        Long tournamentId = tournament.getId();
-
-        // Check cache first
-        if (tournamentQuestionsCache.containsKey(tournamentId)) {
-            return tournamentQuestionsCache.get(tournamentId);
+    public void removeQuizSessionAfterCommit(Long userId, Long tournamentId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    quizSessionStore.remove(userId, tournamentId);
+                }
+            });
+        } else {
+            quizSessionStore.remove(userId, tournamentId);
         }
-
-        // Fetch from OpenTDB API
-        List<OpenTDBQuestion> questions = openTDBService.fetchQuestions(
-                tournament.getCategory(),
-                tournament.getDifficulty(),
-                10 // Always fetch 10 questions per tournament
-        );
-
-        // Cache the questions
-        tournamentQuestionsCache.put(tournamentId, questions);
-
-        return questions;
     }
 
     /**
-     * Initialize user quiz session
+     * Get the tournament's frozen question set (read-through cached)
      */
-    private void initializeUserQuizSession(Long userId, Long tournamentId, List<OpenTDBQuestion> questions) {
-        String sessionKey = getSessionKey(userId, tournamentId);
-        UserQuizSession session = new UserQuizSession(userId, tournamentId, questions);
-        userQuizSessions.put(sessionKey, session);
-    }
-
-    /**
-     * Generate session key for user-tournament combination
-     */
-    private String getSessionKey(Long userId, Long tournamentId) {
-        return userId + "-" + tournamentId;
+    private List<OpenTDBQuestion> getOrFetchQuestionsForTournament(Tournament tournament) {
+        return tournamentQuestionService.getQuestionSet(tournament);
     }
 
     /**
-     * Get current authenticated user
+     * Initialize user quiz session
      */
-    private User getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        CustomUserPrincipal userPrincipal = (CustomUserPrincipal) authentication.getPrincipal();
-
-        return userRepository.findById(userPrincipal.getId())
-                .orElseThrow(() -> new RuntimeException("Current user not found"));
+    private void initializeUserQuizSession(Long userId, Long tournamentId, List<OpenTDBQuestion> questions) {
+        quizSessionStore.save(new QuizSession(userId, tournamentId, questions));
+        quizSessionSweeper.enforceCapacity();
     }
 
     /**
      * Clear cache for a specific tournament (useful when tournament is updated)
      */
     public void clearTournamentCache(Long tournamentId) {
-        tournamentQuestionsCache.remove(tournamentId);
+        tournamentQuestionService.evictFromCache(tournamentId);
     }
 
     /**
      * Clear all cached questions (useful for testing or memory management)
      */
     public void clearAllCache() {
-        tournamentQuestionsCache.clear();
+        tournamentQuestionService.clearCache();
     }
 
     /**
@@ -401,62 +357,21 @@ public class QuestionService {
      */
     public Map<String, Object> getCacheStatistics() {
         Map<String, Object> stats = new HashMap<>();
-        stats.put("cachedTournaments", tournamentQuestionsCache.size());
-        stats.put("activeQuizSessions", userQuizSessions.size());
+        stats.put("cachedTournaments", tournamentQuestionService.getCachedCount());
+        Map<String, Object> sessionStats = quizSessionSweeper.getStatistics();
+        stats.put("activeQuizSessions", sessionStats.get("activeSessions"));
+        stats.put("expiredQuizSessions", sessionStats.get("expiredSessions"));
+        stats.put("evictedQuizSessions", sessionStats.get("evictedSessions"));
+        stats.put("quizSessionRetainedBytes", sessionStats.get("approxRetainedBytes"));
+        stats.put("quizSessionIdleTtlMinutes", sessionStats.get("sessionIdleTtlMinutes"));
+        stats.put("maxQuizSessions", sessionStats.get("maxSessions"));
+        stats.put("questionBank", questionBankService.getQuestionCounts());
+        stats.put("completionJournal", completionWriter.getStatistics());
         return stats;
     }
 
     // Inner classes for session management
 
-    /**
-     * Represents a user's quiz session
-     */
-    private static class UserQuizSession {
-        private final Long userId;
-        private final Long tournamentId;
-        private final List<OpenTDBQuestion> questions;
-        private final Map<Integer, UserAnswer> answers;
-        private final long startTime;
-
-        public UserQuizSession(Long userId, Long tournamentId, List<OpenTDBQuestion> questions) {
-            this.userId = userId;
-            this.tournamentId = tournamentId;
-            this.questions = questions;
-            this.answers = new HashMap<>();
-            this.startTime = System.currentTimeMillis();
-        }
-
-        public void recordAnswer(int questionNumber, String answer, boolean isCorrect, String correctAnswer, String question) {
-            answers.put(questionNumber, new UserAnswer(answer, isCorrect, System.currentTimeMillis(), correctAnswer, question));
-        }
-
-        public int getCurrentQuestionNumber() {
-            return answers.size() + 1;
-        }
-
-        public int getCorrectAnswerCount() {
-            return (int) answers.values().stream()
-                    .filter(UserAnswer::isCorrect)
-                    .count();
-        }
-
-        public boolean isCompleted() {
-            return answers.size() >= questions.size();
-        }
-
-        public List<OpenTDBQuestion> getQuestions() {
-            return questions;
-        }
-
-        public Map<Integer, UserAnswer> getAnswerHistory() {
-            return new HashMap<>(answers);
-        }
-
-        public long getStartTime() {
-            return startTime;
-        }
-    }
-
     /**
      * Represents a user's answer to a question
      */
@@ -512,6 +427,46 @@ public class QuestionService {
         public int getTotalQuestions() { return totalQuestions; }
     }
 
+    /**
+     * Result of validating several answers at once
+     * Grading is held in arrays indexed by question number - 1; unanswered slots are null or false.
+     */
+    public static class BatchValidationResult {
+        private final String[] questionTexts;
+        private final String[] userAnswers;
+        private final String[] correctAnswers;
+        private final boolean[] answered;
+        private final boolean[] correct;
+        private final int answeredCount;
+        private final int correctCount;
+        private final int sessionCorrectCount;
+
+        public BatchValidationResult(String[] questionTexts, String[] userAnswers, String[] correctAnswers,
+                                     boolean[] answered, boolean[] correct, int answeredCount, int correctCount,
+                                     int sessionCorrectCount) {
+            this.questionTexts = questionTexts;
+            this.userAnswers = userAnswers;
+            this.correctAnswers = correctAnswers;
+            this.answered = answered;
+            this.correct = correct;
+            this.answeredCount = answeredCount;
+            this.correctCount = correctCount;
+            this.sessionCorrectCount = sessionCorrectCount;
+        }
+
+        public boolean isAnswered(int questionNumber) { return answered[questionNumber - 1]; }
+        public boolean isCorrect(int questionNumber) { return correct[questionNumber - 1]; }
+        public String getQuestion(int questionNumber) { return questionTexts[questionNumber - 1]; }
+        public String getUserAnswer(int questionNumber) { return userAnswers[questionNumber - 1]; }
+        public String getCorrectAnswer(int questionNumber) { return correctAnswers[questionNumber - 1]; }
+
+        // Getters
+        public int getAnsweredCount() { return answeredCount; }
+        public int getCorrectCount() { return correctCount; }
+        public int getSessionCorrectCount() { return sessionCorrectCount; }
+        public int getTotalQuestions() { return correct.length; }
+    }
+
     /**
      * Quiz session status
      */
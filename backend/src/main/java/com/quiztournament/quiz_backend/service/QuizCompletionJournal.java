@@ -0,0 +1,286 @@
+package com.quiztournament.quiz_backend.service;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Append-only file journal of completed quizzes that have not reached the database yet
+ * Each completion is one JSON line, forced to disk before the player gets a response.
+ * A checkpoint file holds the sequence of the last completion written to the database;
+ * on startup every journaled completion after it is replayed into the pending queue.
+ * An unreadable last line (a torn append) is dropped; an unreadable line with completions after it
+ * is skipped, and the journal is copied aside for repair rather than cut short.
+ * Once everything is applied and the file has grown past the compaction size it is truncated.
+ */
+@Component
+public class QuizCompletionJournal {
+
+    static final String JOURNAL_FILE = "quiz-completions.journal";
+    static final String CHECKPOINT_FILE = "quiz-completions.checkpoint";
+    static final String FAILED_FILE = "quiz-completions.failed";
+
+    // Only fields, so getters are not needed for (de)serialization
+    private static final ObjectMapper RECORD_MAPPER = new ObjectMapper()
+            .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+            .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+
+    @Value("${app.quiz.completion-journal-dir:./data}")
+    private String journalDir;
+
+    @Value("${app.quiz.completion-journal-compact-bytes:1048576}")
+    private long compactBytes;
+
+    private Path journalPath;
+    private Path checkpointPath;
+    private Path failedPath;
+    private FileChannel channel;
+
+    // Guarded by this
+    private final Deque<QuizCompletionRecord> pending = new ArrayDeque<>();
+    private long nextSequence = 1;
+    private long appliedSequence;
+    private long appendedCount;
+    private long appliedCount;
+    private long failedCount;
+    private long replayedCount;
+    private long lastApplyLagMs;
+
+    /**
+     * Open the journal and replay completions that were not applied before the last shutdown
+     */
+    @PostConstruct
+    public synchronized void open() throws IOException {
+        Path dir = Paths.get(journalDir);
+        Files.createDirectories(dir);
+        journalPath = dir.resolve(JOURNAL_FILE);
+        checkpointPath = dir.resolve(CHECKPOINT_FILE);
+        failedPath = dir.resolve(FAILED_FILE);
+
+        if (Files.exists(checkpointPath)) {
+            appliedSequence = Long.parseLong(Files.readString(checkpointPath, StandardCharsets.UTF_8).trim());
+        }
+        nextSequence = appliedSequence + 1;
+
+        // Bytes kept in the journal: everything except a torn final entry
+        long validBytes = 0;
+        boolean endsWithNewline = true;
+        int unreadable = 0;
+        if (Files.exists(journalPath)) {
+            byte[] data = Files.readAllBytes(journalPath);
+            int start = 0;
+            while (start < data.length) {
+                int end = start;
+                while (end < data.length && data[end] != '\n') {
+                    end++;
+                }
+                int next = Math.min(end + 1, data.length);
+                String line = new String(data, start, end - start, StandardCharsets.UTF_8);
+                if (!line.isBlank()) {
+                    QuizCompletionRecord record = readRecord(line);
+                    if (record == null && isBlank(data, next)) {
+                        // A torn final line from a crash mid-append; that completion was never acknowledged
+                        System.err.println("Ignoring torn quiz completion journal entry at byte " + start);
+                        break;
+                    }
+                    if (record == null) {
+                        // Acknowledged completions follow it, so the journal is kept whole and copied aside
+                        System.err.println("Skipping unreadable quiz completion journal entry at byte " + start);
+                        unreadable++;
+                    } else {
+                        nextSequence = Math.max(nextSequence, record.getSequence() + 1);
+                        if (record.getSequence() > appliedSequence) {
+                            pending.addLast(record);
+                            replayedCount++;
+                        }
+                    }
+                }
+                validBytes = next;
+                endsWithNewline = end < data.length;
+                start = next;
+            }
+        }
+        if (unreadable > 0) {
+            Path copy = journalPath.resolveSibling(JOURNAL_FILE + ".corrupt-" + System.currentTimeMillis());
+            Files.copy(journalPath, copy);
+            System.err.println("Quiz completion journal has " + unreadable
+                    + " unreadable entries before its end; copied it to " + copy + " for repair");
+        }
+
+        channel = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        // Only ever drops a torn final entry
+        channel.truncate(validBytes);
+        channel.position(validBytes);
+        if (!endsWithNewline) {
+            // Last entry is complete but its newline was not written
+            write(channel, "");
+        }
+
+        if (replayedCount > 0) {
+            System.out.println("Replaying " + replayedCount + " journaled quiz completions");
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    /**
+     * Durably append a completion and queue it for the database writer
+     * @return Sequence number assigned to the completion
+     */
+    public synchronized long append(QuizCompletionRecord record) {
+        record.setSequence(nextSequence);
+        record.setAppendedAt(System.currentTimeMillis());
+        try {
+            write(channel, RECORD_MAPPER.writeValueAsString(record));
+            channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to journal quiz completion", e);
+        }
+        nextSequence++;
+        appendedCount++;
+        pending.addLast(record);
+        return record.getSequence();
+    }
+
+    /**
+     * Oldest pending completions, in journal order (not removed)
+     */
+    public synchronized List<QuizCompletionRecord> peek(int max) {
+        List<QuizCompletionRecord> batch = new ArrayList<>(Math.min(max, pending.size()));
+        for (QuizCompletionRecord record : pending) {
+            if (batch.size() >= max) {
+                break;
+            }
+            batch.add(record);
+        }
+        return batch;
+    }
+
+    /**
+     * Mark every pending completion up to and including the sequence as written to the database
+     */
+    public synchronized void markApplied(long sequence) {
+        long now = System.currentTimeMillis();
+        while (!pending.isEmpty() && pending.peekFirst().getSequence() <= sequence) {
+            lastApplyLagMs = now - pending.pollFirst().getAppendedAt();
+            appliedCount++;
+        }
+        checkpoint(sequence);
+    }
+
+    /**
+     * Set aside a completion that cannot be written, so it is kept for manual repair
+     * and no longer blocks the completions after it
+     */
+    public synchronized void markFailed(QuizCompletionRecord record) {
+        try (FileChannel failed = FileChannel.open(failedPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            write(failed, RECORD_MAPPER.writeValueAsString(record));
+            failed.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to set aside quiz completion " + record.getSequence(), e);
+        }
+        pending.removeIf(candidate -> candidate.getSequence() == record.getSequence());
+        failedCount++;
+        checkpoint(record.getSequence());
+    }
+
+    /**
+     * Persist the applied sequence and compact the journal once nothing is pending
+     */
+    private void checkpoint(long sequence) {
+        appliedSequence = Math.max(appliedSequence, sequence);
+        try {
+            Path tmp = checkpointPath.resolveSibling(CHECKPOINT_FILE + ".tmp");
+            Files.writeString(tmp, Long.toString(appliedSequence), StandardCharsets.UTF_8);
+            Files.move(tmp, checkpointPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            if (pending.isEmpty() && channel.size() >= compactBytes) {
+                channel.truncate(0);
+                channel.position(0);
+            }
+        } catch (IOException e) {
+            // Completions after the stale checkpoint are replayed on restart; the writer's upserts tolerate that
+            System.err.println("Failed to checkpoint quiz completion journal: " + e.getMessage());
+        }
+    }
+
+    public synchronized int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Backlog and lag: pending completions, age of the oldest one, and journal size
+     */
+    public synchronized Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("pendingCompletions", pending.size());
+        stats.put("oldestPendingAgeMs", pending.isEmpty() ? 0 : System.currentTimeMillis() - pending.peekFirst().getAppendedAt());
+        stats.put("lastApplyLagMs", lastApplyLagMs);
+        stats.put("appendedCompletions", appendedCount);
+        stats.put("appliedCompletions", appliedCount);
+        stats.put("failedCompletions", failedCount);
+        stats.put("replayedCompletions", replayedCount);
+        stats.put("appliedSequence", appliedSequence);
+        try {
+            stats.put("journalBytes", channel.size());
+        } catch (IOException e) {
+            stats.put("journalBytes", -1);
+        }
+        return stats;
+    }
+
+    /**
+     * @return The journaled completion, or null if the line cannot be read
+     */
+    private static QuizCompletionRecord readRecord(String line) {
+        try {
+            return RECORD_MAPPER.readValue(line, QuizCompletionRecord.class);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private static boolean isBlank(byte[] data, int from) {
+        for (int i = from; i < data.length; i++) {
+            if (!Character.isWhitespace(data[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void write(FileChannel target, String json) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap((json + "\n").getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            target.write(buffer);
+        }
+    }
+}
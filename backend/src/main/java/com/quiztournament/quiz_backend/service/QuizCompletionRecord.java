@@ -0,0 +1,92 @@
+package com.quiztournament.quiz_backend.service;
+
+import com.quiztournament.quiz_backend.service.QuestionService.UserAnswer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A completed quiz waiting to be written to the database
+ * One line of the completion journal; everything needed to write QuizResult, QuizAnswer
+ * and UserTournamentScore rows without the quiz session.
+ */
+public class QuizCompletionRecord {
+
+    private long sequence;
+    private long appendedAt;
+    private Long userId;
+    private Long tournamentId;
+    private int correctAnswers;
+    private int totalQuestions;
+    private double percentage;
+    private boolean passed;
+    private int timeTakenSeconds;
+    private long completedAt;
+    // In question order
+    private List<Answer> answers = new ArrayList<>();
+
+    // For deserialization
+    QuizCompletionRecord() {}
+
+    public QuizCompletionRecord(Long userId, Long tournamentId, int correctAnswers, int totalQuestions,
+                                double percentage, boolean passed, int timeTakenSeconds, long completedAt,
+                                Map<Integer, UserAnswer> answerHistory) {
+        this.userId = userId;
+        this.tournamentId = tournamentId;
+        this.correctAnswers = correctAnswers;
+        this.totalQuestions = totalQuestions;
+        this.percentage = percentage;
+        this.passed = passed;
+        this.timeTakenSeconds = timeTakenSeconds;
+        this.completedAt = completedAt;
+        for (Map.Entry<Integer, UserAnswer> entry : new TreeMap<>(answerHistory).entrySet()) {
+            UserAnswer answer = entry.getValue();
+            answers.add(new Answer(entry.getKey(), answer.getQuestion(), answer.getAnswer(),
+                    answer.getCorrectAnswer(), answer.isCorrect()));
+        }
+    }
+
+    public long getSequence() { return sequence; }
+    void setSequence(long sequence) { this.sequence = sequence; }
+    public long getAppendedAt() { return appendedAt; }
+    void setAppendedAt(long appendedAt) { this.appendedAt = appendedAt; }
+    public Long getUserId() { return userId; }
+    public Long getTournamentId() { return tournamentId; }
+    public int getCorrectAnswers() { return correctAnswers; }
+    public int getTotalQuestions() { return totalQuestions; }
+    public double getPercentage() { return percentage; }
+    public boolean isPassed() { return passed; }
+    public int getTimeTakenSeconds() { return timeTakenSeconds; }
+    public long getCompletedAt() { return completedAt; }
+    public List<Answer> getAnswers() { return answers; }
+
+    /**
+     * Detailed answer to one question
+     */
+    public static class Answer {
+        private int questionNumber;
+        private String question;
+        private String answer;
+        private String correctAnswer;
+        private boolean correct;
+
+        // For deserialization
+        Answer() {}
+
+        public Answer(int questionNumber, String question, String answer, String correctAnswer, boolean correct) {
+            this.questionNumber = questionNumber;
+            this.question = question;
+            this.answer = answer;
+            this.correctAnswer = correctAnswer;
+            this.correct = correct;
+        }
+
+        public int getQuestionNumber() { return questionNumber; }
+        public String getQuestion() { return question; }
+        public String getAnswer() { return answer; }
+        public String getCorrectAnswer() { return correctAnswer; }
+        public boolean isCorrect() { return correct; }
+    }
+}
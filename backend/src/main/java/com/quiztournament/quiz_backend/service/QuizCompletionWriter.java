@@ -0,0 +1,157 @@
+package com.quiztournament.quiz_backend.service;
+
+import com.quiztournament.quiz_backend.entity.QuizAnswer;
+import com.quiztournament.quiz_backend.entity.Tournament;
+import com.quiztournament.quiz_backend.entity.User;
+import com.quiztournament.quiz_backend.repository.TournamentRepository;
+import com.quiztournament.quiz_backend.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Background writer that drains the quiz completion journal into the database
+ * Completions are written in journal order, a batch per transaction. If a batch fails its
+ * completions are retried one at a time; a completion that keeps failing is set aside in the
+ * journal's failed file so it cannot block the ones behind it.
+ */
+@Component
+public class QuizCompletionWriter {
+
+    @Autowired
+    private QuizCompletionJournal journal;
+
+    @Autowired
+    private ScoreLedger scoreLedger;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${app.quiz.completion-batch-size:100}")
+    private int batchSize;
+
+    @Value("${app.quiz.completion-max-attempts:3}")
+    private int maxAttempts;
+
+    // Consecutive failed attempts of the completion at the head of the journal (writer thread only)
+    private long failingSequence;
+    private int failedAttempts;
+    private volatile long lastDrainAt;
+
+    /**
+     * Write pending completions until the journal is empty or a completion fails
+     * @return Number of completions written
+     */
+    @Scheduled(fixedDelayString = "${app.quiz.completion-flush-interval-ms:200}")
+    public synchronized int drain() {
+        lastDrainAt = System.currentTimeMillis();
+        int written = 0;
+        List<QuizCompletionRecord> batch;
+        while (!(batch = journal.peek(batchSize)).isEmpty()) {
+            int applied = writeBatch(batch);
+            written += applied;
+            if (applied < batch.size()) {
+                break;
+            }
+        }
+        return written;
+    }
+
+    /**
+     * Write whatever is still journaled before the application stops
+     */
+    @PreDestroy
+    public void flush() {
+        try {
+            drain();
+        } catch (Exception e) {
+            System.err.println("Final quiz completion flush failed, completions stay journaled: " + e.getMessage());
+        }
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new HashMap<>(journal.getStatistics());
+        stats.put("batchSize", batchSize);
+        stats.put("lastDrainAt", lastDrainAt);
+        return stats;
+    }
+
+    /**
+     * @return Number of completions from the start of the batch that were written or set aside
+     */
+    private int writeBatch(List<QuizCompletionRecord> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> batch.forEach(this::write));
+            journal.markApplied(batch.get(batch.size() - 1).getSequence());
+            return batch.size();
+        } catch (Exception batchFailure) {
+            // Find the completion that fails; everything before it can still be written
+            int handled = 0;
+            for (QuizCompletionRecord record : batch) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> write(record));
+                    journal.markApplied(record.getSequence());
+                } catch (Exception e) {
+                    if (!giveUp(record, e)) {
+                        return handled;
+                    }
+                    journal.markFailed(record);
+                }
+                handled++;
+            }
+            return handled;
+        }
+    }
+
+    /**
+     * Count a failed attempt; true once the completion has failed too often to keep retrying
+     */
+    private boolean giveUp(QuizCompletionRecord record, Exception e) {
+        if (failingSequence != record.getSequence()) {
+            failingSequence = record.getSequence();
+            failedAttempts = 0;
+        }
+        failedAttempts++;
+        System.err.println("Failed to write quiz completion " + record.getSequence() + " (attempt "
+                + failedAttempts + "/" + maxAttempts + "): " + e.getMessage());
+        return failedAttempts >= maxAttempts;
+    }
+
+    /**
+     * Record the completion and its detailed answers in the score ledger
+     */
+    private void write(QuizCompletionRecord record) {
+        User user = userRepository.getReferenceById(record.getUserId());
+        Tournament tournament = tournamentRepository.getReferenceById(record.getTournamentId());
+        LocalDateTime completedAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(record.getCompletedAt()),
+                ZoneId.systemDefault());
+
+        List<QuizAnswer> quizAnswers = new ArrayList<>(record.getAnswers().size());
+        for (QuizCompletionRecord.Answer answer : record.getAnswers()) {
+            QuizAnswer quizAnswer = new QuizAnswer(null, answer.getQuestionNumber(), answer.getQuestion(),
+                    answer.getAnswer(), answer.getCorrectAnswer(), answer.isCorrect());
+            quizAnswer.setAnsweredAt(completedAt);
+            quizAnswers.add(quizAnswer);
+        }
+
+        scoreLedger.record(user, tournament, record.getCorrectAnswers(), record.getTotalQuestions(),
+                record.isPassed(), record.getTimeTakenSeconds(), completedAt, quizAnswers);
+    }
+}
@@ -1,21 +1,23 @@
 package com.quiztournament.quiz_backend.service;
 
+import com.quiztournament.quiz_backend.dto.CursorPage;
+import com.quiztournament.quiz_backend.dto.LeaderboardEntry;
 import com.quiztournament.quiz_backend.dto.QuizAnswerRequest;
 import com.quiztournament.quiz_backend.dto.QuizResultResponse;
+import com.quiztournament.quiz_backend.entity.QuizAnswer;
+import com.quiztournament.quiz_backend.entity.QuizResult;
 import com.quiztournament.quiz_backend.entity.Tournament;
+import com.quiztournament.quiz_backend.entity.TournamentStats;
 import com.quiztournament.quiz_backend.entity.User;
-import com.quiztournament.quiz_backend.entity.UserTournamentScore;
+import com.quiztournament.quiz_backend.repository.QuizResultRepository;
 import com.quiztournament.quiz_backend.repository.TournamentRepository;
-import com.quiztournament.quiz_backend.repository.UserRepository;
-import com.quiztournament.quiz_backend.repository.UserTournamentScoreRepository;
-import com.quiztournament.quiz_backend.service.CustomUserDetailsService.CustomUserPrincipal;
+import com.quiztournament.quiz_backend.util.PageCursor;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -29,18 +31,29 @@ import java.util.stream.Collectors;
 @Transactional
 public class QuizParticipationService {
 
+    private static final String HISTORY_CURSOR_LISTING = "history";
+
     @Autowired
     private TournamentRepository tournamentRepository;
 
     @Autowired
-    private UserRepository userRepository;
+    private CurrentUserResolver currentUserResolver;
+
+    @Autowired
+    private QuizResultRepository quizResultRepository;
+
+    @Autowired
+    private ScoreLedger scoreLedger;
 
     @Autowired
-    private UserTournamentScoreRepository userTournamentScoreRepository;
+    private LeaderboardService leaderboardService;
 
     @Autowired
     private QuestionService questionService;
 
+    @Autowired
+    private TournamentStatsService tournamentStatsService;
+
     /**
      * Start quiz participation for a tournament
      * @param tournamentId Tournament ID
@@ -50,10 +63,10 @@ public class QuizParticipationService {
         Tournament tournament = tournamentRepository.findById(tournamentId)
                 .orElseThrow(() -> new RuntimeException("Tournament not found with id: " + tournamentId));
 
-        User currentUser = getCurrentUser();
+        User currentUser = currentUserResolver.getCurrentUser();
 
         // Check if user has already participated
-        if (userTournamentScoreRepository.existsByUserAndTournament(currentUser, tournament)) {
+        if (quizResultRepository.existsByUserAndTournament(currentUser, tournament)) {
             throw new RuntimeException("You have already participated in this tournament");
         }
 
@@ -94,10 +107,10 @@ public class QuizParticipationService {
         Tournament tournament = tournamentRepository.findById(tournamentId)
                 .orElseThrow(() -> new RuntimeException("Tournament not found with id: " + tournamentId));
 
-        User currentUser = getCurrentUser();
+        User currentUser = currentUserResolver.getCurrentUser();
 
         // Check if user has already participated
-        if (userTournamentScoreRepository.existsByUserAndTournament(currentUser, tournament)) {
+        if (quizResultRepository.existsByUserAndTournament(currentUser, tournament)) {
             throw new RuntimeException("You have already participated in this tournament");
         }
 
@@ -106,28 +119,28 @@ public class QuizParticipationService {
             throw new RuntimeException("Quiz must have exactly 10 answers. Received: " + answers.size());
         }
 
-        // Validate and calculate score
-        Map<Integer, String> userAnswers = new HashMap<>();
-        Map<Integer, String> correctAnswers = new HashMap<>();
-        Map<Integer, Boolean> answerResults = new HashMap<>();
-        int correctCount = 0;
-
         for (QuizAnswerRequest answer : answers) {
-            if (answer.getQuestionNumber() < 1 || answer.getQuestionNumber() > 10) {
+            if (answer.getQuestionNumber() == null || answer.getQuestionNumber() < 1 || answer.getQuestionNumber() > 10) {
                 throw new RuntimeException("Invalid question number: " + answer.getQuestionNumber());
             }
+        }
 
-            // Validate answer with QuestionService
-            QuestionService.AnswerValidationResult result = questionService.validateAnswer(
-                    tournamentId, answer.getQuestionNumber(), answer.getAnswer()
-            );
-
-            userAnswers.put(answer.getQuestionNumber(), answer.getAnswer());
-            correctAnswers.put(answer.getQuestionNumber(), result.getCorrectAnswer());
-            answerResults.put(answer.getQuestionNumber(), result.isCorrect());
+        // Grade all answers against the quiz session in one pass
+        QuestionService.BatchValidationResult result = questionService.validateAnswers(tournamentId, answers);
+        int correctCount = result.getCorrectCount();
 
-            if (result.isCorrect()) {
-                correctCount++;
+        Map<Integer, String> userAnswers = new HashMap<>();
+        Map<Integer, String> correctAnswers = new HashMap<>();
+        Map<Integer, Boolean> answerResults = new HashMap<>();
+        List<QuizAnswer> quizAnswers = new ArrayList<>(result.getAnsweredCount());
+        for (int questionNumber = 1; questionNumber <= result.getTotalQuestions(); questionNumber++) {
+            if (result.isAnswered(questionNumber)) {
+                userAnswers.put(questionNumber, result.getUserAnswer(questionNumber));
+                correctAnswers.put(questionNumber, result.getCorrectAnswer(questionNumber));
+                answerResults.put(questionNumber, result.isCorrect(questionNumber));
+                quizAnswers.add(new QuizAnswer(null, questionNumber, result.getQuestion(questionNumber),
+                        result.getUserAnswer(questionNumber), result.getCorrectAnswer(questionNumber),
+                        result.isCorrect(questionNumber)));
             }
         }
 
@@ -135,67 +148,127 @@ public class QuizParticipationService {
         double percentage = (correctCount / 10.0) * 100.0;
         boolean passed = percentage >= tournament.getMinPassingScore();
 
-        // Save score to database
-        UserTournamentScore userScore = new UserTournamentScore(currentUser, tournament, correctCount);
-        userScore.setPassed(passed);
-        userScore.setCompletedAt(LocalDateTime.now());
-
-        UserTournamentScore savedScore = userTournamentScoreRepository.save(userScore);
+        // Save score to the ledger (result, answers, legacy projection and statistics in this transaction)
+        QuizResult quizResult = scoreLedger.record(currentUser, tournament, correctCount, 10, passed, null,
+                LocalDateTime.now(), quizAnswers);
 
-        // Clean up quiz session
-        questionService.clearTournamentCache(tournamentId);
+        // The session has served its purpose once the result is committed
+        questionService.removeQuizSessionAfterCommit(currentUser.getId(), tournamentId);
 
         // Return detailed result
-        return new QuizResultResponse(savedScore, userAnswers, correctAnswers, answerResults);
+        return new QuizResultResponse(quizResult, userAnswers, correctAnswers, answerResults);
     }
 
     /**
-     * Get user's quiz history
-     * @return List of completed quizzes for current user
+     * Get one page of user's quiz history, most recent first
+     * @param cursor Cursor returned with the previous page, or null for the first page
+     * @param limit Maximum number of results on the page
+     * @return Completed quizzes for current user and the cursor of the next page
      */
     @Transactional(readOnly = true)
-    public List<QuizResultResponse> getUserQuizHistory() {
-        User currentUser = getCurrentUser();
-        List<UserTournamentScore> scores = userTournamentScoreRepository.findByUserOrderByCompletedAtDesc(currentUser);
+    public CursorPage<QuizResultResponse> getUserQuizHistory(String cursor, int limit) {
+        User currentUser = currentUserResolver.getCurrentUser();
+        List<QuizResult> rows;
+        if (cursor == null) {
+            rows = quizResultRepository.findHistoryPage(currentUser, limit + 1);
+        } else {
+            PageCursor key = PageCursor.decode(cursor, HISTORY_CURSOR_LISTING, 2);
+            rows = quizResultRepository.findHistoryPageAfter(currentUser, key.getDateTime(0), key.getLong(1), limit + 1);
+        }
 
-        return scores.stream()
-                .map(QuizResultResponse::fromUserTournamentScore)
-                .collect(Collectors.toList());
+        return CursorPage.of(rows, limit, last ->
+                        PageCursor.encode(HISTORY_CURSOR_LISTING, last.getCompletedAt(), last.getId()))
+                .map(results -> results.stream()
+                        .map(QuizResultResponse::fromQuizResult)
+                        .collect(Collectors.toList()));
     }
 
     /**
-     * Get tournament leaderboard
+     * Get statistics over user's whole quiz history, computed in the database
+     * @return Total participated, and pass/fail counts and average score when there is any history
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getUserQuizHistorySummary() {
+        User currentUser = currentUserResolver.getCurrentUser();
+        Object[] row = quizResultRepository.summarizeHistory(currentUser).get(0);
+        long totalParticipated = ((Number) row[0]).longValue();
+
+        Map<String, Object> summary = new HashMap<>();
+        summary.put("totalParticipated", totalParticipated);
+        if (totalParticipated > 0) {
+            long passedCount = ((Number) row[1]).longValue();
+            double averageScore = ((Number) row[2]).doubleValue();
+
+            summary.put("passedCount", passedCount);
+            summary.put("failedCount", totalParticipated - passedCount);
+            summary.put("averageScore", Math.round(averageScore * 100.0) / 100.0);
+            summary.put("passRate", (passedCount * 100.0) / totalParticipated);
+        }
+        return summary;
+    }
+
+    /**
+     * Get one page of tournament leaderboard
      * @param tournamentId Tournament ID
-     * @return Ordered list of top scores
+     * @param cursor Cursor returned with the previous page, or null for the top of the leaderboard
+     * @param limit Maximum number of entries on the page
+     * @return Scores in rank order and the cursor of the next page
      */
     @Transactional(readOnly = true)
-    public List<QuizResultResponse> getTournamentLeaderboard(Long tournamentId) {
+    public CursorPage<QuizResultResponse> getTournamentLeaderboard(Long tournamentId, String cursor, int limit) {
         Tournament tournament = tournamentRepository.findById(tournamentId)
                 .orElseThrow(() -> new RuntimeException("Tournament not found with id: " + tournamentId));
 
-        List<UserTournamentScore> scores = userTournamentScoreRepository.findByTournamentOrderByScoreDesc(tournament);
-
-        return scores.stream()
-                .map(QuizResultResponse::fromUserTournamentScore)
-                .collect(Collectors.toList());
+        return leaderboardService.getPage(tournamentId, cursor, limit)
+                .map(entries -> entries.stream()
+                        .map(entry -> toResponse(entry, tournament))
+                        .collect(Collectors.toList()));
     }
 
     /**
-     * Get tournament leaderboard with limit
+     * Get the current user's rank with the entries just above and below it
      * @param tournamentId Tournament ID
-     * @param limit Maximum number of results
-     * @return Top scores limited to specified count
+     * @param radius Number of entries to include on each side
+     * @return Rank, total entries and the surrounding leaderboard entries
      */
     @Transactional(readOnly = true)
-    public List<QuizResultResponse> getTopScores(Long tournamentId, int limit) {
+    public Map<String, Object> getMyRank(Long tournamentId, int radius) {
         Tournament tournament = tournamentRepository.findById(tournamentId)
                 .orElseThrow(() -> new RuntimeException("Tournament not found with id: " + tournamentId));
 
-        List<UserTournamentScore> scores = userTournamentScoreRepository.findTopScoresByTournament(tournament, limit);
+        User currentUser = currentUserResolver.getCurrentUser();
+
+        TournamentLeaderboard.Neighborhood neighborhood =
+                leaderboardService.getNeighborhood(tournamentId, currentUser.getId(), radius);
+        if (neighborhood == null) {
+            throw new RuntimeException("You have not participated in this tournament yet");
+        }
+
+        List<Map<String, Object>> entries = new ArrayList<>(neighborhood.getEntries().size());
+        int rank = neighborhood.getFirstRank();
+        for (LeaderboardEntry entry : neighborhood.getEntries()) {
+            Map<String, Object> entryData = new HashMap<>();
+            entryData.put("rank", rank++);
+            entryData.put("userId", entry.getUserId());
+            entryData.put("playerName", entry.getPlayerName());
+            entryData.put("score", entry.getScore());
+            entryData.put("totalQuestions", entry.getTotalQuestions());
+            entryData.put("percentage", entry.getPercentage());
+            entryData.put("passed", entry.isPassed());
+            entryData.put("completedAt", entry.getCompletedAt());
+            entryData.put("currentUser", entry.getUserId().equals(currentUser.getId()));
+            entries.add(entryData);
+        }
 
-        return scores.stream()
-                .map(QuizResultResponse::fromUserTournamentScore)
-                .collect(Collectors.toList());
+        Map<String, Object> result = new HashMap<>();
+        result.put("tournamentId", tournamentId);
+        result.put("tournamentName", tournament.getName());
+        result.put("rank", neighborhood.getRank());
+        result.put("totalEntries", neighborhood.getTotalEntries());
+        result.put("percentile", Math.round((neighborhood.getTotalEntries() - neighborhood.getRank()) * 10000.0
+                / neighborhood.getTotalEntries()) / 100.0);
+        result.put("entries", entries);
+        return result;
     }
 
     /**
@@ -204,7 +277,7 @@ public class QuizParticipationService {
      */
     @Transactional(readOnly = true)
     public List<Tournament> getUserParticipatedTournaments() {
-        User currentUser = getCurrentUser();
+        User currentUser = currentUserResolver.getCurrentUser();
         return tournamentRepository.findTournamentsParticipatedByUser(currentUser.getId());
     }
 
@@ -214,7 +287,7 @@ public class QuizParticipationService {
      */
     @Transactional(readOnly = true)
     public List<Tournament> getUserAvailableTournaments() {
-        User currentUser = getCurrentUser();
+        User currentUser = currentUserResolver.getCurrentUser();
         return tournamentRepository.findTournamentsNotParticipatedByUser(currentUser.getId());
     }
 
@@ -228,11 +301,11 @@ public class QuizParticipationService {
         Tournament tournament = tournamentRepository.findById(tournamentId)
                 .orElseThrow(() -> new RuntimeException("Tournament not found with id: " + tournamentId));
 
-        User currentUser = getCurrentUser();
+        User currentUser = currentUserResolver.getCurrentUser();
         Map<String, Object> result = new HashMap<>();
 
         // Check if already participated
-        if (userTournamentScoreRepository.existsByUserAndTournament(currentUser, tournament)) {
+        if (quizResultRepository.existsByUserAndTournament(currentUser, tournament)) {
             result.put("canParticipate", false);
             result.put("reason", "You have already participated in this tournament");
             result.put("status", "ALREADY_PARTICIPATED");
@@ -278,12 +351,12 @@ public class QuizParticipationService {
         Tournament tournament = tournamentRepository.findById(tournamentId)
                 .orElseThrow(() -> new RuntimeException("Tournament not found with id: " + tournamentId));
 
-        User currentUser = getCurrentUser();
+        User currentUser = currentUserResolver.getCurrentUser();
 
-        UserTournamentScore score = userTournamentScoreRepository.findByUserAndTournament(currentUser, tournament)
+        QuizResult quizResult = quizResultRepository.findByUserAndTournament(currentUser, tournament)
                 .orElseThrow(() -> new RuntimeException("You have not participated in this tournament yet"));
 
-        return QuizResultResponse.fromUserTournamentScore(score);
+        return QuizResultResponse.fromQuizResult(quizResult);
     }
 
     /**
@@ -298,24 +371,27 @@ public class QuizParticipationService {
 
         Map<String, Object> stats = new HashMap<>();
 
-        // Basic statistics
-        Long totalParticipants = userTournamentScoreRepository.countByTournament(tournament);
-        Double averageScore = userTournamentScoreRepository.findAverageScoreByTournament(tournament);
-        List<UserTournamentScore> passedUsers = userTournamentScoreRepository.findByTournamentAndPassedTrue(tournament);
-        List<UserTournamentScore> failedUsers = userTournamentScoreRepository.findByTournamentAndPassedFalse(tournament);
+        // Basic statistics from the pre-aggregated tournament_stats row
+        TournamentStats tournamentStats = tournamentStatsService.getStats(tournamentId);
+        long totalParticipants = tournamentStats.getParticipantCount();
+        Double averageScore = tournamentStats.getAverageScore();
+        long passedCount = tournamentStats.getPassCount();
 
         stats.put("totalParticipants", totalParticipants);
         stats.put("averageScore", averageScore != null ? Math.round(averageScore * 100.0) / 100.0 : 0.0);
-        stats.put("passedCount", passedUsers.size());
-        stats.put("failedCount", failedUsers.size());
-        stats.put("passRate", totalParticipants > 0 ? (passedUsers.size() * 100.0) / totalParticipants : 0.0);
+        stats.put("passedCount", passedCount);
+        stats.put("failedCount", totalParticipants - passedCount);
+        stats.put("passRate", totalParticipants > 0 ? (passedCount * 100.0) / totalParticipants : 0.0);
 
         // Additional statistics
         if (totalParticipants > 0) {
-            List<UserTournamentScore> allScores = userTournamentScoreRepository.findByTournamentOrderByScoreDesc(tournament);
+            // One row per distinct score out of 10 (at most 11), highest first
+            List<Object[]> scoreCounts = quizResultRepository.countByScoreForTournament(tournament);
 
-            stats.put("highestScore", allScores.get(0).getScore());
-            stats.put("lowestScore", allScores.get(allScores.size() - 1).getScore());
+            if (!scoreCounts.isEmpty()) {
+                stats.put("highestScore", scoreCounts.get(0)[0]);
+                stats.put("lowestScore", scoreCounts.get(scoreCounts.size() - 1)[0]);
+            }
 
             // Score distribution
             Map<String, Integer> scoreDistribution = new HashMap<>();
@@ -324,12 +400,13 @@ public class QuizParticipationService {
             scoreDistribution.put("7-8", 0);
             scoreDistribution.put("9-10", 0);
 
-            for (UserTournamentScore score : allScores) {
-                int s = score.getScore();
-                if (s <= 3) scoreDistribution.put("0-3", scoreDistribution.get("0-3") + 1);
-                else if (s <= 6) scoreDistribution.put("4-6", scoreDistribution.get("4-6") + 1);
-                else if (s <= 8) scoreDistribution.put("7-8", scoreDistribution.get("7-8") + 1);
-                else scoreDistribution.put("9-10", scoreDistribution.get("9-10") + 1);
+            for (Object[] row : scoreCounts) {
+                int s = ((Number) row[0]).intValue();
+                int count = ((Number) row[1]).intValue();
+                if (s <= 3) scoreDistribution.put("0-3", scoreDistribution.get("0-3") + count);
+                else if (s <= 6) scoreDistribution.put("4-6", scoreDistribution.get("4-6") + count);
+                else if (s <= 8) scoreDistribution.put("7-8", scoreDistribution.get("7-8") + count);
+                else scoreDistribution.put("9-10", scoreDistribution.get("9-10") + count);
             }
 
             stats.put("scoreDistribution", scoreDistribution);
@@ -338,14 +415,18 @@ public class QuizParticipationService {
         return stats;
     }
 
-    /**
-     * Get current authenticated user
-     */
-    private User getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        CustomUserPrincipal userPrincipal = (CustomUserPrincipal) authentication.getPrincipal();
-
-        return userRepository.findById(userPrincipal.getId())
-                .orElseThrow(() -> new RuntimeException("Current user not found"));
+    private QuizResultResponse toResponse(LeaderboardEntry entry, Tournament tournament) {
+        QuizResultResponse response = new QuizResultResponse();
+        response.setTournamentId(tournament.getId());
+        response.setTournamentName(tournament.getName());
+        response.setUserId(entry.getUserId());
+        response.setPlayerName(entry.getPlayerName());
+        response.setScore(entry.getScore());
+        response.setTotalQuestions(entry.getTotalQuestions());
+        response.setPercentage(entry.getPercentage());
+        response.setPassed(entry.isPassed());
+        response.setMinPassingScore(tournament.getMinPassingScore());
+        response.setCompletedAt(entry.getCompletedAt());
+        return response;
     }
 }
@@ -0,0 +1,124 @@
+package com.quiztournament.quiz_backend.service;
+
+import com.quiztournament.quiz_backend.dto.OpenTDBQuestion;
+import com.quiztournament.quiz_backend.service.QuestionService.UserAnswer;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Represents a user's progress through the questions of a tournament
+ * Instances are owned by a QuizSessionStore
+ */
+public class QuizSession {
+
+    // Rough per-object overheads used for the retained size estimate
+    private static final long SESSION_OVERHEAD_BYTES = 200;
+    private static final long QUESTION_OVERHEAD_BYTES = 120;
+    private static final long ANSWER_OVERHEAD_BYTES = 100;
+
+    private final Long userId;
+    private final Long tournamentId;
+    private final List<OpenTDBQuestion> questions;
+    private final Map<Integer, UserAnswer> answers;
+    private final long startTime;
+    private volatile long lastAccessTime;
+
+    public QuizSession(Long userId, Long tournamentId, List<OpenTDBQuestion> questions) {
+        this(userId, tournamentId, questions, new HashMap<>(), System.currentTimeMillis());
+    }
+
+    /**
+     * Restore a session with previously recorded answers (used by persistent stores)
+     */
+    public QuizSession(Long userId, Long tournamentId, List<OpenTDBQuestion> questions,
+                       Map<Integer, UserAnswer> answers, long startTime) {
+        this.userId = userId;
+        this.tournamentId = tournamentId;
+        this.questions = questions;
+        this.answers = new ConcurrentHashMap<>(answers);
+        this.startTime = startTime;
+        this.lastAccessTime = startTime;
+    }
+
+    /**
+     * Record an answer, replacing any earlier answer to the same question
+     * @return Change in the estimated retained size, in bytes
+     */
+    public long recordAnswer(int questionNumber, UserAnswer answer) {
+        UserAnswer previous = answers.put(questionNumber, answer);
+        return estimateBytes(answer) - (previous != null ? estimateBytes(previous) : 0);
+    }
+
+    /**
+     * Approximate heap retained by this session (questions plus recorded answers)
+     */
+    public long estimateRetainedBytes() {
+        long bytes = SESSION_OVERHEAD_BYTES;
+        for (OpenTDBQuestion question : questions) {
+            bytes += QUESTION_OVERHEAD_BYTES + stringBytes(question.getCategory()) + stringBytes(question.getType())
+                    + stringBytes(question.getDifficulty()) + stringBytes(question.getQuestion())
+                    + stringBytes(question.getCorrectAnswer());
+            for (String incorrectAnswer : question.getIncorrectAnswers()) {
+                bytes += stringBytes(incorrectAnswer);
+            }
+        }
+        for (UserAnswer answer : answers.values()) {
+            bytes += estimateBytes(answer);
+        }
+        return bytes;
+    }
+
+    public int getCurrentQuestionNumber() {
+        return answers.size() + 1;
+    }
+
+    public int getCorrectAnswerCount() {
+        return (int) answers.values().stream()
+                .filter(UserAnswer::isCorrect)
+                .count();
+    }
+
+    public boolean isCompleted() {
+        return answers.size() >= questions.size();
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Long getTournamentId() {
+        return tournamentId;
+    }
+
+    public List<OpenTDBQuestion> getQuestions() {
+        return questions;
+    }
+
+    public Map<Integer, UserAnswer> getAnswerHistory() {
+        return new HashMap<>(answers);
+    }
+
+    public long getStartTime() {
+        return startTime;
+    }
+
+    public long getLastAccessTime() {
+        return lastAccessTime;
+    }
+
+    public void setLastAccessTime(long lastAccessTime) {
+        this.lastAccessTime = lastAccessTime;
+    }
+
+    private static long estimateBytes(UserAnswer answer) {
+        return ANSWER_OVERHEAD_BYTES + stringBytes(answer.getAnswer())
+                + stringBytes(answer.getCorrectAnswer()) + stringBytes(answer.getQuestion());
+    }
+
+    private static long stringBytes(String value) {
+        return value != null ? 40 + value.length() : 0;
+    }
+}
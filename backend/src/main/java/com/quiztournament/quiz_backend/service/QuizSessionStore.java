@@ -0,0 +1,77 @@
+package com.quiztournament.quiz_backend.service;
+
+import com.quiztournament.quiz_backend.service.QuestionService.UserAnswer;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Storage for in-progress quiz sessions, keyed by user and tournament
+ * Selected with app.quiz.session-store (memory or jdbc)
+ */
+public interface QuizSessionStore {
+
+    /**
+     * Start a new session, replacing any existing session for the same user and tournament
+     * @param session Session to store
+     */
+    void save(QuizSession session);
+
+    /**
+     * Find the active session for a user and tournament
+     * Counts as activity for the idle timeout
+     * @param userId User ID
+     * @param tournamentId Tournament ID
+     * @return Session with all answers recorded so far
+     */
+    Optional<QuizSession> find(Long userId, Long tournamentId);
+
+    /**
+     * Record (or overwrite) the answer to a single question
+     * Implementations must not rewrite the whole session
+     * @param userId User ID
+     * @param tournamentId Tournament ID
+     * @param questionNumber Question number (1-based)
+     * @param answer Answer given by the user
+     */
+    void recordAnswer(Long userId, Long tournamentId, int questionNumber, UserAnswer answer);
+
+    /**
+     * Record (or overwrite) several answers in one store operation
+     * @param userId User ID
+     * @param tournamentId Tournament ID
+     * @param answers Answers keyed by question number (1-based)
+     */
+    void recordAnswers(Long userId, Long tournamentId, Map<Integer, UserAnswer> answers);
+
+    /**
+     * Remove a session (no-op if it does not exist)
+     * @param userId User ID
+     * @param tournamentId Tournament ID
+     */
+    void remove(Long userId, Long tournamentId);
+
+    /**
+     * Count of active sessions
+     */
+    long count();
+
+    /**
+     * Remove sessions with no activity since the cutoff
+     * @param lastAccessBefore Epoch millis; sessions last touched before this are expired
+     * @return Number of sessions expired
+     */
+    int expireIdleSessions(long lastAccessBefore);
+
+    /**
+     * Evict least recently used sessions until at most maxSessions remain
+     * @param maxSessions Session cap
+     * @return Number of sessions evicted
+     */
+    int evictOverCapacity(long maxSessions);
+
+    /**
+     * Store statistics: active sessions, expirations, evictions and approximate retained bytes
+     */
+    Map<String, Object> getStatistics();
+}
@@ -0,0 +1,60 @@
+package com.quiztournament.quiz_backend.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Background expiry of abandoned quiz sessions
+ * Sessions idle longer than the TTL are expired and the total number of sessions is capped
+ */
+@Component
+public class QuizSessionSweeper {
+
+    @Autowired
+    private QuizSessionStore quizSessionStore;
+
+    @Value("${app.quiz.session-idle-ttl-minutes:30}")
+    private long idleTtlMinutes;
+
+    @Value("${app.quiz.max-sessions:10000}")
+    private long maxSessions;
+
+    /**
+     * Expire idle sessions, then enforce the session cap
+     */
+    @Scheduled(fixedDelayString = "${app.quiz.session-sweep-interval-ms:60000}")
+    public void sweep() {
+        try {
+            long cutoff = System.currentTimeMillis() - idleTtlMinutes * 60_000;
+            int expired = quizSessionStore.expireIdleSessions(cutoff);
+            int evicted = quizSessionStore.evictOverCapacity(maxSessions);
+            if (expired > 0 || evicted > 0) {
+                System.out.println("Quiz session sweep: expired " + expired + ", evicted " + evicted);
+            }
+        } catch (Exception e) {
+            System.err.println("Quiz session sweep failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Enforce the session cap right away (called when a session starts)
+     */
+    public void enforceCapacity() {
+        quizSessionStore.evictOverCapacity(maxSessions);
+    }
+
+    /**
+     * Store statistics plus the configured limits
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new HashMap<>(quizSessionStore.getStatistics());
+        stats.put("sessionIdleTtlMinutes", idleTtlMinutes);
+        stats.put("maxSessions", maxSessions);
+        return stats;
+    }
+}
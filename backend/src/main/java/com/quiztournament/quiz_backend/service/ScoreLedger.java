@@ -0,0 +1,113 @@
+package com.quiztournament.quiz_backend.service;
+
+import com.quiztournament.quiz_backend.entity.QuizAnswer;
+import com.quiztournament.quiz_backend.entity.QuizResult;
+import com.quiztournament.quiz_backend.entity.Tournament;
+import com.quiztournament.quiz_backend.entity.User;
+import com.quiztournament.quiz_backend.repository.QuizAnswerRepository;
+import com.quiztournament.quiz_backend.repository.QuizResultRepository;
+import com.quiztournament.quiz_backend.repository.UserTournamentScoreRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Single write path for quiz scores
+ * quiz_results is the canonical store: one row per user and tournament, read by leaderboards,
+ * histories and statistics. user_tournament_scores is a projection of it (score out of 10) kept for
+ * compatibility, written with one upsert in the same transaction together with the tournament_stats deltas.
+ * The in-memory leaderboard picks the result up when the transaction commits.
+ */
+@Service
+@Transactional(propagation = Propagation.MANDATORY)
+public class ScoreLedger {
+
+    @Autowired
+    private QuizResultRepository quizResultRepository;
+
+    @Autowired
+    private QuizAnswerRepository quizAnswerRepository;
+
+    @Autowired
+    private UserTournamentScoreRepository userTournamentScoreRepository;
+
+    @Autowired
+    private TournamentStatsService tournamentStatsService;
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    /**
+     * Record a completed quiz, replacing the user's previous result for the tournament
+     * @param answers Detailed answers to store with the result (may be empty)
+     * @return The canonical quiz result
+     */
+    public QuizResult record(User user, Tournament tournament, int score, int totalQuestions, boolean passed,
+                             Integer timeTakenSeconds, LocalDateTime completedAt, List<QuizAnswer> answers) {
+        double percentage = (score * 100.0) / totalQuestions;
+        Optional<QuizResult> existingResult = quizResultRepository.findByUserAndTournament(user, tournament);
+
+        QuizResult quizResult;
+        Integer previousScore = null;
+        boolean previousPassed = false;
+        if (existingResult.isPresent()) {
+            // Retake: update the result and replace its detailed answers
+            quizResult = existingResult.get();
+            previousScore = toScoreOutOf10(quizResult.getScore(), quizResult.getTotalQuestions());
+            previousPassed = Boolean.TRUE.equals(quizResult.getPassed());
+            quizResult.setScore(score);
+            quizResult.setTotalQuestions(totalQuestions);
+            quizResult.setPercentage(percentage);
+            quizResult.setPassed(passed);
+            quizResult.setTimeTakenSeconds(timeTakenSeconds);
+            quizResult.setCompletedAt(completedAt);
+            quizAnswerRepository.deleteByQuizResult(quizResult);
+        } else {
+            quizResult = new QuizResult(user, tournament, score, totalQuestions, percentage, passed, timeTakenSeconds);
+            quizResult.setCompletedAt(completedAt);
+            quizResult = quizResultRepository.save(quizResult);
+        }
+
+        if (!answers.isEmpty()) {
+            for (QuizAnswer answer : answers) {
+                answer.setQuizResult(quizResult);
+            }
+            quizAnswerRepository.saveAll(answers);
+        }
+
+        int scoreOutOf10 = toScoreOutOf10(score, totalQuestions);
+        userTournamentScoreRepository.upsertScore(user.getId(), tournament.getId(), scoreOutOf10, passed, completedAt);
+
+        if (previousScore != null) {
+            tournamentStatsService.recordScoreChange(tournament.getId(), previousScore, previousPassed,
+                    scoreOutOf10, passed);
+        } else {
+            tournamentStatsService.recordNewScore(tournament.getId(), scoreOutOf10, passed);
+        }
+        leaderboardService.recordResult(quizResult);
+        return quizResult;
+    }
+
+    /**
+     * Create quiz results for legacy scores written before quiz_results was the canonical store
+     * Called at startup, before the tournament statistics are rebuilt from quiz_results
+     * @return Number of results created
+     */
+    @Transactional
+    public int backfillFromLegacyScores() {
+        int created = quizResultRepository.backfillFromLegacyScores();
+        if (created > 0) {
+            System.out.println("Backfilled " + created + " quiz results from legacy tournament scores");
+        }
+        return created;
+    }
+
+    private static int toScoreOutOf10(int score, int totalQuestions) {
+        return (int) Math.round((score * 10.0) / totalQuestions);
+    }
+}
@@ -0,0 +1,345 @@
+package com.quiztournament.quiz_backend.service;
+
+import com.quiztournament.quiz_backend.dto.LeaderboardEntry;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Ranked results of one tournament: highest percentage first, then earliest completion, then user ID
+ * Held in an order-statistic treap (every node knows its subtree size), so inserting, replacing and
+ * ranking a player are O(log n) and a page of k entries starting at any rank is O(log n + k).
+ * Thread-safe: reads share a read lock, updates take the write lock.
+ */
+public class TournamentLeaderboard {
+
+    static final Comparator<LeaderboardEntry> RANKING = Comparator
+            .comparingDouble(LeaderboardEntry::getPercentage).reversed()
+            .thenComparing(LeaderboardEntry::getCompletedAt)
+            .thenComparing(LeaderboardEntry::getUserId);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // Guarded by lock
+    private final Map<Long, LeaderboardEntry> entriesByUser = new HashMap<>();
+    private Node root;
+    private long passCount;
+    private double percentageSum;
+
+    /**
+     * Add a player's result, replacing their previous one
+     * A result completed before the one already ranked is stale (e.g. read by a rebuild that raced a retake) and ignored.
+     * @return true if the leaderboard changed
+     */
+    public boolean upsert(LeaderboardEntry entry) {
+        lock.writeLock().lock();
+        try {
+            LeaderboardEntry existing = entriesByUser.get(entry.getUserId());
+            if (existing != null) {
+                if (entry.getCompletedAt().isBefore(existing.getCompletedAt())) {
+                    return false;
+                }
+                root = remove(root, existing);
+                account(existing, -1);
+            }
+            entriesByUser.put(entry.getUserId(), entry);
+            root = insert(root, new Node(entry));
+            account(entry, 1);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return 1-based rank of the player, or 0 if they have no result
+     */
+    public int getRank(Long userId) {
+        lock.readLock().lock();
+        try {
+            LeaderboardEntry entry = entriesByUser.get(userId);
+            return entry != null ? rankOf(entry) : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public LeaderboardEntry getEntry(Long userId) {
+        lock.readLock().lock();
+        try {
+            return entriesByUser.get(userId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Entries in rank order, skipping the first offset entries
+     */
+    public List<LeaderboardEntry> getEntries(int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            return collect(offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<LeaderboardEntry> getTopEntries(int limit) {
+        return getEntries(0, limit);
+    }
+
+    /**
+     * Entries ranking after the given key, which need not be on the leaderboard any more
+     * Used for keyset paging: unlike an offset, the key stays valid while players above it change.
+     */
+    public List<LeaderboardEntry> getEntriesAfter(LeaderboardEntry key, int limit) {
+        lock.readLock().lock();
+        try {
+            // Descend towards the key, stacking the nodes that rank after it
+            Deque<Node> pending = new ArrayDeque<>();
+            Node node = root;
+            while (node != null) {
+                if (RANKING.compare(key, node.entry) < 0) {
+                    pending.push(node);
+                    node = node.left;
+                } else {
+                    node = node.right;
+                }
+            }
+            return walk(pending, limit, new ArrayList<>(Math.min(limit, size(root))));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * A player's rank with up to radius entries above and below them, read as one consistent snapshot
+     * @return The neighborhood, or null if the player has no result
+     */
+    public Neighborhood getNeighborhood(Long userId, int radius) {
+        lock.readLock().lock();
+        try {
+            LeaderboardEntry entry = entriesByUser.get(userId);
+            if (entry == null) {
+                return null;
+            }
+            int rank = rankOf(entry);
+            int firstRank = Math.max(1, rank - radius);
+            return new Neighborhood(rank, size(root), firstRank, collect(firstRank - 1, rank - firstRank + radius + 1));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Caller holds the read lock
+    private List<LeaderboardEntry> collect(int offset, int limit) {
+        List<LeaderboardEntry> page = new ArrayList<>(Math.max(0, Math.min(limit, size(root) - offset)));
+        // Descend to the entry at the offset, stacking the ancestors that rank after it
+        Deque<Node> pending = new ArrayDeque<>();
+        Node node = root;
+        int skip = offset;
+        while (node != null) {
+            int leftSize = size(node.left);
+            if (skip < leftSize) {
+                pending.push(node);
+                node = node.left;
+            } else if (skip == leftSize) {
+                pending.push(node);
+                node = null;
+            } else {
+                skip -= leftSize + 1;
+                node = node.right;
+            }
+        }
+        return walk(pending, limit, page);
+    }
+
+    // In-order walk from the top of the stack, which holds the next entry and the ancestors ranking after it
+    private static List<LeaderboardEntry> walk(Deque<Node> pending, int limit, List<LeaderboardEntry> page) {
+        while (!pending.isEmpty() && page.size() < limit) {
+            Node next = pending.pop();
+            page.add(next.entry);
+            for (Node child = next.right; child != null; child = child.left) {
+                pending.push(child);
+            }
+        }
+        return page;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size(root);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long getPassCount() {
+        lock.readLock().lock();
+        try {
+            return passCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return Average percentage, or 0 for an empty leaderboard
+     */
+    public double getAveragePercentage() {
+        lock.readLock().lock();
+        try {
+            int count = size(root);
+            return count > 0 ? percentageSum / count : 0.0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void account(LeaderboardEntry entry, int sign) {
+        percentageSum += sign * entry.getPercentage();
+        if (entry.isPassed()) {
+            passCount += sign;
+        }
+    }
+
+    private int rankOf(LeaderboardEntry entry) {
+        int rank = 1;
+        Node node = root;
+        while (node != null) {
+            int comparison = RANKING.compare(entry, node.entry);
+            if (comparison < 0) {
+                node = node.left;
+            } else if (comparison > 0) {
+                rank += size(node.left) + 1;
+                node = node.right;
+            } else {
+                return rank + size(node.left);
+            }
+        }
+        return 0;
+    }
+
+    private static Node insert(Node node, Node created) {
+        if (node == null) {
+            return created;
+        }
+        if (RANKING.compare(created.entry, node.entry) < 0) {
+            node.left = insert(node.left, created);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, created);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        node.resize();
+        return node;
+    }
+
+    private static Node remove(Node node, LeaderboardEntry entry) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = RANKING.compare(entry, node.entry);
+        if (comparison < 0) {
+            node.left = remove(node.left, entry);
+        } else if (comparison > 0) {
+            node.right = remove(node.right, entry);
+        } else {
+            return merge(node.left, node.right);
+        }
+        node.resize();
+        return node;
+    }
+
+    // Every entry in left ranks before every entry in right
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.resize();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.resize();
+        return right;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node left = node.left;
+        node.left = left.right;
+        node.resize();
+        left.right = node;
+        left.resize();
+        return left;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node right = node.right;
+        node.right = right.left;
+        node.resize();
+        right.left = node;
+        right.resize();
+        return right;
+    }
+
+    private static int size(Node node) {
+        return node != null ? node.size : 0;
+    }
+
+    /**
+     * A player's rank and the entries around it
+     */
+    public static class Neighborhood {
+        private final int rank;
+        private final int totalEntries;
+        private final int firstRank;
+        private final List<LeaderboardEntry> entries;
+
+        public Neighborhood(int rank, int totalEntries, int firstRank, List<LeaderboardEntry> entries) {
+            this.rank = rank;
+            this.totalEntries = totalEntries;
+            this.firstRank = firstRank;
+            this.entries = entries;
+        }
+
+        public int getRank() { return rank; }
+        public int getTotalEntries() { return totalEntries; }
+        // Rank of the first entry
+        public int getFirstRank() { return firstRank; }
+        public List<LeaderboardEntry> getEntries() { return entries; }
+    }
+
+    private static final class Node {
+        final LeaderboardEntry entry;
+        final int priority = ThreadLocalRandom.current().nextInt();
+        Node left;
+        Node right;
+        int size = 1;
+
+        Node(LeaderboardEntry entry) {
+            this.entry = entry;
+        }
+
+        void resize() {
+            size = 1 + size(left) + size(right);
+        }
+    }
+}
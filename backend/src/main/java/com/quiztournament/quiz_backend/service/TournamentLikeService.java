@@ -1,18 +1,18 @@
 package com.quiztournament.quiz_backend.service;
 
+import com.quiztournament.quiz_backend.dto.CursorPage;
 import com.quiztournament.quiz_backend.entity.Tournament;
 import com.quiztournament.quiz_backend.entity.TournamentLike;
+import com.quiztournament.quiz_backend.entity.TournamentStats;
 import com.quiztournament.quiz_backend.entity.User;
 import com.quiztournament.quiz_backend.repository.TournamentLikeRepository;
 import com.quiztournament.quiz_backend.repository.TournamentRepository;
-import com.quiztournament.quiz_backend.repository.UserRepository;
-import com.quiztournament.quiz_backend.service.CustomUserDetailsService.CustomUserPrincipal;
+import com.quiztournament.quiz_backend.util.PageCursor;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -27,6 +27,8 @@ import java.util.stream.Collectors;
 @Transactional
 public class TournamentLikeService {
 
+    private static final String CURSOR_LISTING = "likes";
+
     @Autowired
     private TournamentLikeRepository tournamentLikeRepository;
 
@@ -34,7 +36,10 @@ public class TournamentLikeService {
     private TournamentRepository tournamentRepository;
 
     @Autowired
-    private UserRepository userRepository;
+    private CurrentUserResolver currentUserResolver;
+
+    @Autowired
+    private TournamentStatsService tournamentStatsService;
 
     /**
      * Like a tournament
@@ -45,7 +50,7 @@ public class TournamentLikeService {
         Tournament tournament = tournamentRepository.findById(tournamentId)
                 .orElseThrow(() -> new RuntimeException("Tournament not found with id: " + tournamentId));
 
-        User currentUser = getCurrentUser();
+        User currentUser = currentUserResolver.getCurrentUser();
 
         // Check if user has already liked this tournament
         Optional<TournamentLike> existingLike = tournamentLikeRepository.findByUserAndTournament(currentUser, tournament);
@@ -57,9 +62,10 @@ public class TournamentLikeService {
         // Create new like
         TournamentLike tournamentLike = new TournamentLike(currentUser, tournament);
         tournamentLikeRepository.save(tournamentLike);
+        tournamentStatsService.recordLike(tournamentId);
 
         // Get updated like count
-        long totalLikes = tournamentLikeRepository.countByTournament(tournament);
+        long totalLikes = tournamentStatsService.getLikeCount(tournamentId);
 
         Map<String, Object> response = new HashMap<>();
         response.put("success", true);
@@ -81,7 +87,7 @@ public class TournamentLikeService {
         Tournament tournament = tournamentRepository.findById(tournamentId)
                 .orElseThrow(() -> new RuntimeException("Tournament not found with id: " + tournamentId));
 
-        User currentUser = getCurrentUser();
+        User currentUser = currentUserResolver.getCurrentUser();
 
         // Check if user has liked this tournament
         Optional<TournamentLike> existingLike = tournamentLikeRepository.findByUserAndTournament(currentUser, tournament);
@@ -93,10 +99,11 @@ public class TournamentLikeService {
         // Remove like
         if (existingLike.isPresent()) {
             tournamentLikeRepository.delete(existingLike.get());
+            tournamentStatsService.recordUnlikes(tournamentId, 1);
         }
 
         // Get updated like count
-        long totalLikes = tournamentLikeRepository.countByTournament(tournament);
+        long totalLikes = tournamentStatsService.getLikeCount(tournamentId);
 
         Map<String, Object> response = new HashMap<>();
         response.put("success", true);
@@ -118,14 +125,15 @@ public class TournamentLikeService {
         Tournament tournament = tournamentRepository.findById(tournamentId)
                 .orElseThrow(() -> new RuntimeException("Tournament not found with id: " + tournamentId));
 
-        User currentUser = getCurrentUser();
+        User currentUser = currentUserResolver.getCurrentUser();
 
         Optional<TournamentLike> existingLike = tournamentLikeRepository.findByUserAndTournament(currentUser, tournament);
 
         if (existingLike.isPresent()) {
             // Unlike the tournament
             tournamentLikeRepository.delete(existingLike.get());
-            long totalLikes = tournamentLikeRepository.countByTournament(tournament);
+            tournamentStatsService.recordUnlikes(tournamentId, 1);
+            long totalLikes = tournamentStatsService.getLikeCount(tournamentId);
 
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
@@ -140,7 +148,8 @@ public class TournamentLikeService {
             // Like the tournament
             TournamentLike tournamentLike = new TournamentLike(currentUser, tournament);
             tournamentLikeRepository.save(tournamentLike);
-            long totalLikes = tournamentLikeRepository.countByTournament(tournament);
+            tournamentStatsService.recordLike(tournamentId);
+            long totalLikes = tournamentStatsService.getLikeCount(tournamentId);
 
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
@@ -164,10 +173,10 @@ public class TournamentLikeService {
         Tournament tournament = tournamentRepository.findById(tournamentId)
                 .orElseThrow(() -> new RuntimeException("Tournament not found with id: " + tournamentId));
 
-        User currentUser = getCurrentUser();
+        User currentUser = currentUserResolver.getCurrentUser();
 
         boolean userLiked = tournamentLikeRepository.existsByUserAndTournament(currentUser, tournament);
-        long totalLikes = tournamentLikeRepository.countByTournament(tournament);
+        long totalLikes = tournamentStatsService.getLikeCount(tournamentId);
 
         Map<String, Object> response = new HashMap<>();
         response.put("tournamentId", tournamentId);
@@ -180,15 +189,41 @@ public class TournamentLikeService {
     }
 
     /**
-     * Get tournaments liked by current user
-     * @return List of liked tournaments
+     * Get one page of the tournaments liked by current user, most recently liked first
+     * @param cursor Cursor returned with the previous page, or null for the first page
+     * @param limit Maximum number of tournaments on the page
+     * @return Liked tournaments and the cursor of the next page
      */
     @Transactional(readOnly = true)
-    public List<Map<String, Object>> getUserLikedTournaments() {
-        User currentUser = getCurrentUser();
-        List<TournamentLike> likes = tournamentLikeRepository.findByUserOrderByCreatedAtDesc(currentUser);
+    public CursorPage<Map<String, Object>> getUserLikedTournaments(String cursor, int limit) {
+        User currentUser = currentUserResolver.getCurrentUser();
+        List<TournamentLike> rows;
+        if (cursor == null) {
+            rows = tournamentLikeRepository.findPageByUser(currentUser, limit + 1);
+        } else {
+            PageCursor key = PageCursor.decode(cursor, CURSOR_LISTING, 2);
+            rows = tournamentLikeRepository.findPageByUserAfter(currentUser, key.getDateTime(0), key.getLong(1), limit + 1);
+        }
 
-        return likes.stream().map(like -> {
+        return CursorPage.of(rows, limit, last -> PageCursor.encode(CURSOR_LISTING, last.getCreatedAt(), last.getId()))
+                .map(this::toLikedTournaments);
+    }
+
+    /**
+     * Count every tournament liked by current user, across all pages
+     * @return Total number of likes by the current user
+     */
+    @Transactional(readOnly = true)
+    public long countUserLikes() {
+        return tournamentLikeRepository.countByUser(currentUserResolver.getCurrentUser());
+    }
+
+    private List<Map<String, Object>> toLikedTournaments(List<TournamentLike> likes) {
+        Map<Long, TournamentStats> statsById = tournamentStatsService.getStats(
+                likes.stream().map(like -> like.getTournament().getId()).collect(Collectors.toList()));
+
+        List<Map<String, Object>> likedTournaments = new ArrayList<>(likes.size());
+        for (TournamentLike like : likes) {
             Map<String, Object> tournamentInfo = new HashMap<>();
             Tournament tournament = like.getTournament();
 
@@ -198,10 +233,11 @@ public class TournamentLikeService {
             tournamentInfo.put("difficulty", tournament.getDifficulty());
             tournamentInfo.put("status", tournament.getStatus().name());
             tournamentInfo.put("likedAt", like.getCreatedAt());
-            tournamentInfo.put("totalLikes", tournamentLikeRepository.countByTournament(tournament));
+            tournamentInfo.put("totalLikes", statsById.get(tournament.getId()).getLikeCount());
 
-            return tournamentInfo;
-        }).collect(Collectors.toList());
+            likedTournaments.add(tournamentInfo);
+        }
+        return likedTournaments;
     }
 
     /**
@@ -271,7 +307,7 @@ public class TournamentLikeService {
      */
     @Transactional(readOnly = true)
     public Map<String, Object> getUserLikeStatistics() {
-        User currentUser = getCurrentUser();
+        User currentUser = currentUserResolver.getCurrentUser();
 
         long totalLikes = tournamentLikeRepository.countByUser(currentUser);
         List<TournamentLike> likes = tournamentLikeRepository.findByUser(currentUser);
@@ -315,6 +351,7 @@ public class TournamentLikeService {
 
         List<TournamentLike> likes = tournamentLikeRepository.findByTournament(tournament);
         tournamentLikeRepository.deleteAll(likes);
+        tournamentStatsService.recordUnlikes(tournamentId, likes.size());
 
         System.out.println("Removed " + likes.size() + " likes for tournament: " + tournament.getName());
     }
@@ -329,7 +366,7 @@ public class TournamentLikeService {
         Tournament tournament = tournamentRepository.findById(tournamentId)
                 .orElseThrow(() -> new RuntimeException("Tournament not found with id: " + tournamentId));
 
-        User currentUser = getCurrentUser();
+        User currentUser = currentUserResolver.getCurrentUser();
 
         boolean alreadyLiked = tournamentLikeRepository.existsByUserAndTournament(currentUser, tournament);
         boolean canLike = !alreadyLiked; // Users can like any tournament they haven't liked yet
@@ -343,15 +380,4 @@ public class TournamentLikeService {
 
         return eligibility;
     }
-
-    /**
-     * Get current authenticated user
-     */
-    private User getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        CustomUserPrincipal userPrincipal = (CustomUserPrincipal) authentication.getPrincipal();
-
-        return userRepository.findById(userPrincipal.getId())
-                .orElseThrow(() -> new RuntimeException("Current user not found"));
-    }
 }
\ No newline at end of file
@@ -0,0 +1,264 @@
+package com.quiztournament.quiz_backend.service;
+
+import com.quiztournament.quiz_backend.dto.OpenTDBQuestion;
+import com.quiztournament.quiz_backend.entity.Tournament;
+import com.quiztournament.quiz_backend.entity.TournamentQuestion;
+import com.quiztournament.quiz_backend.repository.TournamentQuestionRepository;
+import com.quiztournament.quiz_backend.repository.TournamentRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Service for tournament question sets
+ * A tournament's questions are resolved once, persisted in order and never change afterwards.
+ * Sets are immutable, so each node can keep them in a read-through cache without invalidation.
+ * Loads are single-flight: concurrent callers for the same tournament share one in-flight load.
+ */
+@Service
+public class TournamentQuestionService {
+
+    public static final int QUESTIONS_PER_TOURNAMENT = 10;
+
+    @Autowired
+    private TournamentQuestionRepository tournamentQuestionRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private QuestionBankService questionBankService;
+
+    @Autowired
+    private OpenTDBService openTDBService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    @Qualifier("questionSetExecutor")
+    private Executor questionSetExecutor;
+
+    // Read-through cache of frozen question sets
+    // Key: tournamentId, Value: questions in play order
+    private final Map<Long, List<OpenTDBQuestion>> questionSetCache = new ConcurrentHashMap<>();
+
+    // Loads in progress; every caller for the same tournament waits on the same future
+    private final Map<Long, CompletableFuture<List<OpenTDBQuestion>>> inFlightLoads = new ConcurrentHashMap<>();
+
+    /**
+     * Resolve and persist a new tournament's question set in the background
+     * Runs after the surrounding transaction commits so the tournament row is visible
+     * @param tournament Newly created tournament
+     */
+    public void freezeQuestionSetAsync(Tournament tournament) {
+        Long tournamentId = tournament.getId();
+        String category = tournament.getCategory();
+        String difficulty = tournament.getDifficulty();
+        Runnable task = () -> {
+            loadQuestionSetOnce(tournamentId, category, difficulty).exceptionally(e -> {
+                // The quiz path freezes the set itself if this did not happen
+                System.err.println("Failed to freeze questions for tournament " + tournamentId + ": " + e.getMessage());
+                return null;
+            });
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    questionSetExecutor.execute(task);
+                }
+            });
+        } else {
+            questionSetExecutor.execute(task);
+        }
+    }
+
+    /**
+     * Get a tournament's question set, loading it into the cache on first use
+     * Tournaments created before question sets existed are frozen on first access
+     * @param tournament Tournament
+     * @return Questions in play order
+     */
+    public List<OpenTDBQuestion> getQuestionSet(Tournament tournament) {
+        List<OpenTDBQuestion> questions = questionSetCache.get(tournament.getId());
+        if (questions != null) {
+            return questions;
+        }
+        return await(loadQuestionSetOnce(tournament.getId(), tournament.getCategory(), tournament.getDifficulty()));
+    }
+
+    /**
+     * Resolve and persist a tournament's question set unless it already has one
+     * Questions come from the local bank; OpenTDB is only called if the bank cannot fill the set.
+     * Incomplete sets (offline fallback questions) are returned but not persisted.
+     * @param tournamentId Tournament ID
+     * @param category Tournament category
+     * @param difficulty Tournament difficulty
+     * @return The frozen question set
+     */
+    public List<OpenTDBQuestion> freezeQuestionSet(Long tournamentId, String category, String difficulty) {
+        return await(loadQuestionSetOnce(tournamentId, category, difficulty));
+    }
+
+    /**
+     * Start loading a question set, or join the load already in flight for the tournament
+     */
+    private CompletableFuture<List<OpenTDBQuestion>> loadQuestionSetOnce(Long tournamentId, String category, String difficulty) {
+        CompletableFuture<List<OpenTDBQuestion>> load = new CompletableFuture<>();
+        CompletableFuture<List<OpenTDBQuestion>> inFlight = inFlightLoads.putIfAbsent(tournamentId, load);
+        if (inFlight != null) {
+            return inFlight;
+        }
+
+        // A load may have finished between the caller's cache miss and registering this one
+        List<OpenTDBQuestion> cached = questionSetCache.get(tournamentId);
+        CompletableFuture<List<OpenTDBQuestion>> resolved;
+        try {
+            resolved = cached != null
+                    ? CompletableFuture.completedFuture(cached)
+                    : resolveQuestionSet(tournamentId, category, difficulty);
+        } catch (RuntimeException e) {
+            resolved = CompletableFuture.failedFuture(e);
+        }
+
+        resolved.whenComplete((questions, error) -> {
+            if (error == null && questions.size() >= QUESTIONS_PER_TOURNAMENT) {
+                questionSetCache.put(tournamentId, questions);
+            }
+            // Cache first, then leave the in-flight map, so late callers always find one of them
+            inFlightLoads.remove(tournamentId, load);
+            if (error != null) {
+                load.completeExceptionally(error);
+            } else {
+                load.complete(questions);
+            }
+        });
+        return load;
+    }
+
+    /**
+     * Load the stored set, or draw a new one from the bank (or OpenTDB) and persist it
+     */
+    private CompletableFuture<List<OpenTDBQuestion>> resolveQuestionSet(Long tournamentId, String category, String difficulty) {
+        List<OpenTDBQuestion> existing = loadQuestionSet(tournamentId);
+        if (!existing.isEmpty()) {
+            return CompletableFuture.completedFuture(existing);
+        }
+
+        List<OpenTDBQuestion> drawn = questionBankService.drawQuestions(category, difficulty, QUESTIONS_PER_TOURNAMENT);
+        if (drawn.size() >= QUESTIONS_PER_TOURNAMENT) {
+            return CompletableFuture.completedFuture(persistQuestionSet(tournamentId, drawn));
+        }
+
+        // Bank not filled for this category yet - fetch from OpenTDB API
+        return openTDBService.fetchQuestionsAsync(category, difficulty, QUESTIONS_PER_TOURNAMENT)
+                .thenApply(questions -> persistQuestionSet(tournamentId, questions));
+    }
+
+    private List<OpenTDBQuestion> persistQuestionSet(Long tournamentId, List<OpenTDBQuestion> questions) {
+        if (questions.size() < QUESTIONS_PER_TOURNAMENT) {
+            // Only the short offline fallback list is available; serve it but try again next time
+            return Collections.unmodifiableList(new ArrayList<>(questions));
+        }
+
+        List<TournamentQuestion> rows = new ArrayList<>();
+        for (int i = 0; i < questions.size(); i++) {
+            rows.add(new TournamentQuestion(tournamentId, i + 1, questions.get(i)));
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> tournamentQuestionRepository.saveAll(rows));
+        } catch (DataIntegrityViolationException e) {
+            // Another node froze the set first; use theirs
+            return loadQuestionSet(tournamentId);
+        }
+
+        return Collections.unmodifiableList(new ArrayList<>(questions));
+    }
+
+    private List<OpenTDBQuestion> await(CompletableFuture<List<OpenTDBQuestion>> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Freeze question sets for tournaments that do not have one yet (startup backfill)
+     */
+    public void freezeMissingQuestionSetsAsync() {
+        questionSetExecutor.execute(() -> {
+            int frozen = 0;
+            for (Long tournamentId : tournamentQuestionRepository.findTournamentIdsWithoutQuestionSet()) {
+                try {
+                    Tournament tournament = tournamentRepository.findById(tournamentId).orElse(null);
+                    if (tournament != null) {
+                        freezeQuestionSet(tournamentId, tournament.getCategory(), tournament.getDifficulty());
+                        frozen++;
+                    }
+                } catch (Exception e) {
+                    System.err.println("Failed to freeze questions for tournament " + tournamentId + ": " + e.getMessage());
+                }
+            }
+            if (frozen > 0) {
+                System.out.println("Froze question sets for " + frozen + " existing tournaments");
+            }
+        });
+    }
+
+    /**
+     * Delete a tournament's question set (tournament deletion)
+     */
+    public void deleteQuestionSet(Long tournamentId) {
+        tournamentQuestionRepository.deleteByTournamentId(tournamentId);
+        questionSetCache.remove(tournamentId);
+    }
+
+    /**
+     * Drop a tournament's set from this node's cache; it is reloaded from the database on next use
+     */
+    public void evictFromCache(Long tournamentId) {
+        questionSetCache.remove(tournamentId);
+    }
+
+    /**
+     * Drop all sets from this node's cache
+     */
+    public void clearCache() {
+        questionSetCache.clear();
+    }
+
+    /**
+     * Number of question sets cached on this node
+     */
+    public int getCachedCount() {
+        return questionSetCache.size();
+    }
+
+    private List<OpenTDBQuestion> loadQuestionSet(Long tournamentId) {
+        List<OpenTDBQuestion> questions = new ArrayList<>();
+        for (TournamentQuestion question : tournamentQuestionRepository.findByTournamentIdOrderByQuestionNumber(tournamentId)) {
+            questions.add(question.toOpenTDBQuestion());
+        }
+        return Collections.unmodifiableList(questions);
+    }
+}
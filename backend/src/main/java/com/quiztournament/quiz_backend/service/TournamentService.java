@@ -1,23 +1,23 @@
 package com.quiztournament.quiz_backend.service;
 
+import com.quiztournament.quiz_backend.dto.CursorPage;
 import com.quiztournament.quiz_backend.dto.TournamentCreateRequest;
 import com.quiztournament.quiz_backend.dto.TournamentUpdateRequest;
 import com.quiztournament.quiz_backend.dto.TournamentResponse;
 import com.quiztournament.quiz_backend.entity.Tournament;
+import com.quiztournament.quiz_backend.entity.TournamentStats;
 import com.quiztournament.quiz_backend.entity.User;
 import com.quiztournament.quiz_backend.entity.TournamentStatus;
 import com.quiztournament.quiz_backend.repository.TournamentRepository;
-import com.quiztournament.quiz_backend.repository.UserRepository;
-import com.quiztournament.quiz_backend.service.CustomUserDetailsService.CustomUserPrincipal;
+import com.quiztournament.quiz_backend.util.PageCursor;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Sort;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -29,15 +29,29 @@ import java.util.stream.Collectors;
 @Transactional
 public class TournamentService {
 
+    // Maximum number of tournament IDs bound into a single statistics query
+    private static final int STATISTICS_BATCH_SIZE = 500;
+
+    private static final String CURSOR_LISTING = "tournaments";
+
     @Autowired
     private TournamentRepository tournamentRepository;
 
     @Autowired
-    private UserRepository userRepository;
+    private CurrentUserResolver currentUserResolver;
 
     @Autowired
     private EmailService emailService;
 
+    @Autowired
+    private TournamentStatsService tournamentStatsService;
+
+    @Autowired
+    private TournamentQuestionService tournamentQuestionService;
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
     /**
      * Create a new tournament
      * @param request Tournament creation data
@@ -45,7 +59,7 @@ public class TournamentService {
      */
     public TournamentResponse createTournament(TournamentCreateRequest request) {
         // Get current authenticated admin user
-        User currentUser = getCurrentUser();
+        User currentUser = currentUserResolver.getCurrentUser();
 
         // Validate that user is an admin (should be handled by security, but double-check)
         if (!currentUser.getRole().name().equals("ADMIN")) {
@@ -64,6 +78,8 @@ public class TournamentService {
 
         // Save tournament
         Tournament savedTournament = tournamentRepository.save(tournament);
+        tournamentStatsService.initializeStats(savedTournament.getId());
+        tournamentQuestionService.freezeQuestionSetAsync(savedTournament);
 
         // Send email notifications to all players
         try {
@@ -77,16 +93,20 @@ public class TournamentService {
     }
 
     /**
-     * Get all tournaments with statistics
-     * @return List of tournament responses with stats
+     * Get one page of all tournaments, newest first
+     * @param cursor Cursor returned with the previous page, or null for the first page
+     * @param limit Maximum number of tournaments on the page
+     * @return Tournament responses and the cursor of the next page
      */
     @Transactional(readOnly = true)
-    public List<TournamentResponse> getAllTournaments() {
-        List<Tournament> tournaments = tournamentRepository.findAll(Sort.by(Sort.Direction.DESC, "createdAt"));
-
-        return tournaments.stream()
-                .map(this::convertToResponseWithStats)
-                .collect(Collectors.toList());
+    public CursorPage<TournamentResponse> getTournamentPage(String cursor, int limit) {
+        List<Tournament> rows = cursor == null
+                ? tournamentRepository.findNewestFirst(limit + 1)
+                : tournamentRepository.findNewestFirstBefore(
+                        PageCursor.decode(cursor, CURSOR_LISTING, 1).getLong(0), limit + 1);
+
+        return CursorPage.of(rows, limit, last -> PageCursor.encode(CURSOR_LISTING, last.getId()))
+                .map(this::convertToResponsesWithStats);
     }
 
     /**
@@ -99,7 +119,7 @@ public class TournamentService {
         Tournament tournament = tournamentRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Tournament not found with id: " + id));
 
-        return convertToResponseWithStats(tournament);
+        return convertToResponsesWithStats(List.of(tournament)).get(0);
     }
 
     /**
@@ -113,7 +133,7 @@ public class TournamentService {
                 .orElseThrow(() -> new RuntimeException("Tournament not found with id: " + id));
 
         // Validate that the current user is the creator or an admin
-        User currentUser = getCurrentUser();
+        User currentUser = currentUserResolver.getCurrentUser();
         if (!tournament.getCreatedBy().getId().equals(currentUser.getId()) &&
                 !currentUser.getRole().name().equals("ADMIN")) {
             throw new RuntimeException("You can only update tournaments you created");
@@ -143,7 +163,7 @@ public class TournamentService {
                 .orElseThrow(() -> new RuntimeException("Tournament not found with id: " + id));
 
         // Validate that the current user is the creator or an admin
-        User currentUser = getCurrentUser();
+        User currentUser = currentUserResolver.getCurrentUser();
         if (!tournament.getCreatedBy().getId().equals(currentUser.getId()) &&
                 !currentUser.getRole().name().equals("ADMIN")) {
             throw new RuntimeException("You can only delete tournaments you created");
@@ -156,6 +176,9 @@ public class TournamentService {
         }
 
         tournamentRepository.delete(tournament);
+        tournamentStatsService.deleteStats(id);
+        tournamentQuestionService.deleteQuestionSet(id);
+        leaderboardService.evict(id);
     }
 
     /**
@@ -182,9 +205,7 @@ public class TournamentService {
                 tournaments = tournamentRepository.findAll();
         }
 
-        return tournaments.stream()
-                .map(this::convertToResponseWithStats)
-                .collect(Collectors.toList());
+        return convertToResponsesWithStats(tournaments);
     }
 
     /**
@@ -193,12 +214,10 @@ public class TournamentService {
      */
     @Transactional(readOnly = true)
     public List<TournamentResponse> getMyTournaments() {
-        User currentUser = getCurrentUser();
+        User currentUser = currentUserResolver.getCurrentUser();
         List<Tournament> tournaments = tournamentRepository.findByCreatedBy(currentUser);
 
-        return tournaments.stream()
-                .map(this::convertToResponseWithStats)
-                .collect(Collectors.toList());
+        return convertToResponsesWithStats(tournaments);
     }
 
     /**
@@ -210,9 +229,7 @@ public class TournamentService {
     public List<TournamentResponse> getTournamentsByCategory(String category) {
         List<Tournament> tournaments = tournamentRepository.findByCategory(category);
 
-        return tournaments.stream()
-                .map(this::convertToResponseWithStats)
-                .collect(Collectors.toList());
+        return convertToResponsesWithStats(tournaments);
     }
 
     /**
@@ -224,35 +241,29 @@ public class TournamentService {
     public List<TournamentResponse> getTournamentsByDifficulty(String difficulty) {
         List<Tournament> tournaments = tournamentRepository.findByDifficulty(difficulty);
 
-        return tournaments.stream()
-                .map(this::convertToResponseWithStats)
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * Convert tournament to response with statistics
-     * @param tournament Tournament entity
-     * @return Tournament response with stats
-     */
-    private TournamentResponse convertToResponseWithStats(Tournament tournament) {
-        // Get statistics
-        Long participantCount = tournamentRepository.countParticipants(tournament.getId());
-        Double averageScore = tournamentRepository.getAverageScore(tournament.getId());
-        Long likeCount = tournamentRepository.countLikes(tournament.getId());
-
-        return TournamentResponse.withStatistics(tournament, participantCount, averageScore, likeCount);
+        return convertToResponsesWithStats(tournaments);
     }
 
     /**
-     * Get current authenticated user
-     * @return Current user
+     * Convert tournaments to responses with statistics
+     * Statistics come from the tournament_stats aggregate table, one lookup per batch of tournaments
+     * @param tournaments Tournament entities
+     * @return Tournament responses with stats, in the same order as the input
      */
-    private User getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        CustomUserPrincipal userPrincipal = (CustomUserPrincipal) authentication.getPrincipal();
-
-        return userRepository.findById(userPrincipal.getId())
-                .orElseThrow(() -> new RuntimeException("Current user not found"));
+    private List<TournamentResponse> convertToResponsesWithStats(List<Tournament> tournaments) {
+        List<TournamentResponse> responses = new ArrayList<>(tournaments.size());
+        for (int from = 0; from < tournaments.size(); from += STATISTICS_BATCH_SIZE) {
+            List<Tournament> batch = tournaments.subList(from, Math.min(from + STATISTICS_BATCH_SIZE, tournaments.size()));
+            Map<Long, TournamentStats> statsById = tournamentStatsService.getStats(
+                    batch.stream().map(Tournament::getId).collect(Collectors.toList()));
+
+            for (Tournament tournament : batch) {
+                TournamentStats stats = statsById.get(tournament.getId());
+                responses.add(TournamentResponse.withStatistics(tournament,
+                        stats.getParticipantCount(), stats.getAverageScore(), stats.getLikeCount()));
+            }
+        }
+        return responses;
     }
 
     /**
@@ -0,0 +1,243 @@
+package com.quiztournament.quiz_backend.service;
+
+import com.quiztournament.quiz_backend.entity.Tournament;
+import com.quiztournament.quiz_backend.entity.TournamentStats;
+import com.quiztournament.quiz_backend.repository.QuizResultRepository;
+import com.quiztournament.quiz_backend.repository.TournamentLikeRepository;
+import com.quiztournament.quiz_backend.repository.TournamentRepository;
+import com.quiztournament.quiz_backend.repository.TournamentStatsRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Service maintaining the per-tournament aggregate table (tournament_stats)
+ * Writers call the record* methods inside their own transaction so the aggregates commit together with the
+ * underlying score and like rows. Readers get participants, average score, pass count and likes by primary key.
+ */
+@Service
+@Transactional
+public class TournamentStatsService {
+
+    @Autowired
+    private TournamentStatsRepository tournamentStatsRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private QuizResultRepository quizResultRepository;
+
+    @Autowired
+    private TournamentLikeRepository tournamentLikeRepository;
+
+    /**
+     * Create an empty aggregate row for a new tournament
+     * @param tournamentId Tournament ID
+     */
+    public void initializeStats(Long tournamentId) {
+        if (!tournamentStatsRepository.existsById(tournamentId)) {
+            tournamentStatsRepository.save(new TournamentStats(tournamentId));
+        }
+    }
+
+    /**
+     * Remove the aggregate row of a deleted tournament
+     * @param tournamentId Tournament ID
+     */
+    public void deleteStats(Long tournamentId) {
+        if (tournamentStatsRepository.existsById(tournamentId)) {
+            tournamentStatsRepository.deleteById(tournamentId);
+        }
+    }
+
+    /**
+     * Record a user's first score for a tournament
+     * @param tournamentId Tournament ID
+     * @param score Score out of 10
+     * @param passed Whether the user passed
+     */
+    public void recordNewScore(Long tournamentId, int score, boolean passed) {
+        applyScoreDelta(tournamentId, 1, score, passed ? 1 : 0);
+    }
+
+    /**
+     * Record a retake that replaced a user's previous score
+     * @param tournamentId Tournament ID
+     * @param previousScore Previous score out of 10
+     * @param previousPassed Whether the previous attempt passed
+     * @param newScore New score out of 10
+     * @param newPassed Whether the new attempt passed
+     */
+    public void recordScoreChange(Long tournamentId, int previousScore, boolean previousPassed,
+                                  int newScore, boolean newPassed) {
+        applyScoreDelta(tournamentId, 0, newScore - previousScore, (newPassed ? 1 : 0) - (previousPassed ? 1 : 0));
+    }
+
+    /**
+     * Record a new like on a tournament
+     * @param tournamentId Tournament ID
+     */
+    public void recordLike(Long tournamentId) {
+        applyLikeDelta(tournamentId, 1);
+    }
+
+    /**
+     * Record removed likes on a tournament
+     * @param tournamentId Tournament ID
+     * @param removedLikes Number of likes removed
+     */
+    public void recordUnlikes(Long tournamentId, long removedLikes) {
+        applyLikeDelta(tournamentId, -removedLikes);
+    }
+
+    /**
+     * Get aggregate statistics for a tournament
+     * @param tournamentId Tournament ID
+     * @return Statistics row (all zeros if the tournament has no row yet)
+     */
+    @Transactional(readOnly = true)
+    public TournamentStats getStats(Long tournamentId) {
+        return tournamentStatsRepository.findById(tournamentId)
+                .orElseGet(() -> new TournamentStats(tournamentId));
+    }
+
+    /**
+     * Get aggregate statistics for a batch of tournaments in one query
+     * @param tournamentIds Tournament IDs
+     * @return Statistics keyed by tournament ID; tournaments without a row map to all zeros
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, TournamentStats> getStats(Collection<Long> tournamentIds) {
+        Map<Long, TournamentStats> statsById = new HashMap<>();
+        for (TournamentStats stats : tournamentStatsRepository.findAllById(tournamentIds)) {
+            statsById.put(stats.getTournamentId(), stats);
+        }
+        for (Long tournamentId : tournamentIds) {
+            statsById.computeIfAbsent(tournamentId, TournamentStats::new);
+        }
+        return statsById;
+    }
+
+    /**
+     * Get current like count for a tournament
+     * @param tournamentId Tournament ID
+     * @return Number of likes
+     */
+    @Transactional(readOnly = true)
+    public long getLikeCount(Long tournamentId) {
+        Long likeCount = tournamentStatsRepository.findLikeCount(tournamentId);
+        return likeCount != null ? likeCount : 0L;
+    }
+
+    /**
+     * Get total likes across all tournaments
+     * @return Sum of like counts
+     */
+    @Transactional(readOnly = true)
+    public long getTotalLikes() {
+        return tournamentStatsRepository.sumLikeCounts();
+    }
+
+    /**
+     * Recompute every aggregate row from quiz_results and tournament_likes
+     * Used to repair drift (e.g. rows written before the aggregate table existed)
+     * @return Number of tournaments rebuilt
+     */
+    public int rebuildAll() {
+        Map<Long, TournamentStats> existing = new HashMap<>();
+        for (TournamentStats stats : tournamentStatsRepository.findAll()) {
+            existing.put(stats.getTournamentId(), stats);
+        }
+
+        Map<Long, TournamentStats> rebuilt = new HashMap<>();
+        for (Tournament tournament : tournamentRepository.findAll()) {
+            TournamentStats stats = existing.remove(tournament.getId());
+            if (stats == null) {
+                stats = new TournamentStats(tournament.getId());
+            }
+            stats.setParticipantCount(0L);
+            stats.setScoreSum(0L);
+            stats.setPassCount(0L);
+            stats.setLikeCount(0L);
+            stats.setUpdatedAt(LocalDateTime.now());
+            rebuilt.put(tournament.getId(), stats);
+        }
+
+        for (Object[] row : quizResultRepository.aggregateScoresByTournament()) {
+            TournamentStats stats = rebuilt.get((Long) row[0]);
+            if (stats != null) {
+                applyScoreAggregate(stats, row);
+            }
+        }
+
+        for (Object[] row : tournamentLikeRepository.countLikesByTournament()) {
+            TournamentStats stats = rebuilt.get((Long) row[0]);
+            if (stats != null) {
+                stats.setLikeCount(((Number) row[1]).longValue());
+            }
+        }
+
+        // Rows left over belong to tournaments that no longer exist
+        tournamentStatsRepository.deleteAll(existing.values());
+        tournamentStatsRepository.saveAll(rebuilt.values());
+
+        System.out.println("Rebuilt tournament statistics for " + rebuilt.size() + " tournaments");
+        return rebuilt.size();
+    }
+
+    /**
+     * Rebuild the aggregates only if some tournaments are missing a row
+     * Called at startup so existing databases get populated without a manual rebuild
+     */
+    public void rebuildIfIncomplete() {
+        if (tournamentStatsRepository.count() < tournamentRepository.count()) {
+            rebuildAll();
+        }
+    }
+
+    /**
+     * Recompute a single tournament's aggregate row from the base tables
+     * A single MERGE, so it is safe to race with another writer creating the same row
+     * @param tournamentId Tournament ID
+     */
+    public void rebuildTournament(Long tournamentId) {
+        tournamentStatsRepository.upsertFromBaseTables(tournamentId, LocalDateTime.now());
+    }
+
+    private void applyScoreDelta(Long tournamentId, long participantDelta, long scoreDelta, long passDelta) {
+        if (tournamentStatsRepository.applyScoreDelta(
+                tournamentId, participantDelta, scoreDelta, passDelta, LocalDateTime.now()) > 0) {
+            return;
+        }
+        // No row yet. Another writer may be creating it; its base-table snapshot misses this write,
+        // so once it commits the delta goes onto its row instead of replacing it
+        tournamentStatsRepository.lockTournament(tournamentId);
+        if (tournamentStatsRepository.applyScoreDelta(
+                tournamentId, participantDelta, scoreDelta, passDelta, LocalDateTime.now()) == 0) {
+            // Derive the row from the base tables, which already include the current write
+            rebuildTournament(tournamentId);
+        }
+    }
+
+    private void applyLikeDelta(Long tournamentId, long likeDelta) {
+        if (tournamentStatsRepository.applyLikeDelta(tournamentId, likeDelta, LocalDateTime.now()) > 0) {
+            return;
+        }
+        tournamentStatsRepository.lockTournament(tournamentId);
+        if (tournamentStatsRepository.applyLikeDelta(tournamentId, likeDelta, LocalDateTime.now()) == 0) {
+            rebuildTournament(tournamentId);
+        }
+    }
+
+    private void applyScoreAggregate(TournamentStats stats, Object[] row) {
+        stats.setParticipantCount(((Number) row[1]).longValue());
+        stats.setScoreSum(row[2] != null ? ((Number) row[2]).longValue() : 0L);
+        stats.setPassCount(row[3] != null ? ((Number) row[3]).longValue() : 0L);
+    }
+}
@@ -0,0 +1,102 @@
+package com.quiztournament.quiz_backend.service;
+
+import com.quiztournament.quiz_backend.entity.User;
+import com.quiztournament.quiz_backend.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Short-lived cache of user entities for authenticated requests
+ * Requests authenticate from JWT claims alone; code that needs the full user entity reads it through here.
+ * Entries expire after a short TTL and are invalidated explicitly when a user's profile or password changes.
+ */
+@Component
+public class UserPrincipalCache {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${app.auth.user-cache-ttl-seconds:60}")
+    private long ttlSeconds;
+
+    @Value("${app.auth.user-cache-max-size:10000}")
+    private int maxSize;
+
+    // Key: userId, Value: detached copy of the user with the time it was loaded
+    // Access-ordered and bounded: adding past maxSize drops the least recently used user
+    private final Map<Long, CachedUser> cache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, CachedUser> eldest) {
+            return size() > maxSize;
+        }
+    };
+
+    // Bumped by invalidate, so a load that raced with an invalidation is not cached
+    private long invalidations;
+
+    /**
+     * Get a user, loading it from the database if it is not cached or has expired
+     * Each call returns its own detached copy, so callers never share an entity across threads
+     * @param userId User ID
+     * @return User if found
+     */
+    public Optional<User> findUser(Long userId) {
+        long now = System.currentTimeMillis();
+        long invalidationsBeforeLoad;
+        synchronized (cache) {
+            CachedUser cached = cache.get(userId);
+            if (cached != null && now - cached.loadedAt < ttlSeconds * 1000) {
+                return Optional.of(new User(cached.user));
+            }
+            invalidationsBeforeLoad = invalidations;
+        }
+
+        // Loaded outside the lock; the cache only keeps a copy, never the persistence context's entity
+        Optional<User> user = userRepository.findById(userId);
+        synchronized (cache) {
+            if (user.isPresent() && invalidations == invalidationsBeforeLoad) {
+                cache.put(userId, new CachedUser(new User(user.get()), now));
+            } else {
+                cache.remove(userId);
+            }
+        }
+        return user.map(User::new);
+    }
+
+    /**
+     * Drop a user from the cache (profile or password changed)
+     * @param userId User ID
+     */
+    public void invalidate(Long userId) {
+        if (userId != null) {
+            synchronized (cache) {
+                cache.remove(userId);
+                invalidations++;
+            }
+        }
+    }
+
+    /**
+     * Number of cached users
+     */
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    private static class CachedUser {
+        private final User user;
+        private final long loadedAt;
+
+        private CachedUser(User user, long loadedAt) {
+            this.user = user;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.quiztournament.quiz_backend.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Email body template compiled once into literal segments and {{name}} placeholders
+ * Rendering copies the segments and values into a buffer sized up front, so a body is built
+ * without rescanning the template or regrowing the buffer.
+ * Values are inserted as-is; a value containing {{...}} is not expanded again.
+ */
+public final class EmailTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    // literals[i] precedes names[i]; the last literal follows the last placeholder
+    private final String[] literals;
+    private final String[] names;
+    private final int literalLength;
+
+    private EmailTemplate(String[] literals, String[] names) {
+        this.literals = literals;
+        this.names = names;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Parse a template
+     * @throws IllegalArgumentException if a placeholder is not closed or has no name
+     */
+    public static EmailTemplate compile(String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        int position = 0;
+        int open;
+        while ((open = source.indexOf(OPEN, position)) >= 0) {
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder at " + open);
+            }
+            String name = source.substring(open + OPEN.length(), close).trim();
+            if (name.isEmpty()) {
+                throw new IllegalArgumentException("Empty placeholder at " + open);
+            }
+            literals.add(source.substring(position, open));
+            names.add(name);
+            position = close + CLOSE.length();
+        }
+        literals.add(source.substring(position));
+        return new EmailTemplate(literals.toArray(new String[0]), names.toArray(new String[0]));
+    }
+
+    /**
+     * Substitute every placeholder
+     * @param values Value per placeholder name; null values render as "null", like string concatenation
+     * @throws IllegalArgumentException if a placeholder has no entry in values
+     */
+    public String render(Map<String, ?> values) {
+        if (names.length == 0) {
+            return literals[0];
+        }
+        String[] rendered = new String[names.length];
+        int length = literalLength;
+        for (int i = 0; i < names.length; i++) {
+            Object value = values.get(names[i]);
+            if (value == null && !values.containsKey(names[i])) {
+                throw new IllegalArgumentException("No value for template placeholder: " + names[i]);
+            }
+            rendered[i] = String.valueOf(value);
+            length += rendered[i].length();
+        }
+
+        StringBuilder body = new StringBuilder(length);
+        for (int i = 0; i < names.length; i++) {
+            body.append(literals[i]).append(rendered[i]);
+        }
+        return body.append(literals[names.length]).toString();
+    }
+
+    /**
+     * Placeholder names in order of appearance, repeated if a placeholder appears more than once
+     */
+    public List<String> getPlaceholders() {
+        return List.of(names);
+    }
+}
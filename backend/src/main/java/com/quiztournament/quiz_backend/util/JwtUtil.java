@@ -2,6 +2,7 @@ package com.quiztournament.quiz_backend.util;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
@@ -15,6 +16,7 @@ import java.util.function.Function;
 /**
  * Utility class for handling JWT token operations
  * Handles token generation, validation, and extraction of user information
+ * The signing key and parser are built once; each validation parses and verifies the token once.
  */
 @Component
 public class JwtUtil {
@@ -25,9 +27,26 @@ public class JwtUtil {
     @Value("${jwt.expiration}")
     private Long expiration;
 
-    // Generate secret key from string
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    // Build the signing key and parser from the secret (thread-safe, shared by all requests)
+    @PostConstruct
+    public void init() {
+        signingKey = Keys.hmacShaKeyFor(secret.getBytes());
+        parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+    }
+
+    // Verify signature and expiry once and return the claims, or null if the token is not valid
+    public Claims validateAndGetClaims(String token) {
+        try {
+            Claims claims = extractAllClaims(token);
+            return isExpired(claims) ? null : claims;
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
     }
 
     // Extract username from token
@@ -35,6 +54,36 @@ public class JwtUtil {
         return extractClaim(token, Claims::getSubject);
     }
 
+    // Extract user ID claim (null for tokens issued without it)
+    public Long extractUserId(String token) {
+        return extractClaim(token, this::getUserId);
+    }
+
+    // Extract role claim (null for tokens issued without it)
+    public String extractRole(String token) {
+        return extractClaim(token, this::getRole);
+    }
+
+    // Extract email claim (null for tokens issued without it)
+    public String extractEmail(String token) {
+        return extractClaim(token, this::getEmail);
+    }
+
+    // Read user ID from already verified claims
+    public Long getUserId(Claims claims) {
+        return claims.get("userId", Long.class);
+    }
+
+    // Read role from already verified claims
+    public String getRole(Claims claims) {
+        return claims.get("role", String.class);
+    }
+
+    // Read email from already verified claims
+    public String getEmail(Claims claims) {
+        return claims.get("email", String.class);
+    }
+
     // Extract expiration date from token
     public Date extractExpiration(String token) {
         return extractClaim(token, Claims::getExpiration);
@@ -48,16 +97,12 @@ public class JwtUtil {
 
     // Extract all claims from token
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 
-    // Check if token is expired
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    // Check if claims are expired
+    private boolean isExpired(Claims claims) {
+        return claims.getExpiration() != null && claims.getExpiration().before(new Date());
     }
 
     // Generate token for user
@@ -79,27 +124,18 @@ public class JwtUtil {
                 .setSubject(subject)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
     // Validate token
     public Boolean validateToken(String token, UserDetails userDetails) {
-        try {
-            final String username = extractUsername(token);
-            return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
-        }
+        Claims claims = validateAndGetClaims(token);
+        return claims != null && userDetails.getUsername().equals(claims.getSubject());
     }
 
     // Check if token is valid (not expired and properly formatted)
     public Boolean isTokenValid(String token) {
-        try {
-            extractAllClaims(token);
-            return !isTokenExpired(token);
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
-        }
+        return validateAndGetClaims(token) != null;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,93 @@
+package com.quiztournament.quiz_backend.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.regex.Pattern;
+
+/**
+ * Opaque continuation tokens for keyset-paginated listings
+ * A cursor holds the sort key of the last item on a page together with the name of the listing,
+ * so the next page is read with an index seek instead of an offset, and a token issued by one
+ * listing is rejected by another.
+ */
+public class PageCursor {
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final String SEPARATOR = "|";
+    private static final Pattern SEPARATOR_PATTERN = Pattern.compile(Pattern.quote(SEPARATOR));
+
+    private final String[] keys;
+
+    private PageCursor(String[] keys) {
+        this.keys = keys;
+    }
+
+    /**
+     * Encode the sort key of the last item on a page
+     * @param listing Name of the listing the cursor belongs to
+     * @param keys Sort key values; their toString() must not contain '|'
+     */
+    public static String encode(String listing, Object... keys) {
+        StringBuilder token = new StringBuilder(listing);
+        for (Object key : keys) {
+            token.append(SEPARATOR).append(key);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor issued by encode for the same listing
+     * @return The decoded sort key, read back with the typed getters in the order it was encoded
+     * @throws RuntimeException if the cursor is malformed or belongs to another listing
+     */
+    public static PageCursor decode(String cursor, String listing, int keyCount) {
+        String[] parts;
+        try {
+            String token = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            parts = SEPARATOR_PATTERN.split(token, -1);
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid page cursor");
+        }
+        if (parts.length != keyCount + 1 || !parts[0].equals(listing)) {
+            throw new RuntimeException("Invalid page cursor");
+        }
+        String[] keys = new String[keyCount];
+        System.arraycopy(parts, 1, keys, 0, keyCount);
+        return new PageCursor(keys);
+    }
+
+    public Long getLong(int index) {
+        try {
+            return Long.valueOf(keys[index]);
+        } catch (NumberFormatException e) {
+            throw new RuntimeException("Invalid page cursor");
+        }
+    }
+
+    public double getDouble(int index) {
+        try {
+            return Double.parseDouble(keys[index]);
+        } catch (NumberFormatException e) {
+            throw new RuntimeException("Invalid page cursor");
+        }
+    }
+
+    public LocalDateTime getDateTime(int index) {
+        try {
+            return LocalDateTime.parse(keys[index]);
+        } catch (DateTimeParseException e) {
+            throw new RuntimeException("Invalid page cursor");
+        }
+    }
+
+    /**
+     * Clamp a requested page size to 1..MAX_PAGE_SIZE, using the default when none was given
+     */
+    public static int pageSize(int requested) {
+        return requested > 0 ? Math.min(requested, MAX_PAGE_SIZE) : DEFAULT_PAGE_SIZE;
+    }
+}
@@ -0,0 +1,139 @@
+package com.quiztournament.quiz_backend.benchmark;
+
+import com.quiztournament.quiz_backend.service.EmailTemplates;
+import com.quiztournament.quiz_backend.service.PreparedEmail;
+import jakarta.mail.internet.MimeMessage;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMailMessage;
+
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Email messages rendered per second
+ * renderBody builds one quiz completion body per recipient: "legacy" repeats the old StringBuilder code,
+ * "compiled" renders EmailTemplates.QUIZ_COMPLETION.
+ * renderBroadcastBatch turns one tournament notification into MIME messages for a batch of recipients, written out
+ * as they would be sent: "legacy" converts a SimpleMailMessage per recipient the way JavaMailSenderImpl does,
+ * "compiled" shares one PreparedEmail across the batch as EmailDispatcher does.
+ * Run with: mvn -Pbenchmark test -Dbenchmark=EmailRenderBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmailRenderBenchmark {
+
+    private static final int BATCH_SIZE = 50;
+    private static final String FRONTEND_URL = "http://localhost:3000";
+
+    @Param({"legacy", "compiled"})
+    public String mode;
+
+    private JavaMailSenderImpl mailSender;
+    private String subject;
+    private String broadcastBody;
+    private String[] recipients;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Never connects: messages are only built and written to a null stream
+        mailSender = new JavaMailSenderImpl();
+        subject = "New Quiz Tournament Available: General Knowledge Championship";
+        Map<String, Object> values = new HashMap<>();
+        values.put("name", "General Knowledge Championship");
+        values.put("category", "general");
+        values.put("difficulty", "medium");
+        values.put("startDate", "2026-11-01");
+        values.put("endDate", "2026-11-30");
+        values.put("minPassingScore", 60.0);
+        values.put("createdByFirstName", "Admin");
+        values.put("createdByLastName", "User");
+        values.put("frontendUrl", FRONTEND_URL);
+        broadcastBody = EmailTemplates.NEW_TOURNAMENT.render(values);
+
+        recipients = new String[BATCH_SIZE * 20];
+        for (int i = 0; i < recipients.length; i++) {
+            recipients[i] = "player" + i + "@example.com";
+        }
+    }
+
+    @Benchmark
+    public String renderBody() {
+        int score = next++ % 11;
+        String firstName = recipients[next % recipients.length];
+        if ("legacy".equals(mode)) {
+            return legacyQuizCompletionBody(firstName, "General Knowledge Championship", score, 60.0, score >= 6);
+        }
+        Map<String, Object> values = new HashMap<>();
+        values.put("firstName", firstName);
+        values.put("tournamentName", "General Knowledge Championship");
+        values.put("score", score);
+        values.put("percentage", score * 10);
+        values.put("status", score >= 6 ? "PASSED" : "FAILED");
+        values.put("minPassingScore", 60.0);
+        values.put("outcome", score >= 6 ? EmailTemplates.PASSED_OUTCOME : EmailTemplates.FAILED_OUTCOME);
+        values.put("frontendUrl", FRONTEND_URL);
+        return EmailTemplates.QUIZ_COMPLETION.render(values);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int renderBroadcastBatch() throws Exception {
+        int from = (next++ * BATCH_SIZE) % recipients.length;
+        PreparedEmail prepared = "compiled".equals(mode)
+                ? new PreparedEmail(mailSender, "noreply@quiztournament.com", subject, broadcastBody)
+                : null;
+        int written = 0;
+        for (int i = from; i < from + BATCH_SIZE; i++) {
+            MimeMessage message;
+            if (prepared != null) {
+                message = prepared.forRecipient(recipients[i]);
+            } else {
+                SimpleMailMessage simpleMessage = new SimpleMailMessage();
+                simpleMessage.setFrom("noreply@quiztournament.com");
+                simpleMessage.setTo(recipients[i]);
+                simpleMessage.setSubject(subject);
+                simpleMessage.setText(broadcastBody);
+                MimeMailMessage mimeMailMessage = new MimeMailMessage(mailSender.createMimeMessage());
+                simpleMessage.copyTo(mimeMailMessage);
+                message = mimeMailMessage.getMimeMessage();
+            }
+            message.saveChanges();
+            message.writeTo(OutputStream.nullOutputStream());
+            written++;
+        }
+        return written;
+    }
+
+    // The body builder EmailService used before compiled templates
+    private static String legacyQuizCompletionBody(String firstName, String tournamentName, int score,
+                                                   double minPassingScore, boolean passed) {
+        StringBuilder body = new StringBuilder();
+        body.append("Hello ").append(firstName).append(",\n\n");
+        body.append("You have completed the quiz tournament: ").append(tournamentName).append("\n\n");
+        body.append("Your Results:\n");
+        body.append("- Score: ").append(score).append("/10\n");
+        body.append("- Percentage: ").append((score * 10)).append("%\n");
+        body.append("- Status: ").append(passed ? "PASSED" : "FAILED").append("\n");
+        body.append("- Minimum Passing Score: ").append(minPassingScore).append("%\n\n");
+        if (passed) {
+            body.append("Congratulations! You have successfully passed this tournament! 🎉\n\n");
+        } else {
+            body.append("You didn't pass this time, but don't give up! Keep practicing and try other tournaments.\n\n");
+        }
+        body.append("View detailed results: ").append(FRONTEND_URL).append("/my-results\n");
+        body.append("Browse more tournaments: ").append(FRONTEND_URL).append("/tournaments\n\n");
+        body.append("Keep learning and have fun!\n\n");
+        body.append("Best regards,\n");
+        body.append("Quiz Tournament Team");
+        return body.toString();
+    }
+}
@@ -0,0 +1,81 @@
+package com.quiztournament.quiz_backend.benchmark;
+
+import com.quiztournament.quiz_backend.entity.User;
+import com.quiztournament.quiz_backend.entity.UserRole;
+import com.quiztournament.quiz_backend.service.CustomUserDetailsService.CustomUserPrincipal;
+import com.quiztournament.quiz_backend.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tokens verified per second by the authentication filter's validation step
+ * "legacy" repeats the old path: a fresh key and parser for each of the three parses per request.
+ * "single-parse" is the current JwtUtil: one parse with the key and parser built at startup.
+ * Run with: mvn -Pbenchmark test -Dbenchmark=JwtValidationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtValidationBenchmark {
+
+    private static final String SECRET = "benchmarkSecretKey12345678901234567890123456789012345";
+
+    @Param({"legacy", "single-parse"})
+    public String validation;
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 3600000L);
+        jwtUtil.init();
+
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("player");
+        user.setEmail("player@test.com");
+        user.setRole(UserRole.PLAYER);
+
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("userId", user.getId());
+        claims.put("role", user.getRole().name());
+        claims.put("email", user.getEmail());
+        token = jwtUtil.generateToken(new CustomUserPrincipal(user), claims);
+    }
+
+    @Benchmark
+    public Object validate() {
+        if ("legacy".equals(validation)) {
+            // extractUsername in the filter, then extractUsername and isTokenExpired in validateToken
+            String username = legacyParse().getSubject();
+            boolean valid = username.equals(legacyParse().getSubject())
+                    && !legacyParse().getExpiration().before(new Date());
+            return valid ? username : null;
+        }
+
+        Claims claims = jwtUtil.validateAndGetClaims(token);
+        return claims != null ? claims.getSubject() : null;
+    }
+
+    private Claims legacyParse() {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+}
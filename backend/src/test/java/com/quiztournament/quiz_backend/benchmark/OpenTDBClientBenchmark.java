@@ -0,0 +1,78 @@
+package com.quiztournament.quiz_backend.benchmark;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.quiztournament.quiz_backend.config.RestTemplateConfig;
+import com.quiztournament.quiz_backend.dto.OpenTDBResponse;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+
+/**
+ * Per-call latency of OpenTDB requests through a fresh connection per call versus the keep-alive pool
+ * At the end of a pooled trial the pool statistics show how few connections served all calls.
+ * Run with: mvn -Pbenchmark test -Dbenchmark=OpenTDBClientBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OpenTDBClientBenchmark {
+
+    @Param({"simple", "pooled"})
+    public String clientType;
+
+    private WireMockServer openTdb;
+    private PoolingHttpClientConnectionManager connectionManager;
+    private RestTemplate restTemplate;
+    private String url;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        openTdb = new WireMockServer(wireMockConfig().dynamicPort());
+        openTdb.start();
+        openTdb.stubFor(get(urlPathEqualTo("/api.php"))
+                .willReturn(okJson("{\"response_code\": 0, \"results\": []}")));
+        url = openTdb.baseUrl() + "/api.php?amount=1";
+
+        if ("pooled".equals(clientType)) {
+            RestTemplateConfig config = new RestTemplateConfig();
+            ReflectionTestUtils.setField(config, "maxTotalConnections", 20);
+            ReflectionTestUtils.setField(config, "maxConnectionsPerRoute", 10);
+            ReflectionTestUtils.setField(config, "idleEvictSeconds", 30L);
+            connectionManager = config.openTdbConnectionManager();
+            restTemplate = config.restTemplate(connectionManager);
+        } else {
+            // The previous configuration: SimpleClientHttpRequestFactory over HttpURLConnection
+            SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+            factory.setConnectTimeout(5000);
+            factory.setReadTimeout(10000);
+            restTemplate = new RestTemplate(factory);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (connectionManager != null) {
+            PoolStats stats = connectionManager.getTotalStats();
+            System.out.println("Pooled connections after trial: available=" + stats.getAvailable()
+                    + ", leased=" + stats.getLeased() + ", pending=" + stats.getPending());
+            connectionManager.close();
+        }
+        openTdb.stop();
+    }
+
+    @Benchmark
+    public OpenTDBResponse fetch() {
+        return restTemplate.getForObject(url, OpenTDBResponse.class);
+    }
+}
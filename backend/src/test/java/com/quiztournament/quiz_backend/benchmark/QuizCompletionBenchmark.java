@@ -0,0 +1,130 @@
+package com.quiztournament.quiz_backend.benchmark;
+
+import com.quiztournament.quiz_backend.QuizBackendApplication;
+import com.quiztournament.quiz_backend.dto.OpenTDBQuestion;
+import com.quiztournament.quiz_backend.entity.Tournament;
+import com.quiztournament.quiz_backend.entity.User;
+import com.quiztournament.quiz_backend.entity.UserRole;
+import com.quiztournament.quiz_backend.repository.TournamentRepository;
+import com.quiztournament.quiz_backend.repository.UserRepository;
+import com.quiztournament.quiz_backend.service.CustomUserDetailsService.CustomUserPrincipal;
+import com.quiztournament.quiz_backend.service.QuestionService;
+import com.quiztournament.quiz_backend.service.QuestionService.UserAnswer;
+import com.quiztournament.quiz_backend.service.QuizCompletionWriter;
+import com.quiztournament.quiz_backend.service.QuizSession;
+import com.quiztournament.quiz_backend.service.QuizSessionStore;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Quiz completions per second with concurrent players, journaled and written through to the database
+ * Each thread drains the completion journal after completing, so writes from concurrent players share batches.
+ * Every completion after a player's first is a retake, so it deletes and re-inserts the detailed answers.
+ * jdbcBatchSize=1 disables insert batching (one statement per answer row); 50 is the configured default.
+ * Run with: mvn -Pbenchmark test -Dbenchmark=QuizCompletionBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class QuizCompletionBenchmark {
+
+    private static final int QUESTIONS = 10;
+
+    @Param({"1", "50"})
+    public String jdbcBatchSize;
+
+    private ConfigurableApplicationContext context;
+    private QuestionService questionService;
+    private QuizSessionStore quizSessionStore;
+    private QuizCompletionWriter quizCompletionWriter;
+    private UserRepository userRepository;
+    private Long tournamentId;
+    private List<OpenTDBQuestion> questions;
+    private final AtomicInteger players = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(QuizBackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties("spring.datasource.url=jdbc:h2:mem:completion_bench;DB_CLOSE_DELAY=-1",
+                        "app.quiz.completion-journal-dir=target/bench-journal/" + System.nanoTime(),
+                        "spring.jpa.properties.hibernate.jdbc.batch_size=" + jdbcBatchSize,
+                        "logging.level.root=ERROR")
+                .run();
+        questionService = context.getBean(QuestionService.class);
+        quizSessionStore = context.getBean(QuizSessionStore.class);
+        quizCompletionWriter = context.getBean(QuizCompletionWriter.class);
+        userRepository = context.getBean(UserRepository.class);
+
+        User admin = userRepository.save(newUser("bench_admin", UserRole.ADMIN));
+        tournamentId = context.getBean(TournamentRepository.class).save(new Tournament("Completion Benchmark",
+                "9", "medium", LocalDate.now().minusDays(1), LocalDate.now().plusDays(5), 50.0, admin)).getId();
+
+        questions = new ArrayList<>();
+        for (int i = 0; i < QUESTIONS; i++) {
+            questions.add(new OpenTDBQuestion("General Knowledge", "multiple", "medium",
+                    "Benchmark question " + i, "A", List.of("B", "C", "D")));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Player {
+        User user;
+        Map<Integer, UserAnswer> answers;
+
+        @Setup(Level.Trial)
+        public void setUp(QuizCompletionBenchmark benchmark) {
+            user = benchmark.userRepository.save(benchmark.newUser(
+                    "bench_player_" + benchmark.players.incrementAndGet(), UserRole.PLAYER));
+            SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                    new CustomUserPrincipal(user), null, List.of()));
+
+            answers = new HashMap<>();
+            for (int i = 1; i <= QUESTIONS; i++) {
+                answers.put(i, new UserAnswer(i % 3 == 0 ? "B" : "A", i % 3 != 0, System.currentTimeMillis(),
+                        "A", "Benchmark question " + (i - 1)));
+            }
+        }
+    }
+
+    @Benchmark
+    public int completeQuiz(Player player) {
+        quizSessionStore.save(new QuizSession(player.user.getId(), tournamentId, questions, player.answers,
+                System.currentTimeMillis()));
+        questionService.completeQuiz(tournamentId);
+        return quizCompletionWriter.drain();
+    }
+
+    private User newUser(String username, UserRole role) {
+        User user = new User();
+        user.setUsername(username);
+        user.setFirstName("Bench");
+        user.setLastName("User");
+        user.setEmail(username + "@bench.test");
+        user.setPassword("password");
+        user.setRole(role);
+        return user;
+    }
+}
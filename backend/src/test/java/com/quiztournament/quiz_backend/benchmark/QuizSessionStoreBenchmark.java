@@ -0,0 +1,87 @@
+package com.quiztournament.quiz_backend.benchmark;
+
+import com.quiztournament.quiz_backend.config.JdbcSchemaInitializer;
+import com.quiztournament.quiz_backend.dto.OpenTDBQuestion;
+import com.quiztournament.quiz_backend.service.InMemoryQuizSessionStore;
+import com.quiztournament.quiz_backend.service.JdbcQuizSessionStore;
+import com.quiztournament.quiz_backend.service.QuestionService.UserAnswer;
+import com.quiztournament.quiz_backend.service.QuizSession;
+import com.quiztournament.quiz_backend.service.QuizSessionStore;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-answer latency of the quiz session stores
+ * Run with: mvn -Pbenchmark test -Dbenchmark=QuizSessionStoreBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QuizSessionStoreBenchmark {
+
+    private static final int SESSIONS = 1000;
+    private static final int QUESTIONS = 10;
+
+    @Param({"memory", "jdbc"})
+    public String storeType;
+
+    private QuizSessionStore store;
+    private HikariDataSource dataSource;
+    private long counter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if ("jdbc".equals(storeType)) {
+            dataSource = new HikariDataSource();
+            dataSource.setJdbcUrl("jdbc:h2:mem:session_bench;DB_CLOSE_DELAY=-1");
+            dataSource.setUsername("sa");
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            JdbcSchemaInitializer schemaInitializer = new JdbcSchemaInitializer();
+            ReflectionTestUtils.setField(schemaInitializer, "jdbcTemplate", jdbcTemplate);
+            schemaInitializer.createTables();
+            JdbcQuizSessionStore jdbcStore = new JdbcQuizSessionStore();
+            ReflectionTestUtils.setField(jdbcStore, "jdbcTemplate", jdbcTemplate);
+            store = jdbcStore;
+        } else {
+            store = new InMemoryQuizSessionStore();
+        }
+
+        List<OpenTDBQuestion> questions = new ArrayList<>();
+        for (int i = 0; i < QUESTIONS; i++) {
+            questions.add(new OpenTDBQuestion("General Knowledge", "multiple", "medium",
+                    "Benchmark question " + i, "A", List.of("B", "C", "D")));
+        }
+        for (long userId = 0; userId < SESSIONS; userId++) {
+            store.save(new QuizSession(userId, 1L, questions));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (dataSource != null) {
+            dataSource.close();
+        }
+    }
+
+    @Benchmark
+    public void recordAnswer() {
+        long n = counter++;
+        store.recordAnswer(n % SESSIONS, 1L, (int) (n % QUESTIONS) + 1,
+                new UserAnswer("A", true, n, "A", "Benchmark question"));
+    }
+
+    @Benchmark
+    public QuizSession findSession() {
+        long n = counter++;
+        return store.find(n % SESSIONS, 1L).orElseThrow();
+    }
+}
@@ -0,0 +1,63 @@
+package com.quiztournament.quiz_backend.benchmark;
+
+import com.quiztournament.quiz_backend.config.TokenBucketRateLimiter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Rate limit decisions per second under contention (8 threads)
+ * "legacy" repeats the old filter: a ConcurrentHashMap of counters keyed by IP, cleared every minute.
+ * "token-bucket" is the current TokenBucketRateLimiter with a fixed table.
+ * clients is the number of distinct addresses; above the table size the limiter keeps evicting.
+ * Run with: mvn -Pbenchmark test -Dbenchmark=RateLimiterBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class RateLimiterBenchmark {
+
+    private static final int TABLE_SIZE = 65536;
+
+    @Param({"legacy", "token-bucket"})
+    public String limiterType;
+
+    @Param({"1000", "1000000"})
+    public int clients;
+
+    private String[] addresses;
+    private TokenBucketRateLimiter limiter;
+    private ConcurrentHashMap<String, AtomicInteger> requestCounts;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        addresses = new String[clients];
+        for (int i = 0; i < clients; i++) {
+            addresses[i] = "10." + (i >> 16 & 255) + "." + (i >> 8 & 255) + "." + (i & 255);
+        }
+        limiter = new TokenBucketRateLimiter(1000, 1, TimeUnit.MINUTES, TABLE_SIZE);
+        requestCounts = new ConcurrentHashMap<>();
+    }
+
+    @Setup(Level.Iteration)
+    public void resetCounters() {
+        // Stands in for the old once-a-minute clear()
+        requestCounts.clear();
+    }
+
+    @Benchmark
+    public boolean acquire() {
+        String address = addresses[ThreadLocalRandom.current().nextInt(clients)];
+        if ("legacy".equals(limiterType)) {
+            return requestCounts.computeIfAbsent(address, k -> new AtomicInteger(0)).incrementAndGet() <= 1000;
+        }
+        return limiter.tryAcquire(address) == 0;
+    }
+}
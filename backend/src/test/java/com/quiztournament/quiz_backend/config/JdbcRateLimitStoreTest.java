@@ -0,0 +1,88 @@
+package com.quiztournament.quiz_backend.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests the shared rate limit counters with two nodes on the embedded database
+ */
+@JdbcTest(properties = "app.rate-limit.store=jdbc")
+@Import({JdbcRateLimitStore.class, JdbcSchemaInitializer.class})
+class JdbcRateLimitStoreTest {
+
+    @Autowired
+    private JdbcRateLimitStore store;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private JdbcRateLimitStore otherNode;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM rate_limit_counters");
+        jdbcTemplate.update("DELETE FROM rate_limit_nodes");
+        otherNode = new JdbcRateLimitStore();
+        ReflectionTestUtils.setField(otherNode, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(otherNode, "flushIntervalMs", 500L);
+    }
+
+    @Test
+    void flush_TwoNodes_EnforcesLimitAcrossCluster() {
+        // Given - both nodes are live, so each starts with half the limit
+        SharedRateLimiter first = store.createLimiter("auth", 10, 1, TimeUnit.MINUTES, 1024);
+        SharedRateLimiter second = otherNode.createLimiter("auth", 10, 1, TimeUnit.MINUTES, 1024);
+        store.flush();
+        otherNode.flush();
+        store.flush();
+        assertThat(store.getActiveNodes()).isEqualTo(2);
+
+        // When
+        assertThat(acquireAll(first, "10.0.0.1")).isEqualTo(5);
+        assertThat(acquireAll(second, "10.0.0.1")).isEqualTo(5);
+        store.flush();
+        otherNode.flush();
+        store.flush();
+
+        // Then - the client used its whole limit across the cluster, other clients are unaffected
+        Integer counted = jdbcTemplate.queryForObject(
+                "SELECT SUM(request_count) FROM rate_limit_counters WHERE limiter = 'auth'", Integer.class);
+        assertThat(counted).isEqualTo(10);
+        assertThat(first.tryAcquire("10.0.0.1")).isPositive();
+        assertThat(second.tryAcquire("10.0.0.1")).isPositive();
+        assertThat(first.tryAcquire("10.0.0.2")).isZero();
+    }
+
+    @Test
+    void flush_IdleClients_AreDropped() {
+        // Given
+        SharedRateLimiter limiter = store.createLimiter("api", 100, 1, TimeUnit.MINUTES, 1024);
+        limiter.tryAcquire("10.0.0.1");
+        store.flush();
+        assertThat(limiter.getTrackedClients()).isEqualTo(1);
+
+        // When - the shared counts are gone, e.g. the window expired
+        jdbcTemplate.update("DELETE FROM rate_limit_counters");
+        store.flush();
+
+        // Then
+        assertThat(limiter.getTrackedClients()).isZero();
+    }
+
+    private int acquireAll(SharedRateLimiter limiter, String client) {
+        int admitted = 0;
+        while (limiter.tryAcquire(client) == 0) {
+            admitted++;
+        }
+        return admitted;
+    }
+}
@@ -0,0 +1,142 @@
+package com.quiztournament.quiz_backend.config;
+
+import com.quiztournament.quiz_backend.entity.User;
+import com.quiztournament.quiz_backend.entity.UserRole;
+import com.quiztournament.quiz_backend.service.CustomUserDetailsService.CustomUserPrincipal;
+import com.quiztournament.quiz_backend.util.JwtUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for JwtAuthenticationFilter
+ */
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    private JwtUtil jwtUtil;
+    private JwtAuthenticationFilter filter;
+    private User player;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", "testSecretKey12345678901234567890123456789012345");
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 3600000L);
+        jwtUtil.init();
+
+        filter = new JwtAuthenticationFilter();
+        ReflectionTestUtils.setField(filter, "jwtUtil", jwtUtil);
+        ReflectionTestUtils.setField(filter, "userDetailsService", userDetailsService);
+
+        player = new User();
+        player.setId(7L);
+        player.setUsername("player");
+        player.setEmail("player@test.com");
+        player.setPassword("encodedPassword");
+        player.setRole(UserRole.PLAYER);
+
+        SecurityContextHolder.clearContext();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilter_TokenWithIdentityClaims_AuthenticatesWithoutUserLookup() throws Exception {
+        // Given
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("userId", player.getId());
+        claims.put("role", player.getRole().name());
+        claims.put("email", player.getEmail());
+        String token = jwtUtil.generateToken(new CustomUserPrincipal(player), claims);
+
+        // When
+        filter.doFilter(bearer(token), new MockHttpServletResponse(), new MockFilterChain());
+
+        // Then
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication).isNotNull();
+        CustomUserPrincipal principal = (CustomUserPrincipal) authentication.getPrincipal();
+        assertThat(principal.getId()).isEqualTo(7L);
+        assertThat(principal.getUsername()).isEqualTo("player");
+        assertThat(principal.getEmail()).isEqualTo("player@test.com");
+        assertThat(authentication.getAuthorities()).extracting("authority").containsExactly("ROLE_PLAYER");
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void doFilter_TokenWithoutIdentityClaims_LoadsUser() throws Exception {
+        // Given
+        CustomUserPrincipal loaded = new CustomUserPrincipal(player);
+        String token = jwtUtil.generateToken(loaded);
+        when(userDetailsService.loadUserByUsername("player")).thenReturn(loaded);
+
+        // When
+        filter.doFilter(bearer(token), new MockHttpServletResponse(), new MockFilterChain());
+
+        // Then
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication).isNotNull();
+        assertThat(authentication.getPrincipal()).isSameAs(loaded);
+    }
+
+    @Test
+    void doFilter_TamperedToken_LeavesRequestUnauthenticated() throws Exception {
+        // Given
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("userId", player.getId());
+        claims.put("role", player.getRole().name());
+        String token = jwtUtil.generateToken(new CustomUserPrincipal(player), claims);
+
+        // When
+        filter.doFilter(bearer(token + "x"), new MockHttpServletResponse(), new MockFilterChain());
+
+        // Then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void doFilter_ExpiredToken_LeavesRequestUnauthenticated() throws Exception {
+        // Given
+        ReflectionTestUtils.setField(jwtUtil, "expiration", -1000L);
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("userId", player.getId());
+        claims.put("role", player.getRole().name());
+        String token = jwtUtil.generateToken(new CustomUserPrincipal(player), claims);
+
+        // When
+        filter.doFilter(bearer(token), new MockHttpServletResponse(), new MockFilterChain());
+
+        // Then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verifyNoInteractions(userDetailsService);
+    }
+
+    private MockHttpServletRequest bearer(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+}
@@ -0,0 +1,117 @@
+package com.quiztournament.quiz_backend.config;
+
+import com.quiztournament.quiz_backend.config.RateLimitFilterConfig.RateLimitFilter;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for which client address RateLimitFilter counts a request against
+ */
+class RateLimitFilterTest {
+
+    private final List<String> keys = new ArrayList<>();
+    private final RateLimiter recordingLimiter = (key, start, end) -> {
+        keys.add(key.subSequence(start, end).toString().trim());
+        return 0;
+    };
+
+    @Test
+    void doFilter_NoTrustedProxies_IgnoresForwardingHeaders() throws Exception {
+        // Given
+        RateLimitFilter filter = new RateLimitFilter(recordingLimiter);
+        MockHttpServletRequest request = request("203.0.113.7");
+        request.addHeader("X-Forwarded-For", "198.51.100.1");
+        request.addHeader("X-Real-IP", "198.51.100.2");
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // Then
+        assertThat(keys).containsExactly("203.0.113.7");
+    }
+
+    @Test
+    void doFilter_UntrustedSender_IgnoresForwardingHeaders() throws Exception {
+        // Given
+        RateLimitFilter filter = new RateLimitFilter(recordingLimiter, "10.0.0.0/8");
+        MockHttpServletRequest request = request("203.0.113.7");
+        request.addHeader("X-Forwarded-For", "198.51.100.1");
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // Then
+        assertThat(keys).containsExactly("203.0.113.7");
+    }
+
+    @Test
+    void doFilter_TrustedProxy_KeysByLastUntrustedForwardedHop() throws Exception {
+        // Given - the client forged the first hop; two trusted proxies appended the rest
+        RateLimitFilter filter = new RateLimitFilter(recordingLimiter, "10.0.0.0/8", " 192.168.1.5");
+        MockHttpServletRequest request = request("10.0.0.2");
+        request.addHeader("X-Forwarded-For", "1.2.3.4, 203.0.113.7 , 192.168.1.5,10.0.0.9");
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // Then
+        assertThat(keys).containsExactly("203.0.113.7");
+    }
+
+    @Test
+    void doFilter_TrustedProxyWithOnlyRealIp_KeysByRealIp() throws Exception {
+        // Given
+        RateLimitFilter filter = new RateLimitFilter(recordingLimiter, "10.0.0.2");
+        MockHttpServletRequest request = request("10.0.0.2");
+        request.addHeader("X-Real-IP", "203.0.113.7");
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // Then
+        assertThat(keys).containsExactly("203.0.113.7");
+    }
+
+    @Test
+    void doFilter_HostnameInForwardedFor_IsTreatedAsClient() throws Exception {
+        // Given
+        RateLimitFilter filter = new RateLimitFilter(recordingLimiter, "10.0.0.0/8");
+        MockHttpServletRequest request = request("10.0.0.2");
+        request.addHeader("X-Forwarded-For", "10.0.0.3, proxy.internal");
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // Then
+        assertThat(keys).containsExactly("proxy.internal");
+    }
+
+    @Test
+    void doFilter_LimitExceeded_Returns429() throws Exception {
+        // Given
+        RateLimitFilter filter = new RateLimitFilter((key, start, end) -> 1_500);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(request("203.0.113.7"), response, chain);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    private MockHttpServletRequest request(String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tournaments");
+        request.setRemoteAddr(remoteAddr);
+        return request;
+    }
+}
@@ -0,0 +1,126 @@
+package com.quiztournament.quiz_backend.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for TokenBucketRateLimiter refill, bounded table and eviction
+ */
+class TokenBucketRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(5_000);
+    private TokenBucketRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new TokenBucketRateLimiter(10, 1, TimeUnit.MINUTES, 64, now::get);
+    }
+
+    @Test
+    void tryAcquire_OverLimit_RejectsWithRetryDelay() {
+        // When
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquire("10.0.0.1")).isZero();
+        }
+
+        // Then - one token comes back every 6 seconds
+        assertThat(limiter.tryAcquire("10.0.0.1")).isEqualTo(6_000L);
+        assertThat(limiter.tryAcquire("10.0.0.2")).isZero();
+    }
+
+    @Test
+    void tryAcquire_RefillsContinuouslyInsteadOfAtWindowBoundary() {
+        // Given
+        exhaust("10.0.0.1");
+
+        // When / Then - a token per 6 seconds, never a fresh burst of 10
+        now.addAndGet(5_900);
+        assertThat(limiter.tryAcquire("10.0.0.1")).isBetween(100L, 200L);
+        now.addAndGet(100);
+        assertThat(limiter.tryAcquire("10.0.0.1")).isZero();
+        assertThat(limiter.tryAcquire("10.0.0.1")).isPositive();
+
+        now.addAndGet(60_000);
+        exhaust("10.0.0.1");
+        assertThat(limiter.tryAcquire("10.0.0.1")).isPositive();
+    }
+
+    @Test
+    void tryAcquire_KeyRange_IgnoresRestOfHeaderAndWhitespace() {
+        // Given
+        exhaust("10.0.0.1");
+
+        // Then - the same client however the forwarded header is written
+        String forwarded = " 10.0.0.1 , 172.16.0.1";
+        assertThat(limiter.tryAcquire(forwarded, 0, forwarded.indexOf(','))).isPositive();
+    }
+
+    @Test
+    void tryAcquire_ManyDistinctClients_TableStaysBoundedAndKeepsThrottledClients() {
+        // Given
+        exhaust("10.0.0.1");
+        now.addAndGet(1);
+
+        // When - far more clients than the table can track
+        for (int i = 0; i < 100_000; i++) {
+            limiter.tryAcquire("192.168." + (i >> 8) + "." + (i & 255));
+        }
+
+        // Then - capacity never grew and the throttled client was not handed a fresh bucket
+        assertThat(limiter.getCapacity()).isEqualTo(64);
+        assertThat(limiter.tryAcquire("10.0.0.1")).isPositive();
+    }
+
+    @Test
+    void tryAcquire_SetFullOfRefillingBuckets_NewClientsShareOverflowBucket() {
+        // Given - more clients than slots, each of which has made a request
+        for (int i = 0; i < 1_000; i++) {
+            limiter.tryAcquire("192.168." + (i >> 8) + "." + (i & 255));
+        }
+
+        // When - a burst of new clients while every tracked bucket is still refilling
+        int allowed = 0;
+        for (int i = 0; i < 1_000; i++) {
+            if (limiter.tryAcquire("172.16." + (i >> 8) + "." + (i & 255)) == 0) {
+                allowed++;
+            }
+        }
+
+        // Then - at most one limit per set gets through
+        assertThat(allowed).isLessThanOrEqualTo(64 / TokenBucketRateLimiter.SET_SIZE * 10);
+    }
+
+    @Test
+    void tryAcquire_RefilledClients_AreEvictedForNewOnes() {
+        // Given - every slot taken by clients that then go quiet
+        for (int i = 0; i < 1_000; i++) {
+            limiter.tryAcquire("192.168." + (i >> 8) + "." + (i & 255));
+        }
+        now.addAndGet(60_000);
+
+        // When / Then - their buckets have refilled, so new clients get slots of their own
+        // (no more new clients than one set holds, however they hash)
+        for (int i = 0; i < TokenBucketRateLimiter.SET_SIZE; i++) {
+            for (int request = 0; request < 10; request++) {
+                assertThat(limiter.tryAcquire("172.16.0." + i)).isZero();
+            }
+        }
+    }
+
+    @Test
+    void constructor_LimitOutOfRange_Throws() {
+        assertThatThrownBy(() -> new TokenBucketRateLimiter(0, 1, TimeUnit.MINUTES, 64))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void exhaust(String client) {
+        while (limiter.tryAcquire(client) == 0) {
+            // Drain the bucket
+        }
+    }
+}
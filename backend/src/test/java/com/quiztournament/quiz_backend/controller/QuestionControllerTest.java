@@ -0,0 +1,151 @@
+package com.quiztournament.quiz_backend.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.quiztournament.quiz_backend.config.SecurityConfig;
+import com.quiztournament.quiz_backend.dto.QuizAnswerRequest;
+import com.quiztournament.quiz_backend.service.CurrentUserResolver;
+import com.quiztournament.quiz_backend.service.OpenTDBHealthMonitor;
+import com.quiztournament.quiz_backend.service.OpenTDBService;
+import com.quiztournament.quiz_backend.service.QuestionService;
+import com.quiztournament.quiz_backend.service.QuestionService.AnswerValidationResult;
+import com.quiztournament.quiz_backend.service.QuestionService.BatchValidationResult;
+import com.quiztournament.quiz_backend.util.JwtUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Controller tests for QuestionController
+ * Tests single and multi-answer submissions with MockMvc
+ */
+@WebMvcTest(QuestionController.class)
+@Import(SecurityConfig.class)
+class QuestionControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private QuestionService questionService;
+
+    @MockBean
+    private OpenTDBService openTDBService;
+
+    @MockBean
+    private OpenTDBHealthMonitor openTDBHealthMonitor;
+
+    @MockBean
+    private JwtUtil jwtUtil;
+
+    @MockBean
+    private UserDetailsService userDetailsService;
+
+    @MockBean
+    private CurrentUserResolver currentUserResolver;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @WithMockUser(roles = "PLAYER")
+    void submitAnswer_AnswersPayload_GradesAllAnswersInOneRequest() throws Exception {
+        // Given - questions 1 and 3 of 3 answered, one earlier correct answer still in the session
+        BatchValidationResult result = new BatchValidationResult(
+                new String[]{"Q1", null, "Q3"},
+                new String[]{"Au", null, "1944"},
+                new String[]{"Au", null, "1945"},
+                new boolean[]{true, false, true},
+                new boolean[]{true, false, false},
+                2, 1, 2);
+        when(questionService.validateAnswers(eq(1L), anyList())).thenReturn(result);
+        List<QuizAnswerRequest> answers = List.of(new QuizAnswerRequest(1, "Au"), new QuizAnswerRequest(3, "1944"));
+
+        // When & Then
+        mockMvc.perform(post("/api/tournaments/1/questions/1/answer")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("answers", answers))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.results.length()").value(2))
+                .andExpect(jsonPath("$.results[0].questionNumber").value(1))
+                .andExpect(jsonPath("$.results[0].correct").value(true))
+                .andExpect(jsonPath("$.results[1].questionNumber").value(3))
+                .andExpect(jsonPath("$.results[1].correctAnswer").value("1945"))
+                .andExpect(jsonPath("$.answeredCount").value(2))
+                .andExpect(jsonPath("$.correctCount").value(1))
+                .andExpect(jsonPath("$.currentScore").value(2))
+                .andExpect(jsonPath("$.totalQuestions").value(3))
+                .andExpect(jsonPath("$.message").value("1/2 answers correct"));
+
+        verify(questionService, never()).validateAnswer(any(), anyInt(), anyString());
+    }
+
+    @Test
+    @WithMockUser(roles = "PLAYER")
+    void submitAnswer_AnswersPayloadWithInvalidQuestionNumber_BadRequest() throws Exception {
+        // Given
+        when(questionService.validateAnswers(eq(1L), anyList()))
+                .thenThrow(new RuntimeException("Invalid question number: 11"));
+        List<QuizAnswerRequest> answers = List.of(new QuizAnswerRequest(11, "Au"));
+
+        // When & Then
+        mockMvc.perform(post("/api/tournaments/1/questions/1/answer")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("answers", answers))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.error").value("Invalid question number: 11"));
+    }
+
+    @Test
+    @WithMockUser(roles = "PLAYER")
+    void submitAnswer_SingleAnswer_GradesPathQuestion() throws Exception {
+        // Given
+        when(questionService.validateAnswer(1L, 2, "True"))
+                .thenReturn(new AnswerValidationResult(true, "True", "True", 2, 2, 10));
+
+        // When & Then
+        mockMvc.perform(post("/api/tournaments/1/questions/2/answer")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("answer", "True"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.correct").value(true))
+                .andExpect(jsonPath("$.questionNumber").value(2))
+                .andExpect(jsonPath("$.currentScore").value(2));
+
+        verify(questionService, never()).validateAnswers(any(), anyList());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void submitAnswer_AdminRole_Forbidden() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/api/tournaments/1/questions/1/answer")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("answer", "True"))))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,136 @@
+package com.quiztournament.quiz_backend.controller;
+
+import com.quiztournament.quiz_backend.config.SecurityConfig;
+import com.quiztournament.quiz_backend.service.CurrentUserResolver;
+import com.quiztournament.quiz_backend.service.LeaderboardService;
+import com.quiztournament.quiz_backend.service.QuizParticipationService;
+import com.quiztournament.quiz_backend.util.JwtUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Controller tests for QuizParticipationController
+ * Tests the my-rank endpoint with MockMvc
+ */
+@WebMvcTest(QuizParticipationController.class)
+@Import(SecurityConfig.class)
+class QuizParticipationControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private QuizParticipationService quizParticipationService;
+
+    @MockBean
+    private LeaderboardService leaderboardService;
+
+    @MockBean
+    private JwtUtil jwtUtil;
+
+    @MockBean
+    private UserDetailsService userDetailsService;
+
+    @MockBean
+    private CurrentUserResolver currentUserResolver;
+
+    @Test
+    @WithMockUser(roles = "PLAYER")
+    void getMyRank_DefaultRadius_ReturnsRank() throws Exception {
+        // Given
+        when(quizParticipationService.getMyRank(1L, 5)).thenReturn(Map.of(
+                "tournamentId", 1L,
+                "rank", 3,
+                "totalEntries", 10,
+                "entries", List.of(Map.of("rank", 3, "userId", 7L, "currentUser", true))));
+
+        // When & Then
+        mockMvc.perform(get("/api/participation/tournaments/1/my-rank"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.rank").value(3))
+                .andExpect(jsonPath("$.totalEntries").value(10))
+                .andExpect(jsonPath("$.entries[0].currentUser").value(true));
+    }
+
+    @Test
+    @WithMockUser(roles = "PLAYER")
+    void getMyRank_NegativeRadius_ClampedToZero() throws Exception {
+        // Given
+        when(quizParticipationService.getMyRank(anyLong(), anyInt())).thenReturn(Map.of("rank", 1));
+
+        // When & Then
+        mockMvc.perform(get("/api/participation/tournaments/1/my-rank").param("radius", "-3"))
+                .andExpect(status().isOk());
+
+        verify(quizParticipationService).getMyRank(1L, 0);
+    }
+
+    @Test
+    @WithMockUser(roles = "PLAYER")
+    void getMyRank_RadiusAtBounds_PassedThrough() throws Exception {
+        // Given
+        when(quizParticipationService.getMyRank(anyLong(), anyInt())).thenReturn(Map.of("rank", 1));
+
+        // When & Then
+        mockMvc.perform(get("/api/participation/tournaments/1/my-rank").param("radius", "0"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/participation/tournaments/1/my-rank").param("radius", "25"))
+                .andExpect(status().isOk());
+
+        verify(quizParticipationService).getMyRank(1L, 0);
+        verify(quizParticipationService).getMyRank(1L, 25);
+    }
+
+    @Test
+    @WithMockUser(roles = "PLAYER")
+    void getMyRank_RadiusAboveMax_ClampedTo25() throws Exception {
+        // Given
+        when(quizParticipationService.getMyRank(anyLong(), anyInt())).thenReturn(Map.of("rank", 1));
+
+        // When & Then
+        mockMvc.perform(get("/api/participation/tournaments/1/my-rank").param("radius", "1000"))
+                .andExpect(status().isOk());
+
+        verify(quizParticipationService).getMyRank(1L, 25);
+    }
+
+    @Test
+    @WithMockUser(roles = "PLAYER")
+    void getMyRank_NotParticipated_BadRequest() throws Exception {
+        // Given
+        when(quizParticipationService.getMyRank(1L, 5))
+                .thenThrow(new RuntimeException("You have not participated in this tournament yet"));
+
+        // When & Then
+        mockMvc.perform(get("/api/participation/tournaments/1/my-rank"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.error").value("You have not participated in this tournament yet"));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getMyRank_AdminRole_Forbidden() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/participation/tournaments/1/my-rank"))
+                .andExpect(status().isForbidden());
+
+        verify(quizParticipationService, never()).getMyRank(anyLong(), anyInt());
+    }
+}
@@ -1,19 +1,30 @@
 package com.quiztournament.quiz_backend.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.quiztournament.quiz_backend.config.SecurityConfig;
 import com.quiztournament.quiz_backend.controller.TournamentController;
+import com.quiztournament.quiz_backend.dto.CursorPage;
 import com.quiztournament.quiz_backend.dto.TournamentCreateRequest;
 import com.quiztournament.quiz_backend.dto.TournamentResponse;
 import com.quiztournament.quiz_backend.dto.TournamentUpdateRequest;
 import com.quiztournament.quiz_backend.entity.TournamentStatus;
+import com.quiztournament.quiz_backend.repository.QuizAnswerRepository;
+import com.quiztournament.quiz_backend.repository.QuizResultRepository;
+import com.quiztournament.quiz_backend.repository.TournamentRepository;
+import com.quiztournament.quiz_backend.repository.UserRepository;
+import com.quiztournament.quiz_backend.service.CurrentUserResolver;
+import com.quiztournament.quiz_backend.service.LeaderboardService;
 import com.quiztournament.quiz_backend.service.TournamentService;
+import com.quiztournament.quiz_backend.service.TournamentStatsService;
 import com.quiztournament.quiz_backend.util.JwtUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
+import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -22,6 +33,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
@@ -30,9 +42,10 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 /**
  * Controller tests for TournamentController
- * Tests REST endpoints with MockMvc and security
+ * Tests REST endpoints with MockMvc and the application's security rules
  */
 @WebMvcTest(TournamentController.class)
+@Import(SecurityConfig.class)
 class TournamentControllerTest {
 
     @Autowired
@@ -44,6 +57,30 @@ class TournamentControllerTest {
     @MockBean
     private JwtUtil jwtUtil;
 
+    @MockBean
+    private UserDetailsService userDetailsService;
+
+    @MockBean
+    private CurrentUserResolver currentUserResolver;
+
+    @MockBean
+    private QuizResultRepository quizResultRepository;
+
+    @MockBean
+    private TournamentRepository tournamentRepository;
+
+    @MockBean
+    private QuizAnswerRepository quizAnswerRepository;
+
+    @MockBean
+    private UserRepository userRepository;
+
+    @MockBean
+    private TournamentStatsService tournamentStatsService;
+
+    @MockBean
+    private LeaderboardService leaderboardService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -119,12 +156,12 @@ class TournamentControllerTest {
     }
 
     @Test
-    void createTournament_NoAuthentication_Unauthorized() throws Exception {
-        // When & Then
+    void createTournament_NoAuthentication_Forbidden() throws Exception {
+        // When & Then - JWT only, with no login entry point, so Spring Security answers 403
         mockMvc.perform(post("/api/tournaments")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(createRequest)))
-                .andExpect(status().isUnauthorized());
+                .andExpect(status().isForbidden());
 
         verify(tournamentService, never()).createTournament(any(TournamentCreateRequest.class));
     }
@@ -154,8 +191,8 @@ class TournamentControllerTest {
     @WithMockUser(roles = "ADMIN")
     void getAllTournaments_Success() throws Exception {
         // Given
-        List<TournamentResponse> tournaments = List.of(tournamentResponse);
-        when(tournamentService.getAllTournaments()).thenReturn(tournaments);
+        CursorPage<TournamentResponse> tournaments = new CursorPage<>(List.of(tournamentResponse), null);
+        when(tournamentService.getTournamentPage(null, 50)).thenReturn(tournaments);
 
         // When & Then
         mockMvc.perform(get("/api/tournaments"))
@@ -164,9 +201,26 @@ class TournamentControllerTest {
                 .andExpect(jsonPath("$.tournaments").isArray())
                 .andExpect(jsonPath("$.tournaments[0].id").value(1L))
                 .andExpect(jsonPath("$.tournaments[0].name").value("Test Tournament"))
-                .andExpect(jsonPath("$.count").value(1));
+                .andExpect(jsonPath("$.count").value(1))
+                .andExpect(jsonPath("$.hasMore").value(false));
+
+        verify(tournamentService).getTournamentPage(null, 50);
+    }
 
-        verify(tournamentService).getAllTournaments();
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getAllTournaments_WithCursor_ReturnsNextPage() throws Exception {
+        // Given
+        CursorPage<TournamentResponse> tournaments = new CursorPage<>(List.of(tournamentResponse), "next");
+        when(tournamentService.getTournamentPage("previous", 100)).thenReturn(tournaments);
+
+        // When & Then - the page size is capped
+        mockMvc.perform(get("/api/tournaments").param("cursor", "previous").param("limit", "500"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.hasMore").value(true));
+
+        verify(tournamentService).getTournamentPage("previous", 100);
     }
 
     @Test
@@ -176,7 +230,7 @@ class TournamentControllerTest {
         mockMvc.perform(get("/api/tournaments"))
                 .andExpect(status().isForbidden());
 
-        verify(tournamentService, never()).getAllTournaments();
+        verify(tournamentService, never()).getTournamentPage(any(), anyInt());
     }
 
     @Test
@@ -384,6 +438,7 @@ class TournamentControllerTest {
     }
 
     @Test
+    @WithMockUser(roles = "PLAYER")
     void healthCheck_Success() throws Exception {
         // When & Then
         mockMvc.perform(get("/api/tournaments/health"))
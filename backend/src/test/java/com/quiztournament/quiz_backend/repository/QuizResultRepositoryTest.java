@@ -0,0 +1,64 @@
+package com.quiztournament.quiz_backend.repository;
+
+import com.quiztournament.quiz_backend.entity.QuizResult;
+import com.quiztournament.quiz_backend.entity.Tournament;
+import com.quiztournament.quiz_backend.entity.User;
+import com.quiztournament.quiz_backend.entity.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Repository tests for paging a player's quiz history out of QuizResultRepository
+ */
+@DataJpaTest
+class QuizResultRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private QuizResultRepository quizResultRepository;
+
+    @Test
+    void findHistoryPageAfter_TiedCompletionTimes_WalksEveryResultOnceInHistoryOrder() {
+        // Given - five results, two pairs of them completed at the same moment
+        User admin = entityManager.persist(new User("admin", "Admin", "User", "admin@test.com", "password",
+                UserRole.ADMIN));
+        User player = entityManager.persist(new User("player", "Player", "User", "player@test.com", "password",
+                UserRole.PLAYER));
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        LocalDateTime[] completedAt = {now.minusHours(2), now, now.minusHours(1), now, now.minusHours(2)};
+        List<QuizResult> results = new ArrayList<>();
+        for (int i = 0; i < completedAt.length; i++) {
+            Tournament tournament = entityManager.persist(new Tournament("Tournament " + i, "science", "easy",
+                    LocalDate.now().minusDays(1), LocalDate.now().plusDays(5), 50.0, admin));
+            QuizResult result = new QuizResult(player, tournament, 5, 10, 50.0, true, null);
+            result.setCompletedAt(completedAt[i]);
+            results.add(entityManager.persist(result));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // When - two results at a time, seeking from the last one on each page
+        List<Long> ids = new ArrayList<>();
+        List<QuizResult> page = quizResultRepository.findHistoryPage(player, 2);
+        while (!page.isEmpty()) {
+            page.forEach(result -> ids.add(result.getId()));
+            QuizResult last = page.get(page.size() - 1);
+            page = quizResultRepository.findHistoryPageAfter(player, last.getCompletedAt(), last.getId(), 2);
+        }
+
+        // Then - most recent first, ties broken by the higher id
+        assertThat(ids).containsExactly(results.get(3).getId(), results.get(1).getId(), results.get(2).getId(),
+                results.get(4).getId(), results.get(0).getId());
+    }
+}
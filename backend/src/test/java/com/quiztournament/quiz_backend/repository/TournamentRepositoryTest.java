@@ -1,9 +1,9 @@
 package com.quiztournament.quiz_backend.repository;
 
+import com.quiztournament.quiz_backend.entity.QuizResult;
 import com.quiztournament.quiz_backend.entity.Tournament;
 import com.quiztournament.quiz_backend.entity.User;
 import com.quiztournament.quiz_backend.entity.UserRole;
-import com.quiztournament.quiz_backend.entity.UserTournamentScore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,7 +11,6 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
@@ -160,13 +159,7 @@ class TournamentRepositoryTest {
     @Test
     void findTournamentsParticipatedByUser_Success() {
         // Given - Create a participation record
-        UserTournamentScore score = new UserTournamentScore();
-        score.setUser(playerUser);
-        score.setTournament(ongoingTournament);
-        score.setScore(8);
-        score.setCompletedAt(LocalDateTime.now());
-        score.setPassed(true);
-        entityManager.persistAndFlush(score);
+        entityManager.persistAndFlush(new QuizResult(playerUser, ongoingTournament, 8, 10, 80.0, true, null));
 
         // When
         List<Tournament> participatedTournaments =
@@ -180,13 +173,7 @@ class TournamentRepositoryTest {
     @Test
     void findTournamentsNotParticipatedByUser_Success() {
         // Given - Create a participation record for one tournament
-        UserTournamentScore score = new UserTournamentScore();
-        score.setUser(playerUser);
-        score.setTournament(ongoingTournament);
-        score.setScore(8);
-        score.setCompletedAt(LocalDateTime.now());
-        score.setPassed(true);
-        entityManager.persistAndFlush(score);
+        entityManager.persistAndFlush(new QuizResult(playerUser, ongoingTournament, 8, 10, 80.0, true, null));
 
         // When
         List<Tournament> notParticipatedTournaments =
@@ -201,13 +188,7 @@ class TournamentRepositoryTest {
     @Test
     void countParticipants_WithParticipants() {
         // Given - Create multiple participation records
-        UserTournamentScore score1 = new UserTournamentScore();
-        score1.setUser(playerUser);
-        score1.setTournament(ongoingTournament);
-        score1.setScore(8);
-        score1.setCompletedAt(LocalDateTime.now());
-        score1.setPassed(true);
-        entityManager.persistAndFlush(score1);
+        entityManager.persistAndFlush(new QuizResult(playerUser, ongoingTournament, 8, 10, 80.0, true, null));
 
         // Create another user and score
         User anotherPlayer = new User();
@@ -219,13 +200,7 @@ class TournamentRepositoryTest {
         anotherPlayer.setRole(UserRole.PLAYER);
         anotherPlayer = entityManager.persistAndFlush(anotherPlayer);
 
-        UserTournamentScore score2 = new UserTournamentScore();
-        score2.setUser(anotherPlayer);
-        score2.setTournament(ongoingTournament);
-        score2.setScore(6);
-        score2.setCompletedAt(LocalDateTime.now());
-        score2.setPassed(false);
-        entityManager.persistAndFlush(score2);
+        entityManager.persistAndFlush(new QuizResult(anotherPlayer, ongoingTournament, 6, 10, 60.0, false, null));
 
         // When
         Long participantCount = tournamentRepository.countParticipants(ongoingTournament.getId());
@@ -246,13 +221,7 @@ class TournamentRepositoryTest {
     @Test
     void getAverageScore_WithScores() {
         // Given - Create multiple participation records
-        UserTournamentScore score1 = new UserTournamentScore();
-        score1.setUser(playerUser);
-        score1.setTournament(ongoingTournament);
-        score1.setScore(8);
-        score1.setCompletedAt(LocalDateTime.now());
-        score1.setPassed(true);
-        entityManager.persistAndFlush(score1);
+        entityManager.persistAndFlush(new QuizResult(playerUser, ongoingTournament, 8, 10, 80.0, true, null));
 
         User anotherPlayer = new User();
         anotherPlayer.setUsername("player2");
@@ -263,13 +232,7 @@ class TournamentRepositoryTest {
         anotherPlayer.setRole(UserRole.PLAYER);
         anotherPlayer = entityManager.persistAndFlush(anotherPlayer);
 
-        UserTournamentScore score2 = new UserTournamentScore();
-        score2.setUser(anotherPlayer);
-        score2.setTournament(ongoingTournament);
-        score2.setScore(6);
-        score2.setCompletedAt(LocalDateTime.now());
-        score2.setPassed(false);
-        entityManager.persistAndFlush(score2);
+        entityManager.persistAndFlush(new QuizResult(anotherPlayer, ongoingTournament, 6, 10, 60.0, false, null));
 
         // When
         Double averageScore = tournamentRepository.getAverageScore(ongoingTournament.getId());
@@ -339,4 +302,4 @@ class TournamentRepositoryTest {
         // Then
         assertThat(count).isEqualTo(3L);
     }
-}
\ No newline at end of file
+}
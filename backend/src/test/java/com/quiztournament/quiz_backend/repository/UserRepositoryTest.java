@@ -0,0 +1,99 @@
+package com.quiztournament.quiz_backend.repository;
+
+import com.quiztournament.quiz_backend.dto.EmailRecipient;
+import com.quiztournament.quiz_backend.entity.UserRole;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Repository tests for paging broadcast recipients out of UserRepository
+ * Walks a small and a four times larger population and compares how much heap each walk retains:
+ * paging in constant memory retains the same for both, anything that keeps recipients grows with the population.
+ * Scale it up with mvn test -Dtest=UserRepositoryTest -Drecipients.players=1000000
+ */
+@DataJpaTest
+class UserRepositoryTest {
+
+    private static final int PLAYERS = Integer.getInteger("recipients.players", 80_000);
+    private static final int SMALL_PLAYERS = PLAYERS / 4;
+    private static final int PAGE_SIZE = 1_000;
+
+    // Retained heap allowed per extra player; an id/email projection alone takes more than this
+    private static final long MAX_RETAINED_BYTES_PER_PLAYER = 32;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void findRecipientPageByRoleBetween_ManyPlayers_WalksAllInConstantMemory() {
+        // Given - synthetic players and a few admins, inserted without going through JPA
+        insertUsers("player", UserRole.PLAYER, 1, SMALL_PLAYERS);
+        insertUsers("admin", UserRole.ADMIN, 1, 10);
+        walkPlayers();
+
+        // When - one transaction walks every page of each population, as a broadcast would
+        long smallHeapBefore = usedHeapAfterGc();
+        long smallWalked = walkPlayers();
+        long smallGrowth = usedHeapAfterGc() - smallHeapBefore;
+
+        insertUsers("player", UserRole.PLAYER, SMALL_PLAYERS + 1, PLAYERS);
+        long largeHeapBefore = usedHeapAfterGc();
+        long largeWalked = walkPlayers();
+        long largeGrowth = usedHeapAfterGc() - largeHeapBefore;
+
+        // Then - every player once, and retained heap that does not grow with the population
+        assertThat(smallWalked).isEqualTo(SMALL_PLAYERS);
+        assertThat(largeWalked).isEqualTo(PLAYERS);
+        assertThat(entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+        assertThat(largeGrowth - smallGrowth)
+                .as("heap retained by walking %d players (%d bytes) vs %d players (%d bytes)",
+                        PLAYERS, largeGrowth, SMALL_PLAYERS, smallGrowth)
+                .isLessThan((PLAYERS - SMALL_PLAYERS) * MAX_RETAINED_BYTES_PER_PLAYER);
+    }
+
+    // Walk every player page by page, checking each page, and return how many players were seen
+    private long walkPlayers() {
+        long walked = 0;
+        long lastUserId = 0;
+        while (true) {
+            List<EmailRecipient> page = userRepository.findRecipientPageByRoleBetween(UserRole.PLAYER, lastUserId,
+                    Long.MAX_VALUE, PAGE_SIZE);
+            assertThat(page.size()).isLessThanOrEqualTo(PAGE_SIZE);
+            for (EmailRecipient recipient : page) {
+                assertThat(recipient.getUserId()).isGreaterThan(lastUserId);
+                assertThat(recipient.getEmail()).startsWith("player");
+                lastUserId = recipient.getUserId();
+            }
+            walked += page.size();
+            if (page.size() < PAGE_SIZE) {
+                return walked;
+            }
+        }
+    }
+
+    private void insertUsers(String prefix, UserRole role, int first, int last) {
+        jdbcTemplate.update("INSERT INTO users (username, first_name, last_name, email, password, role, created_at, updated_at) " +
+                "SELECT CONCAT(?, X), 'Test', 'User', CONCAT(?, X, '@test.com'), 'password', ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP " +
+                "FROM SYSTEM_RANGE(?, ?)", prefix, prefix, role.name(), first, last);
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -37,6 +37,7 @@ class AuthServiceTest {
     @MockBean private AuthenticationManager authenticationManager;
     @MockBean private UserDetailsService userDetailsService;
     @MockBean private JwtUtil jwtUtil;
+    @MockBean private UserPrincipalCache userPrincipalCache;
 
     // Plain Mockito mocks (not Spring beans)
     @Mock private Authentication authentication;
@@ -59,6 +60,7 @@ class AuthServiceTest {
         inject(authService, "authenticationManager", authenticationManager);
         inject(authService, "userDetailsService", userDetailsService);
         inject(authService, "jwtUtil", jwtUtil);
+        inject(authService, "userPrincipalCache", userPrincipalCache);
 
         adminUser = new User();
         adminUser.setId(1L);
@@ -272,6 +274,7 @@ class AuthServiceTest {
 
         verify(passwordEncoder).encode(newPassword);
         verify(userRepository).save(adminUser);
+        verify(userPrincipalCache).invalidate(adminUser.getId());
     }
 
     // --- tiny reflection helper to inject @Autowired fields in tests without constructors ---
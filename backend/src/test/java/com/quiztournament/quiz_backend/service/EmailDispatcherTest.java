@@ -0,0 +1,173 @@
+package com.quiztournament.quiz_backend.service;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.quiztournament.quiz_backend.config.AsyncConfig;
+import com.quiztournament.quiz_backend.config.JdbcSchemaInitializer;
+import com.quiztournament.quiz_backend.entity.User;
+import com.quiztournament.quiz_backend.entity.UserRole;
+import com.quiztournament.quiz_backend.repository.UserRepository;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for sending the email outbox through a local SMTP server
+ * Not transactional: batches are sent on the mail executor, which only sees committed rows
+ */
+@DataJpaTest(properties = {
+        "app.email.enabled=true",
+        "app.email.dispatch-threads=2",
+        "app.email.batch-size=2",
+        "app.email.expand-ahead=2",
+        "app.email.retry-delay-ms=0",
+        "app.email.dispatch-max-run-ms=0"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({EmailOutbox.class, EmailDispatcher.class, AsyncConfig.class, JdbcSchemaInitializer.class})
+class EmailDispatcherTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Autowired
+    private EmailDispatcher emailDispatcher;
+
+    @Autowired
+    private EmailOutbox emailOutbox;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM email_outbox_messages");
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void dispatch_Broadcast_SendsOnceToEveryPlayerInBatches() throws Exception {
+        // Given - more players than one page, one batch or the expand-ahead limit
+        for (int i = 1; i <= 5; i++) {
+            userRepository.save(new User("player" + i, "Player", "User", "player" + i + "@test.com", "password",
+                    UserRole.PLAYER));
+        }
+        userRepository.save(new User("admin", "Admin", "User", "admin@test.com", "password", UserRole.ADMIN));
+        emailOutbox.enqueueBroadcast("New Quiz Tournament Available: Science ✓", "Good luck! 🎉", UserRole.PLAYER);
+
+        // When - each run sends one round and leaves the rest for the next run
+        int firstRun = emailDispatcher.dispatch();
+        int sent = firstRun;
+        int runs = 1;
+        int sentByRun;
+        while ((sentByRun = emailDispatcher.dispatch()) > 0) {
+            sent += sentByRun;
+            runs++;
+        }
+
+        // Then
+        assertThat(firstRun).isPositive().isLessThan(5);
+        assertThat(runs).isGreaterThan(1);
+        assertThat(sent).isEqualTo(5);
+        List<String> recipients = Arrays.stream(greenMail.getReceivedMessages())
+                .map(this::recipient)
+                .toList();
+        assertThat(recipients).containsExactlyInAnyOrder("player1@test.com", "player2@test.com", "player3@test.com",
+                "player4@test.com", "player5@test.com");
+        // Recipients share one prepared subject and body per batch
+        for (MimeMessage message : greenMail.getReceivedMessages()) {
+            assertThat(message.getSubject()).isEqualTo("New Quiz Tournament Available: Science ✓");
+            assertThat(String.valueOf(message.getContent()).trim()).isEqualTo("Good luck! 🎉");
+        }
+
+        Map<String, Object> stats = emailDispatcher.getStatistics();
+        assertThat(stats.get("backlog")).isEqualTo(0L);
+        assertThat(stats.get("pendingBroadcasts")).isEqualTo(0L);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM email_outbox_messages", Long.class)).isZero();
+    }
+
+    @Test
+    void dispatch_PlayersJoinAfterBroadcastQueued_OnlyExistingPlayersReceiveIt() {
+        // Given - a broadcast queued for three players, then more players sign up before it is expanded
+        for (int i = 1; i <= 3; i++) {
+            userRepository.save(new User("player" + i, "Player", "User", "player" + i + "@test.com", "password",
+                    UserRole.PLAYER));
+        }
+        emailOutbox.enqueueBroadcast("New Quiz Tournament Available", "Good luck!", UserRole.PLAYER);
+        for (int i = 4; i <= 7; i++) {
+            userRepository.save(new User("player" + i, "Player", "User", "player" + i + "@test.com", "password",
+                    UserRole.PLAYER));
+        }
+
+        // When
+        int sent = 0;
+        int sentByRun;
+        while ((sentByRun = emailDispatcher.dispatch()) > 0) {
+            sent += sentByRun;
+        }
+
+        // Then
+        assertThat(sent).isEqualTo(3);
+        assertThat(Arrays.stream(greenMail.getReceivedMessages()).map(this::recipient).toList())
+                .containsExactlyInAnyOrder("player1@test.com", "player2@test.com", "player3@test.com");
+        assertThat(emailDispatcher.getStatistics().get("pendingBroadcasts")).isEqualTo(0L);
+    }
+
+    @Test
+    void dispatch_SmtpUnavailable_KeepsEmailQueuedForRetry() {
+        // Given
+        emailOutbox.enqueue("Welcome to Quiz Tournament!", "Body", List.of("player@test.com"));
+        greenMail.stop();
+
+        // When
+        int sentWhileDown = emailDispatcher.dispatch();
+        greenMail.start();
+        int sentAfterRestart = emailDispatcher.dispatch();
+
+        // Then
+        assertThat(sentWhileDown).isZero();
+        assertThat(sentAfterRestart).isEqualTo(1);
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+        assertThat(emailDispatcher.getStatistics().get("backlog")).isEqualTo(0L);
+    }
+
+    private String recipient(MimeMessage message) {
+        try {
+            return message.getAllRecipients()[0].toString();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @TestConfiguration
+    static class MailConfig {
+
+        @Bean
+        JavaMailSender mailSender() {
+            JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+            mailSender.setHost("localhost");
+            mailSender.setPort(ServerSetupTest.SMTP.getPort());
+            return mailSender;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.quiztournament.quiz_backend.service;
+
+import com.quiztournament.quiz_backend.dto.OpenTDBQuestion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Runs the QuizSessionStore contract against the in-memory store
+ */
+class InMemoryQuizSessionStoreTest extends QuizSessionStoreContractTest {
+
+    private InMemoryQuizSessionStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryQuizSessionStore();
+    }
+
+    @Override
+    protected QuizSessionStore store() {
+        return store;
+    }
+
+    @Test
+    void remove_ReleasesRetainedBytes() {
+        // Given
+        store.save(new QuizSession(1L, 10L, List.of(new OpenTDBQuestion("History", "boolean", "easy",
+                "The Great Wall of China was built in a single dynasty.", "False", List.of("True")))));
+
+        // When
+        store.remove(1L, 10L);
+
+        // Then
+        assertThat(store.getStatistics()).containsEntry("approxRetainedBytes", 0L);
+    }
+}
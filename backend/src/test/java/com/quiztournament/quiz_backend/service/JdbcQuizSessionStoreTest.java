@@ -0,0 +1,33 @@
+package com.quiztournament.quiz_backend.service;
+
+import com.quiztournament.quiz_backend.config.JdbcSchemaInitializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Runs the QuizSessionStore contract against the JDBC store on the embedded database
+ */
+@JdbcTest(properties = "app.quiz.session-store=jdbc")
+@Import({JdbcQuizSessionStore.class, JdbcSchemaInitializer.class})
+class JdbcQuizSessionStoreTest extends QuizSessionStoreContractTest {
+
+    @Autowired
+    private JdbcQuizSessionStore store;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // Contract tests are declared in the base class, so they do not run in the test-managed transaction
+        jdbcTemplate.update("DELETE FROM quiz_sessions");
+    }
+
+    @Override
+    protected QuizSessionStore store() {
+        return store;
+    }
+}
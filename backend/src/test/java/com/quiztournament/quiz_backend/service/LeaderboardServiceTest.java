@@ -0,0 +1,128 @@
+package com.quiztournament.quiz_backend.service;
+
+import com.quiztournament.quiz_backend.entity.QuizResult;
+import com.quiztournament.quiz_backend.entity.Tournament;
+import com.quiztournament.quiz_backend.entity.User;
+import com.quiztournament.quiz_backend.entity.UserRole;
+import com.quiztournament.quiz_backend.repository.QuizResultRepository;
+import com.quiztournament.quiz_backend.repository.TournamentRepository;
+import com.quiztournament.quiz_backend.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for refreshing and evicting the in-memory leaderboards
+ * Not transactional: results are committed as another node would commit them
+ */
+@DataJpaTest(properties = "app.leaderboard.refresh-lookback-ms=0")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(LeaderboardService.class)
+class LeaderboardServiceTest {
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @Autowired
+    private QuizResultRepository quizResultRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User admin;
+    private Tournament tournament;
+
+    @BeforeEach
+    void setUp() {
+        admin = userRepository.save(new User("admin", "Admin", "User", "admin@test.com", "password", UserRole.ADMIN));
+        tournament = tournamentRepository.save(new Tournament("Leaderboard Tournament", "science", "easy",
+                LocalDate.now().minusDays(1), LocalDate.now().plusDays(5), 60.0, admin));
+        leaderboardService.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        quizResultRepository.deleteAll();
+        tournamentRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void refresh_ResultRecordedElsewhere_IsRanked() {
+        // Given - a result committed without going through this node's leaderboards
+        User player = userRepository.save(new User("player", "Player", "User", "player@test.com", "password",
+                UserRole.PLAYER));
+        quizResultRepository.save(new QuizResult(player, tournament, 8, 10, 80.0, true, 60));
+        assertThat(leaderboardService.countEntries(tournament.getId())).isZero();
+
+        // When
+        int read = leaderboardService.refresh();
+
+        // Then
+        assertThat(read).isEqualTo(1);
+        assertThat(leaderboardService.countEntries(tournament.getId())).isEqualTo(1);
+        assertThat(leaderboardService.getRank(tournament.getId(), player.getId())).isEqualTo(1);
+    }
+
+    @Test
+    void refresh_NothingCompletedSincePreviousPass_ReadsNoResults() {
+        // Given - a result loaded by the full load
+        User player = userRepository.save(new User("player", "Player", "User", "player@test.com", "password",
+                UserRole.PLAYER));
+        quizResultRepository.save(new QuizResult(player, tournament, 8, 10, 80.0, true, 60));
+        leaderboardService.rebuild();
+
+        // When
+        int read = leaderboardService.refresh();
+
+        // Then - nothing is read again and the ranking is kept
+        assertThat(read).isZero();
+        assertThat(leaderboardService.countEntries(tournament.getId())).isEqualTo(1);
+    }
+
+    @Test
+    void refresh_TournamentDeletedElsewhere_DropsLeaderboard() {
+        // Given
+        User player = userRepository.save(new User("player", "Player", "User", "player@test.com", "password",
+                UserRole.PLAYER));
+        quizResultRepository.save(new QuizResult(player, tournament, 8, 10, 80.0, true, 60));
+        leaderboardService.refresh();
+        assertThat(leaderboardService.getLeaderboard(tournament.getId())).isNotNull();
+
+        // When - another node deletes the tournament
+        quizResultRepository.deleteAll();
+        tournamentRepository.delete(tournament);
+        leaderboardService.refresh();
+
+        // Then
+        assertThat(leaderboardService.getLeaderboard(tournament.getId())).isNull();
+    }
+
+    @Test
+    void evict_DeletedTournament_LeaderboardIsRemoved() {
+        // Given
+        User player = userRepository.save(new User("player", "Player", "User", "player@test.com", "password",
+                UserRole.PLAYER));
+        quizResultRepository.save(new QuizResult(player, tournament, 8, 10, 80.0, true, 60));
+        leaderboardService.refresh();
+        assertThat(leaderboardService.getLeaderboard(tournament.getId())).isNotNull();
+
+        // When
+        leaderboardService.evict(tournament.getId());
+
+        // Then
+        assertThat(leaderboardService.getLeaderboard(tournament.getId())).isNull();
+    }
+}
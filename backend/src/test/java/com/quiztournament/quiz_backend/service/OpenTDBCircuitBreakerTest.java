@@ -0,0 +1,116 @@
+package com.quiztournament.quiz_backend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for OpenTDBCircuitBreaker state transitions
+ */
+class OpenTDBCircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong(1_000);
+    private OpenTDBCircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = new OpenTDBCircuitBreaker(3, 10_000, now::get);
+    }
+
+    @Test
+    void recordFailure_BelowThreshold_StaysClosed() {
+        // When
+        failCalls(2);
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(OpenTDBCircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void recordFailure_AtThreshold_OpensAndRejectsCalls() {
+        // When
+        failCalls(3);
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(OpenTDBCircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+        assertThat(circuitBreaker.getStatistics())
+                .containsEntry("rejectedCount", 1L)
+                .containsEntry("openedCount", 1L)
+                .containsEntry("remainingOpenMs", 10_000L);
+    }
+
+    @Test
+    void tryAcquire_AfterOpenPeriod_LetsOneProbeThrough() {
+        // Given
+        failCalls(3);
+        now.addAndGet(10_000);
+
+        // When
+        boolean probe = circuitBreaker.tryAcquire();
+        boolean second = circuitBreaker.tryAcquire();
+
+        // Then
+        assertThat(probe).isTrue();
+        assertThat(second).isFalse();
+        assertThat(circuitBreaker.getState()).isEqualTo(OpenTDBCircuitBreaker.State.HALF_OPEN);
+    }
+
+    @Test
+    void recordSuccess_OnProbe_ClosesCircuit() {
+        // Given
+        failCalls(3);
+        now.addAndGet(10_000);
+        circuitBreaker.tryAcquire();
+
+        // When
+        circuitBreaker.recordSuccess();
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(OpenTDBCircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void recordFailure_OnProbe_ReopensCircuit() {
+        // Given
+        failCalls(3);
+        now.addAndGet(10_000);
+        circuitBreaker.tryAcquire();
+
+        // When
+        circuitBreaker.recordFailure();
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(OpenTDBCircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+        assertThat(circuitBreaker.getStatistics()).containsEntry("openedCount", 2L);
+    }
+
+    @Test
+    void release_OnProbe_LetsNextProbeThroughWithoutCountingAFailure() {
+        // Given
+        failCalls(3);
+        now.addAndGet(10_000);
+        circuitBreaker.tryAcquire();
+
+        // When - the probe never reached OpenTDB
+        circuitBreaker.release();
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(OpenTDBCircuitBreaker.State.HALF_OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        assertThat(circuitBreaker.getStatistics()).containsEntry("failureCount", 3L);
+    }
+
+    private void failCalls(int times) {
+        for (int i = 0; i < times; i++) {
+            assertThat(circuitBreaker.tryAcquire()).isTrue();
+            circuitBreaker.recordFailure();
+        }
+    }
+}
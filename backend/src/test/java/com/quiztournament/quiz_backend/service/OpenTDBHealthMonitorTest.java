@@ -0,0 +1,91 @@
+package com.quiztournament.quiz_backend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for OpenTDBHealthMonitor
+ */
+@ExtendWith(MockitoExtension.class)
+class OpenTDBHealthMonitorTest {
+
+    @Mock
+    private OpenTDBService openTDBService;
+
+    @InjectMocks
+    private OpenTDBHealthMonitor openTDBHealthMonitor;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(openTDBHealthMonitor, "probeEnabled", true);
+    }
+
+    @Test
+    void isConnected_BeforeFirstProbe_IsFalseWithoutCallingApi() {
+        // When
+        boolean connected = openTDBHealthMonitor.isConnected();
+
+        // Then
+        assertThat(connected).isFalse();
+        assertThat(openTDBHealthMonitor.getStatus()).containsEntry("samples", 0);
+        verifyNoInteractions(openTDBService);
+    }
+
+    @Test
+    void refresh_RecordsSuccessThenFailure() {
+        // Given
+        when(openTDBService.testApiConnectivity()).thenReturn(true, false);
+
+        // When
+        openTDBHealthMonitor.refresh();
+        boolean afterSuccess = openTDBHealthMonitor.isConnected();
+        openTDBHealthMonitor.refresh();
+
+        // Then
+        Map<String, Object> status = openTDBHealthMonitor.getStatus();
+        assertThat(afterSuccess).isTrue();
+        assertThat(openTDBHealthMonitor.isConnected()).isFalse();
+        assertThat((Long) status.get("lastSuccessAt")).isPositive();
+        assertThat((Long) status.get("lastFailureAt")).isGreaterThanOrEqualTo((Long) status.get("lastSuccessAt"));
+        assertThat(status).containsEntry("samples", 2);
+        assertThat((Long) status.get("p99LatencyMs")).isGreaterThanOrEqualTo((Long) status.get("p50LatencyMs"));
+    }
+
+    @Test
+    void getStatus_ReadsCachedResult() {
+        // Given
+        when(openTDBService.testApiConnectivity()).thenReturn(true);
+        openTDBHealthMonitor.refresh();
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            openTDBHealthMonitor.getStatus();
+            openTDBHealthMonitor.isConnected();
+        }
+
+        // Then - only the scheduled refresh reached OpenTDB
+        verify(openTDBService, times(1)).testApiConnectivity();
+    }
+
+    @Test
+    void refresh_Disabled_DoesNotProbe() {
+        // Given
+        ReflectionTestUtils.setField(openTDBHealthMonitor, "probeEnabled", false);
+
+        // When
+        openTDBHealthMonitor.refresh();
+
+        // Then
+        verifyNoInteractions(openTDBService);
+    }
+}
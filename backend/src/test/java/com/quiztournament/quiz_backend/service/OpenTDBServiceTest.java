@@ -0,0 +1,97 @@
+package com.quiztournament.quiz_backend.service;
+
+import com.quiztournament.quiz_backend.dto.OpenTDBQuestion;
+import com.quiztournament.quiz_backend.dto.OpenTDBResponse;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for OpenTDBService requests on a saturated OpenTDB executor
+ */
+@ExtendWith(MockitoExtension.class)
+class OpenTDBServiceTest {
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    @Mock
+    private PoolingHttpClientConnectionManager openTdbConnectionManager;
+
+    @InjectMocks
+    private OpenTDBService openTDBService;
+
+    private ThreadPoolTaskExecutor openTdbExecutor;
+    private final CountDownLatch apiBlocked = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        // One request in flight and one queued at most
+        openTdbExecutor = new ThreadPoolTaskExecutor();
+        openTdbExecutor.setCorePoolSize(1);
+        openTdbExecutor.setMaxPoolSize(1);
+        openTdbExecutor.setQueueCapacity(1);
+        openTdbExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        openTdbExecutor.initialize();
+
+        ReflectionTestUtils.setField(openTDBService, "openTdbBaseUrl", "https://opentdb.com/api.php");
+        ReflectionTestUtils.setField(openTDBService, "openTdbExecutor", openTdbExecutor);
+        ReflectionTestUtils.setField(openTDBService, "circuitFailureThreshold", 1);
+        ReflectionTestUtils.setField(openTDBService, "circuitOpenMs", 30_000L);
+        openTDBService.initCircuitBreaker();
+    }
+
+    @AfterEach
+    void tearDown() {
+        apiBlocked.countDown();
+        openTdbExecutor.shutdown();
+    }
+
+    @Test
+    void fetchQuestionsAsync_ExecutorQueueFull_FallsBackWithoutWaiting() throws Exception {
+        // Given - a slow OpenTDB holds the only thread, a second request waits in the queue
+        when(restTemplate.getForObject(anyString(), eq(OpenTDBResponse.class))).thenAnswer(invocation -> {
+            apiBlocked.await(10, TimeUnit.SECONDS);
+            throw new RuntimeException("OpenTDB timed out");
+        });
+        CompletableFuture<List<OpenTDBQuestion>> running = openTDBService.fetchQuestionsAsync("science", "easy", 5);
+        CompletableFuture<List<OpenTDBQuestion>> queued = openTDBService.fetchQuestionsAsync("science", "easy", 5);
+
+        when(openTdbConnectionManager.getTotalStats()).thenReturn(new PoolStats(1, 0, 0, 20));
+
+        // When
+        CompletableFuture<List<OpenTDBQuestion>> rejected = openTDBService.fetchQuestionsAsync("science", "easy", 5);
+
+        // Then - the third request is answered from the fallback questions right away
+        assertThat(rejected).isCompleted();
+        assertThat(rejected.get()).isNotEmpty();
+        assertThat(running).isNotDone();
+        assertThat(queued).isNotDone();
+        assertThat(openTDBService.getCircuitStatistics())
+                .containsEntry("state", "CLOSED")
+                .containsEntry("failureCount", 0L);
+        assertThat(openTDBService.getConnectionPoolStatistics())
+                .containsEntry("rejectedRequests", 1L)
+                .containsEntry("queuedRequests", 1);
+    }
+}
@@ -0,0 +1,150 @@
+package com.quiztournament.quiz_backend.service;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import com.quiztournament.quiz_backend.config.AsyncConfig;
+import com.quiztournament.quiz_backend.config.RestTemplateConfig;
+import com.quiztournament.quiz_backend.dto.OpenTDBQuestion;
+import com.quiztournament.quiz_backend.repository.QuestionRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for QuestionBankHarvester against a WireMock stand-in for OpenTDB
+ */
+@DataJpaTest(properties = "app.question-bank.target-per-bucket=20")
+@Import({QuestionBankHarvester.class, QuestionBankService.class, OpenTDBService.class, RestTemplateConfig.class,
+        AsyncConfig.class})
+class QuestionBankHarvesterTest {
+
+    @RegisterExtension
+    static WireMockExtension openTdb = WireMockExtension.newInstance()
+            .options(wireMockConfig().dynamicPort())
+            .build();
+
+    @DynamicPropertySource
+    static void openTdbProperties(DynamicPropertyRegistry registry) {
+        registry.add("app.opentdb.base-url", () -> openTdb.baseUrl() + "/api.php");
+    }
+
+    @Autowired
+    private QuestionBankHarvester questionBankHarvester;
+
+    @Autowired
+    private QuestionBankService questionBankService;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Test
+    void harvest_StoresQuestionsFromBulkRequest() {
+        // Given
+        stubQuestions("17", "easy");
+
+        // When
+        int added = questionBankHarvester.harvest("science", "easy");
+
+        // Then
+        assertThat(added).isEqualTo(3);
+        assertThat(questionBankService.countQuestions("science", "easy")).isEqualTo(3);
+        openTdb.verify(1, getRequestedFor(urlPathEqualTo("/api.php"))
+                .withQueryParam("amount", equalTo("20"))
+                .withQueryParam("category", equalTo("17"))
+                .withQueryParam("difficulty", equalTo("easy")));
+    }
+
+    @Test
+    void harvest_SkipsQuestionsAlreadyInBank() {
+        // Given
+        stubQuestions("17", "easy");
+        questionBankHarvester.harvest("science", "easy");
+
+        // When
+        int added = questionBankHarvester.harvest("science", "easy");
+
+        // Then
+        assertThat(added).isZero();
+        assertThat(questionRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    void addQuestions_TextsWithSameStringHashCode_StoresBoth() {
+        // Given - "Aa" and "BB" have the same String.hashCode, so these two texts do too
+        OpenTDBQuestion first = new OpenTDBQuestion("Science", "boolean", "easy", "Is Aa a word?", "True",
+                List.of("False"));
+        OpenTDBQuestion second = new OpenTDBQuestion("Science", "boolean", "easy", "Is BB a word?", "False",
+                List.of("True"));
+        assertThat(first.getQuestion().hashCode()).isEqualTo(second.getQuestion().hashCode());
+
+        // When
+        int added = questionBankService.addQuestions("science", "easy", List.of(first, second, first));
+        int addedAgain = questionBankService.addQuestions("science", "easy", List.of(second));
+
+        // Then
+        assertThat(added).isEqualTo(2);
+        assertThat(addedAgain).isZero();
+        assertThat(questionRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void harvest_ApiError_StoresNothing() {
+        // Given
+        openTdb.stubFor(get(urlPathEqualTo("/api.php")).willReturn(serverError()));
+
+        // When
+        int added = questionBankHarvester.harvest("history", "hard");
+
+        // Then
+        assertThat(added).isZero();
+        assertThat(questionRepository.count()).isZero();
+    }
+
+    @Test
+    void drawQuestions_ReturnsStoredQuestionsWithAnswers() {
+        // Given
+        stubQuestions("17", "easy");
+        questionBankHarvester.harvest("science", "easy");
+
+        // When
+        List<OpenTDBQuestion> questions = questionBankService.drawQuestions("Science", "EASY", 10);
+
+        // Then
+        assertThat(questions).hasSize(3);
+        assertThat(questions).extracting(OpenTDBQuestion::getQuestion)
+                .contains("What is the chemical symbol for gold?");
+        OpenTDBQuestion gold = questions.stream()
+                .filter(q -> q.getQuestion().startsWith("What is the chemical symbol"))
+                .findFirst().orElseThrow();
+        assertThat(gold.getIncorrectAnswers()).containsExactly("Ag", "Go", "Gd");
+        assertThat(gold.isCorrectAnswer("Au")).isTrue();
+    }
+
+    private void stubQuestions(String categoryId, String difficulty) {
+        openTdb.stubFor(get(urlPathEqualTo("/api.php"))
+                .withQueryParam("category", equalTo(categoryId))
+                .withQueryParam("difficulty", equalTo(difficulty))
+                .willReturn(okJson("""
+                        {"response_code": 0, "results": [
+                          {"category": "Science & Nature", "type": "multiple", "difficulty": "easy",
+                           "question": "What is the chemical symbol for gold?", "correct_answer": "Au",
+                           "incorrect_answers": ["Ag", "Go", "Gd"]},
+                          {"category": "Science & Nature", "type": "boolean", "difficulty": "easy",
+                           "question": "The Earth is the third planet from the Sun.", "correct_answer": "True",
+                           "incorrect_answers": ["False"]},
+                          {"category": "Science & Nature", "type": "multiple", "difficulty": "easy",
+                           "question": "What is the most abundant gas in Earth's atmosphere?", "correct_answer": "Nitrogen",
+                           "incorrect_answers": ["Oxygen", "Carbon Dioxide", "Argon"]}
+                        ]}
+                        """)));
+    }
+}
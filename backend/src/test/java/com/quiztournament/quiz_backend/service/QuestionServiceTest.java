@@ -0,0 +1,188 @@
+package com.quiztournament.quiz_backend.service;
+
+import com.quiztournament.quiz_backend.dto.OpenTDBQuestion;
+import com.quiztournament.quiz_backend.dto.QuizAnswerRequest;
+import com.quiztournament.quiz_backend.entity.User;
+import com.quiztournament.quiz_backend.entity.UserRole;
+import com.quiztournament.quiz_backend.service.QuestionService.BatchValidationResult;
+import com.quiztournament.quiz_backend.service.QuestionService.UserAnswer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for QuestionService
+ * Grades batches of answers against a quiz session held in the in-memory store
+ */
+@ExtendWith(MockitoExtension.class)
+class QuestionServiceTest {
+
+    private static final Long TOURNAMENT_ID = 10L;
+
+    @Mock
+    private CurrentUserResolver currentUserResolver;
+
+    @Spy
+    private QuizSessionStore quizSessionStore = new InMemoryQuizSessionStore();
+
+    @InjectMocks
+    private QuestionService questionService;
+
+    private User playerUser;
+
+    @BeforeEach
+    void setUp() {
+        playerUser = new User("player", "Player", "User", "player@test.com", "password", UserRole.PLAYER);
+        playerUser.setId(1L);
+        lenient().when(currentUserResolver.getCurrentUser()).thenReturn(playerUser);
+        quizSessionStore.save(new QuizSession(playerUser.getId(), TOURNAMENT_ID, sampleQuestions()));
+    }
+
+    @Test
+    void validateAnswers_SeveralAnswers_GradesAndRecordsEachAnswer() {
+        // When
+        BatchValidationResult result = questionService.validateAnswers(TOURNAMENT_ID, List.of(
+                new QuizAnswerRequest(1, "Au"),
+                new QuizAnswerRequest(2, "False")));
+
+        // Then
+        assertThat(result.getTotalQuestions()).isEqualTo(3);
+        assertThat(result.getAnsweredCount()).isEqualTo(2);
+        assertThat(result.getCorrectCount()).isEqualTo(1);
+        assertThat(result.isCorrect(1)).isTrue();
+        assertThat(result.isCorrect(2)).isFalse();
+        assertThat(result.getCorrectAnswer(2)).isEqualTo("True");
+        assertThat(result.isAnswered(3)).isFalse();
+
+        Map<Integer, UserAnswer> recorded = quizSessionStore.find(playerUser.getId(), TOURNAMENT_ID)
+                .orElseThrow().getAnswerHistory();
+        assertThat(recorded).containsOnlyKeys(1, 2);
+        assertThat(recorded.get(2).getAnswer()).isEqualTo("False");
+        verify(quizSessionStore).recordAnswers(eq(playerUser.getId()), eq(TOURNAMENT_ID), anyMap());
+    }
+
+    @Test
+    void validateAnswers_RepeatedQuestionNumber_KeepsOnlyTheLastAnswer() {
+        // When - question 1 answered correctly, then overwritten with a wrong answer in the same payload
+        BatchValidationResult result = questionService.validateAnswers(TOURNAMENT_ID, List.of(
+                new QuizAnswerRequest(1, "Au"),
+                new QuizAnswerRequest(1, "Ag")));
+
+        // Then
+        assertThat(result.getAnsweredCount()).isEqualTo(1);
+        assertThat(result.getCorrectCount()).isZero();
+        assertThat(result.getSessionCorrectCount()).isZero();
+        assertThat(result.getUserAnswer(1)).isEqualTo("Ag");
+        assertThat(quizSessionStore.find(playerUser.getId(), TOURNAMENT_ID).orElseThrow()
+                .getAnswerHistory().get(1).getAnswer()).isEqualTo("Ag");
+    }
+
+    @Test
+    void validateAnswers_OutOfRangeQuestionNumber_ThrowsAndRecordsNothing() {
+        // When & Then
+        assertThatThrownBy(() -> questionService.validateAnswers(TOURNAMENT_ID, List.of(
+                new QuizAnswerRequest(1, "Au"),
+                new QuizAnswerRequest(4, "Au"))))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Invalid question number: 4");
+
+        assertThat(quizSessionStore.find(playerUser.getId(), TOURNAMENT_ID).orElseThrow()
+                .getAnswerHistory()).isEmpty();
+        verify(quizSessionStore, never()).recordAnswers(anyLong(), anyLong(), anyMap());
+    }
+
+    @Test
+    void validateAnswers_EarlierAnswers_CountTowardsSessionScoreUnlessAnsweredAgain() {
+        // Given - questions 1 and 3 already answered correctly by an earlier request
+        quizSessionStore.recordAnswer(playerUser.getId(), TOURNAMENT_ID, 1,
+                new UserAnswer("Au", true, System.currentTimeMillis(), "Au", "What is the chemical symbol for gold?"));
+        quizSessionStore.recordAnswer(playerUser.getId(), TOURNAMENT_ID, 3,
+                new UserAnswer("1945", true, System.currentTimeMillis(), "1945", "In which year did World War II end?"));
+
+        // When - question 2 answered correctly, question 3 answered again wrongly
+        BatchValidationResult result = questionService.validateAnswers(TOURNAMENT_ID, List.of(
+                new QuizAnswerRequest(2, "True"),
+                new QuizAnswerRequest(3, "1944")));
+
+        // Then - this batch scores 1/2, the session keeps question 1 and loses question 3
+        assertThat(result.getAnsweredCount()).isEqualTo(2);
+        assertThat(result.getCorrectCount()).isEqualTo(1);
+        assertThat(result.getSessionCorrectCount()).isEqualTo(2);
+    }
+
+    @Test
+    void validateAnswers_NoSession_Throws() {
+        // Given
+        quizSessionStore.remove(playerUser.getId(), TOURNAMENT_ID);
+
+        // When & Then
+        assertThatThrownBy(() -> questionService.validateAnswers(TOURNAMENT_ID, List.of(new QuizAnswerRequest(1, "Au"))))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("No active quiz session found");
+    }
+
+    @Test
+    void removeQuizSessionAfterCommit_TransactionCommits_RemovesSessionOnlyAfterCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            questionService.removeQuizSessionAfterCommit(playerUser.getId(), TOURNAMENT_ID);
+
+            // Then - still there until the commit, gone afterwards
+            assertThat(quizSessionStore.find(playerUser.getId(), TOURNAMENT_ID)).isPresent();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertThat(quizSessionStore.find(playerUser.getId(), TOURNAMENT_ID)).isEmpty();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void removeQuizSessionAfterCommit_TransactionRollsBack_KeepsSession() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            questionService.removeQuizSessionAfterCommit(playerUser.getId(), TOURNAMENT_ID);
+            TransactionSynchronizationManager.getSynchronizations().forEach(synchronization ->
+                    synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            // Then
+            assertThat(quizSessionStore.find(playerUser.getId(), TOURNAMENT_ID)).isPresent();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void removeQuizSessionAfterCommit_NoTransaction_RemovesSessionAtOnce() {
+        // When
+        questionService.removeQuizSessionAfterCommit(playerUser.getId(), TOURNAMENT_ID);
+
+        // Then
+        assertThat(quizSessionStore.find(playerUser.getId(), TOURNAMENT_ID)).isEmpty();
+    }
+
+    private List<OpenTDBQuestion> sampleQuestions() {
+        return List.of(
+                new OpenTDBQuestion("Science & Nature", "multiple", "medium",
+                        "What is the chemical symbol for gold?", "Au", List.of("Ag", "Go", "Gd")),
+                new OpenTDBQuestion("Science & Nature", "boolean", "easy",
+                        "The Earth is the third planet from the Sun.", "True", List.of("False")),
+                new OpenTDBQuestion("History", "multiple", "medium",
+                        "In which year did World War II end?", "1945", List.of("1944", "1946", "1943")));
+    }
+}
@@ -0,0 +1,165 @@
+package com.quiztournament.quiz_backend.service;
+
+import com.quiztournament.quiz_backend.service.QuestionService.UserAnswer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the quiz completion journal: durability, replay and checkpointing
+ */
+class QuizCompletionJournalTest {
+
+    @TempDir
+    Path journalDir;
+
+    private QuizCompletionJournal journal;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        journal = openJournal();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        journal.close();
+    }
+
+    @Test
+    void append_QueuesCompletionsInOrder() {
+        // When
+        long first = journal.append(completion(1L));
+        long second = journal.append(completion(2L));
+
+        // Then
+        assertThat(second).isEqualTo(first + 1);
+        List<QuizCompletionRecord> pending = journal.peek(10);
+        assertThat(pending).extracting(QuizCompletionRecord::getUserId).containsExactly(1L, 2L);
+        assertThat(journal.getStatistics()).containsEntry("pendingCompletions", 2);
+    }
+
+    @Test
+    void open_ReplaysCompletionsNotYetApplied() throws IOException {
+        // Given
+        long first = journal.append(completion(1L));
+        journal.append(completion(2L));
+        journal.markApplied(first);
+
+        // When - restart
+        journal.close();
+        journal = openJournal();
+
+        // Then
+        List<QuizCompletionRecord> pending = journal.peek(10);
+        assertThat(pending).hasSize(1);
+        QuizCompletionRecord replayed = pending.get(0);
+        assertThat(replayed.getUserId()).isEqualTo(2L);
+        assertThat(replayed.getCorrectAnswers()).isEqualTo(1);
+        assertThat(replayed.getAnswers()).hasSize(2);
+        assertThat(replayed.getAnswers().get(0).getCorrectAnswer()).isEqualTo("Au");
+        assertThat(journal.getStatistics()).containsEntry("replayedCompletions", 1L);
+
+        // Sequence numbers keep increasing after a restart
+        assertThat(journal.append(completion(3L))).isGreaterThan(replayed.getSequence());
+    }
+
+    @Test
+    void open_IgnoresTornLastLine() throws IOException {
+        // Given - a crash in the middle of an append
+        journal.append(completion(1L));
+        journal.close();
+        Files.writeString(journalDir.resolve(QuizCompletionJournal.JOURNAL_FILE), "{\"sequence\":2,\"user",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        // When
+        journal = openJournal();
+        journal.append(completion(3L));
+
+        // Then
+        journal.close();
+        journal = openJournal();
+        assertThat(journal.peek(10)).extracting(QuizCompletionRecord::getUserId).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void open_UnreadableMiddleLine_ReplaysLaterCompletionsAndCopiesJournalAside() throws IOException {
+        // Given - a damaged entry with acknowledged completions after it
+        journal.append(completion(1L));
+        journal.append(completion(3L));
+        journal.close();
+        Path journalFile = journalDir.resolve(QuizCompletionJournal.JOURNAL_FILE);
+        List<String> lines = Files.readAllLines(journalFile, StandardCharsets.UTF_8);
+        Files.write(journalFile, List.of(lines.get(0), "{\"sequence\":2,\"user", lines.get(1)), StandardCharsets.UTF_8);
+        long sizeBefore = Files.size(journalFile);
+
+        // When
+        journal = openJournal();
+
+        // Then - nothing after the damaged entry is lost, and the file is kept whole
+        assertThat(journal.peek(10)).extracting(QuizCompletionRecord::getUserId).containsExactly(1L, 3L);
+        assertThat(Files.size(journalFile)).isEqualTo(sizeBefore);
+        try (var files = Files.list(journalDir)) {
+            assertThat(files.map(file -> file.getFileName().toString()))
+                    .anyMatch(name -> name.startsWith(QuizCompletionJournal.JOURNAL_FILE + ".corrupt-"));
+        }
+    }
+
+    @Test
+    void markApplied_EverythingApplied_CompactsJournal() throws IOException {
+        // Given
+        ReflectionTestUtils.setField(journal, "compactBytes", 1L);
+        journal.append(completion(1L));
+        long last = journal.append(completion(2L));
+
+        // When
+        journal.markApplied(last);
+
+        // Then
+        assertThat(journal.getPendingCount()).isZero();
+        assertThat(Files.size(journalDir.resolve(QuizCompletionJournal.JOURNAL_FILE))).isZero();
+        assertThat(journal.getStatistics()).containsEntry("appliedCompletions", 2L);
+    }
+
+    @Test
+    void markFailed_SetsCompletionAsideAndUnblocksTheRest() throws IOException {
+        // Given
+        journal.append(completion(1L));
+        journal.append(completion(2L));
+        QuizCompletionRecord failing = journal.peek(1).get(0);
+
+        // When
+        journal.markFailed(failing);
+
+        // Then
+        assertThat(journal.peek(10)).extracting(QuizCompletionRecord::getUserId).containsExactly(2L);
+        assertThat(Files.readAllLines(journalDir.resolve(QuizCompletionJournal.FAILED_FILE))).hasSize(1);
+        assertThat(journal.getStatistics()).containsEntry("failedCompletions", 1L);
+    }
+
+    private QuizCompletionJournal openJournal() throws IOException {
+        QuizCompletionJournal opened = new QuizCompletionJournal();
+        ReflectionTestUtils.setField(opened, "journalDir", journalDir.toString());
+        ReflectionTestUtils.setField(opened, "compactBytes", 1048576L);
+        opened.open();
+        return opened;
+    }
+
+    private QuizCompletionRecord completion(Long userId) {
+        long now = System.currentTimeMillis();
+        return new QuizCompletionRecord(userId, 10L, 1, 2, 50.0, true, 30, now, Map.of(
+                1, new UserAnswer("Au", true, now, "Au", "What is the chemical symbol for gold?"),
+                2, new UserAnswer("True", false, now, "False", "The Great Wall was built in a single dynasty.")));
+    }
+}
@@ -0,0 +1,141 @@
+package com.quiztournament.quiz_backend.service;
+
+import com.quiztournament.quiz_backend.entity.QuizAnswer;
+import com.quiztournament.quiz_backend.entity.QuizResult;
+import com.quiztournament.quiz_backend.entity.Tournament;
+import com.quiztournament.quiz_backend.entity.User;
+import com.quiztournament.quiz_backend.entity.UserRole;
+import com.quiztournament.quiz_backend.entity.UserTournamentScore;
+import com.quiztournament.quiz_backend.repository.QuizAnswerRepository;
+import com.quiztournament.quiz_backend.repository.QuizResultRepository;
+import com.quiztournament.quiz_backend.repository.UserTournamentScoreRepository;
+import com.quiztournament.quiz_backend.service.QuestionService.UserAnswer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for draining journaled quiz completions into the result, answer and legacy score tables
+ */
+@DataJpaTest(properties = "app.quiz.completion-journal-dir=target/test-journal/${random.uuid}")
+@Import({QuizCompletionWriter.class, QuizCompletionJournal.class, ScoreLedger.class, TournamentStatsService.class,
+        LeaderboardService.class})
+class QuizCompletionWriterTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private QuizCompletionWriter quizCompletionWriter;
+
+    @Autowired
+    private QuizCompletionJournal quizCompletionJournal;
+
+    @Autowired
+    private QuizResultRepository quizResultRepository;
+
+    @Autowired
+    private QuizAnswerRepository quizAnswerRepository;
+
+    @Autowired
+    private UserTournamentScoreRepository userTournamentScoreRepository;
+
+    private User playerUser;
+    private Tournament tournament;
+
+    @BeforeEach
+    void setUp() {
+        User adminUser = new User();
+        adminUser.setUsername("admin");
+        adminUser.setFirstName("Admin");
+        adminUser.setLastName("User");
+        adminUser.setEmail("admin@test.com");
+        adminUser.setPassword("password");
+        adminUser.setRole(UserRole.ADMIN);
+        adminUser = entityManager.persistAndFlush(adminUser);
+
+        playerUser = new User();
+        playerUser.setUsername("player");
+        playerUser.setFirstName("Player");
+        playerUser.setLastName("User");
+        playerUser.setEmail("player@test.com");
+        playerUser.setPassword("password");
+        playerUser.setRole(UserRole.PLAYER);
+        playerUser = entityManager.persistAndFlush(playerUser);
+
+        tournament = entityManager.persistAndFlush(new Tournament("Journal Tournament", "science", "easy",
+                LocalDate.now().minusDays(1), LocalDate.now().plusDays(5), 50.0, adminUser));
+    }
+
+    @Test
+    void drain_WritesResultAnswersAndLegacyScore() {
+        // Given
+        quizCompletionJournal.append(completion(7));
+
+        // When
+        int written = quizCompletionWriter.drain();
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then
+        assertThat(written).isEqualTo(1);
+        assertThat(quizCompletionJournal.getPendingCount()).isZero();
+
+        QuizResult result = quizResultRepository.findByUserAndTournament(playerUser, tournament).orElseThrow();
+        assertThat(result.getScore()).isEqualTo(7);
+        assertThat(result.getPassed()).isTrue();
+
+        List<QuizAnswer> answers = quizAnswerRepository.findByQuizResultOrderByQuestionNumber(result);
+        assertThat(answers).hasSize(10);
+        assertThat(answers).filteredOn(QuizAnswer::getIsCorrect).hasSize(7);
+
+        UserTournamentScore score = userTournamentScoreRepository.findByUserAndTournament(playerUser, tournament)
+                .orElseThrow();
+        assertThat(score.getScore()).isEqualTo(7);
+    }
+
+    @Test
+    void drain_Retake_ReplacesAnswersAndUpdatesScores() {
+        // Given
+        quizCompletionJournal.append(completion(3));
+        quizCompletionJournal.append(completion(9));
+
+        // When
+        int written = quizCompletionWriter.drain();
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then
+        assertThat(written).isEqualTo(2);
+        QuizResult result = quizResultRepository.findByUserAndTournament(playerUser, tournament).orElseThrow();
+        assertThat(result.getScore()).isEqualTo(9);
+        assertThat(quizAnswerRepository.findByQuizResultOrderByQuestionNumber(result))
+                .hasSize(10)
+                .filteredOn(QuizAnswer::getIsCorrect).hasSize(9);
+        assertThat(userTournamentScoreRepository.findByUserAndTournament(playerUser, tournament).orElseThrow()
+                .getScore()).isEqualTo(9);
+        assertThat(quizCompletionWriter.getStatistics()).containsEntry("appliedCompletions", 2L);
+    }
+
+    private QuizCompletionRecord completion(int correctAnswers) {
+        long now = System.currentTimeMillis();
+        Map<Integer, UserAnswer> answers = new HashMap<>();
+        for (int i = 1; i <= 10; i++) {
+            boolean correct = i <= correctAnswers;
+            answers.put(i, new UserAnswer(correct ? "A" : "B", correct, now, "A", "Question " + i));
+        }
+        double percentage = correctAnswers * 10.0;
+        return new QuizCompletionRecord(playerUser.getId(), tournament.getId(), correctAnswers, 10,
+                percentage, percentage >= 50.0, 60, now, answers);
+    }
+}
@@ -0,0 +1,147 @@
+package com.quiztournament.quiz_backend.service;
+
+import com.quiztournament.quiz_backend.dto.OpenTDBQuestion;
+import com.quiztournament.quiz_backend.dto.QuizAnswerRequest;
+import com.quiztournament.quiz_backend.dto.QuizResultResponse;
+import com.quiztournament.quiz_backend.entity.Tournament;
+import com.quiztournament.quiz_backend.entity.TournamentStats;
+import com.quiztournament.quiz_backend.entity.User;
+import com.quiztournament.quiz_backend.entity.UserRole;
+import com.quiztournament.quiz_backend.service.CustomUserDetailsService.CustomUserPrincipal;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Query count tests for quiz submission
+ * Verifies that the current user is loaded once per request, not once per validated answer
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({QuizParticipationService.class, QuestionService.class, TournamentStatsService.class, ScoreLedger.class,
+        CurrentUserResolver.class, UserPrincipalCache.class, InMemoryQuizSessionStore.class,
+        QuizSessionSweeper.class, QuestionBankService.class, LeaderboardService.class})
+class QuizParticipationServiceQueryCountTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private QuizParticipationService quizParticipationService;
+
+    @Autowired
+    private QuizSessionStore quizSessionStore;
+
+    @Autowired
+    private UserPrincipalCache userPrincipalCache;
+
+    @MockBean
+    private TournamentQuestionService tournamentQuestionService;
+
+    @MockBean
+    private QuizCompletionJournal quizCompletionJournal;
+
+    @MockBean
+    private QuizCompletionWriter quizCompletionWriter;
+
+    private User playerUser;
+    private Tournament tournament;
+
+    @BeforeEach
+    void setUp() {
+        User adminUser = new User();
+        adminUser.setUsername("admin");
+        adminUser.setFirstName("Admin");
+        adminUser.setLastName("User");
+        adminUser.setEmail("admin@test.com");
+        adminUser.setPassword("password");
+        adminUser.setRole(UserRole.ADMIN);
+        adminUser = entityManager.persistAndFlush(adminUser);
+
+        playerUser = new User();
+        playerUser.setUsername("player");
+        playerUser.setFirstName("Player");
+        playerUser.setLastName("User");
+        playerUser.setEmail("player@test.com");
+        playerUser.setPassword("password");
+        playerUser.setRole(UserRole.PLAYER);
+        playerUser = entityManager.persistAndFlush(playerUser);
+
+        tournament = entityManager.persistAndFlush(new Tournament("Submit Tournament", "science", "easy",
+                LocalDate.now().minusDays(1), LocalDate.now().plusDays(5), 50.0, adminUser));
+        entityManager.persistAndFlush(new TournamentStats(tournament.getId()));
+
+        // An authenticated HTTP request, as set up by the JWT filter
+        CustomUserPrincipal principal = new CustomUserPrincipal(playerUser.getId(), playerUser.getUsername(),
+                playerUser.getEmail(), UserRole.PLAYER);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        List<OpenTDBQuestion> questions = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            questions.add(new OpenTDBQuestion("Science & Nature", "multiple", "easy",
+                    "Question " + i, "A", List.of("B", "C", "D")));
+        }
+        quizSessionStore.save(new QuizSession(playerUser.getId(), tournament.getId(), questions));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void submitQuizAnswers_LoadsCurrentUserOnce() {
+        // Given
+        List<QuizAnswerRequest> answers = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            answers.add(new QuizAnswerRequest(i, i <= 7 ? "A" : "B"));
+        }
+
+        // When
+        AtomicReference<QuizResultResponse> result = new AtomicReference<>();
+        Statistics statistics = measure(() ->
+                result.set(quizParticipationService.submitQuizAnswers(tournament.getId(), answers)));
+
+        // Then - one user load for 11 current-user resolutions, and a fixed, small number of statements:
+        // tournament, user, existence check, ledger lookup, result insert, answer sequence, batched answer insert,
+        // projection upsert and stats delta
+        assertThat(result.get().getScore()).isEqualTo(7);
+        assertThat(statistics.getEntityStatistics(User.class.getName()).getLoadCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(10);
+    }
+
+    private Statistics measure(Runnable action) {
+        entityManager.flush();
+        entityManager.clear();
+        userPrincipalCache.invalidate(playerUser.getId());
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        action.run();
+        return statistics;
+    }
+}
@@ -0,0 +1,180 @@
+package com.quiztournament.quiz_backend.service;
+
+import com.quiztournament.quiz_backend.dto.LeaderboardEntry;
+import com.quiztournament.quiz_backend.entity.Tournament;
+import com.quiztournament.quiz_backend.entity.User;
+import com.quiztournament.quiz_backend.entity.UserRole;
+import com.quiztournament.quiz_backend.repository.TournamentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for QuizParticipationService
+ * Tests the current user's rank and the leaderboard entries around it
+ */
+@ExtendWith(MockitoExtension.class)
+class QuizParticipationServiceTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Mock
+    private TournamentRepository tournamentRepository;
+
+    @Mock
+    private CurrentUserResolver currentUserResolver;
+
+    @Mock
+    private LeaderboardService leaderboardService;
+
+    @InjectMocks
+    private QuizParticipationService quizParticipationService;
+
+    private final TournamentLeaderboard leaderboard = new TournamentLeaderboard();
+    private User playerUser;
+
+    @BeforeEach
+    void setUp() {
+        User adminUser = new User("admin", "Admin", "User", "admin@test.com", "password", UserRole.ADMIN);
+        adminUser.setId(99L);
+        Tournament tournament = new Tournament("Rank Tournament", "science", "easy",
+                LocalDate.now().minusDays(1), LocalDate.now().plusDays(5), 50.0, adminUser);
+        tournament.setId(1L);
+
+        playerUser = new User("player", "Player", "User", "player@test.com", "password", UserRole.PLAYER);
+
+        // Players 1..10 rank 1..10: player N scores 11 - N, completed in ID order
+        for (long userId = 1; userId <= 10; userId++) {
+            leaderboard.upsert(entry(userId, (int) (11 - userId)));
+        }
+
+        lenient().when(tournamentRepository.findById(1L)).thenReturn(Optional.of(tournament));
+        lenient().when(currentUserResolver.getCurrentUser()).thenReturn(playerUser);
+        lenient().when(leaderboardService.getNeighborhood(eq(1L), anyLong(), anyInt()))
+                .thenAnswer(invocation -> leaderboard.getNeighborhood(invocation.getArgument(1), invocation.getArgument(2)));
+    }
+
+    @Test
+    void getMyRank_MiddleOfLeaderboard_ReturnsEntriesOnBothSides() {
+        // Given
+        playerUser.setId(5L);
+
+        // When
+        Map<String, Object> result = quizParticipationService.getMyRank(1L, 2);
+
+        // Then
+        assertThat(result.get("tournamentName")).isEqualTo("Rank Tournament");
+        assertThat(result.get("rank")).isEqualTo(5);
+        assertThat(result.get("totalEntries")).isEqualTo(10);
+        assertThat(result.get("percentile")).isEqualTo(50.0);
+        assertThat(entries(result)).extracting(entry -> entry.get("rank")).containsExactly(3, 4, 5, 6, 7);
+        assertThat(entries(result)).extracting(entry -> entry.get("userId")).containsExactly(3L, 4L, 5L, 6L, 7L);
+        assertThat(entries(result)).extracting(entry -> entry.get("currentUser"))
+                .containsExactly(false, false, true, false, false);
+    }
+
+    @Test
+    void getMyRank_TopOfLeaderboard_StartsAtRankOne() {
+        // Given
+        playerUser.setId(1L);
+
+        // When
+        Map<String, Object> result = quizParticipationService.getMyRank(1L, 3);
+
+        // Then - nothing above the leader, so only the entries below are returned
+        assertThat(result.get("rank")).isEqualTo(1);
+        assertThat(result.get("percentile")).isEqualTo(90.0);
+        assertThat(entries(result)).extracting(entry -> entry.get("rank")).containsExactly(1, 2, 3, 4);
+        assertThat(entries(result).get(0).get("currentUser")).isEqualTo(true);
+    }
+
+    @Test
+    void getMyRank_BottomOfLeaderboard_EndsAtLastRank() {
+        // Given
+        playerUser.setId(10L);
+
+        // When
+        Map<String, Object> result = quizParticipationService.getMyRank(1L, 3);
+
+        // Then - nothing below the last player, so only the entries above are returned
+        assertThat(result.get("rank")).isEqualTo(10);
+        assertThat(result.get("percentile")).isEqualTo(0.0);
+        assertThat(entries(result)).extracting(entry -> entry.get("rank")).containsExactly(7, 8, 9, 10);
+        assertThat(entries(result).get(3).get("currentUser")).isEqualTo(true);
+    }
+
+    @Test
+    void getMyRank_RadiusZero_ReturnsOnlyCurrentUser() {
+        // Given
+        playerUser.setId(4L);
+
+        // When
+        Map<String, Object> result = quizParticipationService.getMyRank(1L, 0);
+
+        // Then
+        assertThat(result.get("rank")).isEqualTo(4);
+        assertThat(entries(result)).extracting(entry -> entry.get("userId")).containsExactly(4L);
+    }
+
+    @Test
+    void getMyRank_RadiusLargerThanLeaderboard_ReturnsAllEntries() {
+        // Given
+        playerUser.setId(6L);
+
+        // When
+        Map<String, Object> result = quizParticipationService.getMyRank(1L, 25);
+
+        // Then
+        assertThat(entries(result)).extracting(entry -> entry.get("rank"))
+                .containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+    }
+
+    @Test
+    void getMyRank_NotParticipated_ThrowsException() {
+        // Given
+        playerUser.setId(42L);
+
+        // When & Then
+        assertThatThrownBy(() -> quizParticipationService.getMyRank(1L, 5))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("You have not participated in this tournament yet");
+    }
+
+    @Test
+    void getMyRank_TournamentNotFound_ThrowsException() {
+        // Given
+        when(tournamentRepository.findById(2L)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> quizParticipationService.getMyRank(2L, 5))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Tournament not found with id: 2");
+        verify(leaderboardService, never()).getNeighborhood(anyLong(), anyLong(), anyInt());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> entries(Map<String, Object> result) {
+        return (List<Map<String, Object>>) result.get("entries");
+    }
+
+    private static LeaderboardEntry entry(Long userId, int score) {
+        return new LeaderboardEntry(userId * 100, 1L, userId, "player" + userId, "Player", String.valueOf(userId),
+                "player" + userId + "@test.com", score, 10, score * 10.0, score >= 5,
+                START.plusMinutes(userId), 60);
+    }
+}
@@ -0,0 +1,236 @@
+package com.quiztournament.quiz_backend.service;
+
+import com.quiztournament.quiz_backend.dto.OpenTDBQuestion;
+import com.quiztournament.quiz_backend.service.QuestionService.UserAnswer;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Contract every QuizSessionStore implementation must satisfy
+ * Subclasses only provide the store under test
+ */
+abstract class QuizSessionStoreContractTest {
+
+    protected abstract QuizSessionStore store();
+
+    @Test
+    void save_ThenFind_ReturnsSessionWithQuestions() {
+        // Given
+        QuizSession session = new QuizSession(1L, 10L, sampleQuestions());
+
+        // When
+        store().save(session);
+
+        // Then
+        QuizSession found = store().find(1L, 10L).orElseThrow();
+        assertThat(found.getUserId()).isEqualTo(1L);
+        assertThat(found.getTournamentId()).isEqualTo(10L);
+        assertThat(found.getStartTime()).isEqualTo(session.getStartTime());
+        assertThat(found.getQuestions()).hasSize(2);
+        assertThat(found.getQuestions().get(0).getQuestion()).isEqualTo("What is the chemical symbol for gold?");
+        assertThat(found.getQuestions().get(0).getIncorrectAnswers()).containsExactly("Ag", "Go", "Gd");
+        assertThat(found.getQuestions().get(1).isCorrectAnswer("True")).isTrue();
+        assertThat(found.getCurrentQuestionNumber()).isEqualTo(1);
+    }
+
+    @Test
+    void find_UnknownSession_ReturnsEmpty() {
+        assertThat(store().find(99L, 99L)).isEmpty();
+    }
+
+    @Test
+    void recordAnswer_IsVisibleOnNextFind() {
+        // Given
+        store().save(new QuizSession(1L, 10L, sampleQuestions()));
+
+        // When
+        store().recordAnswer(1L, 10L, 1, answer("Au", "Au"));
+        store().recordAnswer(1L, 10L, 2, answer("False", "True"));
+
+        // Then
+        QuizSession found = store().find(1L, 10L).orElseThrow();
+        Map<Integer, UserAnswer> answers = found.getAnswerHistory();
+        assertThat(answers).hasSize(2);
+        assertThat(answers.get(1).getAnswer()).isEqualTo("Au");
+        assertThat(answers.get(1).isCorrect()).isTrue();
+        assertThat(answers.get(2).getCorrectAnswer()).isEqualTo("True");
+        assertThat(found.getCorrectAnswerCount()).isEqualTo(1);
+        assertThat(found.isCompleted()).isTrue();
+    }
+
+    @Test
+    void recordAnswer_SameQuestionTwice_KeepsLatestAnswer() {
+        // Given
+        store().save(new QuizSession(1L, 10L, sampleQuestions()));
+        store().recordAnswer(1L, 10L, 1, answer("Ag", "Au"));
+
+        // When
+        store().recordAnswer(1L, 10L, 1, answer("Au", "Au"));
+
+        // Then
+        QuizSession found = store().find(1L, 10L).orElseThrow();
+        assertThat(found.getAnswerHistory()).hasSize(1);
+        assertThat(found.getAnswerHistory().get(1).getAnswer()).isEqualTo("Au");
+        assertThat(found.getCurrentQuestionNumber()).isEqualTo(2);
+    }
+
+    @Test
+    void recordAnswers_RecordsAllAnswersAndKeepsEarlierOnes() {
+        // Given
+        store().save(new QuizSession(1L, 10L, sampleQuestions()));
+        store().recordAnswer(1L, 10L, 1, answer("Ag", "Au"));
+
+        // When
+        store().recordAnswers(1L, 10L, Map.of(2, answer("True", "True")));
+
+        // Then
+        QuizSession found = store().find(1L, 10L).orElseThrow();
+        assertThat(found.getAnswerHistory()).hasSize(2);
+        assertThat(found.getAnswerHistory().get(1).getAnswer()).isEqualTo("Ag");
+        assertThat(found.getAnswerHistory().get(2).isCorrect()).isTrue();
+        assertThat(found.getCorrectAnswerCount()).isEqualTo(1);
+    }
+
+    @Test
+    void recordAnswers_UnknownSession_Throws() {
+        assertThatThrownBy(() -> store().recordAnswers(99L, 99L, Map.of(1, answer("Au", "Au"))))
+                .isInstanceOf(RuntimeException.class);
+    }
+
+    @Test
+    void recordAnswer_UnknownSession_Throws() {
+        assertThatThrownBy(() -> store().recordAnswer(99L, 99L, 1, answer("Au", "Au")))
+                .isInstanceOf(RuntimeException.class);
+    }
+
+    @Test
+    void save_ExistingSession_ReplacesAnswers() {
+        // Given
+        store().save(new QuizSession(1L, 10L, sampleQuestions()));
+        store().recordAnswer(1L, 10L, 1, answer("Au", "Au"));
+
+        // When - user restarts the quiz
+        store().save(new QuizSession(1L, 10L, sampleQuestions()));
+
+        // Then
+        QuizSession found = store().find(1L, 10L).orElseThrow();
+        assertThat(found.getAnswerHistory()).isEmpty();
+        assertThat(store().count()).isEqualTo(1);
+    }
+
+    @Test
+    void remove_DeletesOnlyThatSession() {
+        // Given
+        store().save(new QuizSession(1L, 10L, sampleQuestions()));
+        store().save(new QuizSession(2L, 10L, sampleQuestions()));
+        store().recordAnswer(1L, 10L, 1, answer("Au", "Au"));
+
+        // When
+        store().remove(1L, 10L);
+
+        // Then
+        assertThat(store().find(1L, 10L)).isEmpty();
+        assertThat(store().find(2L, 10L)).isPresent();
+        assertThat(store().count()).isEqualTo(1);
+    }
+
+    @Test
+    void expireIdleSessions_RemovesOnlySessionsIdleBeforeCutoff() {
+        // Given
+        long now = System.currentTimeMillis();
+        store().save(sessionStartedAt(1L, now - 60 * 60_000));
+        store().save(sessionStartedAt(2L, now));
+
+        // When
+        int expired = store().expireIdleSessions(now - 30 * 60_000);
+
+        // Then
+        assertThat(expired).isEqualTo(1);
+        assertThat(store().find(1L, 10L)).isEmpty();
+        assertThat(store().find(2L, 10L)).isPresent();
+        assertThat(store().getStatistics()).containsEntry("expiredSessions", 1L);
+    }
+
+    @Test
+    void expireIdleSessions_RecentAnswerKeepsSessionAlive() {
+        // Given
+        long now = System.currentTimeMillis();
+        store().save(sessionStartedAt(1L, now - 60 * 60_000));
+
+        // When
+        store().recordAnswer(1L, 10L, 1, answer("Au", "Au"));
+        int expired = store().expireIdleSessions(now - 30 * 60_000);
+
+        // Then
+        assertThat(expired).isZero();
+        assertThat(store().find(1L, 10L)).isPresent();
+    }
+
+    @Test
+    void expireIdleSessions_RecentFindKeepsSessionAlive() {
+        // Given
+        long now = System.currentTimeMillis();
+        store().save(sessionStartedAt(1L, now - 60 * 60_000));
+        store().save(sessionStartedAt(2L, now - 60 * 60_000));
+
+        // When - only the first session is read
+        store().find(1L, 10L);
+        int expired = store().expireIdleSessions(now - 30 * 60_000);
+
+        // Then
+        assertThat(expired).isEqualTo(1);
+        assertThat(store().find(1L, 10L)).isPresent();
+        assertThat(store().find(2L, 10L)).isEmpty();
+    }
+
+    @Test
+    void evictOverCapacity_RemovesLeastRecentlyStartedSessions() {
+        // Given
+        long now = System.currentTimeMillis();
+        store().save(sessionStartedAt(1L, now - 3000));
+        store().save(sessionStartedAt(2L, now - 2000));
+        store().save(sessionStartedAt(3L, now - 1000));
+
+        // When
+        int evicted = store().evictOverCapacity(2);
+
+        // Then
+        assertThat(evicted).isEqualTo(1);
+        assertThat(store().count()).isEqualTo(2);
+        assertThat(store().find(1L, 10L)).isEmpty();
+        assertThat(store().getStatistics()).containsEntry("evictedSessions", 1L);
+    }
+
+    @Test
+    void getStatistics_ReportsRetainedBytes() {
+        // Given
+        store().save(new QuizSession(1L, 10L, sampleQuestions()));
+
+        // When
+        Map<String, Object> stats = store().getStatistics();
+
+        // Then
+        assertThat(((Number) stats.get("activeSessions")).longValue()).isEqualTo(1);
+        assertThat(((Number) stats.get("approxRetainedBytes")).longValue()).isPositive();
+    }
+
+    private QuizSession sessionStartedAt(Long userId, long startTime) {
+        return new QuizSession(userId, 10L, sampleQuestions(), Map.of(), startTime);
+    }
+
+    private List<OpenTDBQuestion> sampleQuestions() {
+        return List.of(
+                new OpenTDBQuestion("Science & Nature", "multiple", "medium",
+                        "What is the chemical symbol for gold?", "Au", List.of("Ag", "Go", "Gd")),
+                new OpenTDBQuestion("Science & Nature", "boolean", "easy",
+                        "The Earth is the third planet from the Sun.", "True", List.of("False")));
+    }
+
+    private UserAnswer answer(String value, String correctAnswer) {
+        return new UserAnswer(value, value.equals(correctAnswer), System.currentTimeMillis(), correctAnswer, "question");
+    }
+}
@@ -0,0 +1,136 @@
+package com.quiztournament.quiz_backend.service;
+
+import com.quiztournament.quiz_backend.entity.QuizAnswer;
+import com.quiztournament.quiz_backend.entity.QuizResult;
+import com.quiztournament.quiz_backend.entity.Tournament;
+import com.quiztournament.quiz_backend.entity.TournamentStats;
+import com.quiztournament.quiz_backend.entity.User;
+import com.quiztournament.quiz_backend.entity.UserRole;
+import com.quiztournament.quiz_backend.entity.UserTournamentScore;
+import com.quiztournament.quiz_backend.repository.QuizAnswerRepository;
+import com.quiztournament.quiz_backend.repository.QuizResultRepository;
+import com.quiztournament.quiz_backend.repository.UserTournamentScoreRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for ScoreLedger
+ * Verifies that quiz_results, the user_tournament_scores projection and tournament_stats stay in step
+ */
+@DataJpaTest
+@Import({ScoreLedger.class, TournamentStatsService.class, LeaderboardService.class})
+class ScoreLedgerTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ScoreLedger scoreLedger;
+
+    @Autowired
+    private TournamentStatsService tournamentStatsService;
+
+    @Autowired
+    private QuizResultRepository quizResultRepository;
+
+    @Autowired
+    private QuizAnswerRepository quizAnswerRepository;
+
+    @Autowired
+    private UserTournamentScoreRepository userTournamentScoreRepository;
+
+    private User playerUser;
+    private Tournament tournament;
+
+    @BeforeEach
+    void setUp() {
+        User adminUser = persistUser("admin", UserRole.ADMIN);
+        playerUser = persistUser("player", UserRole.PLAYER);
+
+        tournament = entityManager.persistAndFlush(new Tournament("Ledger Tournament", "science", "easy",
+                LocalDate.now().minusDays(1), LocalDate.now().plusDays(5), 60.0, adminUser));
+        tournamentStatsService.initializeStats(tournament.getId());
+    }
+
+    @Test
+    void record_Retake_UpdatesResultProjectionAndStats() {
+        // Given
+        scoreLedger.record(playerUser, tournament, 4, 10, false, 90, LocalDateTime.now(), answers(4));
+
+        // When
+        scoreLedger.record(playerUser, tournament, 8, 10, true, 70, LocalDateTime.now(), answers(8));
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then
+        QuizResult result = quizResultRepository.findByUserAndTournament(playerUser, tournament).orElseThrow();
+        assertThat(result.getScore()).isEqualTo(8);
+        assertThat(result.getPercentage()).isEqualTo(80.0);
+        assertThat(result.getTimeTakenSeconds()).isEqualTo(70);
+        assertThat(quizAnswerRepository.findByQuizResultOrderByQuestionNumber(result))
+                .hasSize(10)
+                .filteredOn(QuizAnswer::getIsCorrect).hasSize(8);
+
+        UserTournamentScore projected = userTournamentScoreRepository.findByUserAndTournament(playerUser, tournament)
+                .orElseThrow();
+        assertThat(projected.getScore()).isEqualTo(8);
+        assertThat(projected.getPassed()).isTrue();
+
+        TournamentStats stats = tournamentStatsService.getStats(tournament.getId());
+        assertThat(stats.getParticipantCount()).isEqualTo(1L);
+        assertThat(stats.getScoreSum()).isEqualTo(8L);
+        assertThat(stats.getPassCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void backfillFromLegacyScores_CreatesMissingResults() {
+        // Given - a score written only to the legacy table
+        UserTournamentScore legacy = new UserTournamentScore(playerUser, tournament, 7);
+        entityManager.persistAndFlush(legacy);
+
+        // When
+        int created = scoreLedger.backfillFromLegacyScores();
+        int createdAgain = scoreLedger.backfillFromLegacyScores();
+        entityManager.clear();
+
+        // Then
+        assertThat(created).isEqualTo(1);
+        assertThat(createdAgain).isZero();
+        QuizResult result = quizResultRepository.findByUserAndTournament(playerUser, tournament).orElseThrow();
+        assertThat(result.getScore()).isEqualTo(7);
+        assertThat(result.getTotalQuestions()).isEqualTo(10);
+        assertThat(result.getPercentage()).isEqualTo(70.0);
+        assertThat(result.getPassed()).isTrue();
+    }
+
+    private List<QuizAnswer> answers(int correctAnswers) {
+        List<QuizAnswer> answers = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            boolean correct = i <= correctAnswers;
+            answers.add(new QuizAnswer(null, i, "Question " + i, correct ? "A" : "B", "A", correct));
+        }
+        return answers;
+    }
+
+    private User persistUser(String username, UserRole role) {
+        User user = new User();
+        user.setUsername(username);
+        user.setFirstName(username);
+        user.setLastName("User");
+        user.setEmail(username + "@test.com");
+        user.setPassword("password");
+        user.setRole(role);
+        return entityManager.persistAndFlush(user);
+    }
+}
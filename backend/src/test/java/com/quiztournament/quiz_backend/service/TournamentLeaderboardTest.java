@@ -0,0 +1,128 @@
+package com.quiztournament.quiz_backend.service;
+
+import com.quiztournament.quiz_backend.dto.LeaderboardEntry;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the per-tournament ranked structure behind the in-memory leaderboards
+ */
+class TournamentLeaderboardTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Test
+    void upsert_RanksByPercentageThenEarliestCompletion() {
+        // Given
+        TournamentLeaderboard leaderboard = new TournamentLeaderboard();
+        leaderboard.upsert(entry(1L, 7, 10));
+        leaderboard.upsert(entry(2L, 9, 20));
+        leaderboard.upsert(entry(3L, 7, 5));
+
+        // Then
+        assertThat(leaderboard.getTopEntries(10)).extracting(LeaderboardEntry::getUserId).containsExactly(2L, 3L, 1L);
+        assertThat(leaderboard.getRank(3L)).isEqualTo(2);
+        assertThat(leaderboard.getRank(99L)).isZero();
+        assertThat(leaderboard.getPassCount()).isEqualTo(3L);
+        assertThat(leaderboard.getAveragePercentage()).isCloseTo(76.67, within(0.01));
+    }
+
+    @Test
+    void upsert_Retake_ReplacesEntryAndIgnoresStaleResult() {
+        // Given
+        TournamentLeaderboard leaderboard = new TournamentLeaderboard();
+        leaderboard.upsert(entry(1L, 9, 0));
+        leaderboard.upsert(entry(2L, 4, 1));
+
+        // When - player 2 retakes, then an older result for them arrives late
+        assertThat(leaderboard.upsert(entry(2L, 10, 30))).isTrue();
+        assertThat(leaderboard.upsert(entry(2L, 3, 2))).isFalse();
+
+        // Then
+        assertThat(leaderboard.size()).isEqualTo(2);
+        assertThat(leaderboard.getRank(2L)).isEqualTo(1);
+        assertThat(leaderboard.getEntry(2L).getScore()).isEqualTo(10);
+        assertThat(leaderboard.getPassCount()).isEqualTo(2L);
+    }
+
+    @Test
+    void getNeighborhood_ReturnsEntriesAroundPlayer() {
+        // Given - player N scores so that they rank N-th
+        TournamentLeaderboard leaderboard = new TournamentLeaderboard();
+        for (long userId = 1; userId <= 10; userId++) {
+            leaderboard.upsert(entry(userId, 10, (int) userId));
+        }
+
+        // When
+        TournamentLeaderboard.Neighborhood middle = leaderboard.getNeighborhood(5L, 2);
+        TournamentLeaderboard.Neighborhood top = leaderboard.getNeighborhood(1L, 2);
+        TournamentLeaderboard.Neighborhood bottom = leaderboard.getNeighborhood(10L, 2);
+
+        // Then
+        assertThat(middle.getRank()).isEqualTo(5);
+        assertThat(middle.getTotalEntries()).isEqualTo(10);
+        assertThat(middle.getFirstRank()).isEqualTo(3);
+        assertThat(middle.getEntries()).extracting(LeaderboardEntry::getUserId).containsExactly(3L, 4L, 5L, 6L, 7L);
+        assertThat(top.getFirstRank()).isEqualTo(1);
+        assertThat(top.getEntries()).extracting(LeaderboardEntry::getUserId).containsExactly(1L, 2L, 3L);
+        assertThat(bottom.getEntries()).extracting(LeaderboardEntry::getUserId).containsExactly(8L, 9L, 10L);
+        assertThat(leaderboard.getNeighborhood(99L, 2)).isNull();
+    }
+
+    @Test
+    void getEntriesAndRank_MatchSortedOrder() {
+        // Given - many players with repeated retakes
+        TournamentLeaderboard leaderboard = new TournamentLeaderboard();
+        Map<Long, LeaderboardEntry> latest = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 2000; i++) {
+            LeaderboardEntry entry = entry((long) random.nextInt(500), random.nextInt(11), i);
+            leaderboard.upsert(entry);
+            latest.put(entry.getUserId(), entry);
+        }
+        List<LeaderboardEntry> expected = new ArrayList<>(latest.values());
+        expected.sort(TournamentLeaderboard.RANKING);
+
+        // Then
+        assertThat(leaderboard.size()).isEqualTo(expected.size());
+        assertThat(leaderboard.getEntries(0, Integer.MAX_VALUE)).containsExactlyElementsOf(expected);
+        assertThat(leaderboard.getEntries(100, 25)).containsExactlyElementsOf(expected.subList(100, 125));
+        assertThat(leaderboard.getEntries(expected.size(), 10)).isEmpty();
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(leaderboard.getRank(expected.get(i).getUserId())).isEqualTo(i + 1);
+        }
+    }
+
+    @Test
+    void getEntriesAfter_PagesByKeyEvenWhenKeyEntryMoves() {
+        // Given
+        TournamentLeaderboard leaderboard = new TournamentLeaderboard();
+        for (long userId = 1; userId <= 6; userId++) {
+            leaderboard.upsert(entry(userId, 10, (int) userId));
+        }
+        LeaderboardEntry lastOnPage = leaderboard.getTopEntries(3).get(2);
+
+        // When - the last player on the first page retakes and drops down
+        leaderboard.upsert(entry(3L, 2, 30));
+        List<LeaderboardEntry> nextPage = leaderboard.getEntriesAfter(
+                LeaderboardEntry.rankingKey(lastOnPage.getPercentage(), lastOnPage.getCompletedAt(), lastOnPage.getUserId()), 3);
+
+        // Then - the page continues where the old key stood
+        assertThat(nextPage).extracting(LeaderboardEntry::getUserId).containsExactly(4L, 5L, 6L);
+        assertThat(leaderboard.getEntriesAfter(leaderboard.getEntry(3L), 3)).isEmpty();
+    }
+
+    private static LeaderboardEntry entry(Long userId, int score, int minutesAfterStart) {
+        return new LeaderboardEntry(userId * 100, 1L, userId, "player" + userId, "Player", String.valueOf(userId),
+                "player" + userId + "@test.com", score, 10, score * 10.0, score >= 5,
+                START.plusMinutes(minutesAfterStart), 60);
+    }
+}
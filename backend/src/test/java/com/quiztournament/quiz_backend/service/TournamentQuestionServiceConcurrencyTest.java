@@ -0,0 +1,111 @@
+package com.quiztournament.quiz_backend.service;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import com.quiztournament.quiz_backend.config.AsyncConfig;
+import com.quiztournament.quiz_backend.config.RestTemplateConfig;
+import com.quiztournament.quiz_backend.dto.OpenTDBQuestion;
+import com.quiztournament.quiz_backend.entity.Tournament;
+import com.quiztournament.quiz_backend.repository.TournamentQuestionRepository;
+import com.quiztournament.quiz_backend.repository.TournamentRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Concurrency test for question set loading
+ * Many players starting a fresh tournament at once must share a single OpenTDB request
+ */
+@SpringJUnitConfig({TournamentQuestionService.class, OpenTDBService.class, RestTemplateConfig.class, AsyncConfig.class})
+class TournamentQuestionServiceConcurrencyTest {
+
+    private static final int PLAYERS = 500;
+
+    @RegisterExtension
+    static WireMockExtension openTdb = WireMockExtension.newInstance()
+            .options(wireMockConfig().dynamicPort().containerThreads(50))
+            .build();
+
+    @DynamicPropertySource
+    static void openTdbProperties(DynamicPropertyRegistry registry) {
+        registry.add("app.opentdb.base-url", () -> openTdb.baseUrl() + "/api.php");
+    }
+
+    @Autowired
+    private TournamentQuestionService tournamentQuestionService;
+
+    @MockBean
+    private TournamentQuestionRepository tournamentQuestionRepository;
+
+    @MockBean
+    private TournamentRepository tournamentRepository;
+
+    @MockBean
+    private QuestionBankService questionBankService;
+
+    @MockBean
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void getQuestionSet_ConcurrentStarts_MakeSingleUpstreamCall() throws Exception {
+        // Given - an empty bank and a slow OpenTDB
+        openTdb.stubFor(get(urlPathEqualTo("/api.php"))
+                .willReturn(okJson(tenQuestionsJson()).withFixedDelay(300)));
+
+        Tournament tournament = new Tournament("Launch Tournament", "science", "easy",
+                LocalDate.now(), LocalDate.now().plusDays(1), 60.0, null);
+        tournament.setId(42L);
+
+        ExecutorService players = Executors.newFixedThreadPool(PLAYERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<OpenTDBQuestion>>> results = new ArrayList<>();
+
+        // When
+        try {
+            for (int i = 0; i < PLAYERS; i++) {
+                results.add(players.submit(() -> {
+                    start.await();
+                    return tournamentQuestionService.getQuestionSet(tournament);
+                }));
+            }
+            start.countDown();
+
+            // Then
+            List<OpenTDBQuestion> first = results.get(0).get(30, TimeUnit.SECONDS);
+            assertThat(first).hasSize(10);
+            for (Future<List<OpenTDBQuestion>> result : results) {
+                assertThat(result.get(30, TimeUnit.SECONDS)).isSameAs(first);
+            }
+        } finally {
+            players.shutdownNow();
+        }
+
+        openTdb.verify(1, getRequestedFor(urlPathEqualTo("/api.php")));
+    }
+
+    private String tenQuestionsJson() {
+        StringBuilder json = new StringBuilder("{\"response_code\": 0, \"results\": [");
+        for (int i = 1; i <= 10; i++) {
+            if (i > 1) {
+                json.append(",");
+            }
+            json.append("{\"category\": \"Science & Nature\", \"type\": \"multiple\", \"difficulty\": \"easy\", ")
+                    .append("\"question\": \"Question ").append(i).append("\", \"correct_answer\": \"A\", ")
+                    .append("\"incorrect_answers\": [\"B\", \"C\", \"D\"]}");
+        }
+        return json.append("]}").toString();
+    }
+}
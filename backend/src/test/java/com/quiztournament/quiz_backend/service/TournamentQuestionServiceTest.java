@@ -0,0 +1,153 @@
+package com.quiztournament.quiz_backend.service;
+
+import com.quiztournament.quiz_backend.config.AsyncConfig;
+import com.quiztournament.quiz_backend.dto.OpenTDBQuestion;
+import com.quiztournament.quiz_backend.entity.Tournament;
+import com.quiztournament.quiz_backend.entity.User;
+import com.quiztournament.quiz_backend.entity.UserRole;
+import com.quiztournament.quiz_backend.repository.TournamentQuestionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for TournamentQuestionService
+ * Verifies question sets are frozen once, in order, and served from the read-through cache
+ */
+@DataJpaTest
+@Import({TournamentQuestionService.class, QuestionBankService.class, AsyncConfig.class})
+class TournamentQuestionServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TournamentQuestionService tournamentQuestionService;
+
+    @Autowired
+    private QuestionBankService questionBankService;
+
+    @Autowired
+    private TournamentQuestionRepository tournamentQuestionRepository;
+
+    @MockBean
+    private OpenTDBService openTDBService;
+
+    private Tournament tournament;
+
+    @BeforeEach
+    void setUp() {
+        tournamentQuestionService.clearCache();
+
+        User admin = new User();
+        admin.setUsername("admin");
+        admin.setFirstName("Admin");
+        admin.setLastName("User");
+        admin.setEmail("admin@test.com");
+        admin.setPassword("password");
+        admin.setRole(UserRole.ADMIN);
+        admin = entityManager.persistAndFlush(admin);
+
+        tournament = entityManager.persistAndFlush(new Tournament("Frozen Tournament", "science", "easy",
+                LocalDate.now().minusDays(1), LocalDate.now().plusDays(5), 60.0, admin));
+    }
+
+    @Test
+    void freezeQuestionSet_PersistsOrderedSetFromBank() {
+        // Given
+        questionBankService.addQuestions("science", "easy", questions("Bank", 15));
+
+        // When
+        List<OpenTDBQuestion> frozen = tournamentQuestionService.freezeQuestionSet(tournament.getId(), "science", "easy");
+
+        // Then
+        assertThat(frozen).hasSize(10);
+        assertThat(tournamentQuestionRepository.findByTournamentIdOrderByQuestionNumber(tournament.getId()))
+                .extracting(q -> q.getQuestionText())
+                .containsExactlyElementsOf(frozen.stream().map(OpenTDBQuestion::getQuestion).toList());
+        verifyNoInteractions(openTDBService);
+    }
+
+    @Test
+    void freezeQuestionSet_AlreadyFrozen_KeepsExistingSet() {
+        // Given
+        questionBankService.addQuestions("science", "easy", questions("Bank", 30));
+        List<OpenTDBQuestion> first = tournamentQuestionService.freezeQuestionSet(tournament.getId(), "science", "easy");
+
+        // When
+        List<OpenTDBQuestion> second = tournamentQuestionService.freezeQuestionSet(tournament.getId(), "science", "easy");
+
+        // Then
+        assertThat(second).extracting(OpenTDBQuestion::getQuestion)
+                .containsExactlyElementsOf(first.stream().map(OpenTDBQuestion::getQuestion).toList());
+        assertThat(tournamentQuestionRepository.count()).isEqualTo(10);
+    }
+
+    @Test
+    void freezeQuestionSet_EmptyBank_FetchesFromOpenTDB() {
+        // Given
+        when(openTDBService.fetchQuestionsAsync("science", "easy", 10))
+                .thenReturn(CompletableFuture.completedFuture(questions("Live", 10)));
+
+        // When
+        List<OpenTDBQuestion> frozen = tournamentQuestionService.freezeQuestionSet(tournament.getId(), "science", "easy");
+
+        // Then
+        assertThat(frozen).extracting(OpenTDBQuestion::getQuestion).startsWith("Live question 1");
+        assertThat(tournamentQuestionRepository.existsByTournamentId(tournament.getId())).isTrue();
+    }
+
+    @Test
+    void freezeQuestionSet_OnlyFallbackQuestions_IsNotPersisted() {
+        // Given
+        when(openTDBService.fetchQuestionsAsync("science", "easy", 10))
+                .thenReturn(CompletableFuture.completedFuture(questions("Fallback", 3)));
+
+        // When
+        List<OpenTDBQuestion> questions = tournamentQuestionService.freezeQuestionSet(tournament.getId(), "science", "easy");
+
+        // Then
+        assertThat(questions).hasSize(3);
+        assertThat(tournamentQuestionRepository.existsByTournamentId(tournament.getId())).isFalse();
+    }
+
+    @Test
+    void getQuestionSet_LoadsFrozenSetOnceAndSharesIt() {
+        // Given
+        questionBankService.addQuestions("science", "easy", questions("Bank", 10));
+        tournamentQuestionService.freezeQuestionSet(tournament.getId(), "science", "easy");
+        entityManager.clear();
+
+        // When
+        List<OpenTDBQuestion> first = tournamentQuestionService.getQuestionSet(tournament);
+        tournamentQuestionRepository.deleteByTournamentId(tournament.getId());
+        List<OpenTDBQuestion> second = tournamentQuestionService.getQuestionSet(tournament);
+
+        // Then - second call is served from the cache
+        assertThat(second).isSameAs(first);
+        assertThat(tournamentQuestionService.getCachedCount()).isEqualTo(1);
+        verify(openTDBService, never()).fetchQuestionsAsync(anyString(), anyString(), anyInt());
+    }
+
+    private List<OpenTDBQuestion> questions(String prefix, int count) {
+        List<OpenTDBQuestion> questions = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            questions.add(new OpenTDBQuestion("Science & Nature", "multiple", "easy",
+                    prefix + " question " + i, "A", List.of("B", "C", "D")));
+        }
+        return questions;
+    }
+}
@@ -0,0 +1,166 @@
+package com.quiztournament.quiz_backend.service;
+
+import com.quiztournament.quiz_backend.dto.CursorPage;
+import com.quiztournament.quiz_backend.dto.TournamentResponse;
+import com.quiztournament.quiz_backend.entity.QuizResult;
+import com.quiztournament.quiz_backend.entity.Tournament;
+import com.quiztournament.quiz_backend.entity.User;
+import com.quiztournament.quiz_backend.entity.UserRole;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Query count tests for TournamentService listings
+ * Verifies that statistics are loaded in batches rather than per tournament
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({TournamentService.class, TournamentStatsService.class, CurrentUserResolver.class, UserPrincipalCache.class})
+class TournamentServiceQueryCountTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TournamentService tournamentService;
+
+    @Autowired
+    private TournamentStatsService tournamentStatsService;
+
+    @MockBean
+    private EmailService emailService;
+
+    @MockBean
+    private TournamentQuestionService tournamentQuestionService;
+
+    @MockBean
+    private LeaderboardService leaderboardService;
+
+    private User adminUser;
+    private User playerUser;
+
+    @BeforeEach
+    void setUp() {
+        adminUser = new User();
+        adminUser.setUsername("admin");
+        adminUser.setFirstName("Admin");
+        adminUser.setLastName("User");
+        adminUser.setEmail("admin@test.com");
+        adminUser.setPassword("password");
+        adminUser.setRole(UserRole.ADMIN);
+        adminUser = entityManager.persistAndFlush(adminUser);
+
+        playerUser = new User();
+        playerUser.setUsername("player");
+        playerUser.setFirstName("Player");
+        playerUser.setLastName("User");
+        playerUser.setEmail("player@test.com");
+        playerUser.setPassword("password");
+        playerUser.setRole(UserRole.PLAYER);
+        playerUser = entityManager.persistAndFlush(playerUser);
+    }
+
+    @Test
+    void getTournamentPage_QueryCountIndependentOfTournamentCount() {
+        // Given
+        createTournaments(3);
+        long queriesForThree = countQueries(() ->
+                assertThat(tournamentService.getTournamentPage(null, 100).getItems()).hasSize(3));
+
+        createTournaments(30);
+        long queriesForThirtyThree = countQueries(() ->
+                assertThat(tournamentService.getTournamentPage(null, 100).getItems()).hasSize(33));
+
+        // Then
+        assertThat(queriesForThirtyThree).isEqualTo(queriesForThree);
+        assertThat(queriesForThree).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void getTournamentPage_WalksAllTournamentsNewestFirst() {
+        // Given
+        List<Tournament> tournaments = createTournaments(7);
+
+        // When - read three tournaments at a time, following the cursors
+        List<Long> ids = new ArrayList<>();
+        List<Long> queriesPerPage = new ArrayList<>();
+        String cursor = null;
+        do {
+            AtomicReference<CursorPage<TournamentResponse>> page = new AtomicReference<>();
+            String pageCursor = cursor;
+            queriesPerPage.add(countQueries(() -> page.set(tournamentService.getTournamentPage(pageCursor, 3))));
+            page.get().getItems().forEach(response -> ids.add(response.getId()));
+            cursor = page.get().getNextCursor();
+        } while (cursor != null);
+
+        // Then
+        List<Long> expected = tournaments.stream().map(Tournament::getId).sorted(Comparator.reverseOrder()).toList();
+        assertThat(ids).containsExactlyElementsOf(expected);
+        assertThat(queriesPerPage).hasSize(3).allSatisfy(queries -> assertThat(queries).isLessThanOrEqualTo(2));
+        assertThatThrownBy(() -> tournamentService.getTournamentPage("not-a-cursor", 3))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Invalid page cursor");
+    }
+
+    @Test
+    void getTournamentsByCategory_ReturnsBatchedStatistics() {
+        // Given
+        List<Tournament> tournaments = createTournaments(5);
+        entityManager.persistAndFlush(new QuizResult(playerUser, tournaments.get(0), 8, 10, 80.0, true, null));
+        tournamentStatsService.rebuildAll();
+
+        // When
+        AtomicReference<List<TournamentResponse>> responses = new AtomicReference<>();
+        long queries = countQueries(() -> responses.set(tournamentService.getTournamentsByCategory("science")));
+
+        // Then
+        assertThat(queries).isLessThanOrEqualTo(2);
+        assertThat(responses.get()).hasSize(5);
+        TournamentResponse played = responses.get().stream()
+                .filter(r -> r.getId().equals(tournaments.get(0).getId()))
+                .findFirst()
+                .orElseThrow();
+        assertThat(played.getParticipantCount()).isEqualTo(1L);
+        assertThat(played.getAverageScore()).isEqualTo(8.0);
+        assertThat(played.getLikeCount()).isEqualTo(0L);
+        assertThat(played.getCreatedBy()).isEqualTo("admin");
+    }
+
+    private List<Tournament> createTournaments(int count) {
+        List<Tournament> tournaments = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Tournament tournament = new Tournament("Tournament " + i, "science", "easy",
+                    LocalDate.now().minusDays(1), LocalDate.now().plusDays(5), 50.0, adminUser);
+            tournaments.add(entityManager.persist(tournament));
+        }
+        entityManager.flush();
+        return tournaments;
+    }
+
+    private long countQueries(Runnable action) {
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -1,14 +1,15 @@
 package com.quiztournament.quiz_backend.service;
 
+import com.quiztournament.quiz_backend.dto.CursorPage;
 import com.quiztournament.quiz_backend.dto.TournamentCreateRequest;
 import com.quiztournament.quiz_backend.dto.TournamentResponse;
 import com.quiztournament.quiz_backend.dto.TournamentUpdateRequest;
 import com.quiztournament.quiz_backend.entity.Tournament;
+import com.quiztournament.quiz_backend.entity.TournamentStats;
 import com.quiztournament.quiz_backend.entity.TournamentStatus;
 import com.quiztournament.quiz_backend.entity.User;
 import com.quiztournament.quiz_backend.entity.UserRole;
 import com.quiztournament.quiz_backend.repository.TournamentRepository;
-import com.quiztournament.quiz_backend.repository.UserRepository;
 import com.quiztournament.quiz_backend.service.CustomUserDetailsService.CustomUserPrincipal;
 import com.quiztournament.quiz_backend.service.EmailService;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,17 +19,19 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Sort;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -44,11 +47,20 @@ class TournamentServiceTest {
     private TournamentRepository tournamentRepository;
 
     @Mock
-    private UserRepository userRepository;
+    private UserPrincipalCache userPrincipalCache;
 
     @Mock
     private EmailService emailService;
 
+    @Mock
+    private TournamentStatsService tournamentStatsService;
+
+    @Mock
+    private TournamentQuestionService tournamentQuestionService;
+
+    @Mock
+    private LeaderboardService leaderboardService;
+
     @Mock
     private SecurityContext securityContext;
 
@@ -68,6 +80,11 @@ class TournamentServiceTest {
 
     @BeforeEach
     void setUp() {
+        // Real resolver over the mocked cache, so tests drive the current user through the security context
+        CurrentUserResolver currentUserResolver = new CurrentUserResolver();
+        ReflectionTestUtils.setField(currentUserResolver, "userPrincipalCache", userPrincipalCache);
+        ReflectionTestUtils.setField(tournamentService, "currentUserResolver", currentUserResolver);
+
         // Create test admin user
         adminUser = new User();
         adminUser.setId(1L);
@@ -111,7 +128,7 @@ class TournamentServiceTest {
     void createTournament_Success() {
         // Given
         when(userPrincipal.getId()).thenReturn(adminUser.getId());
-        when(userRepository.findById(adminUser.getId())).thenReturn(Optional.of(adminUser));
+        when(userPrincipalCache.findUser(adminUser.getId())).thenReturn(Optional.of(adminUser));
         when(tournamentRepository.save(any(Tournament.class))).thenReturn(tournament);
         doNothing().when(emailService).sendNewTournamentNotification(any(Tournament.class), eq(adminUser));
 
@@ -131,6 +148,7 @@ class TournamentServiceTest {
             assertThat(response.getDifficulty()).isEqualTo(tournament.getDifficulty());
 
             verify(tournamentRepository).save(any(Tournament.class));
+            verify(tournamentQuestionService).freezeQuestionSetAsync(tournament);
             verify(emailService).sendNewTournamentNotification(any(Tournament.class), eq(adminUser));
         }
     }
@@ -143,7 +161,7 @@ class TournamentServiceTest {
         nonAdminUser.setRole(UserRole.PLAYER);
 
         when(userPrincipal.getId()).thenReturn(nonAdminUser.getId());
-        when(userRepository.findById(nonAdminUser.getId())).thenReturn(Optional.of(nonAdminUser));
+        when(userPrincipalCache.findUser(nonAdminUser.getId())).thenReturn(Optional.of(nonAdminUser));
 
         try (MockedStatic<SecurityContextHolder> mockedSecurityContext = mockStatic(SecurityContextHolder.class)) {
             mockedSecurityContext.when(SecurityContextHolder::getContext).thenReturn(securityContext);
@@ -158,32 +176,30 @@ class TournamentServiceTest {
     }
 
     @Test
-    void getAllTournaments_Success() {
+    void getTournamentPage_Success() {
         // Given
         List<Tournament> tournaments = List.of(tournament);
-        when(tournamentRepository.findAll(any(Sort.class))).thenReturn(tournaments);
-        when(tournamentRepository.countParticipants(anyLong())).thenReturn(5L);
-        when(tournamentRepository.getAverageScore(anyLong())).thenReturn(75.5);
-        when(tournamentRepository.countLikes(anyLong())).thenReturn(3L);
+        when(tournamentRepository.findNewestFirst(51)).thenReturn(tournaments);
+        when(tournamentStatsService.getStats(anyCollection())).thenReturn(statistics(1L, 5L, 38L, 3L));
 
         // When
-        List<TournamentResponse> responses = tournamentService.getAllTournaments();
+        CursorPage<TournamentResponse> page = tournamentService.getTournamentPage(null, 50);
+        List<TournamentResponse> responses = page.getItems();
 
         // Then
         assertThat(responses).hasSize(1);
         assertThat(responses.get(0).getName()).isEqualTo(tournament.getName());
         assertThat(responses.get(0).getParticipantCount()).isEqualTo(5L);
-        assertThat(responses.get(0).getAverageScore()).isEqualTo(75.5);
+        assertThat(responses.get(0).getAverageScore()).isEqualTo(7.6);
         assertThat(responses.get(0).getLikeCount()).isEqualTo(3L);
+        assertThat(page.hasMore()).isFalse();
     }
 
     @Test
     void getTournamentById_Success() {
         // Given
         when(tournamentRepository.findById(1L)).thenReturn(Optional.of(tournament));
-        when(tournamentRepository.countParticipants(1L)).thenReturn(10L);
-        when(tournamentRepository.getAverageScore(1L)).thenReturn(80.0);
-        when(tournamentRepository.countLikes(1L)).thenReturn(5L);
+        when(tournamentStatsService.getStats(anyCollection())).thenReturn(statistics(1L, 10L, 80L, 5L));
 
         // When
         TournamentResponse response = tournamentService.getTournamentById(1L);
@@ -226,7 +242,7 @@ class TournamentServiceTest {
 
         when(tournamentRepository.findById(1L)).thenReturn(Optional.of(tournament));
         when(userPrincipal.getId()).thenReturn(adminUser.getId());
-        when(userRepository.findById(adminUser.getId())).thenReturn(Optional.of(adminUser));
+        when(userPrincipalCache.findUser(adminUser.getId())).thenReturn(Optional.of(adminUser));
         when(tournamentRepository.save(any(Tournament.class))).thenReturn(updatedTournament);
 
         try (MockedStatic<SecurityContextHolder> mockedSecurityContext = mockStatic(SecurityContextHolder.class)) {
@@ -248,7 +264,7 @@ class TournamentServiceTest {
         // Given
         when(tournamentRepository.findById(1L)).thenReturn(Optional.of(tournament));
         when(userPrincipal.getId()).thenReturn(adminUser.getId());
-        when(userRepository.findById(adminUser.getId())).thenReturn(Optional.of(adminUser));
+        when(userPrincipalCache.findUser(adminUser.getId())).thenReturn(Optional.of(adminUser));
         when(tournamentRepository.countParticipants(1L)).thenReturn(0L);
         doNothing().when(tournamentRepository).delete(tournament);
 
@@ -262,6 +278,8 @@ class TournamentServiceTest {
 
             // Then
             verify(tournamentRepository).delete(tournament);
+            verify(tournamentQuestionService).deleteQuestionSet(1L);
+            verify(leaderboardService).evict(1L);
         }
     }
 
@@ -270,7 +288,7 @@ class TournamentServiceTest {
         // Given
         when(tournamentRepository.findById(1L)).thenReturn(Optional.of(tournament));
         when(userPrincipal.getId()).thenReturn(adminUser.getId());
-        when(userRepository.findById(adminUser.getId())).thenReturn(Optional.of(adminUser));
+        when(userPrincipalCache.findUser(adminUser.getId())).thenReturn(Optional.of(adminUser));
         when(tournamentRepository.countParticipants(1L)).thenReturn(5L);
 
         try (MockedStatic<SecurityContextHolder> mockedSecurityContext = mockStatic(SecurityContextHolder.class)) {
@@ -290,9 +308,7 @@ class TournamentServiceTest {
         // Given
         List<Tournament> upcomingTournaments = List.of(tournament);
         when(tournamentRepository.findUpcomingTournaments(any(LocalDate.class))).thenReturn(upcomingTournaments);
-        when(tournamentRepository.countParticipants(anyLong())).thenReturn(0L);
-        when(tournamentRepository.getAverageScore(anyLong())).thenReturn(null);
-        when(tournamentRepository.countLikes(anyLong())).thenReturn(2L);
+        when(tournamentStatsService.getStats(anyCollection())).thenReturn(statistics(1L, 0L, 0L, 2L));
 
         // When
         List<TournamentResponse> responses = tournamentService.getTournamentsByStatus(TournamentStatus.UPCOMING);
@@ -308,9 +324,7 @@ class TournamentServiceTest {
         // Given
         List<Tournament> scienceTournaments = List.of(tournament);
         when(tournamentRepository.findByCategory("science")).thenReturn(scienceTournaments);
-        when(tournamentRepository.countParticipants(anyLong())).thenReturn(8L);
-        when(tournamentRepository.getAverageScore(anyLong())).thenReturn(72.3);
-        when(tournamentRepository.countLikes(anyLong())).thenReturn(4L);
+        when(tournamentStatsService.getStats(anyCollection())).thenReturn(statistics(1L, 8L, 58L, 4L));
 
         // When
         List<TournamentResponse> responses = tournamentService.getTournamentsByCategory("science");
@@ -326,9 +340,7 @@ class TournamentServiceTest {
         // Given
         List<Tournament> mediumTournaments = List.of(tournament);
         when(tournamentRepository.findByDifficulty("medium")).thenReturn(mediumTournaments);
-        when(tournamentRepository.countParticipants(anyLong())).thenReturn(12L);
-        when(tournamentRepository.getAverageScore(anyLong())).thenReturn(68.7);
-        when(tournamentRepository.countLikes(anyLong())).thenReturn(7L);
+        when(tournamentStatsService.getStats(anyCollection())).thenReturn(statistics(1L, 12L, 82L, 7L));
 
         // When
         List<TournamentResponse> responses = tournamentService.getTournamentsByDifficulty("medium");
@@ -374,4 +386,13 @@ class TournamentServiceTest {
         // Then
         assertThat(count).isEqualTo(15L);
     }
-}
\ No newline at end of file
+
+    private static Map<Long, TournamentStats> statistics(Long tournamentId, Long participantCount,
+                                                         Long scoreSum, Long likeCount) {
+        TournamentStats stats = new TournamentStats(tournamentId);
+        stats.setParticipantCount(participantCount);
+        stats.setScoreSum(scoreSum);
+        stats.setLikeCount(likeCount);
+        return Map.of(tournamentId, stats);
+    }
+}
@@ -0,0 +1,121 @@
+package com.quiztournament.quiz_backend.service;
+
+import com.quiztournament.quiz_backend.entity.QuizResult;
+import com.quiztournament.quiz_backend.entity.Tournament;
+import com.quiztournament.quiz_backend.entity.TournamentStats;
+import com.quiztournament.quiz_backend.entity.User;
+import com.quiztournament.quiz_backend.entity.UserRole;
+import com.quiztournament.quiz_backend.repository.QuizResultRepository;
+import com.quiztournament.quiz_backend.repository.TournamentRepository;
+import com.quiztournament.quiz_backend.repository.TournamentStatsRepository;
+import com.quiztournament.quiz_backend.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Two writers creating the same missing tournament_stats row at once must both commit
+ * Not transactional: each writer runs in its own transaction on its own thread
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(TournamentStatsService.class)
+class TournamentStatsServiceConcurrencyTest {
+
+    @Autowired
+    private TournamentStatsService tournamentStatsService;
+
+    @Autowired
+    private TournamentStatsRepository tournamentStatsRepository;
+
+    @Autowired
+    private QuizResultRepository quizResultRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        tournamentStatsRepository.deleteAll();
+        quizResultRepository.deleteAll();
+        tournamentRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void recordNewScore_ConcurrentFirstScores_BothCommitAndRowCountsBoth() throws Exception {
+        // Given - a tournament without an aggregate row
+        User admin = userRepository.save(new User("admin", "Admin", "User", "admin@test.com", "password",
+                UserRole.ADMIN));
+        User first = userRepository.save(new User("first", "First", "User", "first@test.com", "password",
+                UserRole.PLAYER));
+        User second = userRepository.save(new User("second", "Second", "User", "second@test.com", "password",
+                UserRole.PLAYER));
+        Tournament tournament = tournamentRepository.save(new Tournament("Stats Tournament", "science", "easy",
+                LocalDate.now().minusDays(1), LocalDate.now().plusDays(5), 60.0, admin));
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        CountDownLatch firstWritten = new CountDownLatch(1);
+        CountDownLatch secondStarted = new CountDownLatch(1);
+
+        // When - the first writer creates the row but has not committed when the second one writes
+        CompletableFuture<Void> firstWriter = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(
+                status -> {
+                    quizResultRepository.save(new QuizResult(first, tournament, 8, 10, 80.0, true, null));
+                    tournamentStatsService.recordNewScore(tournament.getId(), 8, true);
+                    firstWritten.countDown();
+                    await(secondStarted);
+                    sleep(200);
+                }));
+        CompletableFuture<Void> secondWriter = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(
+                status -> {
+                    await(firstWritten);
+                    quizResultRepository.save(new QuizResult(second, tournament, 4, 10, 40.0, false, null));
+                    secondStarted.countDown();
+                    tournamentStatsService.recordNewScore(tournament.getId(), 4, false);
+                }));
+
+        // Then
+        assertThatCode(() -> CompletableFuture.allOf(firstWriter, secondWriter).get(30, TimeUnit.SECONDS))
+                .doesNotThrowAnyException();
+        TournamentStats stats = tournamentStatsService.getStats(tournament.getId());
+        assertThat(stats.getParticipantCount()).isEqualTo(2L);
+        assertThat(stats.getScoreSum()).isEqualTo(12L);
+        assertThat(stats.getPassCount()).isEqualTo(1L);
+        assertThat(quizResultRepository.count()).isEqualTo(2L);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.quiztournament.quiz_backend.service;
+
+import com.quiztournament.quiz_backend.entity.QuizResult;
+import com.quiztournament.quiz_backend.entity.Tournament;
+import com.quiztournament.quiz_backend.entity.TournamentLike;
+import com.quiztournament.quiz_backend.entity.TournamentStats;
+import com.quiztournament.quiz_backend.entity.User;
+import com.quiztournament.quiz_backend.entity.UserRole;
+import com.quiztournament.quiz_backend.repository.TournamentStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for TournamentStatsService
+ * Verifies incremental maintenance of tournament_stats and rebuilding from the base tables
+ */
+@DataJpaTest
+@Import(TournamentStatsService.class)
+class TournamentStatsServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TournamentStatsService tournamentStatsService;
+
+    @Autowired
+    private TournamentStatsRepository tournamentStatsRepository;
+
+    private User adminUser;
+    private User playerUser;
+    private Tournament tournament;
+
+    @BeforeEach
+    void setUp() {
+        adminUser = persistUser("admin", UserRole.ADMIN);
+        playerUser = persistUser("player", UserRole.PLAYER);
+
+        tournament = entityManager.persistAndFlush(new Tournament("Stats Tournament", "science", "easy",
+                LocalDate.now().minusDays(1), LocalDate.now().plusDays(5), 60.0, adminUser));
+    }
+
+    @Test
+    void recordScoresAndLikes_UpdatesAggregateRow() {
+        // Given
+        tournamentStatsService.initializeStats(tournament.getId());
+
+        // When
+        tournamentStatsService.recordNewScore(tournament.getId(), 8, true);
+        tournamentStatsService.recordNewScore(tournament.getId(), 4, false);
+        tournamentStatsService.recordScoreChange(tournament.getId(), 4, false, 7, true);
+        tournamentStatsService.recordLike(tournament.getId());
+        tournamentStatsService.recordLike(tournament.getId());
+        tournamentStatsService.recordUnlikes(tournament.getId(), 1);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then
+        TournamentStats stats = tournamentStatsService.getStats(tournament.getId());
+        assertThat(stats.getParticipantCount()).isEqualTo(2L);
+        assertThat(stats.getScoreSum()).isEqualTo(15L);
+        assertThat(stats.getPassCount()).isEqualTo(2L);
+        assertThat(stats.getAverageScore()).isEqualTo(7.5);
+        assertThat(stats.getLikeCount()).isEqualTo(1L);
+        assertThat(tournamentStatsService.getLikeCount(tournament.getId())).isEqualTo(1L);
+    }
+
+    @Test
+    void recordNewScore_MissingRow_DerivesRowFromBaseTables() {
+        // Given - a score written without an aggregate row existing
+        persistScore(playerUser, 9);
+
+        // When
+        tournamentStatsService.recordNewScore(tournament.getId(), 9, true);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then
+        TournamentStats stats = tournamentStatsService.getStats(tournament.getId());
+        assertThat(stats.getParticipantCount()).isEqualTo(1L);
+        assertThat(stats.getScoreSum()).isEqualTo(9L);
+        assertThat(stats.getPassCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void rebuildAll_RepairsDrift() {
+        // Given - base rows plus a drifted aggregate
+        persistScore(playerUser, 6);
+        persistScore(adminUser, 3);
+        entityManager.persistAndFlush(new TournamentLike(playerUser, tournament));
+
+        TournamentStats drifted = new TournamentStats(tournament.getId());
+        drifted.setParticipantCount(42L);
+        tournamentStatsRepository.saveAndFlush(drifted);
+
+        // When
+        int rebuilt = tournamentStatsService.rebuildAll();
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then
+        assertThat(rebuilt).isEqualTo(1);
+        TournamentStats stats = tournamentStatsService.getStats(tournament.getId());
+        assertThat(stats.getParticipantCount()).isEqualTo(2L);
+        assertThat(stats.getScoreSum()).isEqualTo(9L);
+        assertThat(stats.getPassCount()).isEqualTo(1L);
+        assertThat(stats.getLikeCount()).isEqualTo(1L);
+        assertThat(tournamentStatsService.getTotalLikes()).isEqualTo(1L);
+    }
+
+    @Test
+    void getStats_UnknownTournament_ReturnsZeros() {
+        // When
+        TournamentStats stats = tournamentStatsService.getStats(999L);
+
+        // Then
+        assertThat(stats.getParticipantCount()).isEqualTo(0L);
+        assertThat(stats.getAverageScore()).isNull();
+        assertThat(stats.getLikeCount()).isEqualTo(0L);
+    }
+
+    private User persistUser(String username, UserRole role) {
+        User user = new User();
+        user.setUsername(username);
+        user.setFirstName(username);
+        user.setLastName("User");
+        user.setEmail(username + "@test.com");
+        user.setPassword("password");
+        user.setRole(role);
+        return entityManager.persistAndFlush(user);
+    }
+
+    private void persistScore(User user, int score) {
+        double percentage = score * 10.0;
+        entityManager.persistAndFlush(new QuizResult(user, tournament, score, 10, percentage,
+                percentage >= tournament.getMinPassingScore(), null));
+    }
+}
@@ -0,0 +1,136 @@
+package com.quiztournament.quiz_backend.service;
+
+import com.quiztournament.quiz_backend.entity.User;
+import com.quiztournament.quiz_backend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for UserPrincipalCache
+ */
+@ExtendWith(MockitoExtension.class)
+class UserPrincipalCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private UserPrincipalCache userPrincipalCache;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(userPrincipalCache, "ttlSeconds", 60L);
+        ReflectionTestUtils.setField(userPrincipalCache, "maxSize", 2);
+    }
+
+    @Test
+    void findUser_SecondCall_ServedFromCache() {
+        // Given
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user(1L)));
+
+        // When
+        Optional<User> first = userPrincipalCache.findUser(1L);
+        Optional<User> second = userPrincipalCache.findUser(1L);
+
+        // Then
+        assertThat(second.get().getUsername()).isEqualTo("user1");
+        assertThat(second.get()).isNotSameAs(first.get());
+        verify(userRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void findUser_CallerModifiesCopy_CacheAndLoadedEntityUnchanged() {
+        // Given
+        User loaded = user(1L);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(loaded));
+
+        // When
+        User first = userPrincipalCache.findUser(1L).get();
+        first.setUsername("changed");
+
+        // Then
+        assertThat(first).isNotSameAs(loaded);
+        assertThat(loaded.getUsername()).isEqualTo("user1");
+        assertThat(userPrincipalCache.findUser(1L).get().getUsername()).isEqualTo("user1");
+    }
+
+    @Test
+    void invalidate_ReloadsOnNextCall() {
+        // Given
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user(1L)));
+        userPrincipalCache.findUser(1L);
+
+        // When
+        userPrincipalCache.invalidate(1L);
+        userPrincipalCache.findUser(1L);
+
+        // Then
+        verify(userRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void findUser_Full_EvictsToStayWithinMaxSize() {
+        // Given
+        for (long id = 1; id <= 3; id++) {
+            when(userRepository.findById(id)).thenReturn(Optional.of(user(id)));
+        }
+
+        // When
+        userPrincipalCache.findUser(1L);
+        userPrincipalCache.findUser(2L);
+        userPrincipalCache.findUser(3L);
+
+        // Then
+        assertThat(userPrincipalCache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void findUser_Full_EvictsLeastRecentlyUsed() {
+        // Given
+        for (long id = 1; id <= 3; id++) {
+            when(userRepository.findById(id)).thenReturn(Optional.of(user(id)));
+        }
+        userPrincipalCache.findUser(1L);
+        userPrincipalCache.findUser(2L);
+        userPrincipalCache.findUser(1L);
+
+        // When - user 2 is now the least recently used
+        userPrincipalCache.findUser(3L);
+        userPrincipalCache.findUser(1L);
+        userPrincipalCache.findUser(2L);
+
+        // Then - user 1 stayed cached, user 2 had to be loaded again
+        verify(userRepository, times(1)).findById(1L);
+        verify(userRepository, times(2)).findById(2L);
+    }
+
+    @Test
+    void findUser_UnknownUser_IsNotCached() {
+        // Given
+        when(userRepository.findById(9L)).thenReturn(Optional.empty());
+
+        // When
+        Optional<User> user = userPrincipalCache.findUser(9L);
+
+        // Then
+        assertThat(user).isEmpty();
+        assertThat(userPrincipalCache.size()).isZero();
+    }
+
+    private User user(Long id) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername("user" + id);
+        return user;
+    }
+}
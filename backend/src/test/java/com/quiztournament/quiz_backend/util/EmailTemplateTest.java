@@ -0,0 +1,255 @@
+package com.quiztournament.quiz_backend.util;
+
+import com.quiztournament.quiz_backend.entity.UserRole;
+import com.quiztournament.quiz_backend.service.EmailTemplates;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for EmailTemplate parsing and rendering
+ * Each EmailTemplates body is checked against the StringBuilder code it replaced in EmailService
+ */
+class EmailTemplateTest {
+
+    private static final String FRONTEND_URL = "http://localhost:3000";
+
+    @Test
+    void render_NewTournament_MatchesLegacyBody() {
+        // Given
+        Map<String, Object> values = new HashMap<>();
+        values.put("name", "Science Cup");
+        values.put("category", "science");
+        values.put("difficulty", "medium");
+        values.put("startDate", LocalDate.of(2026, 1, 10));
+        values.put("endDate", LocalDate.of(2026, 1, 20));
+        values.put("minPassingScore", 60.0);
+        values.put("createdByFirstName", "Ada");
+        values.put("createdByLastName", "Admin");
+        values.put("frontendUrl", FRONTEND_URL);
+
+        // When
+        String body = EmailTemplates.NEW_TOURNAMENT.render(values);
+
+        // Then
+        assertThat(body).isEqualTo(legacyNewTournamentBody("Science Cup", "science", "medium",
+                LocalDate.of(2026, 1, 10), LocalDate.of(2026, 1, 20), 60.0, "Ada", "Admin"));
+    }
+
+    @Test
+    void render_PasswordReset_MatchesLegacyBody() {
+        // Given
+        Map<String, Object> values = new HashMap<>();
+        values.put("firstName", "Pat");
+        values.put("resetUrl", FRONTEND_URL + "/reset-password?token=abc123");
+        values.put("resetToken", "abc123");
+
+        // When
+        String body = EmailTemplates.PASSWORD_RESET.render(values);
+
+        // Then
+        assertThat(body).isEqualTo(legacyPasswordResetBody("Pat", FRONTEND_URL + "/reset-password?token=abc123", "abc123"));
+    }
+
+    @Test
+    void render_WelcomeForEachRole_MatchesLegacyBody() {
+        for (UserRole role : UserRole.values()) {
+            // Given
+            Map<String, Object> values = new HashMap<>();
+            values.put("firstName", "Pat");
+            values.put("username", "pat");
+            values.put("email", "pat@test.com");
+            values.put("role", role.name());
+            values.put("roleFeatures", role == UserRole.PLAYER ? EmailTemplates.PLAYER_FEATURES
+                    : role == UserRole.ADMIN ? EmailTemplates.ADMIN_FEATURES : "");
+            values.put("frontendUrl", FRONTEND_URL);
+
+            // When
+            String body = EmailTemplates.WELCOME.render(values);
+
+            // Then
+            assertThat(body).as("welcome body for %s", role).isEqualTo(legacyWelcomeBody("Pat", "pat", "pat@test.com", role));
+        }
+    }
+
+    @Test
+    void render_QuizCompletionPassedAndFailed_MatchesLegacyBody() {
+        for (boolean passed : new boolean[]{true, false}) {
+            // Given
+            int score = passed ? 8 : 3;
+            Map<String, Object> values = new HashMap<>();
+            values.put("firstName", "Pat");
+            values.put("tournamentName", "Science Cup");
+            values.put("score", score);
+            values.put("percentage", score * 10);
+            values.put("status", passed ? "PASSED" : "FAILED");
+            values.put("minPassingScore", 60.0);
+            values.put("outcome", passed ? EmailTemplates.PASSED_OUTCOME : EmailTemplates.FAILED_OUTCOME);
+            values.put("frontendUrl", FRONTEND_URL);
+
+            // When
+            String body = EmailTemplates.QUIZ_COMPLETION.render(values);
+
+            // Then
+            assertThat(body).as("completion body, passed=%s", passed)
+                    .isEqualTo(legacyQuizCompletionBody("Pat", "Science Cup", score, 60.0, passed));
+        }
+    }
+
+    @Test
+    void compile_UnclosedPlaceholder_Throws() {
+        // When & Then
+        assertThatThrownBy(() -> EmailTemplate.compile("Hello {{firstName},"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unclosed placeholder at 6");
+    }
+
+    @Test
+    void compile_EmptyPlaceholder_Throws() {
+        // When & Then
+        assertThatThrownBy(() -> EmailTemplate.compile("Hello {{ }},"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Empty placeholder at 6");
+    }
+
+    @Test
+    void render_MissingValue_Throws() {
+        // Given
+        EmailTemplate template = EmailTemplate.compile("Hello {{firstName}} {{lastName}}");
+
+        // When & Then
+        assertThatThrownBy(() -> template.render(Map.of("firstName", "Pat")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("No value for template placeholder: lastName");
+    }
+
+    @Test
+    void render_NullValue_RendersNullLikeConcatenation() {
+        // Given
+        EmailTemplate template = EmailTemplate.compile("Hello {{firstName}} {{lastName}}");
+        Map<String, Object> values = new HashMap<>();
+        values.put("firstName", "Pat");
+        values.put("lastName", null);
+
+        // When
+        String body = template.render(values);
+
+        // Then
+        assertThat(body).isEqualTo("Hello Pat " + null);
+    }
+
+    @Test
+    void render_ValueContainingPlaceholder_IsNotExpandedAgain() {
+        // Given
+        EmailTemplate template = EmailTemplate.compile("{{greeting}}, {{name}}!");
+
+        // When
+        String body = template.render(Map.of("greeting", "Hi {{name}}", "name", "Pat"));
+
+        // Then
+        assertThat(body).isEqualTo("Hi {{name}}, Pat!");
+        assertThat(template.getPlaceholders()).containsExactly("greeting", "name");
+    }
+
+    // The bodies below are the StringBuilder code EmailService used before EmailTemplates
+
+    private static String legacyNewTournamentBody(String name, String category, String difficulty, LocalDate startDate,
+                                                  LocalDate endDate, Double minPassingScore, String createdByFirstName,
+                                                  String createdByLastName) {
+        StringBuilder body = new StringBuilder();
+        body.append("Hello Quiz Enthusiast!\n\n");
+        body.append("A new tournament has been created and is now available for participation:\n\n");
+        body.append("Tournament Details:\n");
+        body.append("- Name: ").append(name).append("\n");
+        body.append("- Category: ").append(category).append("\n");
+        body.append("- Difficulty: ").append(difficulty).append("\n");
+        body.append("- Start Date: ").append(startDate).append("\n");
+        body.append("- End Date: ").append(endDate).append("\n");
+        body.append("- Minimum Passing Score: ").append(minPassingScore).append("%\n");
+        body.append("- Created by: ").append(createdByFirstName).append(" ").append(createdByLastName).append("\n\n");
+
+        body.append("Ready to test your knowledge? Log in to the Quiz Tournament platform and start the quiz!\n\n");
+        body.append("Login here: ").append(FRONTEND_URL).append("/login\n\n");
+        body.append("Good luck and have fun!\n\n");
+        body.append("Best regards,\n");
+        body.append("Quiz Tournament Team");
+
+        return body.toString();
+    }
+
+    private static String legacyPasswordResetBody(String firstName, String resetUrl, String resetToken) {
+        StringBuilder body = new StringBuilder();
+        body.append("Hello ").append(firstName).append(",\n\n");
+        body.append("You have requested to reset your password for your Quiz Tournament account.\n\n");
+        body.append("To reset your password, please click the link below:\n\n");
+        body.append(resetUrl).append("\n\n");
+        body.append("Alternatively, you can use this reset token: ").append(resetToken).append("\n\n");
+        body.append("This link will expire in 1 hour for security reasons.\n\n");
+        body.append("If you did not request this password reset, please ignore this email.\n\n");
+        body.append("Best regards,\n");
+        body.append("Quiz Tournament Team");
+
+        return body.toString();
+    }
+
+    private static String legacyWelcomeBody(String firstName, String username, String email, UserRole role) {
+        StringBuilder body = new StringBuilder();
+        body.append("Welcome to Quiz Tournament, ").append(firstName).append("!\n\n");
+        body.append("Thank you for joining our quiz community. Your account has been successfully created.\n\n");
+        body.append("Account Details:\n");
+        body.append("- Username: ").append(username).append("\n");
+        body.append("- Email: ").append(email).append("\n");
+        body.append("- Role: ").append(role.name()).append("\n\n");
+
+        if (role == UserRole.PLAYER) {
+            body.append("As a player, you can:\n");
+            body.append("- Participate in quiz tournaments\n");
+            body.append("- Track your progress and scores\n");
+            body.append("- View leaderboards and compete with others\n");
+            body.append("- Like your favorite tournaments\n\n");
+        } else if (role == UserRole.ADMIN) {
+            body.append("As an admin, you can:\n");
+            body.append("- Create and manage tournaments\n");
+            body.append("- View tournament statistics\n");
+            body.append("- Manage user accounts\n");
+            body.append("- Monitor quiz participation\n\n");
+        }
+
+        body.append("Get started: ").append(FRONTEND_URL).append("/login\n\n");
+        body.append("Happy quizzing!\n\n");
+        body.append("Best regards,\n");
+        body.append("Quiz Tournament Team");
+
+        return body.toString();
+    }
+
+    private static String legacyQuizCompletionBody(String firstName, String tournamentName, Integer score,
+                                                   Double minPassingScore, Boolean passed) {
+        StringBuilder body = new StringBuilder();
+        body.append("Hello ").append(firstName).append(",\n\n");
+        body.append("You have completed the quiz tournament: ").append(tournamentName).append("\n\n");
+        body.append("Your Results:\n");
+        body.append("- Score: ").append(score).append("/10\n");
+        body.append("- Percentage: ").append((score * 10)).append("%\n");
+        body.append("- Status: ").append(passed ? "PASSED" : "FAILED").append("\n");
+        body.append("- Minimum Passing Score: ").append(minPassingScore).append("%\n\n");
+
+        if (passed) {
+            body.append("Congratulations! You have successfully passed this tournament! 🎉\n\n");
+        } else {
+            body.append("You didn't pass this time, but don't give up! Keep practicing and try other tournaments.\n\n");
+        }
+
+        body.append("View detailed results: ").append(FRONTEND_URL).append("/my-results\n");
+        body.append("Browse more tournaments: ").append(FRONTEND_URL).append("/tournaments\n\n");
+        body.append("Keep learning and have fun!\n\n");
+        body.append("Best regards,\n");
+        body.append("Quiz Tournament Team");
+
+        return body.toString();
+    }
+}
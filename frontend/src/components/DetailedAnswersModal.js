@@ -1,6 +1,6 @@
 import React, { useState, useEffect } from 'react';
 import Modal from './Modal';
-import api from '../services/api';
+import { fetchAllPages } from '../services/api';
 
 const DetailedAnswersModal = ({ 
   isOpen, 
@@ -23,12 +23,18 @@ const DetailedAnswersModal = ({
     setError('');
     
     try {
-      const response = await api.get(`/api/tournaments/${tournament.id}/detailed-answers`);
+      const data = await fetchAllPages(`/api/tournaments/${tournament.id}/detailed-answers`, 'answersByUser');
       
-      if (response.data.success) {
-        setAnswerData(response.data);
+      if (data.success) {
+        // Totals in each page cover that page only
+        const answerLists = Object.values(data.answersByUser || {});
+        setAnswerData({
+          ...data,
+          totalUsers: answerLists.length,
+          totalAnswers: answerLists.reduce((total, answers) => total + answers.length, 0)
+        });
       } else {
-        setError(response.data.error || 'Failed to load detailed answers');
+        setError(data.error || 'Failed to load detailed answers');
       }
     } catch (error) {
       if (error.response?.status === 401) {
@@ -4,7 +4,7 @@ import { useAuth } from '../context/AuthContext';
 import HealthCheck from '../components/HealthCheck';
 import MyAnswersModal from '../components/MyAnswersModal';
 import TournamentCard from '../components/TournamentCard';
-import api from '../services/api';
+import api, { fetchAllPages } from '../services/api';
 
 const Dashboard = () => {
   const [quizzes, setQuizzes] = useState([]);
@@ -44,9 +44,9 @@ const Dashboard = () => {
     try {
       if (user.role === 'ADMIN') {
         // Admins can see all tournaments
-        const response = await api.get('/api/tournaments');
-        console.log('Admin tournaments response:', response.data);
-        setQuizzes(response.data.tournaments || []);
+        const data = await fetchAllPages('/api/tournaments', 'tournaments');
+        console.log('Admin tournaments response:', data);
+        setQuizzes(data.tournaments || []);
       } else if (user.role === 'PLAYER') {
         // Players see ALL tournaments from all categories
         const [ongoingRes, upcomingRes, pastRes] = await Promise.all([
@@ -92,9 +92,9 @@ const Dashboard = () => {
       
       // First try the quiz history endpoint
       try {
-        const historyResponse = await api.get('/api/participation/my-quiz-history');
-        if (historyResponse.data.success) {
-          completedResults = historyResponse.data.quizHistory || [];
+        const history = await fetchAllPages('/api/participation/my-quiz-history', 'quizHistory');
+        if (history.success) {
+          completedResults = history.quizHistory || [];
           console.log('Completed tournaments from history:', completedResults);
         }
       } catch (historyError) {
@@ -193,9 +193,9 @@ const Dashboard = () => {
             <button 
               onClick={async () => {
                 try {
-                  const allTournaments = await api.get('/api/tournaments');
-                  console.log('All tournaments:', allTournaments.data);
-                  alert(`Found ${allTournaments.data.tournaments?.length || 0} total tournaments`);
+                  const allTournaments = await fetchAllPages('/api/tournaments', 'tournaments');
+                  console.log('All tournaments:', allTournaments);
+                  alert(`Found ${allTournaments.tournaments?.length || 0} total tournaments`);
                 } catch (err) {
                   alert(`Error fetching tournaments: ${err.message}`);
                 }
@@ -1,7 +1,7 @@
 import React, { useState, useEffect } from 'react';
 import { useParams, useNavigate, Link } from 'react-router-dom';
 import { useAuth } from '../context/AuthContext';
-import api from '../services/api';
+import { fetchAllPages } from '../services/api';
 
 const EnhancedLeaderboard = () => {
   const { id } = useParams();
@@ -22,12 +22,12 @@ const EnhancedLeaderboard = () => {
 
   const fetchEnhancedScores = async () => {
     try {
-      const response = await api.get(`/api/tournaments/${id}/enhanced-scores`);
+      const data = await fetchAllPages(`/api/tournaments/${id}/enhanced-scores`, 'scores');
       
-      if (response.data.success) {
-        setTournamentData(response.data);
+      if (data.success) {
+        setTournamentData(data);
       } else {
-        setError(response.data.error || 'Failed to load tournament scores');
+        setError(data.error || 'Failed to load tournament scores');
       }
     } catch (error) {
       setError('Failed to load tournament scores');
@@ -1,7 +1,7 @@
 import React, { useState, useEffect } from 'react';
 import { useParams, useNavigate, Link } from 'react-router-dom';
 import { useAuth } from '../context/AuthContext';
-import api from '../services/api';
+import api, { fetchAllPages } from '../services/api';
 
 const Leaderboard = () => {
   const { id } = useParams();
@@ -10,6 +10,7 @@ const Leaderboard = () => {
   
   const [tournament, setTournament] = useState(null);
   const [leaderboard, setLeaderboard] = useState([]);
+  const [totalEntries, setTotalEntries] = useState(0);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState('');
   const [limit, setLimit] = useState(10);
@@ -24,16 +25,21 @@ const Leaderboard = () => {
 
   const fetchLeaderboardData = async () => {
     try {
-      const [tournamentResponse, leaderboardResponse] = await Promise.all([
+      const leaderboardUrl = `/api/participation/tournaments/${id}/leaderboard`;
+      // "All" (limit 0) follows the cursor through every page; the other options only need the first page
+      const [tournamentResponse, leaderboardData] = await Promise.all([
         api.get(`/api/tournaments/${id}`),
-        api.get(`/api/participation/tournaments/${id}/leaderboard?limit=${limit}`)
+        limit === 0
+          ? fetchAllPages(leaderboardUrl, 'leaderboard')
+          : api.get(`${leaderboardUrl}?limit=${limit}`).then(response => response.data)
       ]);
       
-      console.log('Leaderboard API response:', leaderboardResponse.data);
-      console.log('Leaderboard entries:', leaderboardResponse.data.leaderboard);
+      console.log('Leaderboard API response:', leaderboardData);
+      console.log('Leaderboard entries:', leaderboardData.leaderboard);
       
       setTournament(tournamentResponse.data.tournament);
-      setLeaderboard(leaderboardResponse.data.leaderboard || []);
+      setLeaderboard(leaderboardData.leaderboard || []);
+      setTotalEntries(leaderboardData.totalEntries || 0);
     } catch (error) {
       setError('Failed to load leaderboard data');
       // Error details available in development mode
@@ -104,7 +110,7 @@ const Leaderboard = () => {
       {/* Leaderboard Controls */}
       <div className="card" style={{ marginBottom: '30px' }}>
         <div style={{ display: 'flex', justifyContent: 'space-between', alignItems: 'center' }}>
-          <h3>Rankings ({leaderboard.length} participants)</h3>
+          <h3>Rankings ({totalEntries} participants)</h3>
           <div style={{ display: 'flex', gap: '10px', alignItems: 'center' }}>
             <label htmlFor="limit">Show top:</label>
             <select 
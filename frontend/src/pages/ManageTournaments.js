@@ -1,7 +1,7 @@
 import React, { useState, useEffect } from 'react';
 import { Link, useNavigate } from 'react-router-dom';
 import { useAuth } from '../context/AuthContext';
-import api from '../services/api';
+import api, { fetchAllPages } from '../services/api';
 import TournamentModal from '../components/TournamentModal';
 import TournamentQuestionsModal from '../components/TournamentQuestionsModal';
 import TournamentTable from '../components/TournamentTable';
@@ -43,8 +43,8 @@ const ManageTournaments = () => {
 
   const fetchTournaments = async () => {
     try {
-      const response = await api.get('/api/tournaments');
-      setTournaments(response.data.tournaments || []);
+      const data = await fetchAllPages('/api/tournaments', 'tournaments');
+      setTournaments(data.tournaments || []);
     } catch (error) {
       setError('Failed to load tournaments');
       // Error details available in development mode
@@ -2,7 +2,7 @@ import React, { useState, useEffect } from 'react';
 import { Link } from 'react-router-dom';
 import { useAuth } from '../context/AuthContext';
 import TournamentCard from '../components/TournamentCard';
-import api from '../services/api';
+import api, { fetchAllPages } from '../services/api';
 
 const PopularTournaments = () => {
   const { user } = useAuth();
@@ -30,9 +30,9 @@ const PopularTournaments = () => {
       // Fetch user's liked tournaments (only for players)
       if (user?.role === 'PLAYER') {
         try {
-          const likedResponse = await api.get('/api/tournaments/my-likes');
-          if (likedResponse.data.success) {
-            setMyLikedTournaments(likedResponse.data.likedTournaments || []);
+          const liked = await fetchAllPages('/api/tournaments/my-likes', 'likedTournaments');
+          if (liked.success) {
+            setMyLikedTournaments(liked.likedTournaments || []);
           }
         } catch (likedError) {
           console.error('Failed to fetch liked tournaments:', likedError);
@@ -4,7 +4,7 @@ import { useAuth } from '../context/AuthContext';
 import TournamentModal from '../components/TournamentModal';
 import TournamentQuestionsModal from '../components/TournamentQuestionsModal';
 import DetailedAnswersModal from '../components/DetailedAnswersModal';
-import api from '../services/api';
+import api, { fetchAllPages } from '../services/api';
 
 const ProfessionalAdminDashboard = () => {
   const [activeTab, setActiveTab] = useState('overview');
@@ -44,19 +44,19 @@ const ProfessionalAdminDashboard = () => {
         healthResponse
       ] = await Promise.all([
         api.get('/api/tournaments/statistics'),
-        api.get('/api/tournaments'),
+        fetchAllPages('/api/tournaments', 'tournaments'),
         api.get('/api/tournaments/popular?limit=5'),
         api.get('/api/tournaments/health')
       ]);
       
       setStatistics(statsResponse.data);
-      setTournaments(tournamentsResponse.data.tournaments || []);
+      setTournaments(tournamentsResponse.tournaments || []);
       setPopularTournaments(popularResponse.data.popularTournaments || []);
       setSystemHealth(healthResponse.data);
 
       // Fetch recent results for active tournaments
-      if (tournamentsResponse.data.tournaments?.length > 0) {
-        const resultsPromises = tournamentsResponse.data.tournaments
+      if (tournamentsResponse.tournaments?.length > 0) {
+        const resultsPromises = tournamentsResponse.tournaments
           .slice(0, 3)
           .map(t => api.get(`/api/tournaments/${t.id}/enhanced-scores`).catch(() => null));
         
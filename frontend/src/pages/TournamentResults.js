@@ -1,7 +1,7 @@
 import { useState, useEffect } from 'react';
 import { useParams, useNavigate, Link } from 'react-router-dom';
 import { useAuth } from '../context/AuthContext';
-import api from '../services/api';
+import { fetchAllPages } from '../services/api';
 
 const TournamentResults = () => {
   const { id } = useParams();
@@ -28,12 +28,12 @@ const TournamentResults = () => {
 
   const fetchTournamentResults = async () => {
     try {
-      const response = await api.get(`/api/tournaments/${id}/results`);
-      console.log('Tournament results response:', response.data);
+      const data = await fetchAllPages(`/api/tournaments/${id}/results`, 'results');
+      console.log('Tournament results response:', data);
       
-      setTournament(response.data.tournament);
-      setResults(response.data.results || []);
-      setStatistics(response.data.statistics || {});
+      setTournament(data.tournament);
+      setResults(data.results || []);
+      setStatistics(data.statistics || {});
     } catch (error) {
       console.error('Failed to fetch tournament results:', error);
       setError('Failed to load tournament results. Please try again.');
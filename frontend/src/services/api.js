@@ -33,4 +33,33 @@ api.interceptors.response.use(
   }
 );
 
+// Largest page the API serves
+const MAX_PAGE_SIZE = 100;
+
+// Fetch every page of a cursor-paged listing by following nextCursor
+// Returns the first page's response data with itemsKey holding the items of all pages
+// (arrays are concatenated, objects merged); stops at the first unsuccessful page and returns it
+export const fetchAllPages = async (url, itemsKey) => {
+  let data = null;
+  let cursor;
+  do {
+    const response = await api.get(url, { params: { limit: MAX_PAGE_SIZE, cursor } });
+    const page = response.data;
+    if (page.success === false) {
+      return page;
+    }
+    if (data === null) {
+      data = page;
+    } else if (Array.isArray(page[itemsKey])) {
+      data[itemsKey] = [...(data[itemsKey] || []), ...page[itemsKey]];
+    } else {
+      data[itemsKey] = { ...(data[itemsKey] || {}), ...page[itemsKey] };
+    }
+    cursor = page.nextCursor;
+  } while (cursor);
+  data.nextCursor = null;
+  data.hasMore = false;
+  return data;
+};
+
 export default api;
\ No newline at end of file